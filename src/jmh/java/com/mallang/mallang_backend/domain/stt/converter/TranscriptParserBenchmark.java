@@ -0,0 +1,114 @@
+package com.mallang.mallang_backend.domain.stt.converter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Clova Speech 응답을 트리(readTree) 방식과 스트리밍 방식으로 파싱할 때의 소요 시간 비교
+ * 단어별 시간 정보(words)가 포함된 1000개 세그먼트의 실제 형태 응답을 사용합니다.
+ * <p>./gradlew jmh 로 실행하며, 결과는 build/results/jmh/results.json 에 저장됩니다.</p>
+ * <p>할당량(gc.alloc.rate.norm) 비교는 build.gradle 의 jmh 블록에 profilers = ['gc'] 를 추가하거나
+ * JMH 를 직접 실행할 때 -prof gc 옵션을 붙입니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TranscriptParserBenchmark {
+
+	private static final int SEGMENT_COUNT = 1_000;
+	private static final int WORDS_PER_SEGMENT = 20;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+	private final TranscriptParserImpl streamingParser = new TranscriptParserImpl(mapper);
+
+	private String json;
+
+	@Setup
+	public void setUp() throws IOException {
+		json = createClovaResponse();
+
+		// 두 방식의 결과가 같은지 먼저 확인
+		List<TranscriptSegment> expected = parseWithTree(json);
+		List<TranscriptSegment> actual = streamingParser.parseTranscriptJson(json).getSegments();
+		if (actual.size() != expected.size()
+			|| !actual.get(SEGMENT_COUNT - 1).getStartTime().equals(expected.get(SEGMENT_COUNT - 1).getStartTime())) {
+			throw new IllegalStateException("readTree 와 스트리밍 파서의 결과가 다릅니다.");
+		}
+	}
+
+	/**
+	 * 기존 방식: 응답 전체를 트리로 읽고 시간을 String.format 으로 변환
+	 */
+	@Benchmark
+	public List<TranscriptSegment> parse_readTree() throws IOException {
+		return parseWithTree(json);
+	}
+
+	@Benchmark
+	public Transcript parse_streaming() throws IOException {
+		return streamingParser.parseTranscriptJson(json);
+	}
+
+	private List<TranscriptSegment> parseWithTree(String json) throws IOException {
+		JsonNode root = mapper.readTree(json);
+		List<TranscriptSegment> result = new ArrayList<>();
+		for (JsonNode segment : root.get("segments")) {
+			long startMs = segment.get("start").asLong();
+			long endMs = segment.get("end").asLong();
+			String speaker = segment.path("speaker").path("name").asText("Unknown");
+			String text = segment.get("textEdited").asText();
+			result.add(new TranscriptSegment(null, format(startMs), format(endMs), speaker, text));
+		}
+		return result;
+	}
+
+	private static String format(long millis) {
+		return String.format("%02d:%02d:%02d.%03d",
+			millis / 3_600_000, (millis / 60_000) % 60, (millis / 1_000) % 60, millis % 1_000);
+	}
+
+	private static String createClovaResponse() {
+		StringBuilder sb = new StringBuilder("{\"result\":\"COMPLETED\",\"message\":\"Succeeded\",\"segments\":[");
+		long time = 0;
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			long segmentStart = time;
+			StringBuilder text = new StringBuilder();
+			StringBuilder words = new StringBuilder();
+			for (int w = 0; w < WORDS_PER_SEGMENT; w++) {
+				if (w > 0) {
+					text.append(' ');
+					words.append(',');
+				}
+				text.append("word").append(w);
+				words.append('[').append(time).append(',').append(time + 250).append(",\"word").append(w).append("\"]");
+				time += 300;
+			}
+			sb.append("{\"start\":").append(segmentStart)
+				.append(",\"end\":").append(time)
+				.append(",\"text\":\"").append(text)
+				.append("\",\"confidence\":0.9512")
+				.append(",\"diarization\":{\"label\":\"1\"}")
+				.append(",\"speaker\":{\"label\":\"1\",\"name\":\"A\",\"edited\":false}")
+				.append(",\"words\":[").append(words).append(']')
+				.append(",\"textEdited\":\"").append(text).append("\"}");
+		}
+		sb.append("],\"text\":\"...\",\"confidence\":0.95,\"speakers\":[{\"label\":\"1\",\"name\":\"A\",\"edited\":false}]}");
+		return sb.toString();
+	}
+}
@@ -0,0 +1,191 @@
+package com.mallang.mallang_backend.domain.video.subtitle.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mallang.mallang_backend.domain.keyword.entity.Keyword;
+import com.mallang.mallang_backend.domain.keyword.repository.KeywordRepository;
+import com.mallang.mallang_backend.domain.video.subtitle.entity.Subtitle;
+import com.mallang.mallang_backend.domain.video.video.entity.Videos;
+import com.mallang.mallang_backend.domain.video.video.repository.VideoRepository;
+import com.mallang.mallang_backend.domain.voca.word.entity.Difficulty;
+import com.mallang.mallang_backend.global.common.Language;
+import com.mallang.mallang_backend.global.config.QueryDslConfig;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 300개 세그먼트 분석 결과를 JPA saveAll 과 JDBC 배치 INSERT 로 저장할 때의 소요 시간 비교
+ * <p>./gradlew jmh 로 실행하며, 결과는 build/results/jmh/results.json 에 저장됩니다.</p>
+ * <p>MySQL 이 필요합니다. 접속 정보는 -Dbenchmark.datasource.url/username/password 로 바꿀 수 있고,
+ * 각 저장은 트랜잭션 안에서 실행한 뒤 롤백합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SubtitleBulkRepositoryBenchmark {
+
+	private static final int SEGMENT_COUNT = 300;
+	private static final int KEYWORDS_PER_SEGMENT = 3;
+
+	private ConfigurableApplicationContext context;
+	private SubtitleRepository subtitleRepository;
+	private KeywordRepository keywordRepository;
+	private SubtitleBulkRepository subtitleBulkRepository;
+	private EntityManager entityManager;
+	private TransactionTemplate transactionTemplate;
+
+	private Videos video;
+	private List<Subtitle> subtitles;
+	private List<Keyword> keywords;
+
+	@Setup(Level.Trial)
+	public void startContext() {
+		context = new SpringApplicationBuilder(BenchmarkConfig.class)
+			.web(WebApplicationType.NONE)
+			.properties(
+				"spring.datasource.url=" + System.getProperty("benchmark.datasource.url",
+					"jdbc:mysql://localhost:3306/test_db?rewriteBatchedStatements=true"),
+				"spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+				"spring.datasource.username=" + System.getProperty("benchmark.datasource.username", "root"),
+				"spring.datasource.password=" + System.getProperty("benchmark.datasource.password", "password"),
+				"spring.jpa.hibernate.ddl-auto=create-drop",
+				"spring.jpa.database-platform=org.hibernate.dialect.MySQL8Dialect")
+			.run();
+
+		subtitleRepository = context.getBean(SubtitleRepository.class);
+		keywordRepository = context.getBean(KeywordRepository.class);
+		subtitleBulkRepository = context.getBean(SubtitleBulkRepository.class);
+		entityManager = context.getBean(EntityManager.class);
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+
+		video = context.getBean(VideoRepository.class).save(Videos.builder()
+			.id(UUID.randomUUID().toString().substring(0, 11))
+			.videoTitle("benchmark")
+			.thumbnailImageUrl("thumbnail")
+			.channelTitle("channel")
+			.language(Language.ENGLISH)
+			.duration("PT10M")
+			.build());
+	}
+
+	@Setup(Level.Invocation)
+	public void createRows() {
+		subtitles = createSubtitles(video);
+		keywords = createKeywords(video, subtitles);
+	}
+
+	@TearDown(Level.Trial)
+	public void closeContext() {
+		context.close();
+	}
+
+	@Benchmark
+	public int saveAll() {
+		return transactionTemplate.execute(status -> {
+			subtitleRepository.saveAll(subtitles);
+			keywordRepository.saveAll(keywords);
+			entityManager.flush();
+			entityManager.clear();
+			status.setRollbackOnly();
+			return subtitles.size() + keywords.size();
+		});
+	}
+
+	@Benchmark
+	public int bulkInsert() {
+		return transactionTemplate.execute(status -> {
+			List<Long> subtitleIds = subtitleBulkRepository.insertSubtitles(subtitles);
+			List<Long> keywordSubtitleIds = new ArrayList<>();
+			for (Long subtitleId : subtitleIds) {
+				for (int k = 0; k < KEYWORDS_PER_SEGMENT; k++) {
+					keywordSubtitleIds.add(subtitleId);
+				}
+			}
+			subtitleBulkRepository.insertKeywords(keywords, keywordSubtitleIds);
+			status.setRollbackOnly();
+			return subtitleIds.size() + keywordSubtitleIds.size();
+		});
+	}
+
+	private static List<Subtitle> createSubtitles(Videos video) {
+		List<Subtitle> subtitles = new ArrayList<>();
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			subtitles.add(Subtitle.builder()
+				.videos(video)
+				.startTime("00:00:" + i)
+				.endTime("00:00:" + (i + 1))
+				.originalSentence("sentence " + i)
+				.translatedSentence("문장 " + i)
+				.speaker("Speaker 1")
+				.build());
+		}
+		return subtitles;
+	}
+
+	private static List<Keyword> createKeywords(Videos video, List<Subtitle> subtitles) {
+		List<Keyword> keywords = new ArrayList<>();
+		for (Subtitle subtitle : subtitles) {
+			for (int k = 0; k < KEYWORDS_PER_SEGMENT; k++) {
+				keywords.add(Keyword.builder()
+					.videos(video)
+					.subtitle(subtitle)
+					.word("word" + k)
+					.meaning("뜻" + k)
+					.difficulty(Difficulty.EASY)
+					.build());
+			}
+		}
+		return keywords;
+	}
+
+	/**
+	 * 저장에 필요한 JPA/JDBC 빈만 띄우는 설정 (Redis, 보안 등 나머지 빈은 올리지 않음)
+	 */
+	@SpringBootConfiguration
+	@ImportAutoConfiguration({
+		DataSourceAutoConfiguration.class,
+		HibernateJpaAutoConfiguration.class,
+		JdbcTemplateAutoConfiguration.class,
+		TransactionAutoConfiguration.class
+	})
+	@EntityScan("com.mallang.mallang_backend.domain")
+	@EnableJpaRepositories(basePackageClasses = {
+		SubtitleRepository.class,
+		KeywordRepository.class,
+		VideoRepository.class
+	})
+	@EnableJpaAuditing
+	@Import({
+		SubtitleBulkRepository.class,
+		QueryDslConfig.class
+	})
+	static class BenchmarkConfig {
+	}
+}
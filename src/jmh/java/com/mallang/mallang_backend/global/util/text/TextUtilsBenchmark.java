@@ -0,0 +1,92 @@
+package com.mallang.mallang_backend.global.util.text;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.mallang.mallang_backend.global.common.Language;
+
+/**
+ * TextUtils 와 기존 정규식 처리(호출마다 컴파일) 비교
+ * <p>./gradlew jmh 로 실행하며, 결과는 build/results/jmh/results.json 에 저장됩니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TextUtilsBenchmark {
+
+	private final String sentence = "Do you know what would happen if I suddenly decided to stop going into work, a business big enough that it could be listed on the NASDAQ goes belly up!";
+	private final String word = "business";
+	private final String englishWord = "disappear";
+
+	@Benchmark
+	public boolean containsWord_regex() {
+		return sentence.toLowerCase().matches(".*\\b" + Pattern.quote(word.toLowerCase()) + "\\b.*");
+	}
+
+	@Benchmark
+	public boolean containsWord_textUtils() {
+		return TextUtils.containsWord(sentence, word);
+	}
+
+	@Benchmark
+	public List<String> keywordTokens_regex() {
+		return Arrays.stream(sentence.split("\\s+"))
+			.map(token -> token.replaceAll("[^a-zA-Z]", "").toLowerCase())
+			.toList();
+	}
+
+	@Benchmark
+	public List<String> keywordTokens_textUtils() {
+		return TextUtils.splitByWhitespace(sentence).stream()
+			.map(TextUtils::lettersOnlyLowerCase)
+			.toList();
+	}
+
+	@Benchmark
+	public String quizQuestion_regex() {
+		return Arrays.stream(sentence.split("\\s+"))
+			.map(token -> token.replaceAll("[\\p{L}\\p{N}'’ー々]+", "{}"))
+			.collect(Collectors.joining(" "));
+	}
+
+	@Benchmark
+	public String quizQuestion_textUtils() {
+		return TextUtils.maskWords(sentence);
+	}
+
+	@Benchmark
+	public List<String> quizWords_regex() {
+		return Arrays.stream(sentence.split("\\s+"))
+			.map(w -> w.replaceAll("[\\p{Punct}&&[^'’]。、「」（）『』【】《》！？!?]", ""))
+			.filter(w -> !w.isBlank())
+			.toList();
+	}
+
+	@Benchmark
+	public List<String> quizWords_textUtils() {
+		return TextUtils.splitByWhitespace(sentence).stream()
+			.map(TextUtils::stripPunctuation)
+			.filter(w -> !w.isBlank())
+			.toList();
+	}
+
+	@Benchmark
+	public boolean languageMatch_compileEachCall() {
+		return Pattern.compile(Language.ENGLISH.getPattern()).matcher(englishWord).matches();
+	}
+
+	@Benchmark
+	public boolean languageMatch_precompiled() {
+		return Language.ENGLISH.matches(englishWord);
+	}
+}
@@ -18,6 +18,7 @@ import com.mallang.mallang_backend.domain.sentence.expressionbookitem.entity.Exp
 import com.mallang.mallang_backend.domain.sentence.expressionbookitem.repository.ExpressionBookItemRepository;
 import com.mallang.mallang_backend.global.exception.ServiceException;
 import com.mallang.mallang_backend.global.util.japanese.JapaneseSplitter;
+import com.mallang.mallang_backend.global.util.text.TextUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -129,14 +130,12 @@ public class ExpressionQuizServiceImpl implements ExpressionQuizService {
 
 	private static String createQuestion(String sentence) {
 		// 알파벳, 숫자(\w+)를 {}로 치환, 문장부호는 유지
-		return Arrays.stream(sentence.split("\\s+"))
-			.map(token -> token.replaceAll("[\\p{L}\\p{N}'’ー々]+", "{}"))
-			.collect(Collectors.joining(" "));
+		return TextUtils.maskWords(sentence);
 	}
 
 	private List<String> parseWord(String sentence) {
-		List<String> words = Arrays.stream(sentence.split("\\s+"))
-			.map(w -> w.replaceAll("[\\p{Punct}&&[^'’]。、「」（）『』【】《》！？!?]", ""))
+		List<String> words = TextUtils.splitByWhitespace(sentence).stream()
+			.map(TextUtils::stripPunctuation)
 			.filter(w -> !w.isBlank())
 			.collect(Collectors.toList());
 		Collections.shuffle(words);
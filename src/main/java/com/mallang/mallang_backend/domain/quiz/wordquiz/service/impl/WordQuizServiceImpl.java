@@ -11,6 +11,7 @@ import com.mallang.mallang_backend.domain.quiz.wordquiz.service.WordQuizService;
 import com.mallang.mallang_backend.domain.quiz.wordquizresult.entity.WordQuizResult;
 import com.mallang.mallang_backend.domain.quiz.wordquizresult.repository.WordQuizResultRepository;
 import com.mallang.mallang_backend.domain.video.subtitle.repository.SubtitleRepository;
+import com.mallang.mallang_backend.domain.voca.word.cache.WordCache;
 import com.mallang.mallang_backend.domain.voca.word.repository.WordRepository;
 import com.mallang.mallang_backend.domain.voca.wordbook.entity.Wordbook;
 import com.mallang.mallang_backend.domain.voca.wordbook.repository.WordbookRepository;
@@ -19,6 +20,7 @@ import com.mallang.mallang_backend.domain.voca.wordbookitem.entity.WordbookItem;
 import com.mallang.mallang_backend.domain.voca.wordbookitem.repository.WordbookItemRepository;
 import com.mallang.mallang_backend.global.exception.ErrorCode;
 import com.mallang.mallang_backend.global.exception.ServiceException;
+import com.mallang.mallang_backend.global.util.text.TextUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,7 +28,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,6 +46,7 @@ public class WordQuizServiceImpl implements WordQuizService {
 	private final SubtitleRepository subtitleRepository;
 	private final WordRepository wordRepository;
 	private final WordQuizRepository wordQuizRepository;
+	private final WordCache wordCache;
 
 	@Transactional
 	@Override
@@ -95,10 +97,11 @@ public class WordQuizServiceImpl implements WordQuizService {
 	}
 
 	private WordQuizItem createQuizFromCustomWord(WordbookItem item) {
-		return wordRepository.findByWord(item.getWord())
+		// 정규화 키로 찾은 경우 예문에는 활용형(item)이 아닌 저장된 단어가 들어 있으므로 저장된 단어로 빈칸을 만든다
+		return wordCache.getOrLoad(item.getWord(), wordRepository::findByWord, wordRepository::findByNormalizedWord)
 			.stream()
 			.findAny()
-			.map(word -> createDto(item.getId(), item.getWord(), word.getExampleSentence(), word.getTranslatedSentence()))
+			.map(word -> createDto(item.getId(), word.getWord(), word.getExampleSentence(), word.getTranslatedSentence()))
 			.orElse(null);
 	}
 
@@ -119,10 +122,8 @@ public class WordQuizServiceImpl implements WordQuizService {
 	}
 
 	private String createQuestion(String word, String original) {
-		// 정답 단어를 {}로 대체
-		// (?i) 플래그로 대소문자 무시, \b로 단어 경계 매칭
-		String regex = "(?i)" + Pattern.quote(word);
-		return original.replaceAll(regex, "{}");
+		// 정답 단어를 대소문자 구분 없이 {}로 대체
+		return TextUtils.replaceIgnoreCase(original, word, "{}");
 	}
 
 	// 단어 결과 저장
@@ -26,11 +26,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -276,8 +276,7 @@ public class ExpressionBookServiceImpl implements ExpressionBookService {
 
         String sentence = subtitle.getOriginalSentence();
         String description = subtitle.getTranslatedSentence();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
-        LocalTime subtitleAt = LocalTime.parse(subtitle.getStartTime(), formatter);
+        LocalTime subtitleAt = LocalTime.ofNanoOfDay(TimeUnit.MILLISECONDS.toNanos(subtitle.resolveStartMs()));
 
         Expression expression = getOrCreateExpression(videoId, sentence, description, subtitleAt, member.getLanguage());
 
@@ -3,11 +3,11 @@ package com.mallang.mallang_backend.domain.stt.converter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -16,9 +16,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class TranscriptParserImpl implements TranscriptParser {
 
+	private static final String UNKNOWN_SPEAKER = "Unknown";
+
 	private final ObjectMapper mapper;
 
 	/**
+	 * Clova Speech 응답을 스트리밍 방식으로 읽어 Transcript 로 변환합니다.
+	 * 응답 전체를 트리로 만들지 않고, 사용하지 않는 필드(단어별 시간 정보 words 등)는 건너뜁니다.
 	 *
 	 * @param json Clova Speech의 응답 Json String
 	 * @return Transcript 객체
@@ -26,35 +30,64 @@ public class TranscriptParserImpl implements TranscriptParser {
 	 */
 	@Override
 	public Transcript parseTranscriptJson(String json) throws IOException {
-		JsonNode root = mapper.readTree(json);
-		JsonNode segmentsNode = root.get("segments");
-
 		List<TranscriptSegment> result = new ArrayList<>();
-		for (JsonNode segment : segmentsNode) {
-			long startMs = segment.get("start").asLong();
-			long endMs = segment.get("end").asLong();
-			String speaker = segment.path("speaker").path("name").asText("Unknown");
-			String text = segment.get("textEdited").asText();
-
-			String startTime = formatMillis(startMs);
-			String endTime = formatMillis(endMs);
 
-			result.add(new TranscriptSegment(null, startTime, endTime, speaker, text));
+		try (JsonParser parser = mapper.getFactory().createParser(json)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IOException("Clova Speech 응답이 JSON 객체가 아닙니다.");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if ("segments".equals(field) && value == JsonToken.START_ARRAY) {
+					while (parser.nextToken() == JsonToken.START_OBJECT) {
+						result.add(readSegment(parser));
+					}
+				} else {
+					parser.skipChildren();
+				}
+			}
 		}
 
 		return new Transcript(result);
 	}
 
-	/**
-	 * Clova Speech가 응답한 세그먼트 시간(ms)을 00:00:00.000 형식 String으로 변환합니다.
-	 * @param millis ms 단위 세그먼트 시간
-	 * @return 00:00:00.000 형식 String
-	 */
-	private static String formatMillis(long millis) {
-		long hours = TimeUnit.MILLISECONDS.toHours(millis);
-		long minutes = TimeUnit.MILLISECONDS.toMinutes(millis) % 60;
-		long seconds = TimeUnit.MILLISECONDS.toSeconds(millis) % 60;
-		long ms = millis % 1000;
-		return String.format("%02d:%02d:%02d.%03d", hours, minutes, seconds, ms);
+	private TranscriptSegment readSegment(JsonParser parser) throws IOException {
+		long startMs = 0;
+		long endMs = 0;
+		String speaker = UNKNOWN_SPEAKER;
+		String text = null;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "start" -> startMs = parser.getValueAsLong();
+				case "end" -> endMs = parser.getValueAsLong();
+				case "textEdited" -> text = parser.getValueAsString();
+				case "speaker" -> speaker = readSpeakerName(parser);
+				default -> parser.skipChildren();
+			}
+		}
+		return new TranscriptSegment(null, startMs, endMs, speaker, text);
+	}
+
+	private String readSpeakerName(JsonParser parser) throws IOException {
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			parser.skipChildren();
+			return UNKNOWN_SPEAKER;
+		}
+
+		String name = UNKNOWN_SPEAKER;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			if ("name".equals(field) && parser.currentToken().isScalarValue()) {
+				name = parser.getValueAsString(UNKNOWN_SPEAKER);
+			} else {
+				parser.skipChildren();
+			}
+		}
+		return name;
 	}
 }
@@ -1,24 +1,105 @@
 package com.mallang.mallang_backend.domain.stt.converter;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
-@AllArgsConstructor
 public class TranscriptSegment {
 
 	// 자막 ID
 	private Long id;
 
-	// 시작 시간 (ex. "00:01:23.500")
-	private String startTime;
+	// 시작 시간 (ms)
+	private long startMs;
 
-	// 끝나는 시간 (ex. "00:01:26.200")
-	private String endTime;
+	// 끝나는 시간 (ms)
+	private long endMs;
 
 	// 화자 이름
 	private String speaker;
 
 	// 문장 내용
 	private String text;
+
+	public TranscriptSegment(Long id, long startMs, long endMs, String speaker, String text) {
+		this.id = id;
+		this.startMs = startMs;
+		this.endMs = endMs;
+		this.speaker = speaker;
+		this.text = text;
+	}
+
+	/**
+	 * @param startTime 시작 시간 (ex. "00:01:23.500")
+	 * @param endTime   끝나는 시간 (ex. "00:01:26.200")
+	 */
+	public TranscriptSegment(Long id, String startTime, String endTime, String speaker, String text) {
+		this(id, parseMillis(startTime), parseMillis(endTime), speaker, text);
+	}
+
+	/**
+	 * @return 00:00:00.000 형식의 시작 시간 (ex. "00:01:23.500")
+	 */
+	public String getStartTime() {
+		return formatMillis(startMs);
+	}
+
+	/**
+	 * @return 00:00:00.000 형식의 끝나는 시간 (ex. "00:01:26.200")
+	 */
+	public String getEndTime() {
+		return formatMillis(endMs);
+	}
+
+	/**
+	 * ms 단위 시간을 00:00:00.000 형식 String으로 변환합니다.
+	 * 세그먼트마다 호출되므로 String.format 대신 직접 자릿수를 채웁니다.
+	 * @param millis ms 단위 시간
+	 * @return 00:00:00.000 형식 String
+	 */
+	public static String formatMillis(long millis) {
+		long hours = millis / 3_600_000;
+		long minutes = (millis / 60_000) % 60;
+		long seconds = (millis / 1_000) % 60;
+		long ms = millis % 1_000;
+
+		StringBuilder sb = new StringBuilder(12);
+		if (hours < 10) {
+			sb.append('0');
+		}
+		sb.append(hours).append(':');
+		if (minutes < 10) {
+			sb.append('0');
+		}
+		sb.append(minutes).append(':');
+		if (seconds < 10) {
+			sb.append('0');
+		}
+		sb.append(seconds).append('.');
+		if (ms < 100) {
+			sb.append('0');
+		}
+		if (ms < 10) {
+			sb.append('0');
+		}
+		return sb.append(ms).toString();
+	}
+
+	/**
+	 * 00:00:00.000 (또는 00:00:00) 형식 String을 ms 단위 시간으로 변환합니다.
+	 * 소수점 아래는 초의 소수 부분이므로 세 자리에 맞춰 읽습니다. (ex. ".5" → 500ms, ".1234" → 123ms)
+	 * @param time 00:00:00.000 형식 String
+	 * @return ms 단위 시간
+	 */
+	public static long parseMillis(String time) {
+		String[] hms = time.split(":");
+		String[] secondsAndMillis = hms[2].split("\\.");
+		long millis = Long.parseLong(hms[0]) * 3_600_000
+			+ Long.parseLong(hms[1]) * 60_000
+			+ Long.parseLong(secondsAndMillis[0]) * 1_000;
+		if (secondsAndMillis.length > 1) {
+			String fraction = secondsAndMillis[1] + "000";
+			millis += Long.parseLong(fraction.substring(0, 3));
+		}
+		return millis;
+	}
 }
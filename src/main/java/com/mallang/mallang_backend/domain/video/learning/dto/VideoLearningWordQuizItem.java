@@ -1,11 +1,10 @@
 package com.mallang.mallang_backend.domain.video.learning.dto;
 
-import java.util.regex.Pattern;
-
 import com.mallang.mallang_backend.domain.keyword.entity.Keyword;
 import com.mallang.mallang_backend.domain.video.subtitle.entity.Subtitle;
 import com.mallang.mallang_backend.global.common.Language;
 import com.mallang.mallang_backend.global.util.japanese.JapaneseSplitter;
+import com.mallang.mallang_backend.global.util.text.TextUtils;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -49,17 +48,10 @@ public class VideoLearningWordQuizItem {
 		String blanked;
 		if (lang == Language.JAPANESE) {
 			// 일본어는 토큰화된 문장에서 첫 단어 그대로 치환
-			blanked = forBlanking.replaceFirst(
-				Pattern.quote(k.getWord()),
-				" {} "
-			);
+			blanked = replaceAt(forBlanking, forBlanking.indexOf(k.getWord()), k.getWord(), " {} ");
 		} else {
 			// 영어 등은 단어 경계(\b)로 안전하게 치환
-			blanked = Pattern.compile(
-					"\\b" + Pattern.quote(k.getWord()) + "\\b"
-				)
-				.matcher(forBlanking)
-				.replaceFirst("{}");
+			blanked = replaceAt(forBlanking, TextUtils.indexOfWord(forBlanking, k.getWord(), false), k.getWord(), "{}");
 		}
 
 		return VideoLearningWordQuizItem.builder()
@@ -73,4 +65,12 @@ public class VideoLearningWordQuizItem {
 			.sentenceMeaning(sub.getTranslatedSentence())   // 문장 해석
 			.build();
 	}
+
+	// index 위치의 word 를 replacement 로 바꿈 (찾지 못했으면 원문 그대로)
+	private static String replaceAt(String text, int index, String word, String replacement) {
+		if (index < 0) {
+			return text;
+		}
+		return text.substring(0, index) + replacement + text.substring(index + word.length());
+	}
 }
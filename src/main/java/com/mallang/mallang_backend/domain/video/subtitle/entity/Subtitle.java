@@ -1,6 +1,7 @@
 package com.mallang.mallang_backend.domain.video.subtitle.entity;
 
 import com.mallang.mallang_backend.domain.keyword.entity.Keyword;
+import com.mallang.mallang_backend.domain.stt.converter.TranscriptSegment;
 import com.mallang.mallang_backend.domain.video.video.entity.Videos;
 import com.mallang.mallang_backend.global.entity.BaseTime;
 import jakarta.persistence.*;
@@ -14,6 +15,9 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
+@Table(
+	indexes = @Index(name = "idx_subtitle_video_start_ms", columnList = "video_id, start_ms")
+)
 public class Subtitle extends BaseTime {
 
 	@Id
@@ -31,6 +35,14 @@ public class Subtitle extends BaseTime {
 	@Column(nullable = false)
 	private String endTime;
 
+	// 시작 시간 (ms), 재생 구간 조회에 사용
+	@Column(name = "start_ms")
+	private Long startMs;
+
+	// 끝나는 시간 (ms)
+	@Column(name = "end_ms")
+	private Long endMs;
+
 	@Column(nullable = false, columnDefinition = "TEXT")
 	private String originalSentence;
 
@@ -55,8 +67,22 @@ public class Subtitle extends BaseTime {
 		this.videos = videos;
 		this.startTime = startTime;
 		this.endTime = endTime;
+		this.startMs = toMillis(startTime);
+		this.endMs = toMillis(endTime);
 		this.originalSentence = originalSentence;
 		this.translatedSentence = translatedSentence;
 		this.speaker = speaker;
 	}
+
+	/**
+	 * 시작 시간을 ms 단위로 반환합니다.
+	 * ms 컬럼이 백필되기 전의 자막은 문자열 시작 시간에서 계산합니다.
+	 */
+	public long resolveStartMs() {
+		return startMs != null ? startMs : TranscriptSegment.parseMillis(startTime);
+	}
+
+	private static Long toMillis(String time) {
+		return time == null ? null : TranscriptSegment.parseMillis(time);
+	}
 }
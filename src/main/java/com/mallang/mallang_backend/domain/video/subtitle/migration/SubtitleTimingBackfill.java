@@ -0,0 +1,71 @@
+package com.mallang.mallang_backend.domain.video.subtitle.migration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.mallang.mallang_backend.domain.stt.converter.TranscriptSegment;
+import com.mallang.mallang_backend.global.util.jdbc.KeysetBackfill;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p> 문자열 시간(start_time, end_time)만 있는 기존 자막에 ms 컬럼(start_ms, end_ms)을 채웁니다. </p>
+ * <p> subtitle.timing-backfill.enabled=true 로 켜면 서버 시작 후 backfillExecutor 에서 start_ms 가 비어 있는 자막만 갱신합니다. </p>
+ * <p> 시간 형식이 잘못된 자막은 로그를 남기고 건너뜁니다. </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubtitleTimingBackfill {
+
+	private static final KeysetBackfill.Query<Object[]> SELECT_QUERY = new KeysetBackfill.Query<>(
+		"SELECT subtitle_id, start_time, end_time FROM subtitle "
+			+ "WHERE start_ms IS NULL AND subtitle_id > ? ORDER BY subtitle_id LIMIT ?",
+		(rs, rowNum) -> new Object[] {rs.getLong(1), rs.getString(2), rs.getString(3)},
+		row -> (Long)row[0]);
+
+	private static final String UPDATE_SQL =
+		"UPDATE subtitle SET start_ms = ?, end_ms = ? WHERE subtitle_id = ?";
+
+	private final KeysetBackfill keysetBackfill;
+
+	@Value("${subtitle.timing-backfill.enabled:false}")
+	private boolean enabled;
+
+	@Value("${subtitle.timing-backfill.batch-size:1000}")
+	private int batchSize;
+
+	// 묶음 사이 대기 시간 (운영 중인 DB 에 부하가 몰리지 않도록)
+	@Value("${subtitle.timing-backfill.batch-pause-ms:100}")
+	private long batchPauseMillis;
+
+	@Async("backfillExecutor")
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		if (!enabled) {
+			return;
+		}
+
+		int updated = keysetBackfill.run("SubtitleBackfill", SELECT_QUERY, UPDATE_SQL, this::toUpdateParams,
+			batchSize, batchPauseMillis);
+		if (updated > 0) {
+			log.info("[SubtitleBackfill] 자막 {}건의 ms 시간 컬럼 백필 완료", updated);
+		}
+	}
+
+	private Object[] toUpdateParams(Object[] row) {
+		try {
+			long startMs = TranscriptSegment.parseMillis((String)row[1]);
+			long endMs = TranscriptSegment.parseMillis((String)row[2]);
+			return new Object[] {startMs, endMs, row[0]};
+		} catch (RuntimeException e) {
+			// 형식이 잘못된 자막은 건너뛰고 다음 자막부터 진행
+			log.warn("[SubtitleBackfill] 시간 형식 변환 실패 subtitleId={}, start={}, end={}", row[0], row[1], row[2]);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.mallang.mallang_backend.domain.video.subtitle.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mallang.mallang_backend.domain.keyword.entity.Keyword;
+import com.mallang.mallang_backend.domain.video.subtitle.entity.Subtitle;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <p> 영상 분석 결과(자막, 핵심 단어) 대량 저장 전용 리포지토리 </p>
+ * <p> Subtitle, Keyword 는 IDENTITY 전략이라 JPA saveAll 시 행마다 INSERT 가 전송되므로 JDBC 배치로 저장합니다. </p>
+ * <p> MySQL 은 datasource URL 에 rewriteBatchedStatements=true 가 있으면 배치가 멀티 로우 INSERT 로 전송됩니다. </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubtitleBulkRepository {
+
+	private static final String INSERT_SUBTITLE_SQL =
+		"INSERT INTO subtitle (video_id, start_time, end_time, start_ms, end_ms, original_sentence, translated_sentence, speaker, created_at, modified_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String INSERT_KEYWORD_SQL =
+		"INSERT INTO keyword (video_id, subtitle_id, word, meaning, difficulty, created_at, modified_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final EntityManager entityManager;
+
+	@Value("${video.analysis.bulk-insert.batch-size:500}")
+	private int batchSize;
+
+	/**
+	 * 자막을 배치로 저장하고 생성된 PK 를 입력 순서대로 반환합니다.
+	 *
+	 * @param subtitles 저장할 자막 (영속화되지 않은 엔티티)
+	 * @return 입력 순서와 동일한 자막 PK 리스트
+	 */
+	public List<Long> insertSubtitles(List<Subtitle> subtitles) {
+		if (subtitles.isEmpty()) {
+			return List.of();
+		}
+		// 쓰기 지연 중인 영상 INSERT 를 먼저 반영해야 외래 키 제약을 통과함
+		entityManager.flush();
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		return jdbcTemplate.execute((ConnectionCallback<List<Long>>)con -> {
+			List<Long> ids = new ArrayList<>(subtitles.size());
+			try (PreparedStatement ps = con.prepareStatement(INSERT_SUBTITLE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+				for (int from = 0; from < subtitles.size(); from += batchSize) {
+					int to = Math.min(from + batchSize, subtitles.size());
+					for (Subtitle subtitle : subtitles.subList(from, to)) {
+						ps.setString(1, subtitle.getVideos().getId());
+						ps.setString(2, subtitle.getStartTime());
+						ps.setString(3, subtitle.getEndTime());
+						ps.setObject(4, subtitle.getStartMs(), Types.BIGINT);
+						ps.setObject(5, subtitle.getEndMs(), Types.BIGINT);
+						ps.setString(6, subtitle.getOriginalSentence());
+						ps.setString(7, subtitle.getTranslatedSentence());
+						ps.setString(8, subtitle.getSpeaker());
+						ps.setTimestamp(9, now);
+						ps.setTimestamp(10, now);
+						ps.addBatch();
+					}
+					ps.executeBatch();
+
+					try (ResultSet keys = ps.getGeneratedKeys()) {
+						while (keys.next()) {
+							ids.add(keys.getLong(1));
+						}
+					}
+				}
+			}
+
+			if (ids.size() != subtitles.size()) {
+				throw new IllegalStateException("생성된 자막 PK 수가 일치하지 않습니다. expected=" + subtitles.size() + ", actual=" + ids.size());
+			}
+			return ids;
+		});
+	}
+
+	/**
+	 * 핵심 단어를 배치로 저장합니다.
+	 *
+	 * @param keywords    저장할 핵심 단어 (영속화되지 않은 엔티티)
+	 * @param subtitleIds keywords 와 같은 순서의 자막 PK
+	 */
+	public void insertKeywords(List<Keyword> keywords, List<Long> subtitleIds) {
+		if (keywords.isEmpty()) {
+			return;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		List<Integer> indexes = new ArrayList<>(keywords.size());
+		for (int i = 0; i < keywords.size(); i++) {
+			indexes.add(i);
+		}
+		jdbcTemplate.batchUpdate(INSERT_KEYWORD_SQL, indexes, batchSize, (ps, i) -> {
+			Keyword keyword = keywords.get(i);
+			ps.setString(1, keyword.getVideos().getId());
+			ps.setLong(2, subtitleIds.get(i));
+			ps.setString(3, keyword.getWord());
+			ps.setString(4, keyword.getMeaning());
+			// Keyword.difficulty 는 @Enumerated 지정이 없어 ORDINAL 로 저장됨
+			if (keyword.getDifficulty() == null) {
+				ps.setNull(5, Types.INTEGER);
+			} else {
+				ps.setInt(5, keyword.getDifficulty().ordinal());
+			}
+			ps.setTimestamp(6, now);
+			ps.setTimestamp(7, now);
+		});
+	}
+}
@@ -14,5 +14,21 @@ public interface SubtitleRepository extends JpaRepository<Subtitle, Long> {
     @Query("SELECT DISTINCT s FROM Subtitle s LEFT JOIN FETCH s.keywords WHERE s.videos.id = :videoId")
     List<Subtitle> findAllByVideosFetchKeywords(@Param("videoId") String videoId);
 
+    /**
+     * 재생 구간 [fromMs, toMs) 와 겹치는 자막을 핵심 단어와 함께 시작 시간 순으로 조회합니다.
+     * (video_id, start_ms) 인덱스로 toMs 이전에 시작하는 자막만 읽습니다.
+     */
+    @Query("SELECT DISTINCT s FROM Subtitle s LEFT JOIN FETCH s.keywords "
+        + "WHERE s.videos.id = :videoId AND s.startMs < :toMs AND s.endMs > :fromMs "
+        + "ORDER BY s.startMs")
+    List<Subtitle> findOverlappingFetchKeywords(
+        @Param("videoId") String videoId,
+        @Param("fromMs") long fromMs,
+        @Param("toMs") long toMs
+    );
+
     List<Subtitle> findByIdIn(List<Long> ids);
+
+    @Query("SELECT DISTINCT s.videos.id FROM Subtitle s WHERE s.videos.id IN :videoIds")
+    List<String> findAnalyzedVideoIds(@Param("videoIds") List<String> videoIds);
 }
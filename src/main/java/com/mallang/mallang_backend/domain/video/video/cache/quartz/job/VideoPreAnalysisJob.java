@@ -0,0 +1,39 @@
+package com.mallang.mallang_backend.domain.video.video.cache.quartz.job;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+import com.mallang.mallang_backend.domain.video.video.cache.quartz.service.VideoPreAnalysisService;
+import com.mallang.mallang_backend.global.aop.time.TimeTrace;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@DisallowConcurrentExecution // 중복 실행 방지
+public class VideoPreAnalysisJob implements Job {
+
+	private final VideoPreAnalysisService videoPreAnalysisService;
+
+	public VideoPreAnalysisJob(VideoPreAnalysisService videoPreAnalysisService) {
+		this.videoPreAnalysisService = videoPreAnalysisService;
+	}
+
+	@Override
+	@TimeTrace
+	public void execute(JobExecutionContext context) throws JobExecutionException {
+		var dataMap = context.getMergedJobDataMap();
+		String language = dataMap.getString("language");
+		int topN        = dataMap.getInt("topN");
+
+		try {
+			int analyzed = videoPreAnalysisService.preAnalyze(language, topN);
+			log.info("VideoPreAnalysisJob 실행 완료 언어 {}, 요청 갯수 {}, 분석한 갯수 {}", language, topN, analyzed);
+		} catch (Exception e) {
+			log.error("VideoPreAnalysisJob 실행에 실패했습니다.", e);
+		}
+	}
+}
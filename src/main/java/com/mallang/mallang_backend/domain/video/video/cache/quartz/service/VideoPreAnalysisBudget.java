@@ -0,0 +1,95 @@
+package com.mallang.mallang_backend.domain.video.video.cache.quartz.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 영상 미리 분석의 하루 예산 (Clova 음성 길이, OpenAI 예상 토큰)
+ * <p>- 언어별 미리 분석 잡(EN, JP)이 같은 시각에 실행되고 서버도 여러 대이므로, 날짜별 Redis 카운터 하나를 함께 차감합니다.</p>
+ * <p>- 두 예산을 모두 남겨 둘 수 있을 때만 Lua 스크립트로 한 번에 차감합니다.</p>
+ * <p>- Redis 장애 시에는 예산을 확인할 수 없으므로 분석하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoPreAnalysisBudget {
+
+	private static final String KEY_PREFIX = "video:pre-analysis:budget:";
+	private static final long KEY_TTL_MS = Duration.ofDays(2).toMillis();
+
+	/**
+	 * 반환값: 1 = 차감, 0 = 예산 부족
+	 */
+	private static final String RESERVE_SCRIPT =
+		"local minutes = tonumber(redis.call('get', KEYS[1]) or '0') " +
+		"local tokens = tonumber(redis.call('get', KEYS[2]) or '0') " +
+		"if minutes + tonumber(ARGV[1]) > tonumber(ARGV[3]) or tokens + tonumber(ARGV[2]) > tonumber(ARGV[4]) then return 0 end " +
+		"redis.call('incrby', KEYS[1], ARGV[1]) " +
+		"redis.call('incrby', KEYS[2], ARGV[2]) " +
+		"redis.call('pexpire', KEYS[1], ARGV[5]) " +
+		"redis.call('pexpire', KEYS[2], ARGV[5]) " +
+		"return 1";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final DefaultRedisScript<Long> reserveScript = new DefaultRedisScript<>(RESERVE_SCRIPT, Long.class);
+
+	// 하루 동안 모든 언어와 서버를 합쳐 STT 요청할 최대 음성 길이 (분)
+	@Value("${video.pre-analysis.clova-budget-minutes:180}")
+	private long clovaBudgetMinutes;
+
+	// 하루 동안 모든 언어와 서버를 합쳐 사용할 최대 OpenAI 예상 토큰 수
+	@Value("${video.pre-analysis.openai-token-budget:300000}")
+	private long openAiTokenBudget;
+
+	/**
+	 * 오늘 남은 예산에서 영상 하나의 분석 비용을 차감합니다.
+	 *
+	 * @param minutes 음성 길이 (분)
+	 * @param tokens  OpenAI 예상 토큰 수
+	 * @return 차감했으면 true, 예산이 부족하거나 Redis 에 접근할 수 없으면 false
+	 */
+	public boolean tryReserve(long minutes, long tokens) {
+		try {
+			Long reserved = redisTemplate.execute(
+				reserveScript,
+				keys(),
+				String.valueOf(minutes),
+				String.valueOf(tokens),
+				String.valueOf(clovaBudgetMinutes),
+				String.valueOf(openAiTokenBudget),
+				String.valueOf(KEY_TTL_MS)
+			);
+			return reserved != null && reserved == 1;
+		} catch (Exception e) {
+			log.warn("[PreAnalysis] 예산 차감 실패, 분석 생략", e);
+			return false;
+		}
+	}
+
+	/**
+	 * 분석 요청을 보내지 않은 영상(이미 분석됨, 다른 요청이 분석 중)의 차감분을 되돌립니다.
+	 */
+	public void release(long minutes, long tokens) {
+		List<String> keys = keys();
+		try {
+			redisTemplate.opsForValue().decrement(keys.get(0), minutes);
+			redisTemplate.opsForValue().decrement(keys.get(1), tokens);
+		} catch (Exception e) {
+			log.warn("[PreAnalysis] 예산 반환 실패", e);
+		}
+	}
+
+	private List<String> keys() {
+		String date = LocalDate.now().toString();
+		return List.of(KEY_PREFIX + date + ":clova-minutes", KEY_PREFIX + date + ":openai-tokens");
+	}
+}
@@ -0,0 +1,143 @@
+package com.mallang.mallang_backend.domain.video.video.cache.quartz.service;
+
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.mallang.mallang_backend.domain.video.subtitle.repository.SubtitleRepository;
+import com.mallang.mallang_backend.domain.video.video.cache.dto.CachedVideos;
+import com.mallang.mallang_backend.domain.video.video.dto.VideoResponse;
+import com.mallang.mallang_backend.domain.video.video.service.VideoService;
+import com.mallang.mallang_backend.global.common.Language;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Quartz 스케줄러에서 호출되어
+ * 검색 캐시(videoListCache)에 있는 인기 영상 중 아직 분석되지 않은 영상을 미리 분석하는 서비스
+ * Clova(음성 길이), OpenAI(예상 토큰) 하루 예산(VideoPreAnalysisBudget, 모든 언어 공유)과 실행 시간 범위 안에서만 분석합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VideoPreAnalysisService {
+
+	private final CacheManager cacheManager;
+	private final SubtitleRepository subtitleRepository;
+	private final VideoService videoService;
+	private final VideoPreAnalysisBudget budget;
+
+	@Value("${video.pre-analysis.enabled:false}")
+	private boolean enabled;
+
+	// 음성 1분당 예상 토큰 수 (스크립트 입력 + 번역/핵심 단어 출력)
+	@Value("${video.pre-analysis.openai-tokens-per-minute:600}")
+	private long openAiTokensPerMinute;
+
+	// 분석을 시작할 수 있는 시간 범위 (시작과 끝이 같으면 제한 없음)
+	@Value("${video.pre-analysis.window-start:02:00}")
+	private String windowStart;
+
+	@Value("${video.pre-analysis.window-end:06:00}")
+	private String windowEnd;
+
+	/**
+	 * 인기 영상을 미리 분석합니다.
+	 *
+	 * @param language ISO 언어 코드 (예: "en", "ja"), 캐시 키와 분석 언어에 사용
+	 * @param topN     분석 대상으로 고를 미분석 영상 수
+	 * @return 실제로 분석한 영상 수
+	 */
+	public int preAnalyze(String language, int topN) {
+		if (!enabled) {
+			log.debug("[PreAnalysis] 비활성화 상태, 실행 생략");
+			return 0;
+		}
+
+		List<VideoResponse> candidates = findUnanalyzedVideos(language, topN);
+		int analyzed = 0;
+
+		for (VideoResponse candidate : candidates) {
+			if (!isWithinWindow(LocalTime.now())) {
+				log.info("[PreAnalysis] 실행 시간 범위 종료, 남은 영상 분석 중단");
+				break;
+			}
+
+			long minutes = toMinutes(candidate.getDuration());
+			long tokens = minutes * openAiTokensPerMinute;
+			// 실패해도 STT/GPT 요청이 일부 전송되었을 수 있으므로 분석 전에 차감하고 되돌리지 않음
+			if (!budget.tryReserve(minutes, tokens)) {
+				log.debug("[PreAnalysis] 예산 부족으로 건너뜀 videoId={} ({}분)", candidate.getVideoId(), minutes);
+				continue;
+			}
+
+			try {
+				if (!videoService.preAnalyzeVideo(candidate.getVideoId(), Language.fromCode(language))) {
+					budget.release(minutes, tokens);
+					continue;
+				}
+				analyzed++;
+			} catch (Exception e) {
+				log.warn("[PreAnalysis] 영상 분석 실패 videoId={}", candidate.getVideoId(), e);
+			}
+		}
+
+		log.info("[PreAnalysis] 미리 분석 완료: 언어='{}', 후보 {}개 → 분석 {}개",
+			language, candidates.size(), analyzed);
+		return analyzed;
+	}
+
+	/**
+	 * 캐시된 인기 영상 중 자막이 없는 영상을 캐시 순서대로 최대 topN 개 반환합니다.
+	 * 캐시가 비어 있어도 YouTube API 를 호출하지 않습니다.
+	 */
+	private List<VideoResponse> findUnanalyzedVideos(String language, int topN) {
+		Cache cache = cacheManager.getCache("videoListCache");
+		// CacheSchedulerJob 이 갱신하는 기본 검색(q, category 없음) 캐시 키
+		CachedVideos cached = cache == null ? null : cache.get("||" + language, CachedVideos.class);
+		if (cached == null || cached.getResponses() == null || cached.getResponses().isEmpty()) {
+			log.info("[PreAnalysis] 캐시된 영상 없음: 언어='{}'", language);
+			return List.of();
+		}
+
+		List<VideoResponse> videos = cached.getResponses();
+		Set<String> analyzedIds = new HashSet<>(subtitleRepository.findAnalyzedVideoIds(
+			videos.stream().map(VideoResponse::getVideoId).toList()));
+
+		return videos.stream()
+			.filter(video -> !analyzedIds.contains(video.getVideoId()))
+			.limit(topN)
+			.toList();
+	}
+
+	boolean isWithinWindow(LocalTime now) {
+		LocalTime start = LocalTime.parse(windowStart);
+		LocalTime end = LocalTime.parse(windowEnd);
+		if (start.equals(end)) {
+			return true;
+		}
+		if (start.isBefore(end)) {
+			return !now.isBefore(start) && now.isBefore(end);
+		}
+		// 자정을 넘기는 범위 (예: 23:00 ~ 05:00)
+		return !now.isBefore(start) || now.isBefore(end);
+	}
+
+	/**
+	 * "mm:ss" 또는 "h:mm:ss" 형식의 재생 시간을 분 단위로 올림하여 반환합니다.
+	 */
+	private long toMinutes(String duration) {
+		long seconds = 0;
+		for (String part : duration.split(":")) {
+			seconds = seconds * 60 + Long.parseLong(part.trim());
+		}
+		return (seconds + 59) / 60;
+	}
+}
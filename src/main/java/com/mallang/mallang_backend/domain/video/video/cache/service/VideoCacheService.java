@@ -47,7 +47,7 @@ public class VideoCacheService {
 			log.info("[CACHE LOCK ACQUIRED] key={} value={}", lockKey, lockValue);
 		} else {
 			log.info("[CACHE LOCK WAIT] key={}, waiting up to {}ms", lockKey, LOCK_TTL_MS);
-			boolean waited = redisDistributedLock.waitForUnlockThenFetch(lockKey, LOCK_TTL_MS, WAIT_INTERVAL_MS);
+			boolean waited = redisDistributedLock.waitForUnlockThenFetch(lockKey, LOCK_TTL_MS);
 			if (waited) {
 				log.info("[CACHE LOCK RELEASED] key={}, proceeding", lockKey);
 			} else {
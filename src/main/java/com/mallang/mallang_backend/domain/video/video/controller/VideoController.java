@@ -13,11 +13,14 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.mallang.mallang_backend.domain.video.video.dto.AnalyzeVideoResponse;
 import com.mallang.mallang_backend.domain.video.video.dto.VideoListRequest;
 import com.mallang.mallang_backend.domain.video.video.dto.VideoResponse;
+import com.mallang.mallang_backend.domain.video.video.queue.VideoAnalysisJobDispatcher;
 import com.mallang.mallang_backend.domain.video.video.service.VideoService;
 import com.mallang.mallang_backend.domain.video.youtube.YoutubeCategoryId;
 import com.mallang.mallang_backend.global.dto.RsData;
@@ -42,11 +45,13 @@ public class VideoController {
 
 	private final VideoService videoService;
 	private final SseEmitterManager sseEmitterManager;
+	private final VideoAnalysisJobDispatcher videoAnalysisJobDispatcher;
 
 	/**
 	 * Youtube ID 로 영상을 분석해 원어 자막, 번역 자막, 핵심 단어를 응답하는 메서드
 	 *
 	 * @param youtubeVideoId 유튜브 영상의 ID, ex) DF3KVSnyUWI
+	 * @param stream true 이면 분석이 끝난 자막부터 subtitleBatch 이벤트로 먼저 전송
 	 * @return 원어 자막, 번역 자막, 핵심 단어 리스트
 	 */
 	@Operation(summary = "영상 분석", description = "Youtube ID로 영상을 분석하여 자막과 핵심 단어를 반환합니다.")
@@ -58,6 +63,7 @@ public class VideoController {
 	)
 	public ResponseEntity<SseEmitter> videoAnalysis(
 		@PathVariable String youtubeVideoId,
+		@Parameter(description = "분석이 끝난 자막부터 순차 전송 여부") @RequestParam(defaultValue = "false") boolean stream,
 		@Parameter(hidden = true) @Login CustomUserDetails userDetail
 	) {
 		Long memberId = userDetail.getMemberId();
@@ -76,7 +82,14 @@ public class VideoController {
 				.body(emitter);
 		}
 
-		videoService.analyzeWithSseAsync(memberId, youtubeVideoId, emitterId);
+		if (videoAnalysisJobDispatcher.isEnabled()) {
+			// 작업 큐 사용 시 대기 순번은 queuePosition 이벤트로 전송
+			videoAnalysisJobDispatcher.submit(memberId, youtubeVideoId, emitterId, stream);
+		} else if (stream) {
+			videoService.analyzeWithSseStreamingAsync(memberId, youtubeVideoId, emitterId);
+		} else {
+			videoService.analyzeWithSseAsync(memberId, youtubeVideoId, emitterId);
+		}
 
 		return ResponseEntity
 			.ok()
@@ -84,6 +97,32 @@ public class VideoController {
 			.body(emitter);
 	}
 
+	/**
+	 * 분석된 영상의 재생 구간과 겹치는 자막을 조회하는 메서드
+	 *
+	 * @param youtubeVideoId 유튜브 영상의 ID, ex) DF3KVSnyUWI
+	 * @param fromMs 구간 시작 (ms)
+	 * @param toMs 구간 끝 (ms)
+	 * @return 구간 내 원어 자막, 번역 자막, 핵심 단어 리스트
+	 */
+	@Operation(summary = "구간 자막 조회", description = "분석된 영상에서 재생 구간과 겹치는 자막과 핵심 단어를 반환합니다.")
+	@ApiResponse(responseCode = "200", description = "구간 자막 조회 완료")
+	@PossibleErrors({INVALID_SUBTITLE_WINDOW})
+	@GetMapping("/{youtubeVideoId}/subtitles")
+	public ResponseEntity<RsData<AnalyzeVideoResponse>> getSubtitlesInWindow(
+		@PathVariable String youtubeVideoId,
+		@Parameter(description = "구간 시작 (ms)") @RequestParam long fromMs,
+		@Parameter(description = "구간 끝 (ms)") @RequestParam long toMs
+	) {
+		AnalyzeVideoResponse response = videoService.getSubtitlesInWindow(youtubeVideoId, fromMs, toMs);
+
+		return ResponseEntity.ok(new RsData<>(
+			"200",
+			"구간 자막 조회 완료",
+			response
+		));
+	}
+
 	/**
 	 * Youtube API 를 통해 영상 목록을 가져오는 메서드(다건)
 	 * 회원의 언어 설정에 맞춰 필터링된 영상 목록을 조회합니다.
@@ -0,0 +1,18 @@
+package com.mallang.mallang_backend.domain.video.video.event;
+
+import java.util.List;
+
+import com.mallang.mallang_backend.global.common.Language;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 영상 하나의 분석 결과에서 추출된 핵심 단어 전체
+ */
+@Getter
+@AllArgsConstructor
+public class KeywordsExtractedEvent {
+	private List<String> words;
+	private Language language;
+}
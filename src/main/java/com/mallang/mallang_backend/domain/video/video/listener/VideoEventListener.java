@@ -2,6 +2,7 @@ package com.mallang.mallang_backend.domain.video.video.listener;
 
 import com.mallang.mallang_backend.domain.keyword.entity.Keyword;
 import com.mallang.mallang_backend.domain.video.video.event.KeywordSavedEvent;
+import com.mallang.mallang_backend.domain.video.video.event.KeywordsExtractedEvent;
 import com.mallang.mallang_backend.domain.video.video.event.VideoAnalyzedEvent;
 import com.mallang.mallang_backend.domain.voca.word.service.WordService;
 import com.mallang.mallang_backend.global.constants.AppConstants;
@@ -26,12 +27,26 @@ public class VideoEventListener {
 	@TransactionalEventListener
 	public void handleVideoViewed(KeywordSavedEvent event) {
 		Keyword keyword = event.getKeyword();
-		wordService.savedWord(keyword.getWord(), event.getLanguage());
-		log.debug("[KeywordSavedEvent] 단어 저장 완료 {}", keyword.getWord());
+		wordService.savedWordAsync(keyword.getWord(), event.getLanguage())
+			.whenComplete((response, e) -> {
+				if (e != null) {
+					log.warn("[KeywordSavedEvent] 단어 저장 실패 {}", keyword.getWord(), e);
+					return;
+				}
+				log.debug("[KeywordSavedEvent] 단어 저장 완료 {}", keyword.getWord());
+			});
 	}
 
-	@Async("audioDeleteExecutor")
+	@Async("addWordExecutor")
 	@TransactionalEventListener
+	public void handleKeywordsExtracted(KeywordsExtractedEvent event) {
+		wordService.saveWords(event.getWords(), event.getLanguage());
+		log.debug("[KeywordsExtractedEvent] 단어 일괄 저장 완료 ({}개)", event.getWords().size());
+	}
+
+	// 트랜잭션 밖에서 실행되는 미리 분석에서도 임시 파일이 삭제되도록 트랜잭션이 없으면 바로 처리
+	@Async("audioDeleteExecutor")
+	@TransactionalEventListener(fallbackExecution = true)
 	public void handleVideoAnalyzed(VideoAnalyzedEvent event) {
 		String fileName = event.getFileName();
 		String path = AppConstants.UPLOADS_DIR + fileName;
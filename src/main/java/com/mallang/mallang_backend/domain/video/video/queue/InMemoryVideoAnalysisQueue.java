@@ -0,0 +1,112 @@
+package com.mallang.mallang_backend.domain.video.video.queue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * 테스트 및 로컬 실행용 메모리 기반 영상 분석 작업 큐
+ * 서버가 재시작되면 대기 중인 작업이 유실되므로 운영 환경에서는 RedisVideoAnalysisQueue 를 사용합니다.
+ */
+public class InMemoryVideoAnalysisQueue implements VideoAnalysisQueue {
+
+	private static final long DEFAULT_VISIBILITY_TIMEOUT_MILLIS = 120_000;
+
+	private final PriorityQueue<Entry> waiting = new PriorityQueue<>(
+		Comparator.comparingDouble(Entry::finish).thenComparingLong(Entry::sequence));
+	private final Map<String, VideoAnalysisJob> jobs = new HashMap<>();
+	// videoId 별 실행 제한 시각
+	private final Map<String, Long> running = new LinkedHashMap<>();
+	private final Map<String, List<VideoAnalysisJob>> subscribers = new HashMap<>();
+	private final Map<Long, Double> memberFinish = new HashMap<>();
+	private final long visibilityTimeoutMillis;
+	private final LongSupplier clock;
+	private double virtualTime = 0;
+	private long sequence = 0;
+
+	public InMemoryVideoAnalysisQueue() {
+		this(DEFAULT_VISIBILITY_TIMEOUT_MILLIS, System::currentTimeMillis);
+	}
+
+	public InMemoryVideoAnalysisQueue(long visibilityTimeoutMillis, LongSupplier clock) {
+		this.visibilityTimeoutMillis = visibilityTimeoutMillis;
+		this.clock = clock;
+	}
+
+	@Override
+	public synchronized boolean enqueue(VideoAnalysisJob job) {
+		if (jobs.containsKey(job.getVideoId())) {
+			subscribers.computeIfAbsent(job.getVideoId(), k -> new ArrayList<>()).add(job);
+			return false;
+		}
+
+		double start = Math.max(virtualTime, memberFinish.getOrDefault(job.getMemberId(), 0.0));
+		double finish = start + 1.0 / job.getWeight();
+		memberFinish.put(job.getMemberId(), finish);
+
+		jobs.put(job.getVideoId(), job);
+		waiting.add(new Entry(job.getVideoId(), finish, sequence++));
+		return true;
+	}
+
+	@Override
+	public synchronized Optional<VideoAnalysisJob> poll() {
+		Entry entry = waiting.poll();
+		if (entry == null) {
+			return Optional.empty();
+		}
+		virtualTime = entry.finish();
+		// 가상 시간보다 먼저 끝나는 회원의 기록은 순서에 영향을 주지 않으므로 정리
+		memberFinish.values().removeIf(finish -> finish <= virtualTime);
+		running.put(entry.videoId(), clock.getAsLong() + visibilityTimeoutMillis);
+		return Optional.of(jobs.get(entry.videoId()));
+	}
+
+	@Override
+	public synchronized void extendLease(String videoId) {
+		running.computeIfPresent(videoId, (k, deadline) -> clock.getAsLong() + visibilityTimeoutMillis);
+	}
+
+	@Override
+	public synchronized void requeue(String videoId) {
+		if (running.remove(videoId) != null) {
+			waiting.add(new Entry(videoId, virtualTime, sequence++));
+		}
+	}
+
+	@Override
+	public synchronized List<VideoAnalysisJob> complete(String videoId) {
+		jobs.remove(videoId);
+		running.remove(videoId);
+		List<VideoAnalysisJob> completed = subscribers.remove(videoId);
+		return completed == null ? List.of() : completed;
+	}
+
+	@Override
+	public synchronized List<VideoAnalysisJob> waitingJobs() {
+		return waiting.stream()
+			.sorted(waiting.comparator())
+			.map(entry -> jobs.get(entry.videoId()))
+			.toList();
+	}
+
+	@Override
+	public synchronized int reclaimExpired() {
+		long now = clock.getAsLong();
+		List<String> expired = running.entrySet().stream()
+			.filter(entry -> entry.getValue() <= now)
+			.map(Map.Entry::getKey)
+			.toList();
+		expired.forEach(this::requeue);
+		return expired.size();
+	}
+
+	private record Entry(String videoId, double finish, long sequence) {
+	}
+}
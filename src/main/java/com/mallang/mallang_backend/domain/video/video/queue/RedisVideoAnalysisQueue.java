@@ -0,0 +1,216 @@
+package com.mallang.mallang_backend.domain.video.video.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.global.exception.ErrorCode;
+import com.mallang.mallang_backend.global.exception.ServiceException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 영상 분석 작업 큐
+ * <p>- 대기열은 가상 종료 시간을 score 로 하는 Sorted Set 이며, 추가/꺼내기는 Lua 스크립트로 원자적으로 처리합니다.</p>
+ * <p>- 모든 서버가 하나의 대기열을 공유합니다. 꺼낸 작업은 실행 제한 시각을 score 로 running 에 두고,
+ *   실행 중인 서버가 주기적으로 연장하지 않으면(서버 종료 등) 다른 서버가 대기열로 되돌려 다시 실행합니다.</p>
+ * <p>- SSE 연결은 요청을 받은 서버에만 있으므로, 다른 서버에서 실행된 작업의 이벤트는 SseEmitterManager 가 Redis 로 전달합니다.</p>
+ */
+@Slf4j
+@Component
+public class RedisVideoAnalysisQueue implements VideoAnalysisQueue {
+
+	private static final String KEY_PREFIX = "video:analysis:queue:";
+
+	private static final String ENQUEUE_SCRIPT =
+		"if redis.call('hexists', KEYS[2], ARGV[1]) == 1 then " +
+		"  redis.call('rpush', KEYS[4], ARGV[2]) " +
+		"  return 0 " +
+		"end " +
+		"local vt = tonumber(redis.call('get', KEYS[3]) or '0') " +
+		"local mf = tonumber(redis.call('zscore', KEYS[5], ARGV[3]) or '0') " +
+		"local finish = math.max(vt, mf) + tonumber(ARGV[4]) " +
+		"redis.call('zadd', KEYS[5], finish, ARGV[3]) " +
+		"redis.call('hset', KEYS[2], ARGV[1], ARGV[2]) " +
+		"redis.call('zadd', KEYS[1], finish, ARGV[1]) " +
+		"return 1";
+
+	// 가상 시간보다 먼저 끝나는 회원의 종료 시간은 순서에 영향을 주지 않으므로 꺼낼 때 정리
+	private static final String POLL_SCRIPT =
+		"local popped = redis.call('zpopmin', KEYS[1]) " +
+		"if #popped == 0 then return nil end " +
+		"redis.call('set', KEYS[3], popped[2]) " +
+		"redis.call('zremrangebyscore', KEYS[5], '-inf', popped[2]) " +
+		"redis.call('zadd', KEYS[4], ARGV[1], popped[1]) " +
+		"return redis.call('hget', KEYS[2], popped[1])";
+
+	private static final String EXTEND_SCRIPT =
+		"if redis.call('zscore', KEYS[1], ARGV[1]) then " +
+		"  redis.call('zadd', KEYS[1], ARGV[2], ARGV[1]) " +
+		"end " +
+		"return 1";
+
+	private static final String REQUEUE_SCRIPT =
+		"if redis.call('zrem', KEYS[1], ARGV[1]) == 0 then return 0 end " +
+		"redis.call('zadd', KEYS[2], redis.call('get', KEYS[3]) or '0', ARGV[1]) " +
+		"return 1";
+
+	// 현재 가상 시간을 score 로 넣어 대기 중인 작업보다 먼저 실행
+	private static final String RECLAIM_SCRIPT =
+		"local expired = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1]) " +
+		"local vt = redis.call('get', KEYS[3]) or '0' " +
+		"for _, videoId in ipairs(expired) do " +
+		"  redis.call('zrem', KEYS[1], videoId) " +
+		"  redis.call('zadd', KEYS[2], vt, videoId) " +
+		"end " +
+		"return #expired";
+
+	private static final String COMPLETE_SCRIPT =
+		"local subscribers = redis.call('lrange', KEYS[3], 0, -1) " +
+		"redis.call('del', KEYS[3]) " +
+		"redis.call('hdel', KEYS[1], ARGV[1]) " +
+		"redis.call('zrem', KEYS[2], ARGV[1]) " +
+		"return subscribers";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final long visibilityTimeoutMillis;
+
+	private final DefaultRedisScript<Long> enqueueScript = new DefaultRedisScript<>(ENQUEUE_SCRIPT, Long.class);
+	private final DefaultRedisScript<String> pollScript = new DefaultRedisScript<>(POLL_SCRIPT, String.class);
+	private final DefaultRedisScript<Long> extendScript = new DefaultRedisScript<>(EXTEND_SCRIPT, Long.class);
+	private final DefaultRedisScript<Long> requeueScript = new DefaultRedisScript<>(REQUEUE_SCRIPT, Long.class);
+	private final DefaultRedisScript<Long> reclaimScript = new DefaultRedisScript<>(RECLAIM_SCRIPT, Long.class);
+	@SuppressWarnings("rawtypes")
+	private final DefaultRedisScript<List> completeScript = new DefaultRedisScript<>(COMPLETE_SCRIPT, List.class);
+
+	public RedisVideoAnalysisQueue(
+		RedisTemplate<String, String> redisTemplate,
+		ObjectMapper objectMapper,
+		@Value("${video.analysis.queue.visibility-timeout-ms:120000}") long visibilityTimeoutMillis
+	) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.visibilityTimeoutMillis = visibilityTimeoutMillis;
+	}
+
+	@Override
+	public boolean enqueue(VideoAnalysisJob job) {
+		Long added = redisTemplate.execute(
+			enqueueScript,
+			List.of(waitingKey(), jobsKey(), virtualTimeKey(), subscribersKey(job.getVideoId()), memberFinishKey()),
+			job.getVideoId(),
+			toJson(job),
+			String.valueOf(job.getMemberId()),
+			String.valueOf(1.0 / job.getWeight())
+		);
+		return Long.valueOf(1L).equals(added);
+	}
+
+	@Override
+	public Optional<VideoAnalysisJob> poll() {
+		String json = redisTemplate.execute(
+			pollScript,
+			List.of(waitingKey(), jobsKey(), virtualTimeKey(), runningKey(), memberFinishKey()),
+			String.valueOf(leaseDeadline())
+		);
+		return Optional.ofNullable(json).map(this::fromJson);
+	}
+
+	@Override
+	public void extendLease(String videoId) {
+		redisTemplate.execute(extendScript, List.of(runningKey()), videoId, String.valueOf(leaseDeadline()));
+	}
+
+	@Override
+	public void requeue(String videoId) {
+		redisTemplate.execute(requeueScript, List.of(runningKey(), waitingKey(), virtualTimeKey()), videoId);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<VideoAnalysisJob> complete(String videoId) {
+		List<String> subscribers = redisTemplate.execute(
+			completeScript,
+			List.of(jobsKey(), runningKey(), subscribersKey(videoId)),
+			videoId
+		);
+		return subscribers == null ? List.of() : subscribers.stream().map(this::fromJson).toList();
+	}
+
+	@Override
+	public List<VideoAnalysisJob> waitingJobs() {
+		Set<String> videoIds = redisTemplate.opsForZSet().range(waitingKey(), 0, -1);
+		if (videoIds == null || videoIds.isEmpty()) {
+			return List.of();
+		}
+		List<Object> jsons = redisTemplate.opsForHash().multiGet(jobsKey(), new ArrayList<Object>(videoIds));
+		return jsons.stream()
+			.filter(Objects::nonNull)
+			.map(json -> fromJson((String) json))
+			.toList();
+	}
+
+	@Override
+	public int reclaimExpired() {
+		Long reclaimed = redisTemplate.execute(
+			reclaimScript,
+			List.of(runningKey(), waitingKey(), virtualTimeKey()),
+			String.valueOf(System.currentTimeMillis())
+		);
+		return reclaimed == null ? 0 : reclaimed.intValue();
+	}
+
+	private long leaseDeadline() {
+		return System.currentTimeMillis() + visibilityTimeoutMillis;
+	}
+
+	private String toJson(VideoAnalysisJob job) {
+		try {
+			return objectMapper.writeValueAsString(job);
+		} catch (JsonProcessingException e) {
+			throw new ServiceException(ErrorCode.VIDEO_ANALYSIS_FAILED, e);
+		}
+	}
+
+	private VideoAnalysisJob fromJson(String json) {
+		try {
+			return objectMapper.readValue(json, VideoAnalysisJob.class);
+		} catch (JsonProcessingException e) {
+			throw new ServiceException(ErrorCode.VIDEO_ANALYSIS_FAILED, e);
+		}
+	}
+
+	private String waitingKey() {
+		return KEY_PREFIX + "waiting";
+	}
+
+	private String jobsKey() {
+		return KEY_PREFIX + "jobs";
+	}
+
+	private String runningKey() {
+		return KEY_PREFIX + "running";
+	}
+
+	private String virtualTimeKey() {
+		return KEY_PREFIX + "vtime";
+	}
+
+	private String memberFinishKey() {
+		return KEY_PREFIX + "member-finish";
+	}
+
+	private String subscribersKey(String videoId) {
+		return KEY_PREFIX + "subscribers:" + videoId;
+	}
+}
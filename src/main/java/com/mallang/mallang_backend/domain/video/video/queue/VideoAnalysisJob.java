@@ -0,0 +1,34 @@
+package com.mallang.mallang_backend.domain.video.video.queue;
+
+import com.mallang.mallang_backend.domain.member.entity.SubscriptionType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 영상 분석 작업 큐에 저장되는 분석 요청
+ * weight 는 구독 등급별 가중치로, 값이 클수록 같은 시간 동안 더 많은 작업이 처리됩니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoAnalysisJob {
+	private Long memberId;
+	private String videoId;
+	private String emitterId;
+	private boolean streaming;
+	private int weight;
+
+	public static VideoAnalysisJob of(Long memberId, SubscriptionType subscriptionType, String videoId, String emitterId, boolean streaming) {
+		return new VideoAnalysisJob(memberId, videoId, emitterId, streaming, weightOf(subscriptionType));
+	}
+
+	private static int weightOf(SubscriptionType subscriptionType) {
+		return switch (subscriptionType) {
+			case PREMIUM -> 3;
+			case STANDARD -> 2;
+			default -> 1;
+		};
+	}
+}
@@ -0,0 +1,231 @@
+package com.mallang.mallang_backend.domain.video.video.queue;
+
+import static com.mallang.mallang_backend.global.exception.ErrorCode.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mallang.mallang_backend.domain.member.entity.Member;
+import com.mallang.mallang_backend.domain.member.repository.MemberRepository;
+import com.mallang.mallang_backend.domain.video.video.dto.AnalyzeVideoResponse;
+import com.mallang.mallang_backend.domain.video.video.service.VideoService;
+import com.mallang.mallang_backend.global.exception.ServiceException;
+import com.mallang.mallang_backend.global.util.sse.SseEmitterManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 영상 분석 작업 큐에서 작업을 꺼내 실행하는 디스패처
+ * <p>- 서버당 동시에 실행되는 분석(yt-dlp, STT, GPT) 수를 workers 로 제한합니다.</p>
+ * <p>- 대기 중인 요청에는 순번이 바뀔 때마다 queuePosition 이벤트를 전송합니다.</p>
+ * <p>- 같은 영상을 요청한 구독자에게도 분석 결과를 함께 전송합니다.</p>
+ * <p>- 작업 큐는 모든 서버가 공유하며, 실행 중인 작업의 제한 시간을 주기적으로 연장하고 제한 시간이 지난 작업은 다시 대기열로 되돌립니다.</p>
+ */
+@Slf4j
+@Component
+public class VideoAnalysisJobDispatcher {
+
+	private final VideoAnalysisQueue videoAnalysisQueue;
+	private final VideoService videoService;
+	private final MemberRepository memberRepository;
+	private final SseEmitterManager sseEmitterManager;
+	private final Executor analysisQueueExecutor;
+	private final boolean enabled;
+	private final Semaphore permits;
+
+	// emitterId 별 마지막으로 전송한 대기 순번 (대기열을 벗어난 요청은 정리)
+	private final Map<String, Integer> lastPositions = new ConcurrentHashMap<>();
+	// 이 서버에서 실행 중인 작업의 videoId (제한 시간 연장 대상)
+	private final Set<String> runningVideoIds = ConcurrentHashMap.newKeySet();
+
+	public VideoAnalysisJobDispatcher(
+		VideoAnalysisQueue videoAnalysisQueue,
+		VideoService videoService,
+		MemberRepository memberRepository,
+		SseEmitterManager sseEmitterManager,
+		@Qualifier("analysisQueueExecutor") Executor analysisQueueExecutor,
+		@Value("${video.analysis.queue.enabled:false}") boolean enabled,
+		@Value("${video.analysis.queue.workers:4}") int workers
+	) {
+		this.videoAnalysisQueue = videoAnalysisQueue;
+		this.videoService = videoService;
+		this.memberRepository = memberRepository;
+		this.sseEmitterManager = sseEmitterManager;
+		this.analysisQueueExecutor = analysisQueueExecutor;
+		this.enabled = enabled;
+		this.permits = new Semaphore(workers);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 분석 요청을 작업 큐에 추가하고, 실행 가능한 작업이 있으면 바로 실행합니다.
+	 */
+	public void submit(Long memberId, String videoId, String emitterId, boolean streaming) {
+		try {
+			Member member = memberRepository.findById(memberId).orElseThrow(() -> new ServiceException(MEMBER_NOT_FOUND));
+			VideoAnalysisJob job = VideoAnalysisJob.of(memberId, member.getSubscriptionType(), videoId, emitterId, streaming);
+
+			if (!videoAnalysisQueue.enqueue(job)) {
+				sseEmitterManager.sendTo(emitterId, "lockChecking", "동일한 영상의 분석이 진행중입니다...");
+			}
+		} catch (Exception e) {
+			log.warn("[AnalysisQueue] 분석 요청 등록 실패 - videoId: {}", videoId, e);
+			sseEmitterManager.sendTo(emitterId, "videoAnalysisFailed", "영상 분석에 실패했습니다.");
+			sseEmitterManager.removeEmitter(emitterId);
+			return;
+		}
+		dispatch();
+	}
+
+	/**
+	 * 실행 슬롯이 남아 있는 만큼 작업을 꺼내 실행하고, 대기 중인 요청에 순번을 알립니다.
+	 */
+	@Scheduled(fixedDelayString = "${video.analysis.queue.poll-interval-ms:1000}")
+	public void dispatch() {
+		if (!enabled) {
+			return;
+		}
+
+		maintainLeases();
+
+		while (permits.tryAcquire()) {
+			Optional<VideoAnalysisJob> job;
+			try {
+				job = videoAnalysisQueue.poll();
+			} catch (Exception e) {
+				permits.release();
+				log.warn("[AnalysisQueue] 작업 조회 실패", e);
+				return;
+			}
+
+			if (job.isEmpty()) {
+				permits.release();
+				break;
+			}
+
+			String videoId = job.get().getVideoId();
+			lastPositions.remove(job.get().getEmitterId());
+			runningVideoIds.add(videoId);
+			try {
+				analysisQueueExecutor.execute(() -> run(job.get()));
+			} catch (RejectedExecutionException e) {
+				runningVideoIds.remove(videoId);
+				permits.release();
+				log.warn("[AnalysisQueue] 작업 실행 거부, 대기열로 되돌림 - videoId: {}", videoId, e);
+				requeue(videoId);
+				break;
+			}
+		}
+
+		notifyQueuePositions();
+	}
+
+	/**
+	 * 이 서버에서 실행 중인 작업의 제한 시간을 연장하고, 제한 시간이 지난 작업(종료된 서버의 작업 등)을 대기열로 되돌립니다.
+	 */
+	private void maintainLeases() {
+		try {
+			runningVideoIds.forEach(videoAnalysisQueue::extendLease);
+			int reclaimed = videoAnalysisQueue.reclaimExpired();
+			if (reclaimed > 0) {
+				log.info("[AnalysisQueue] 제한 시간이 지난 분석 작업 {}건 재등록", reclaimed);
+			}
+		} catch (Exception e) {
+			log.warn("[AnalysisQueue] 실행 중 작업 제한 시간 갱신 실패", e);
+		}
+	}
+
+	private void requeue(String videoId) {
+		try {
+			videoAnalysisQueue.requeue(videoId);
+		} catch (Exception e) {
+			// 되돌리지 못해도 제한 시간이 지나면 다시 대기열로 돌아감
+			log.warn("[AnalysisQueue] 작업 재등록 실패 - videoId: {}", videoId, e);
+		}
+	}
+
+	private void run(VideoAnalysisJob job) {
+		AnalyzeVideoResponse result = null;
+		try {
+			result = videoService.analyzeVideo(job.getMemberId(), job.getVideoId(), job.getEmitterId(), job.isStreaming());
+		} catch (Exception e) {
+			log.warn("영상 분석 중 에러", e);
+		}
+
+		try {
+			sendResult(job.getEmitterId(), result);
+			for (VideoAnalysisJob subscriber : videoAnalysisQueue.complete(job.getVideoId())) {
+				sendResult(subscriber.getEmitterId(), result == null ? null : resultFor(subscriber));
+			}
+		} catch (Exception e) {
+			log.warn("[AnalysisQueue] 분석 결과 전송 실패 - videoId: {}", job.getVideoId(), e);
+		} finally {
+			runningVideoIds.remove(job.getVideoId());
+			permits.release();
+		}
+	}
+
+	/**
+	 * 구독자도 직접 요청한 경우와 같이 저장된 분석 결과를 조회하여, 회원별 시청 기록이 남도록 합니다.
+	 */
+	private AnalyzeVideoResponse resultFor(VideoAnalysisJob subscriber) {
+		try {
+			return videoService.analyzeVideo(subscriber.getMemberId(), subscriber.getVideoId(), subscriber.getEmitterId(), false);
+		} catch (Exception e) {
+			log.warn("[AnalysisQueue] 구독자 분석 결과 조회 실패 - videoId: {}", subscriber.getVideoId(), e);
+			return null;
+		}
+	}
+
+	private void sendResult(String emitterId, AnalyzeVideoResponse result) {
+		lastPositions.remove(emitterId);
+		if (result != null) {
+			sseEmitterManager.sendTo(emitterId, "analysisComplete", result);
+		} else {
+			sseEmitterManager.sendTo(emitterId, "videoAnalysisFailed", "영상 분석에 실패했습니다.");
+		}
+		sseEmitterManager.removeEmitter(emitterId);
+	}
+
+	private void notifyQueuePositions() {
+		List<VideoAnalysisJob> waitingJobs;
+		try {
+			waitingJobs = videoAnalysisQueue.waitingJobs();
+		} catch (Exception e) {
+			log.warn("[AnalysisQueue] 대기 순번 조회 실패", e);
+			return;
+		}
+
+		// 대기열은 서버 간에 공유되므로, 이 서버에 연결된 요청에만 순번을 전송
+		for (int i = 0; i < waitingJobs.size(); i++) {
+			String emitterId = waitingJobs.get(i).getEmitterId();
+			if (!sseEmitterManager.hasEmitter(emitterId)) {
+				continue;
+			}
+			int position = i + 1;
+			Integer previous = lastPositions.put(emitterId, position);
+			if (!Objects.equals(previous, position)) {
+				sseEmitterManager.sendTo(emitterId, "queuePosition", position);
+			}
+		}
+
+		Set<String> waitingEmitterIds = waitingJobs.stream().map(VideoAnalysisJob::getEmitterId).collect(Collectors.toSet());
+		lastPositions.keySet().retainAll(waitingEmitterIds);
+	}
+}
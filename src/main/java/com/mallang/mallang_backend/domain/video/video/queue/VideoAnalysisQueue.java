@@ -0,0 +1,54 @@
+package com.mallang.mallang_backend.domain.video.video.queue;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 영상 분석 작업 큐
+ * <p>- 같은 videoId 의 작업은 하나만 대기/실행되며, 이후 요청은 구독자로 등록됩니다.</p>
+ * <p>- 회원별 가중치 공정 큐(Weighted Fair Queuing)로 순서를 정하여, 한 회원이 여러 영상을 요청해도 다른 회원의 대기가 길어지지 않습니다.</p>
+ * <p>- 꺼낸 작업은 제한 시간(visibility timeout) 동안만 실행 중으로 유지되며, 시간 안에 완료 또는 연장되지 않으면 다시 대기열로 돌아갑니다.</p>
+ */
+public interface VideoAnalysisQueue {
+
+	/**
+	 * 작업을 대기열에 추가합니다.
+	 * 같은 videoId 의 작업이 이미 대기 또는 실행 중이면 작업을 추가하지 않고 구독자로 등록합니다.
+	 *
+	 * @param job 분석 작업
+	 * @return 새 작업이 추가되었으면 true, 구독자로 등록되었으면 false
+	 */
+	boolean enqueue(VideoAnalysisJob job);
+
+	/**
+	 * 다음 순서의 작업을 꺼냅니다. 꺼낸 작업은 complete 호출 전까지 실행 중 상태로 유지됩니다.
+	 */
+	Optional<VideoAnalysisJob> poll();
+
+	/**
+	 * 실행 중인 작업의 제한 시간을 지금부터 다시 연장합니다.
+	 */
+	void extendLease(String videoId);
+
+	/**
+	 * 실행하지 못한 작업을 대기열 맨 앞으로 되돌립니다.
+	 */
+	void requeue(String videoId);
+
+	/**
+	 * 작업을 완료 처리하고, 작업이 진행되는 동안 구독자로 등록된 요청 목록을 반환합니다.
+	 */
+	List<VideoAnalysisJob> complete(String videoId);
+
+	/**
+	 * 대기 중인 작업을 실행 순서대로 반환합니다.
+	 */
+	List<VideoAnalysisJob> waitingJobs();
+
+	/**
+	 * 제한 시간이 지난 실행 중 작업을 대기열 맨 앞으로 되돌립니다. (작업을 꺼낸 서버가 종료된 경우 유실 방지)
+	 *
+	 * @return 되돌린 작업 수
+	 */
+	int reclaimExpired();
+}
@@ -1,7 +1,9 @@
 package com.mallang.mallang_backend.domain.video.video.service;
 
+import com.mallang.mallang_backend.domain.video.video.dto.AnalyzeVideoResponse;
 import com.mallang.mallang_backend.domain.video.video.dto.VideoResponse;
 import com.mallang.mallang_backend.domain.video.video.entity.Videos;
+import com.mallang.mallang_backend.global.common.Language;
 
 import java.io.IOException;
 import java.util.List;
@@ -35,5 +37,46 @@ public interface VideoService {
 	 */
 	void analyzeWithSseAsync(Long memberId, String videoID, String emitterId);
 
+	/**
+	 * 영상 분석 중 GPT 분석이 끝난 자막부터 저장 후 subtitleBatch 이벤트로 먼저 전송하고,
+	 * 모든 분석이 끝나면 analysisComplete 이벤트로 전체 결과를 전송합니다.
+	 * 자막 묶음은 저장이 커밋된 뒤 전송되므로 전송된 subtitleId 는 분석이 중간에 실패해도 유효합니다.
+	 * 분석이 중간에 실패하면 videoAnalysisFailed 이벤트가 전송되고, 다음 분석 요청은 저장된 자막 이후 구간부터 이어서 분석합니다.
+	 *
+	 * @param memberId
+	 * @param videoID  유튜브 영상 ID
+	 * @param emitterId
+	 */
+	void analyzeWithSseStreamingAsync(Long memberId, String videoID, String emitterId);
+
+	/**
+	 * 영상 분석을 호출한 스레드에서 실행하고 결과를 반환합니다. (영상 분석 작업 큐 워커에서 사용)
+	 * 진행 상황 이벤트는 emitterId 로 전송되며, 완료/실패 이벤트 전송은 호출한 쪽에서 처리합니다.
+	 *
+	 * @param streaming true 이면 분석이 끝난 자막부터 subtitleBatch 이벤트로 전송
+	 * @return 원어 자막, 번역 자막, 핵심 단어 리스트
+	 */
+	AnalyzeVideoResponse analyzeVideo(Long memberId, String videoID, String emitterId, boolean streaming);
+
+	/**
+	 * 회원 요청 없이 영상을 미리 분석하여 저장합니다. (인기 영상 미리 분석 스케줄러에서 사용)
+	 *
+	 * @param videoID  유튜브 영상 ID
+	 * @param language 핵심 단어 분석 언어
+	 * @return 분석을 실행했으면 true, 이미 분석되었거나 다른 요청이 분석 중이면 false
+	 */
+	boolean preAnalyzeVideo(String videoID, Language language);
+
+	/**
+	 * 분석이 끝난 영상에서 재생 구간 [fromMs, toMs) 와 겹치는 자막과 핵심 단어를 조회합니다.
+	 * 플레이어가 전체 자막 대신 재생 위치 주변 자막만 나누어 가져올 때 사용합니다.
+	 *
+	 * @param videoID 유튜브 영상 ID
+	 * @param fromMs  구간 시작 (ms, 포함)
+	 * @param toMs    구간 끝 (ms, 미포함)
+	 * @return 시작 시간 순으로 정렬된 자막 리스트
+	 */
+	AnalyzeVideoResponse getSubtitlesInWindow(String videoID, long fromMs, long toMs);
+
 	Videos saveVideoIfAbsent(String videoId);
 }
@@ -24,12 +24,14 @@ import lombok.RequiredArgsConstructor;
 public class AnalyzeVideoResultFetcher {
 
 	private final SubtitleRepository subtitleRepository;
+	private final VideoAnalysisCheckpointStore checkpointStore;
 
 	@TimeTrace
 	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
 	public AnalyzeVideoResponse fetchAnalyzedResultAfterWait(String videoId) {
 		List<Subtitle> savedSubtitles = subtitleRepository.findAllByVideosFetchKeywords(videoId);
-		if (savedSubtitles.isEmpty()) {
+		// 스트리밍 분석이 중간에 실패해 일부만 저장된 경우도 분석 실패로 처리
+		if (savedSubtitles.isEmpty() || checkpointStore.isPartial(videoId)) {
 			throw new ServiceException(ErrorCode.ANALYZE_VIDEO_FAILED);
 		}
 		List<GptSubtitleResponse> subtitleResponses = GptSubtitleResponse.from(savedSubtitles);
@@ -0,0 +1,131 @@
+package com.mallang.mallang_backend.domain.video.video.service.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.domain.video.video.dto.VideoDetail;
+import com.mallang.mallang_backend.global.gpt.dto.GptSubtitleResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 영상 분석 단계별 결과(영상 정보, STT 결과, GPT 분석 결과)를 videoId 기준으로 Redis 에 저장하는 체크포인트 저장소
+ * 분석이 중간에 실패해도 다음 시도에서 마지막으로 성공한 단계부터 이어서 진행할 수 있습니다.
+ * 분석이 완료되면 clear 로 삭제하고, 실패한 채 다시 요청되지 않은 체크포인트는 TTL 로 만료됩니다.
+ * 체크포인트 저장/조회 실패는 분석 실패로 이어지지 않도록 로그만 남깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoAnalysisCheckpointStore {
+
+	private static final String KEY_PREFIX = "video:analysis:checkpoint:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Value("${video.analysis.checkpoint.ttl-minutes:60}")
+	private long ttlMinutes;
+
+	public Optional<VideoDetail> findVideoDetail(String videoId) {
+		return read(key(videoId, "detail"), new TypeReference<>() {});
+	}
+
+	public void saveVideoDetail(String videoId, VideoDetail detail) {
+		write(key(videoId, "detail"), detail);
+	}
+
+	/**
+	 * @return Clova STT 응답 JSON 원문
+	 */
+	public Optional<String> findTranscript(String videoId) {
+		return read(key(videoId, "stt"), new TypeReference<>() {});
+	}
+
+	public void saveTranscript(String videoId, String sttResult) {
+		write(key(videoId, "stt"), sttResult);
+	}
+
+	public Optional<List<GptSubtitleResponse>> findGptResult(String videoId) {
+		return read(key(videoId, "gpt"), new TypeReference<>() {});
+	}
+
+	public void saveGptResult(String videoId, List<GptSubtitleResponse> gptResult) {
+		write(key(videoId, "gpt"), gptResult);
+	}
+
+	/**
+	 * 분석 결과가 DB 에 저장된 뒤 단계별 체크포인트를 삭제합니다.
+	 */
+	public void clear(String videoId) {
+		try {
+			redisTemplate.delete(List.of(key(videoId, "detail"), key(videoId, "stt"), key(videoId, "gpt")));
+		} catch (Exception e) {
+			log.warn("[Checkpoint] 체크포인트 삭제 실패 - videoId: {}", videoId, e);
+		}
+	}
+
+	/**
+	 * 자막을 묶음 단위로 커밋하는 분석이 시작되었음을 표시합니다. 분석이 끝나면 clearPartial 로 지웁니다.
+	 * 표시가 남아 있으면 저장된 자막은 일부이므로 분석 결과로 사용하지 않고 남은 구간부터 이어서 분석합니다.
+	 * 실패한 분석이 다시 요청될 때까지 유지되어야 하므로 TTL 을 두지 않습니다.
+	 */
+	public void markPartial(String videoId) {
+		try {
+			redisTemplate.opsForValue().set(key(videoId, "partial"), "1");
+		} catch (Exception e) {
+			log.warn("[Checkpoint] 일부 저장 표시 실패 - videoId: {}", videoId, e);
+		}
+	}
+
+	public boolean isPartial(String videoId) {
+		try {
+			return Boolean.TRUE.equals(redisTemplate.hasKey(key(videoId, "partial")));
+		} catch (Exception e) {
+			log.warn("[Checkpoint] 일부 저장 표시 조회 실패 - videoId: {}", videoId, e);
+			return false;
+		}
+	}
+
+	public void clearPartial(String videoId) {
+		try {
+			redisTemplate.delete(key(videoId, "partial"));
+		} catch (Exception e) {
+			log.warn("[Checkpoint] 일부 저장 표시 삭제 실패 - videoId: {}", videoId, e);
+		}
+	}
+
+	private String key(String videoId, String stage) {
+		return KEY_PREFIX + videoId + ":" + stage;
+	}
+
+	private <T> Optional<T> read(String key, TypeReference<T> type) {
+		try {
+			String json = redisTemplate.opsForValue().get(key);
+			if (json == null) {
+				return Optional.empty();
+			}
+			log.debug("[Checkpoint] 체크포인트 재사용 - key: {}", key);
+			return Optional.of(objectMapper.readValue(json, type));
+		} catch (Exception e) {
+			log.warn("[Checkpoint] 체크포인트 조회 실패 - key: {}", key, e);
+			return Optional.empty();
+		}
+	}
+
+	private void write(String key, Object value) {
+		try {
+			redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), Duration.ofMinutes(ttlMinutes));
+		} catch (Exception e) {
+			log.warn("[Checkpoint] 체크포인트 저장 실패 - key: {}", key, e);
+		}
+	}
+}
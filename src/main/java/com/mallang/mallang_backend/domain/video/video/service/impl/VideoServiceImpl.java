@@ -5,17 +5,33 @@ import static com.mallang.mallang_backend.global.exception.ErrorCode.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.google.api.services.youtube.model.Video;
 import com.mallang.mallang_backend.domain.bookmark.repository.BookmarkRepository;
@@ -27,12 +43,14 @@ import com.mallang.mallang_backend.domain.stt.converter.Transcript;
 import com.mallang.mallang_backend.domain.stt.converter.TranscriptParser;
 import com.mallang.mallang_backend.domain.stt.converter.TranscriptSegment;
 import com.mallang.mallang_backend.domain.video.subtitle.entity.Subtitle;
+import com.mallang.mallang_backend.domain.video.subtitle.repository.SubtitleBulkRepository;
 import com.mallang.mallang_backend.domain.video.subtitle.repository.SubtitleRepository;
 import com.mallang.mallang_backend.domain.video.video.dto.AnalyzeVideoResponse;
 import com.mallang.mallang_backend.domain.video.video.dto.VideoDetail;
 import com.mallang.mallang_backend.domain.video.video.dto.VideoResponse;
 import com.mallang.mallang_backend.domain.video.video.entity.Videos;
 import com.mallang.mallang_backend.domain.video.video.event.KeywordSavedEvent;
+import com.mallang.mallang_backend.domain.video.video.event.KeywordsExtractedEvent;
 import com.mallang.mallang_backend.domain.video.video.event.VideoAnalyzedEvent;
 import com.mallang.mallang_backend.domain.video.video.repository.VideoRepository;
 import com.mallang.mallang_backend.domain.video.video.service.VideoService;
@@ -48,6 +66,7 @@ import com.mallang.mallang_backend.global.util.clova.ClovaSpeechClient;
 import com.mallang.mallang_backend.global.util.clova.NestRequestEntity;
 import com.mallang.mallang_backend.global.util.redis.RedisDistributedLock;
 import com.mallang.mallang_backend.global.util.sse.SseEmitterManager;
+import com.mallang.mallang_backend.global.util.youtube.AudioStream;
 import com.mallang.mallang_backend.global.util.youtube.YoutubeAudioExtractor;
 
 import lombok.RequiredArgsConstructor;
@@ -59,6 +78,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class VideoServiceImpl implements VideoService {
 
+	// 미리 분석은 연결된 SSE 가 없으므로 어떤 emitter 와도 겹치지 않는 ID 사용
+	private static final String PRE_ANALYSIS_EMITTER_PREFIX = "pre-analysis:";
+
 	private final VideoRepository videoRepository;
 	private final YoutubeService youtubeService;
 	private final YoutubeAudioExtractor youtubeAudioExtractor;
@@ -74,6 +96,30 @@ public class VideoServiceImpl implements VideoService {
 	private final BookmarkRepository bookmarkRepository;
 	private final VideoQueryService videoQueryService;
 	private final SseEmitterManager sseEmitterManager;
+	private final VideoAnalysisCheckpointStore checkpointStore;
+	private final Executor analysisExecutor;
+	private final SubtitleBulkRepository subtitleBulkRepository;
+	private final PlatformTransactionManager transactionManager;
+
+	// 음성을 파일로 저장하지 않고 yt-dlp 출력을 Clova 요청으로 바로 전송할지 여부
+	@Value("${video.analysis.audio-streaming.enabled:false}")
+	private boolean audioStreamingEnabled;
+
+	// 자막/핵심 단어를 JPA saveAll 대신 JDBC 배치 INSERT 로 저장할지 여부
+	@Value("${video.analysis.bulk-insert.enabled:false}")
+	private boolean bulkInsertEnabled;
+
+	// 핵심 단어 사전 등록을 단어별 이벤트 대신 영상 단위 일괄 처리로 진행할지 여부
+	@Value("${video.analysis.keyword-enrichment.batch.enabled:false}")
+	private boolean batchEnrichmentEnabled;
+
+	// 파일 방식 STT 를 Clova async 모드(토큰 발급 후 결과 폴링)로 요청할지 여부
+	@Value("${video.analysis.stt-async.enabled:false}")
+	private boolean sttAsyncEnabled;
+
+	// 재생 구간 자막 조회 시 한 번에 요청할 수 있는 최대 구간 길이 (ms)
+	@Value("${video.subtitle.window.max-ms:600000}")
+	private long maxSubtitleWindowMs;
 
 	// 회원 기준 영상 검색 메서드
 	@Override
@@ -144,23 +190,76 @@ public class VideoServiceImpl implements VideoService {
 		}
 	}
 
+	/**
+	 * 분석 중 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행합니다. 저장은 단계마다 짧은 트랜잭션으로 커밋합니다.
+	 */
 	@Async("analysisExecutor")
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	@Override
 	public void analyzeWithSseAsync(Long memberId, String videoId, String emitterId) {
+		analyzeAndNotify(memberId, videoId, emitterId, false);
+	}
+
+	@Async("analysisExecutor")
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@Override
+	public void analyzeWithSseStreamingAsync(Long memberId, String videoId, String emitterId) {
+		analyzeAndNotify(memberId, videoId, emitterId, true);
+	}
+
+	/**
+	 * 분석 결과를 SSE 로 전송합니다.
+	 * 같은 영상을 다른 요청이 분석 중이면 스레드를 반환하고, 락 해제 알림을 받은 뒤 결과를 전송합니다.
+	 */
+	private void analyzeAndNotify(Long memberId, String videoId, String emitterId, boolean streaming) {
+		CompletableFuture<AnalyzeVideoResponse> result;
 		try {
-			AnalyzeVideoResponse result = analyzeVideo(memberId, videoId, emitterId);
-			sseEmitterManager.sendTo(emitterId, "analysisComplete", result);
+			result = analyzeVideoOrAwait(memberId, videoId, emitterId, streaming);
 		} catch (Exception e) {
-			// 분석 실패 이벤트 전송
-			sseEmitterManager.sendTo(emitterId, "videoAnalysisFailed", "영상 분석에 실패했습니다.");
-			log.warn("영상 분석 중 에러", e);
-		} finally {
+			result = CompletableFuture.failedFuture(e);
+		}
+
+		result.whenComplete((response, e) -> {
+			if (e == null) {
+				sseEmitterManager.sendTo(emitterId, "analysisComplete", response);
+			} else {
+				// 분석 실패 이벤트 전송
+				sseEmitterManager.sendTo(emitterId, "videoAnalysisFailed", "영상 분석에 실패했습니다.");
+				log.warn("영상 분석 중 에러", e);
+			}
 			sseEmitterManager.removeEmitter(emitterId);
+		});
+	}
+
+	/**
+	 * 분석 중 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행합니다. 저장은 단계마다 짧은 트랜잭션으로 커밋합니다.
+	 *
+	 * @param streaming true 이면 GPT 청크 분석이 끝날 때마다 자막을 저장하고 subtitleBatch 이벤트로 전송
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@Override
+	public AnalyzeVideoResponse analyzeVideo(Long memberId, String videoId, String emitterId, boolean streaming) {
+		return await(analyzeVideoOrAwait(memberId, videoId, emitterId, streaming));
+	}
+
+	/**
+	 * 분석 결과를 기다리고, 실패하면 Future 가 감싼 원래 예외를 던집니다.
+	 */
+	private <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
 		}
 	}
 
-	private AnalyzeVideoResponse analyzeVideo(Long memberId, String videoId, String emitterId) {
+	/**
+	 * 영상을 분석합니다. 같은 영상을 다른 요청이 분석 중이면 락 해제 후 DB 에 저장된 결과로 완료되는 Future 를 반환합니다.
+	 */
+	private CompletableFuture<AnalyzeVideoResponse> analyzeVideoOrAwait(Long memberId, String videoId, String emitterId, boolean streaming) {
 		Member member = memberRepository.findById(memberId).orElseThrow(() -> new ServiceException(ErrorCode.MEMBER_NOT_FOUND));
 
 		long startTotal = System.nanoTime(); // 전체 시작 시간
@@ -172,12 +271,13 @@ public class VideoServiceImpl implements VideoService {
 		log.debug("[AnalyzeVideo] 시청 히스토리 이벤트 발행 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
 
 		// 2. 기존 분석 결과 확인
+		// 스트리밍 분석이 진행 중이거나 중간에 실패해 일부만 저장된 자막은 분석 결과로 사용하지 않음
 		List<Subtitle> existing = subtitleRepository.findAllByVideosFetchKeywords(videoId);
-		if (!existing.isEmpty()) {
+		if (!existing.isEmpty() && !checkpointStore.isPartial(videoId)) {
 			List<GptSubtitleResponse> subtitleResponses = GptSubtitleResponse.from(existing);
 			log.debug("[AnalyzeVideo] 기존 분석 결과 반환 ({} ms)", (System.nanoTime() - start) / 1_000_000);
 			log.debug("[AnalyzeVideo] 전체 완료 ({} ms)", (System.nanoTime() - startTotal) / 1_000_000);
-			return AnalyzeVideoResponse.from(subtitleResponses);
+			return CompletableFuture.completedFuture(AnalyzeVideoResponse.from(subtitleResponses));
 		}
 
 		// 락 획득 시도
@@ -189,80 +289,305 @@ public class VideoServiceImpl implements VideoService {
 		if (!locked) {
 			sseEmitterManager.sendTo(emitterId, "lockChecking", "동일한 영상의 분석이 진행중입니다...");
 
-			// 락이 사라졌는지 10분간 계속 확인
-			boolean lockAvailable = redisDistributedLock.waitForUnlockThenFetch(lockKey, ttlMillis, 2000L);
+			// 락 해제 알림을 최대 10분간 대기 (대기 중 스레드 점유 없음)
+			return redisDistributedLock.awaitUnlock(lockKey, ttlMillis)
+				.thenApplyAsync(lockAvailable -> {
+					// 최대 대기 시간까지 해제되지 않음
+					if (!lockAvailable) {
+						throw new ServiceException(ANALYZE_VIDEO_CONCURRENCY_TIME_OUT);
+					}
+
+					// 락이 사라졌으면 다른 작업으로 처리된 결과를 DB에서 찾아서 응답
+					return analyzeVideoResultFetcher.fetchAnalyzedResultAfterWait(videoId);
+				}, analysisExecutor);
+		}
 
-			// 최대 재시도 시간까지 확인했으나 실패함
-			if (!lockAvailable) {
-				throw new ServiceException(ANALYZE_VIDEO_CONCURRENCY_TIME_OUT);
-			}
+		return analyzeWithLock(member.getLanguage(), videoId, emitterId, streaming, streaming, lockKey, lockValue, startTotal);
+	}
 
-			// 락이 사라졌으면 다른 작업으로 처리된 결과를 DB에서 찾아서 응답
-			return analyzeVideoResultFetcher.fetchAnalyzedResultAfterWait(videoId);
+	/**
+	 * 회원 요청 없이 영상을 미리 분석합니다. 시청 기록과 SSE 알림은 발생하지 않습니다.
+	 * 음성 추출, STT, GPT 호출이 DB 트랜잭션(커넥션)을 잡고 있지 않도록 트랜잭션 밖에서 실행하고, 영상 정보와 자막 묶음은 각각 별도 트랜잭션으로 커밋합니다.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@Override
+	public boolean preAnalyzeVideo(String videoId, Language language) {
+		if (!subtitleRepository.findAnalyzedVideoIds(List.of(videoId)).isEmpty() && !checkpointStore.isPartial(videoId)) {
+			return false;
 		}
 
+		// 이미 다른 요청이 분석 중이면 기다리지 않고 건너뜀
+		String lockKey = "lock:video:analysis:" + videoId;
+		String lockValue = UUID.randomUUID().toString();
+		if (!redisDistributedLock.tryLock(lockKey, lockValue, Duration.ofMinutes(10).toMillis())) {
+			return false;
+		}
+
+		await(analyzeWithLock(language, videoId, PRE_ANALYSIS_EMITTER_PREFIX + videoId, false, true, lockKey, lockValue, System.nanoTime()));
+		return true;
+	}
+
+	/**
+	 * 락을 획득한 요청에서 영상 정보 저장부터 자막 저장까지 진행합니다.
+	 * 트랜잭션 밖에서 호출되며, 영상 정보와 자막은 저장 단계마다 짧은 트랜잭션으로 커밋합니다.
+	 * Clova async 모드로 STT 를 요청하면 인식 결과를 기다리는 동안 분석 스레드를 점유하지 않고, 결과를 받은 뒤 analysisExecutor 에서 이어서 분석합니다.
+	 * 실패 알림(videoAnalysisFailed)은 결과를 전달하는 호출한 쪽에서 한 번만 전송합니다.
+	 *
+	 * @param commitEachStep true 이면 자막을 한 번에 저장하지 않고 GPT 분석 묶음마다 별도 트랜잭션으로 커밋
+	 */
+	private CompletableFuture<AnalyzeVideoResponse> analyzeWithLock(Language language, String videoId, String emitterId, boolean streaming,
+		boolean commitEachStep, String lockKey, String lockValue, long startTotal) {
+		long start;
 		String fileName = null;
+		CompletableFuture<AnalyzeVideoResponse> analysis;
 		try {
 			// **락 획득 알림**
 			sseEmitterManager.sendTo(emitterId, "lockAcquired","Lock acquired, 곧 Audio 추출 시작합니다.");
 
-			// 3. 영상 정보 저장
-			start = System.nanoTime();
-			VideoDetail dto = fetchDetail(videoId);
-			Videos video = upsertVideoEntity(dto);
-			log.debug("[AnalyzeVideo] 영상 정보 저장 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
+			// 이전 스트리밍 분석이 중간에 실패해 일부 자막이 이미 저장된 경우, 저장된 자막 이후 구간만 분석
+			boolean partial = checkpointStore.isPartial(videoId);
+			// 전송한 subtitleId 가 이후 청크 실패로 롤백되지 않도록 자막 묶음마다 별도 트랜잭션으로 커밋
+			boolean commitPerBatch = commitEachStep || partial;
 
-			// 4. 음성 추출
+			// 3. 영상 정보 저장 (체크포인트가 있으면 YouTube API 호출 생략)
 			start = System.nanoTime();
-			fileName = youtubeAudioExtractor.extractAudio(YOUTUBE_VIDEO_BASE_URL + videoId);
-			log.debug("[AnalyzeVideo] 오디오 추출 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
-
-			// **오디오 추출 완료 알림**
-			sseEmitterManager.sendTo(emitterId, "audioExtracted","Audio 추출 완료, STT 분석 시작합니다.");
+			VideoDetail dto = checkpointStore.findVideoDetail(videoId).orElse(null);
+			if (dto == null) {
+				dto = fetchDetail(videoId);
+				checkpointStore.saveVideoDetail(videoId, dto);
+			}
+			VideoDetail detail = dto;
+			// 자막을 별도 트랜잭션으로 저장하려면 참조하는 영상이 먼저 커밋되어 있어야 함
+			Videos video = inNewTransaction(() -> upsertVideoEntity(detail));
+			log.debug("[AnalyzeVideo] 영상 정보 저장 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
 
-			// 5. STT 요청
-			start = System.nanoTime();
+			// 4~5. STT 결과 체크포인트가 있으면 음성 추출과 STT 요청 생략
 			NestRequestEntity requestEntity = new NestRequestEntity(video.getLanguage());
-			final String result = clovaSpeechClient.upload(new File(UPLOADS_DIR + fileName), requestEntity);
-			log.debug("[AnalyzeVideo] STT 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
+			String result = checkpointStore.findTranscript(videoId).orElse(null);
+			if (result == null && audioStreamingEnabled && youtubeAudioExtractor.supportsStreaming()) {
+				result = transcribeByStreaming(videoId, video.getLanguage(), emitterId, requestEntity);
+			}
 
-			// **STT 완료 알림**
-			sseEmitterManager.sendTo(emitterId, "sttCompleted","STT 완료, GPT 분석 시작합니다.");
+			CompletableFuture<String> transcript;
+			if (result == null) {
+				// 4. 음성 추출
+				start = System.nanoTime();
+				fileName = youtubeAudioExtractor.extractAudio(YOUTUBE_VIDEO_BASE_URL + videoId, video.getLanguage());
+				log.debug("[AnalyzeVideo] 오디오 추출 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
 
-			// 6. STT 결과 파싱
-			start = System.nanoTime();
-			Transcript transcript = transcriptParser.parseTranscriptJson(result);
-			List<TranscriptSegment> segments = transcript.getSegments();
-			log.debug("[AnalyzeVideo] STT 결과 파싱 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
+				// **오디오 추출 완료 알림**
+				sseEmitterManager.sendTo(emitterId, "audioExtracted","Audio 추출 완료, STT 분석 시작합니다.");
 
-			// 7. GPT 분석
-			start = System.nanoTime();
-			List<GptSubtitleResponse> gptResult = gptService.analyzeScript(segments, member.getLanguage());
-			// if (isInvalidGptResult(gptResult)) {
-			// 	throw new ServiceException(INVALID_GPT_RESPONSE);
-			// }
-			log.debug("[AnalyzeVideo] GPT 분석 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
+				// 5. STT 요청
+				transcript = transcribe(videoId, new File(UPLOADS_DIR + fileName), requestEntity);
+			} else {
+				transcript = CompletableFuture.completedFuture(result);
+			}
 
-			// 8. 저장
-			start = System.nanoTime();
-			saveSubtitleAndKeyword(video, gptResult, member.getLanguage());
-			log.debug("[AnalyzeVideo] 결과 저장 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
-
-			return AnalyzeVideoResponse.from(gptResult);
-		} catch (IOException | InterruptedException | ServiceException e) {
-			sseEmitterManager.sendTo(emitterId, "videoAnalysisFailed", "영상 분석에 실패했습니다.");
-			log.warn("영상 분석 실패", e);
-			throw new ServiceException(VIDEO_ANALYSIS_FAILED);
-		} finally {
-			// 락 해제
-			redisDistributedLock.unlock(lockKey, lockValue);
+			// 6~8. STT 결과 파싱, GPT 분석, 저장 (STT 결과를 기다리는 경우 결과를 받은 뒤 analysisExecutor 에서 진행)
+			Function<String, AnalyzeVideoResponse> analyzeStt = stt -> {
+				try {
+					return analyzeTranscript(language, videoId, emitterId, streaming, commitPerBatch, partial, video, stt);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			};
+			analysis = transcript.isDone()
+				? transcript.thenApply(analyzeStt)
+				: transcript.thenApplyAsync(analyzeStt, analysisExecutor);
+		} catch (IOException | InterruptedException | RuntimeException e) {
+			analysis = CompletableFuture.failedFuture(e);
+		}
+
+		String audioFileName = fileName;
+		return analysis.handle((response, e) -> {
+			// 락 해제 (대기자가 저장된 자막을 조회할 수 있도록 커밋 후 해제)
+			redisDistributedLock.unlockAfterCompletion(lockKey, lockValue);
 			// 9. 파일 삭제 이벤트
-			if (fileName != null) {
-				publisher.publishEvent(new VideoAnalyzedEvent(fileName));
+			if (audioFileName != null) {
+				publisher.publishEvent(new VideoAnalyzedEvent(audioFileName));
 				log.debug("[AnalyzeVideo] 오디오 삭제 이벤트 발생");
 			}
 			log.info("[AnalyzeVideo] 전체 완료 ({} ms)", (System.nanoTime() - startTotal) / 1_000_000);
+
+			if (e != null) {
+				throw toAnalysisFailure(e);
+			}
+			return response;
+		});
+	}
+
+	/**
+	 * 5. 파일 방식 STT 요청. async 모드이면 인식이 끝날 때 완료되는 Future 를 바로 반환합니다.
+	 */
+	private CompletableFuture<String> transcribe(String videoId, File audioFile, NestRequestEntity requestEntity) {
+		long start = System.nanoTime();
+		CompletableFuture<String> stt = sttAsyncEnabled
+			? clovaSpeechClient.uploadAsync(audioFile, requestEntity)
+			: CompletableFuture.completedFuture(clovaSpeechClient.upload(audioFile, requestEntity));
+		return stt.thenApply(result -> {
+			checkpointStore.saveTranscript(videoId, result);
+			log.debug("[AnalyzeVideo] STT 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
+			return result;
+		});
+	}
+
+	/**
+	 * 6~8. STT 결과를 파싱하고 GPT 분석 결과를 저장합니다.
+	 */
+	private AnalyzeVideoResponse analyzeTranscript(Language language, String videoId, String emitterId, boolean streaming,
+		boolean commitPerBatch, boolean partial, Videos video, String result) throws IOException {
+		// **STT 완료 알림**
+		sseEmitterManager.sendTo(emitterId, "sttCompleted","STT 완료, GPT 분석 시작합니다.");
+
+		// 6. STT 결과 파싱
+		long start = System.nanoTime();
+		Transcript transcript = transcriptParser.parseTranscriptJson(result);
+		List<TranscriptSegment> segments = transcript.getSegments();
+		log.debug("[AnalyzeVideo] STT 결과 파싱 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
+
+		// 7. GPT 분석 (체크포인트가 있으면 재사용)
+		start = System.nanoTime();
+		List<Subtitle> savedPart = partial ? findSavedSubtitles(videoId) : List.of();
+		List<GptSubtitleResponse> checkpointedGptResult = checkpointStore.findGptResult(videoId).orElse(null);
+		if (!savedPart.isEmpty()) {
+			if (checkpointedGptResult != null && checkpointedGptResult.size() >= savedPart.size()) {
+				// 자막은 GPT 결과 순서대로 커밋되므로, 체크포인트의 앞부분은 이미 저장된 자막
+				checkpointedGptResult = checkpointedGptResult.subList(savedPart.size(), checkpointedGptResult.size());
+			} else {
+				checkpointedGptResult = null;
+				long lastStartMs = savedPart.get(savedPart.size() - 1).resolveStartMs();
+				segments = segments.stream().filter(segment -> segment.getStartMs() > lastStartMs).toList();
+			}
+			log.info("[AnalyzeVideo] 일부 저장된 분석 이어서 진행 - videoId: {}, 저장된 자막: {}, 남은 세그먼트: {}",
+				videoId, savedPart.size(), segments.size());
+		}
+
+		if (commitPerBatch) {
+			// 7-1. 묶음 분석이 끝날 때마다 커밋 후 subtitleId 가 포함된 자막 전송
+			// 중간에 실패하면 커밋된 자막은 남기고, 다음 분석에서 이어서 진행하도록 일부 저장 상태로 표시
+			checkpointStore.markPartial(videoId);
+			Consumer<List<GptSubtitleResponse>> saveBatch = batch -> {
+				inNewTransaction(() -> {
+					saveSubtitleAndKeyword(video, batch, language);
+					return null;
+				});
+				if (streaming) {
+					sseEmitterManager.sendTo(emitterId, "subtitleBatch", AnalyzeVideoResponse.from(batch));
+				}
+			};
+
+			List<GptSubtitleResponse> gptResult;
+			if (checkpointedGptResult != null) {
+				gptResult = checkpointedGptResult;
+				if (!gptResult.isEmpty()) {
+					saveBatch.accept(gptResult);
+				}
+			} else {
+				gptResult = gptService.analyzeScript(segments, language, saveBatch);
+			}
+			List<GptSubtitleResponse> allResults = Stream.concat(GptSubtitleResponse.from(savedPart).stream(), gptResult.stream()).toList();
+			if (checkpointedGptResult == null) {
+				checkpointStore.saveGptResult(videoId, allResults);
+			}
+			checkpointStore.clearPartial(videoId);
+			clearCheckpointsAfterCommit(videoId);
+			log.debug("[AnalyzeVideo] GPT 분석 및 결과 저장 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
+			return AnalyzeVideoResponse.from(allResults);
 		}
+
+		List<GptSubtitleResponse> gptResult = checkpointedGptResult;
+		if (gptResult == null) {
+			gptResult = gptService.analyzeScript(segments, language);
+			checkpointStore.saveGptResult(videoId, gptResult);
+		}
+		// if (isInvalidGptResult(gptResult)) {
+		// 	throw new ServiceException(INVALID_GPT_RESPONSE);
+		// }
+		log.debug("[AnalyzeVideo] GPT 분석 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
+
+		// 8. 저장
+		start = System.nanoTime();
+		List<GptSubtitleResponse> analyzed = gptResult;
+		inNewTransaction(() -> {
+			saveSubtitleAndKeyword(video, analyzed, language);
+			return null;
+		});
+		clearCheckpointsAfterCommit(videoId);
+		log.debug("[AnalyzeVideo] 결과 저장 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
+
+		return AnalyzeVideoResponse.from(gptResult);
+	}
+
+	/**
+	 * 분석 실패를 호출한 쪽에 전달할 예외로 바꿉니다. STT 결과를 기다린 경우 Future 의 CompletionException 을 벗겨 원인으로 판단합니다.
+	 */
+	private RuntimeException toAnalysisFailure(Throwable e) {
+		Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+		if (cause instanceof IOException || cause instanceof UncheckedIOException
+			|| cause instanceof InterruptedException || cause instanceof ServiceException) {
+			log.warn("영상 분석 실패", cause);
+			return new ServiceException(VIDEO_ANALYSIS_FAILED);
+		}
+		return cause instanceof RuntimeException runtimeException ? runtimeException : new CompletionException(cause);
+	}
+
+	/**
+	 * 4~5. 음성 추출과 STT 요청을 하나의 스트림으로 처리합니다.
+	 * yt-dlp 표준 출력을 임시 파일 없이 Clova 요청 본문으로 바로 전송합니다.
+	 * 스트리밍을 지원하지 않거나 전송에 실패하면 null 을 반환하여 파일 방식으로 다시 처리합니다.
+	 */
+	private String transcribeByStreaming(String videoId, Language language, String emitterId, NestRequestEntity requestEntity) throws IOException, InterruptedException {
+		long start = System.nanoTime();
+		try (AudioStream audioStream = youtubeAudioExtractor.openAudioStream(YOUTUBE_VIDEO_BASE_URL + videoId, language)) {
+			// **오디오 추출 시작 알림**
+			sseEmitterManager.sendTo(emitterId, "audioExtracted","Audio 추출과 STT 분석을 함께 진행합니다.");
+
+			String result = clovaSpeechClient.upload(audioStream.getInputStream(), audioStream.getFileName(), requestEntity);
+			audioStream.awaitCompletion();
+			checkpointStore.saveTranscript(videoId, result);
+			log.debug("[AnalyzeVideo] 오디오 스트리밍 STT 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
+			return result;
+		} catch (ServiceException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			log.warn("[AnalyzeVideo] 오디오 스트리밍 STT 실패, 파일 방식으로 처리", e);
+			return null;
+		}
+	}
+
+	/**
+	 * 저장된 자막을 시작 시간 순으로 조회합니다.
+	 */
+	private List<Subtitle> findSavedSubtitles(String videoId) {
+		return subtitleRepository.findAllByVideosFetchKeywords(videoId).stream()
+			.sorted(Comparator.comparingLong(Subtitle::resolveStartMs))
+			.toList();
+	}
+
+	/**
+	 * 분석 결과가 커밋된 뒤 단계별 체크포인트를 삭제합니다. 커밋 전에 지우면 롤백 시 다시 처음부터 분석해야 하므로 커밋 이후에 삭제합니다.
+	 */
+	private void clearCheckpointsAfterCommit(String videoId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			checkpointStore.clear(videoId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				checkpointStore.clear(videoId);
+			}
+		});
+	}
+
+	/**
+	 * 호출한 쪽의 트랜잭션과 별개인 새 트랜잭션에서 실행하고 바로 커밋합니다.
+	 */
+	private <T> T inNewTransaction(Supplier<T> action) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		return transactionTemplate.execute(status -> action.get());
 	}
 
 	private boolean isInvalidGptResult(List<GptSubtitleResponse> gptResult) {
@@ -273,6 +598,8 @@ public class VideoServiceImpl implements VideoService {
 	private void saveSubtitleAndKeyword(Videos video, List<GptSubtitleResponse> gptResult, Language language) {
 		List<Subtitle> subtitleList = new ArrayList<>();
 		List<Keyword> keywordList = new ArrayList<>();
+		// keywordList 와 같은 순서로 각 핵심 단어가 속한 자막의 인덱스
+		List<Integer> keywordSubtitleIndexes = new ArrayList<>();
 
 		for (GptSubtitleResponse response : gptResult) {
 			// Subtitle 엔티티 생성
@@ -285,10 +612,25 @@ public class VideoServiceImpl implements VideoService {
 				for (KeywordInfo keywordInfo : response.getKeywords()) {
 					Keyword keyword = keywordInfo.toEntity(video, subtitle);
 					keywordList.add(keyword);
+					keywordSubtitleIndexes.add(subtitleList.size() - 1);
 				}
 			}
 		}
 
+		if (bulkInsertEnabled) {
+			// 자막 PK 는 입력 순서대로 반환됨
+			List<Long> subtitleIds = subtitleBulkRepository.insertSubtitles(subtitleList);
+			for (int i = 0; i < subtitleIds.size(); i++) {
+				gptResult.get(i).setSubtitleId(subtitleIds.get(i));
+			}
+
+			List<Long> keywordSubtitleIds = keywordSubtitleIndexes.stream().map(subtitleIds::get).toList();
+			subtitleBulkRepository.insertKeywords(keywordList, keywordSubtitleIds);
+
+			publishKeywordEvents(keywordList, language);
+			return;
+		}
+
 		// subtitle 먼저 저장 (ID를 키로 사용하는 keyword 저장을 위해)
 		List<Subtitle> savedSubtitles = subtitleRepository.saveAll(subtitleList);
 
@@ -300,10 +642,34 @@ public class VideoServiceImpl implements VideoService {
 		// keyword 저장
 		keywordRepository.saveAll(keywordList);
 
-		// 비동기로 핵심단어들 gpt 사용하여 단어DB에 저장
+		publishKeywordEvents(keywordList, language);
+	}
+
+	/**
+	 * 비동기로 핵심단어들 gpt 사용하여 단어DB에 저장
+	 * 일괄 처리가 활성화되면 영상 단위로 이벤트 하나만 발행합니다.
+	 */
+	private void publishKeywordEvents(List<Keyword> keywordList, Language language) {
+		if (batchEnrichmentEnabled) {
+			List<String> words = keywordList.stream().map(Keyword::getWord).distinct().toList();
+			if (!words.isEmpty()) {
+				publisher.publishEvent(new KeywordsExtractedEvent(words, language));
+			}
+			return;
+		}
 		keywordList.forEach(k -> publisher.publishEvent(new KeywordSavedEvent(k, language)));
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public AnalyzeVideoResponse getSubtitlesInWindow(String videoId, long fromMs, long toMs) {
+		if (fromMs < 0 || toMs <= fromMs || toMs - fromMs > maxSubtitleWindowMs) {
+			throw new ServiceException(INVALID_SUBTITLE_WINDOW);
+		}
+		List<Subtitle> subtitles = subtitleRepository.findOverlappingFetchKeywords(videoId, fromMs, toMs);
+		return AnalyzeVideoResponse.from(GptSubtitleResponse.from(subtitles));
+	}
+
 	@Override
 	@Transactional
 	public Videos saveVideoIfAbsent(String videoId) {
@@ -0,0 +1,104 @@
+package com.mallang.mallang_backend.domain.voca.word.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.mallang.mallang_backend.global.util.filter.RotatingBloomFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사전에 없는 단어의 GPT 생성 요청(NewWordSearchedEvent)을 서버 단위로 한 번만 발행하기 위한 등록부
+ * <p>- 생성 중인 단어는 정확히 기억하며(싱글 플라이트), 생성이 끝나거나 pendingTtl 이 지나면 잊어버립니다.</p>
+ * <p>- 최근 없다고 확인된 단어는 블룸 필터로 기억해 생성 실패 직후의 반복 클릭이 이벤트를 다시 발행하지 않도록 합니다.
+ *    필터는 이벤트 발행 여부에만 사용하므로, 오탐이 나도 생성이 다음 세대까지 미뤄질 뿐 저장된 단어 조회에는 영향이 없습니다.</p>
+ */
+@Slf4j
+@Component
+public class PendingWordRegistry {
+
+	// 완료 처리가 누락된 만료 항목을 정리하기 시작하는 크기
+	private static final int PURGE_THRESHOLD = 10_000;
+
+	private final Map<String, Long> pendingWords = new ConcurrentHashMap<>();
+	private final long pendingTtlMillis;
+	private final RotatingBloomFilter missingFilter;
+	private final MeterRegistry meterRegistry;
+
+	public PendingWordRegistry(
+		@Value("${word.pending.ttl-ms:60000}") long pendingTtlMillis,
+		@Value("${word.missing-filter.enabled:false}") boolean missingFilterEnabled,
+		@Value("${word.missing-filter.expected-words:10000}") int expectedWords,
+		@Value("${word.missing-filter.fpp:0.01}") double fpp,
+		@Value("${word.missing-filter.window-ms:60000}") long windowMillis,
+		MeterRegistry meterRegistry
+	) {
+		this.pendingTtlMillis = pendingTtlMillis;
+		this.missingFilter = missingFilterEnabled
+			? new RotatingBloomFilter(expectedWords, fpp, Duration.ofMillis(windowMillis))
+			: null;
+		this.meterRegistry = meterRegistry;
+		meterRegistry.gaugeMapSize("word_enrichment_pending", Tags.empty(), pendingWords);
+	}
+
+	/**
+	 * 단어가 이 서버에서 생성 중인지 확인합니다.
+	 */
+	public boolean isPending(String word) {
+		Long expiresAt = pendingWords.get(word);
+		return expiresAt != null && expiresAt > System.currentTimeMillis();
+	}
+
+	/**
+	 * 없는 단어의 생성을 등록합니다.
+	 *
+	 * @param word 사전에 없는 단어
+	 * @return 이벤트를 발행해야 하면 true, 이미 생성 중이거나 최근 생성을 요청한 단어면 false
+	 */
+	public boolean tryRegister(String word) {
+		if (missingFilter != null && missingFilter.mightContain(word)) {
+			drop("recent", word);
+			return false;
+		}
+
+		long now = System.currentTimeMillis();
+		if (pendingWords.size() > PURGE_THRESHOLD) {
+			pendingWords.values().removeIf(expiresAt -> expiresAt <= now);
+		}
+		boolean[] registered = new boolean[1];
+		pendingWords.compute(word, (key, expiresAt) -> {
+			if (expiresAt != null && expiresAt > now) {
+				return expiresAt;
+			}
+			registered[0] = true;
+			return now + pendingTtlMillis;
+		});
+		if (!registered[0]) {
+			drop("pending", word);
+			return false;
+		}
+
+		if (missingFilter != null) {
+			missingFilter.put(word);
+		}
+		return true;
+	}
+
+	/**
+	 * 생성이 끝난(성공/실패) 단어를 등록부에서 제거합니다.
+	 */
+	public void complete(String word) {
+		pendingWords.remove(word);
+	}
+
+	private void drop(String reason, String word) {
+		meterRegistry.counter("word_enrichment_dropped_total", "reason", reason).increment();
+		log.debug("[PendingWordRegistry] 중복 단어 생성 요청 제외 - 단어: {}, 사유: {}", word, reason);
+	}
+}
@@ -0,0 +1,228 @@
+package com.mallang.mallang_backend.domain.voca.word.cache;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.domain.voca.word.entity.Difficulty;
+import com.mallang.mallang_backend.domain.voca.word.entity.Word;
+import com.mallang.mallang_backend.global.util.text.WordNormalizer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단어 사전(Word) 조회 캐시
+ * <p>- 서버 메모리(LRU, 최대 localMaxEntries 개) → Redis → DB 순서로 조회하며, 하위 계층에서 찾은 결과는 상위 계층에도 보관합니다.</p>
+ * <p>- DB 에서는 표기가 같은 단어를 먼저 찾고, 없으면 정규화 키(WordNormalizer)가 같은 활용형 단어를 찾습니다. (ceased → cease)</p>
+ * <p>- GPT 로 한 번 생성된 단어 뜻은 바뀌지 않으므로 DB 에 있는 단어만 저장하고, 없는 단어(빈 결과)는 저장하지 않습니다.</p>
+ * <p>- 반환하는 Word 는 캐시 내용으로 새로 만든 조회 전용 객체(id 없음)이므로 저장이나 연관관계 설정에 사용하지 않습니다.</p>
+ * <p>- Redis 장애 시에는 캐시가 없는 것으로 보고 DB 를 조회합니다.</p>
+ */
+@Slf4j
+@Component
+public class WordCache {
+
+	private static final String KEY_PREFIX = "word:meaning:";
+	private static final TypeReference<List<CachedWord>> CACHED_WORDS = new TypeReference<>() {
+	};
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final WordCacheProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, LocalEntry> localCache;
+
+	public WordCache(
+		RedisTemplate<String, String> redisTemplate,
+		ObjectMapper objectMapper,
+		WordCacheProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.localCache = new LinkedHashMap<>(256, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+				return size() > properties.getLocalMaxEntries();
+			}
+		};
+		meterRegistry.gaugeMapSize("word_cache_local_entries", Tags.empty(), localCache);
+	}
+
+	/**
+	 * 캐시에서 단어의 뜻 목록을 찾고, 없으면 DB 에서 조회한 결과를 캐시에 보관한 뒤 반환합니다.
+	 *
+	 * @param word             조회할 단어
+	 * @param loader           표기로 조회하는 함수 (예: wordRepository::findByWord)
+	 * @param normalizedLoader 표기로 찾지 못했을 때 정규화 키로 조회하는 함수 (예: wordRepository::findByNormalizedWord)
+	 * @return 단어의 뜻 목록 (DB 에 없으면 빈 리스트)
+	 */
+	public List<Word> getOrLoad(
+		String word,
+		Function<String, List<Word>> loader,
+		Function<String, List<Word>> normalizedLoader
+	) {
+		if (!properties.isEnabled()) {
+			return load(word, loader, normalizedLoader);
+		}
+		String key = KEY_PREFIX + word;
+
+		List<CachedWord> local = getLocal(key);
+		if (local != null) {
+			record("hit_local");
+			return toWords(local);
+		}
+
+		try {
+			String json = redisTemplate.opsForValue().get(key);
+			if (json != null) {
+				List<CachedWord> cached = objectMapper.readValue(json, CACHED_WORDS);
+				putLocal(key, cached);
+				record("hit_redis");
+				return toWords(cached);
+			}
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("[WordCache] 캐시 조회 실패 - 단어: {}, 예외: {}", word, e.getMessage());
+		}
+
+		record("miss");
+		List<Word> words = load(word, loader, normalizedLoader);
+		if (!words.isEmpty()) {
+			put(key, words.stream().map(CachedWord::from).toList());
+		}
+		return words;
+	}
+
+	private List<Word> load(
+		String word,
+		Function<String, List<Word>> loader,
+		Function<String, List<Word>> normalizedLoader
+	) {
+		List<Word> words = loader.apply(word);
+		if (!words.isEmpty()) {
+			return words;
+		}
+
+		String normalized = WordNormalizer.normalize(word);
+		if (normalized == null || normalized.isEmpty()) {
+			return words;
+		}
+		List<Word> normalizedWords = normalizedLoader.apply(normalized);
+		meterRegistry.counter("word_lookup_normalized_total", "result", normalizedWords.isEmpty() ? "miss" : "hit").increment();
+		return normalizedWords;
+	}
+
+	/**
+	 * 새로 저장된 단어를 캐시에서 제거합니다.
+	 * 빈 결과는 캐시하지 않으므로 정상 흐름에서는 지울 항목이 없지만, 저장 전에 다른 경로로 채워진 항목이 남지 않도록 합니다.
+	 *
+	 * @param words 저장된 단어 목록
+	 */
+	public void evict(Collection<String> words) {
+		if (!properties.isEnabled() || words.isEmpty()) {
+			return;
+		}
+		List<String> keys = words.stream().distinct().map(word -> KEY_PREFIX + word).toList();
+		synchronized (localCache) {
+			keys.forEach(localCache::remove);
+		}
+
+		try {
+			redisTemplate.delete(keys);
+		} catch (RuntimeException e) {
+			log.warn("[WordCache] 캐시 삭제 실패 - 단어 수: {}, 예외: {}", keys.size(), e.getMessage());
+		}
+	}
+
+	private void put(String key, List<CachedWord> cached) {
+		putLocal(key, cached);
+
+		try {
+			redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(cached), properties.getTtl());
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("[WordCache] 캐시 저장 실패 - 키: {}, 예외: {}", key, e.getMessage());
+		}
+	}
+
+	private List<CachedWord> getLocal(String key) {
+		synchronized (localCache) {
+			LocalEntry entry = localCache.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.expiresAt() < System.currentTimeMillis()) {
+				localCache.remove(key);
+				return null;
+			}
+			return entry.words();
+		}
+	}
+
+	private void putLocal(String key, List<CachedWord> cached) {
+		LocalEntry entry = new LocalEntry(cached, System.currentTimeMillis() + properties.getLocalTtl().toMillis());
+		synchronized (localCache) {
+			localCache.put(key, entry);
+		}
+	}
+
+	private void record(String result) {
+		meterRegistry.counter("word_cache_requests_total", "result", result).increment();
+	}
+
+	private static List<Word> toWords(List<CachedWord> cached) {
+		return cached.stream().map(CachedWord::toWord).toList();
+	}
+
+	/**
+	 * 캐시에 보관하는 단어 정보 (영속성 컨텍스트와 무관한 값 객체)
+	 */
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	record CachedWord(
+		String word,
+		String normalizedWord,
+		String pos,
+		String meaning,
+		Difficulty difficulty,
+		String exampleSentence,
+		String translatedSentence
+	) {
+		static CachedWord from(Word word) {
+			return new CachedWord(word.getWord(), word.getNormalizedWord(), word.getPos(), word.getMeaning(),
+				word.getDifficulty(), word.getExampleSentence(), word.getTranslatedSentence());
+		}
+
+		/**
+		 * 캐시 조회마다 형태소 분석이 반복되지 않도록 저장된 정규화 키를 그대로 사용합니다.
+		 * 정규화 키가 없는 이전 형식의 항목만 새로 계산합니다.
+		 */
+		Word toWord() {
+			if (normalizedWord != null) {
+				return Word.restore(word, normalizedWord, pos, meaning, difficulty, exampleSentence, translatedSentence);
+			}
+			return Word.builder()
+				.word(word)
+				.pos(pos)
+				.meaning(meaning)
+				.difficulty(difficulty)
+				.exampleSentence(exampleSentence)
+				.translatedSentence(translatedSentence)
+				.build();
+		}
+	}
+
+	private record LocalEntry(List<CachedWord> words, long expiresAt) {
+	}
+}
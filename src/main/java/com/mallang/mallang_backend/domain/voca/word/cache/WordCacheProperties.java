@@ -0,0 +1,28 @@
+package com.mallang.mallang_backend.domain.voca.word.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * 단어 사전 캐시 설정
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "word.cache") // yml 파일에서 "word.cache" 하위 값을 읽어와서 매핑
+public class WordCacheProperties {
+
+	private boolean enabled = false;
+
+	// 서버 메모리에 보관할 최대 단어 수
+	private int localMaxEntries = 10000;
+
+	// 서버 메모리 보관 시간
+	private Duration localTtl = Duration.ofMinutes(30);
+
+	// Redis 보관 시간
+	private Duration ttl = Duration.ofDays(7);
+}
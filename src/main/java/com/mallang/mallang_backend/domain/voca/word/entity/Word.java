@@ -1,6 +1,7 @@
 package com.mallang.mallang_backend.domain.voca.word.entity;
 
 import com.mallang.mallang_backend.global.entity.BaseTime;
+import com.mallang.mallang_backend.global.util.text.WordNormalizer;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -10,6 +11,12 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    indexes = {
+        @Index(name = "idx_word_word", columnList = "word"),
+        @Index(name = "idx_word_normalized_word", columnList = "normalized_word")
+    }
+)
 public class Word extends BaseTime {
 
     @Id
@@ -19,6 +26,9 @@ public class Word extends BaseTime {
     @Column(nullable = false)
     private String word;    // 단어(원어)
 
+    @Column(name = "normalized_word", length = 100)
+    private String normalizedWord;  // 활용형을 묶는 조회용 정규화 키 (WordNormalizer)
+
     @Column(nullable = false)
     private String pos;     // 품사
 
@@ -45,10 +55,34 @@ public class Word extends BaseTime {
         String translatedSentence
     ) {
         this.word = word;
+        this.normalizedWord = WordNormalizer.normalize(word);
         this.pos = pos;
         this.meaning = meaning;
         this.exampleSentence = exampleSentence;
 		this.translatedSentence = translatedSentence;
 		this.difficulty = difficulty;
 	}
+
+    /**
+     * 이미 계산된 정규화 키로 단어를 복원합니다. (캐시 조회용, 정규화 키를 다시 계산하지 않음)
+     */
+    public static Word restore(
+        String word,
+        String normalizedWord,
+        String pos,
+        String meaning,
+        Difficulty difficulty,
+        String exampleSentence,
+        String translatedSentence
+    ) {
+        Word restored = new Word();
+        restored.word = word;
+        restored.normalizedWord = normalizedWord;
+        restored.pos = pos;
+        restored.meaning = meaning;
+        restored.difficulty = difficulty;
+        restored.exampleSentence = exampleSentence;
+        restored.translatedSentence = translatedSentence;
+        return restored;
+    }
 }
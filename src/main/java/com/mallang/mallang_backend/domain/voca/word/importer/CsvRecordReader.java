@@ -0,0 +1,85 @@
+package com.mallang.mallang_backend.domain.voca.word.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV 를 한 레코드씩 읽습니다.
+ * <p>- 큰따옴표로 감싼 값 안의 쉼표, 줄바꿈, 두 번 쓴 큰따옴표("")를 처리합니다.</p>
+ * <p>- 파일 전체를 읽지 않고 레코드 하나 분량만 메모리에 둡니다.</p>
+ */
+class CsvRecordReader {
+
+	private final Reader reader;
+	private int peeked = -2;
+
+	CsvRecordReader(Reader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * 다음 레코드를 읽습니다.
+	 *
+	 * @return 레코드의 값 목록, 파일 끝이면 null
+	 * @throws IllegalArgumentException 닫히지 않은 큰따옴표로 파일이 끝난 경우
+	 */
+	List<String> next() throws IOException {
+		int c = read();
+		if (c == -1) {
+			return null;
+		}
+
+		List<String> values = new ArrayList<>();
+		StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		while (true) {
+			if (quoted) {
+				if (c == -1) {
+					throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다.");
+				}
+				if (c == '"') {
+					if (peek() == '"') {
+						read();
+						value.append('"');
+					} else {
+						quoted = false;
+					}
+				} else {
+					value.append((char)c);
+				}
+			} else if (c == '"' && value.isEmpty()) {
+				quoted = true;
+			} else if (c == ',') {
+				values.add(value.toString());
+				value.setLength(0);
+			} else if (c == '\r' || c == '\n' || c == -1) {
+				if (c == '\r' && peek() == '\n') {
+					read();
+				}
+				values.add(value.toString());
+				return values;
+			} else {
+				value.append((char)c);
+			}
+			c = read();
+		}
+	}
+
+	private int read() throws IOException {
+		if (peeked != -2) {
+			int c = peeked;
+			peeked = -2;
+			return c;
+		}
+		return reader.read();
+	}
+
+	private int peek() throws IOException {
+		if (peeked == -2) {
+			peeked = reader.read();
+		}
+		return peeked;
+	}
+}
@@ -0,0 +1,30 @@
+package com.mallang.mallang_backend.domain.voca.word.importer;
+
+import java.util.Locale;
+
+/**
+ * 단어 목록 파일 형식
+ * <p>- JSONL: 한 줄에 {"word", "pos", "meaning", "difficulty", "example", "translation"} 객체 하나</p>
+ * <p>- CSV: 첫 줄은 헤더(word,pos,meaning,difficulty,example,translation), 큰따옴표로 감싼 값 안의 쉼표/줄바꿈 허용</p>
+ */
+public enum WordImportFormat {
+	JSONL,
+	CSV;
+
+	/**
+	 * 파일 이름의 확장자로 형식을 찾습니다. (.gz 압축 파일은 압축 전 확장자를 사용)
+	 */
+	public static WordImportFormat fromFileName(String fileName) {
+		String name = fileName.toLowerCase(Locale.ROOT);
+		if (name.endsWith(".gz")) {
+			name = name.substring(0, name.length() - 3);
+		}
+		if (name.endsWith(".csv")) {
+			return CSV;
+		}
+		if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+			return JSONL;
+		}
+		throw new IllegalArgumentException("지원하지 않는 단어 목록 형식입니다: " + fileName);
+	}
+}
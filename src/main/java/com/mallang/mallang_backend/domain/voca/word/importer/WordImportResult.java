@@ -0,0 +1,23 @@
+package com.mallang.mallang_backend.domain.voca.word.importer;
+
+/**
+ * 단어 목록 가져오기 결과
+ *
+ * @param read          읽은 행 수
+ * @param inserted      저장한 행 수
+ * @param skipped       이미 저장된 단어라 건너뛴 행 수
+ * @param invalid       형식 오류로 건너뛴 행 수
+ * @param elapsedMillis 소요 시간 (ms)
+ */
+public record WordImportResult(
+	long read,
+	long inserted,
+	long skipped,
+	long invalid,
+	long elapsedMillis
+) {
+
+	public double rowsPerSecond() {
+		return elapsedMillis == 0 ? read : read * 1000.0 / elapsedMillis;
+	}
+}
@@ -0,0 +1,62 @@
+package com.mallang.mallang_backend.domain.voca.word.importer;
+
+import java.util.Locale;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.mallang.mallang_backend.domain.voca.word.entity.Difficulty;
+import com.mallang.mallang_backend.domain.voca.word.entity.Word;
+
+/**
+ * 단어 목록 파일의 한 행
+ *
+ * @param difficulty 난이도 이름(EASY) 또는 값(1 ~ 5)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+record WordImportRow(
+	String word,
+	String pos,
+	String meaning,
+	String difficulty,
+	@JsonAlias("exampleSentence") String example,
+	@JsonAlias("translatedSentence") String translation
+) {
+
+	private static final int MAX_WORD_LENGTH = 100;
+	private static final int MAX_TEXT_LENGTH = 255;
+
+	/**
+	 * 저장할 Word 로 변환합니다.
+	 *
+	 * @throws IllegalArgumentException 빈 값, 길이 초과, 알 수 없는 난이도가 있는 경우
+	 */
+	Word toWord() {
+		String trimmedWord = require(word, "word", MAX_WORD_LENGTH);
+		return Word.builder()
+			.word(trimmedWord)
+			.pos(require(pos, "pos", MAX_TEXT_LENGTH))
+			.meaning(require(meaning, "meaning", MAX_TEXT_LENGTH))
+			.difficulty(parseDifficulty(require(difficulty, "difficulty", MAX_TEXT_LENGTH)))
+			.exampleSentence(require(example, "example", MAX_TEXT_LENGTH))
+			.translatedSentence(require(translation, "translation", MAX_TEXT_LENGTH))
+			.build();
+	}
+
+	private static String require(String value, String field, int maxLength) {
+		if (value == null || value.isBlank()) {
+			throw new IllegalArgumentException(field + " 값이 비어 있습니다.");
+		}
+		String trimmed = value.trim();
+		if (trimmed.length() > maxLength) {
+			throw new IllegalArgumentException(field + " 값이 " + maxLength + "자를 넘습니다.");
+		}
+		return trimmed;
+	}
+
+	private static Difficulty parseDifficulty(String value) {
+		if (Character.isDigit(value.charAt(0))) {
+			return Difficulty.fromValue(Integer.parseInt(value));
+		}
+		return Difficulty.valueOf(value.toUpperCase(Locale.ROOT));
+	}
+}
@@ -0,0 +1,77 @@
+package com.mallang.mallang_backend.domain.voca.word.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p> word.import.enabled=true 로 켜면 word.import.file 로 지정한 단어 목록 파일을 서버 시작 후 backfillExecutor 에서 단어 사전에 저장합니다. </p>
+ * <p> 예: java -jar app.jar --word.import.enabled=true --word.import.file=/data/words.jsonl.gz (.jsonl, .ndjson, .csv 와 각 .gz 지원) </p>
+ * <p> 형식은 확장자로 판단하며, 다르면 word.import.format(JSONL, CSV)으로 지정합니다. </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WordImportRunner {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final WordImporter wordImporter;
+
+	@Value("${word.import.enabled:false}")
+	private boolean enabled;
+
+	@Value("${word.import.file:}")
+	private String file;
+
+	@Value("${word.import.format:}")
+	private String format;
+
+	@Async("backfillExecutor")
+	@EventListener(ApplicationReadyEvent.class)
+	public void run() {
+		if (!enabled) {
+			return;
+		}
+		if (file == null || file.isBlank()) {
+			log.warn("[WordImport] word.import.file 이 지정되지 않아 건너뜁니다.");
+			return;
+		}
+
+		Path path = Path.of(file);
+		WordImportFormat importFormat = format == null || format.isBlank()
+			? WordImportFormat.fromFileName(path.getFileName().toString())
+			: WordImportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+		log.info("[WordImport] 시작 - 파일: {}, 형식: {}", path, importFormat);
+
+		try (InputStream input = open(path);
+			 BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+			wordImporter.importWords(reader, importFormat);
+		} catch (IOException | RuntimeException e) {
+			log.error("[WordImport] 실패 - 파일: {}, 예외: {}", path, e.getMessage(), e);
+		}
+	}
+
+	private static InputStream open(Path path) throws IOException {
+		InputStream input = Files.newInputStream(path);
+		if (path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz")) {
+			return new GZIPInputStream(input, BUFFER_SIZE);
+		}
+		return input;
+	}
+}
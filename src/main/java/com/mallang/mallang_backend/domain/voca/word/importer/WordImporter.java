@@ -0,0 +1,208 @@
+package com.mallang.mallang_backend.domain.voca.word.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.domain.voca.word.entity.Word;
+import com.mallang.mallang_backend.domain.voca.word.repository.WordBulkRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p> JSONL/CSV 단어 목록을 스트리밍으로 읽어 단어 사전(Word)에 미리 저장합니다. </p>
+ * <p> batchSize 행씩 묶어 이미 저장된 단어를 한 번에 조회하고 나머지를 JDBC 배치로 저장하므로, 파일 크기와 관계없이 묶음 하나 분량만 메모리에 둡니다. </p>
+ * <p> 한 단어의 뜻(여러 행)은 연속해서 나온다고 보고 같은 묶음에 넣습니다. 이미 저장된 단어는 모든 뜻을 건너뛰므로 여러 번 실행해도 안전합니다. </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WordImporter {
+
+	private static final List<String> CSV_COLUMNS = List.of("word", "pos", "meaning", "difficulty", "example", "translation");
+
+	private final WordBulkRepository wordBulkRepository;
+	private final ObjectMapper objectMapper;
+
+	@Value("${word.import.batch-size:2000}")
+	private int batchSize;
+
+	@Value("${word.import.progress-interval:100000}")
+	private long progressInterval;
+
+	/**
+	 * 단어 목록을 읽어 저장합니다.
+	 *
+	 * @param reader 단어 목록 (UTF-8)
+	 * @param format 파일 형식
+	 * @return 읽은/저장한/건너뛴 행 수와 소요 시간
+	 */
+	public WordImportResult importWords(Reader reader, WordImportFormat format) throws IOException {
+		RowSource rows = format == WordImportFormat.CSV ? csvRows(reader) : jsonlRows(reader);
+		Progress progress = new Progress(System.currentTimeMillis());
+
+		List<Word> chunk = new ArrayList<>(batchSize);
+		String lastWord = null;
+		while (true) {
+			WordImportRow row;
+			try {
+				row = rows.next();
+			} catch (IllegalArgumentException e) {
+				progress.read++;
+				progress.invalid++;
+				log.debug("[WordImport] 형식 오류 행 건너뜀 - 행: {}, 사유: {}", progress.read, e.getMessage());
+				continue;
+			}
+			if (row == null) {
+				break;
+			}
+			progress.read++;
+
+			Word word;
+			try {
+				word = row.toWord();
+			} catch (IllegalArgumentException e) {
+				progress.invalid++;
+				log.debug("[WordImport] 형식 오류 행 건너뜀 - 행: {}, 사유: {}", progress.read, e.getMessage());
+				continue;
+			}
+
+			// 한 단어의 뜻이 두 묶음으로 나뉘면 뒤 묶음이 '이미 저장된 단어'로 건너뛰어지므로 단어가 바뀔 때만 묶음을 저장
+			if (chunk.size() >= batchSize && !word.getWord().equals(lastWord)) {
+				flush(chunk, progress);
+			}
+			chunk.add(word);
+			lastWord = word.getWord();
+
+			if (progress.read % progressInterval == 0) {
+				logProgress("진행", progress);
+			}
+		}
+		flush(chunk, progress);
+
+		WordImportResult result = progress.toResult();
+		log.info("[WordImport] 완료 - 읽음: {}, 저장: {}, 건너뜀: {}, 오류: {}, 소요: {}ms, {} rows/s",
+			result.read(), result.inserted(), result.skipped(), result.invalid(), result.elapsedMillis(),
+			String.format(Locale.ROOT, "%.0f", result.rowsPerSecond()));
+		return result;
+	}
+
+	private void flush(List<Word> chunk, Progress progress) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		List<String> distinctWords = chunk.stream().map(Word::getWord).distinct().toList();
+		Set<String> existingWords = wordBulkRepository.findExistingWords(distinctWords);
+
+		List<Word> newWords = existingWords.isEmpty()
+			? chunk
+			: chunk.stream().filter(word -> !existingWords.contains(word.getWord())).toList();
+		wordBulkRepository.insertWords(newWords);
+
+		progress.inserted += newWords.size();
+		progress.skipped += chunk.size() - newWords.size();
+		chunk.clear();
+	}
+
+	private void logProgress(String stage, Progress progress) {
+		WordImportResult result = progress.toResult();
+		log.info("[WordImport] {} - 읽음: {}, 저장: {}, 건너뜀: {}, 오류: {}, {} rows/s",
+			stage, result.read(), result.inserted(), result.skipped(), result.invalid(),
+			String.format(Locale.ROOT, "%.0f", result.rowsPerSecond()));
+	}
+
+	private RowSource jsonlRows(Reader reader) {
+		BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+		return () -> {
+			String line = lines.readLine();
+			while (line != null && line.isBlank()) {
+				line = lines.readLine();
+			}
+			if (line == null) {
+				return null;
+			}
+			try {
+				return objectMapper.readValue(line, WordImportRow.class);
+			} catch (JsonProcessingException e) {
+				throw new IllegalArgumentException("JSON 형식 오류: " + e.getOriginalMessage());
+			}
+		};
+	}
+
+	private RowSource csvRows(Reader reader) throws IOException {
+		CsvRecordReader records = new CsvRecordReader(reader instanceof BufferedReader ? reader : new BufferedReader(reader));
+		List<String> header = records.next();
+		if (header == null) {
+			return () -> null;
+		}
+
+		Map<String, Integer> columns = new HashMap<>();
+		for (int i = 0; i < header.size(); i++) {
+			columns.put(header.get(i).trim().replace("\uFEFF", "").toLowerCase(Locale.ROOT), i);
+		}
+		for (String column : CSV_COLUMNS) {
+			if (!columns.containsKey(column)) {
+				throw new IllegalArgumentException("CSV 헤더에 " + column + " 열이 없습니다.");
+			}
+		}
+
+		return () -> {
+			List<String> values = records.next();
+			while (values != null && values.size() == 1 && values.get(0).isBlank()) {
+				values = records.next();
+			}
+			if (values == null) {
+				return null;
+			}
+			return new WordImportRow(
+				valueOf(values, columns, "word"),
+				valueOf(values, columns, "pos"),
+				valueOf(values, columns, "meaning"),
+				valueOf(values, columns, "difficulty"),
+				valueOf(values, columns, "example"),
+				valueOf(values, columns, "translation")
+			);
+		};
+	}
+
+	private static String valueOf(List<String> values, Map<String, Integer> columns, String column) {
+		int index = columns.get(column);
+		return index < values.size() ? values.get(index) : null;
+	}
+
+	/**
+	 * 파일에서 한 행씩 읽는 함수. 파일 끝이면 null, 형식이 잘못된 행이면 IllegalArgumentException 을 던집니다.
+	 */
+	@FunctionalInterface
+	private interface RowSource {
+		WordImportRow next() throws IOException;
+	}
+
+	private static class Progress {
+		private final long startedAt;
+		private long read;
+		private long inserted;
+		private long skipped;
+		private long invalid;
+
+		private Progress(long startedAt) {
+			this.startedAt = startedAt;
+		}
+
+		private WordImportResult toResult() {
+			return new WordImportResult(read, inserted, skipped, invalid, System.currentTimeMillis() - startedAt);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.mallang.mallang_backend.domain.voca.word.listener;
 
+import com.mallang.mallang_backend.domain.voca.word.cache.PendingWordRegistry;
+import com.mallang.mallang_backend.domain.voca.word.dto.WordSearchResponse;
 import com.mallang.mallang_backend.domain.voca.word.event.NewWordSearchedEvent;
 import com.mallang.mallang_backend.domain.voca.word.service.WordService;
 import com.mallang.mallang_backend.global.common.Language;
@@ -7,22 +9,45 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.concurrent.CompletableFuture;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WordEventListener {
 
 	private final WordService wordService;
+	private final PendingWordRegistry pendingWordRegistry;
 
+	/**
+	 * 검색한 단어가 없을 때 GPT 로 단어를 생성합니다.
+	 * 이벤트를 발행한 searchWord 는 WORD_NOT_FOUND 예외로 롤백되므로 커밋 여부와 관계없이 트랜잭션 종료 후 실행합니다.
+	 */
 	@Async("addWordExecutor")
-	@TransactionalEventListener
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
 	public void handleVideoViewed(NewWordSearchedEvent event) {
 		String word = event.getWord();
 		Language language = event.getLanguage();
-		wordService.savedWord(word, language);
-		log.debug("[NewWordSearchedEvent] 단어 저장 완료 {}", word);
+		CompletableFuture<WordSearchResponse> saved;
+		try {
+			saved = wordService.savedWordAsync(word, language);
+		} catch (RuntimeException e) {
+			pendingWordRegistry.complete(word);
+			log.warn("[NewWordSearchedEvent] 단어 저장 실패 {}", word, e);
+			return;
+		}
+		saved
+			.whenComplete((response, e) -> {
+				pendingWordRegistry.complete(word);
+				if (e != null) {
+					log.warn("[NewWordSearchedEvent] 단어 저장 실패 {}", word, e);
+					return;
+				}
+				log.debug("[NewWordSearchedEvent] 단어 저장 완료 {}", word);
+			});
 	}
 }
 
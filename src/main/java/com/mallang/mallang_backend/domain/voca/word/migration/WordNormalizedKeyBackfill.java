@@ -0,0 +1,66 @@
+package com.mallang.mallang_backend.domain.voca.word.migration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.mallang.mallang_backend.global.util.jdbc.KeysetBackfill;
+import com.mallang.mallang_backend.global.util.text.WordNormalizer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p> 정규화 키(normalized_word)가 없는 기존 단어에 WordNormalizer 로 만든 키를 채웁니다. </p>
+ * <p> word.normalized-backfill.enabled=true 로 켜면 서버 시작 후 normalized_word 가 비어 있는 단어만 갱신합니다. </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WordNormalizedKeyBackfill {
+
+	private static final KeysetBackfill.Query<Object[]> SELECT_QUERY = new KeysetBackfill.Query<>(
+		"SELECT id, word FROM word WHERE normalized_word IS NULL AND id > ? ORDER BY id LIMIT ?",
+		(rs, rowNum) -> new Object[] {rs.getLong(1), rs.getString(2)},
+		row -> (Long)row[0]);
+
+	private static final String UPDATE_SQL =
+		"UPDATE word SET normalized_word = ? WHERE id = ?";
+
+	private final KeysetBackfill keysetBackfill;
+
+	@Value("${word.normalized-backfill.enabled:false}")
+	private boolean enabled;
+
+	@Value("${word.normalized-backfill.batch-size:1000}")
+	private int batchSize;
+
+	@Value("${word.normalized-backfill.batch-pause-ms:100}")
+	private long batchPauseMillis;
+
+	@Async("backfillExecutor")
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		if (!enabled) {
+			return;
+		}
+
+		int updated = keysetBackfill.run("WordBackfill", SELECT_QUERY, UPDATE_SQL, this::toUpdateParams,
+			batchSize, batchPauseMillis);
+		if (updated > 0) {
+			log.info("[WordBackfill] 단어 {}건의 정규화 키 백필 완료", updated);
+		}
+	}
+
+	private Object[] toUpdateParams(Object[] row) {
+		try {
+			return new Object[] {WordNormalizer.normalize((String)row[1]), row[0]};
+		} catch (RuntimeException e) {
+			// 정규화에 실패한 단어는 건너뛰고 다음 단어부터 진행
+			log.warn("[WordBackfill] 정규화 키 생성 실패 wordId={}, word={}", row[0], row[1]);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.mallang.mallang_backend.domain.voca.word.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mallang.mallang_backend.domain.video.subtitle.repository.SubtitleBulkRepository;
+import com.mallang.mallang_backend.domain.voca.word.entity.Word;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <p> 단어 사전 대량 저장 전용 리포지토리 </p>
+ * <p> JDBC 배치로 저장하는 이유와 필요한 datasource 설정은 {@link SubtitleBulkRepository} 를 참고하세요. </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class WordBulkRepository {
+
+	private static final String INSERT_WORD_SQL =
+		"INSERT INTO word (word, normalized_word, pos, meaning, difficulty, example_sentence, translated_sentence, created_at, modified_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 주어진 단어 중 이미 저장된 단어를 반환합니다.
+	 *
+	 * @param words 확인할 단어 (중복 없음)
+	 * @return 저장된 단어 집합
+	 */
+	public Set<String> findExistingWords(List<String> words) {
+		if (words.isEmpty()) {
+			return Set.of();
+		}
+		String placeholders = String.join(", ", Collections.nCopies(words.size(), "?"));
+		return new HashSet<>(jdbcTemplate.queryForList(
+			"SELECT DISTINCT word FROM word WHERE word IN (" + placeholders + ")", String.class, words.toArray()));
+	}
+
+	/**
+	 * 단어를 하나의 트랜잭션에서 배치로 저장합니다. 한 단어의 뜻이 일부만 저장되지 않도록 묶음 단위로 커밋합니다.
+	 *
+	 * @param words 저장할 단어 (영속화되지 않은 엔티티)
+	 */
+	@Transactional
+	public void insertWords(List<Word> words) {
+		if (words.isEmpty()) {
+			return;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_WORD_SQL, words, words.size(), (ps, word) -> {
+			ps.setString(1, word.getWord());
+			ps.setString(2, word.getNormalizedWord());
+			ps.setString(3, word.getPos());
+			ps.setString(4, word.getMeaning());
+			ps.setString(5, word.getDifficulty().name());
+			ps.setString(6, word.getExampleSentence());
+			ps.setString(7, word.getTranslatedSentence());
+			ps.setTimestamp(8, now);
+			ps.setTimestamp(9, now);
+		});
+	}
+}
@@ -13,6 +13,10 @@ public interface WordRepository extends JpaRepository<Word, Long> {
 
     List<Word> findByWordIn(List<String> words);
 
+    List<Word> findByNormalizedWord(String normalizedWord);
+
+    List<Word> findByNormalizedWordIn(List<String> normalizedWords);
+
     Optional<Word> findFirstByWord(String word);
 
     Optional<Word> findFirstByWordOrderByIdAsc(String word);
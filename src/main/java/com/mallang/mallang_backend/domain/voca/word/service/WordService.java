@@ -3,6 +3,9 @@ package com.mallang.mallang_backend.domain.voca.word.service;
 import com.mallang.mallang_backend.domain.voca.word.dto.WordSearchResponse;
 import com.mallang.mallang_backend.global.common.Language;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 public interface WordService {
 
     /**
@@ -13,6 +16,21 @@ public interface WordService {
      */
     WordSearchResponse savedWord(String word, Language language);
 
+    /**
+     * savedWord 의 비동기 버전입니다. GPT 응답이나 다른 요청의 락 해제를 기다리는 동안 스레드를 점유하지 않습니다.
+     *
+     * @param word 저장할 단어
+     * @return WordSavedResponse Future
+     */
+    CompletableFuture<WordSearchResponse> savedWordAsync(String word, Language language);
+
+    /**
+     * 여러 단어 중 DB에 없는 단어만 묶어서 GPT로 검색하여 저장합니다.
+     *
+     * @param words 저장할 단어 목록 (중복 허용)
+     */
+    void saveWords(Collection<String> words, Language language);
+
     /**
      * 단어를 검색하여 품사/해석/난이도 목록을 반환합니다.
      * DB에 없으면 null값을 반환하고 비동기로 단어를 GPT 검색하여 저장합니다.
@@ -2,6 +2,8 @@ package com.mallang.mallang_backend.domain.voca.word.service.impl;
 
 import com.mallang.mallang_backend.domain.member.entity.Member;
 import com.mallang.mallang_backend.domain.member.repository.MemberRepository;
+import com.mallang.mallang_backend.domain.voca.word.cache.PendingWordRegistry;
+import com.mallang.mallang_backend.domain.voca.word.cache.WordCache;
 import com.mallang.mallang_backend.domain.voca.word.dto.WordSearchResponse;
 import com.mallang.mallang_backend.domain.voca.word.entity.Word;
 import com.mallang.mallang_backend.domain.voca.word.event.NewWordSearchedEvent;
@@ -12,15 +14,28 @@ import com.mallang.mallang_backend.global.exception.ErrorCode;
 import com.mallang.mallang_backend.global.exception.ServiceException;
 import com.mallang.mallang_backend.global.gpt.service.GptService;
 import com.mallang.mallang_backend.global.util.redis.RedisDistributedLock;
+import com.mallang.mallang_backend.global.util.text.WordNormalizer;
 import com.mallang.mallang_backend.global.validation.WordValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import static com.mallang.mallang_backend.global.exception.ErrorCode.*;
@@ -30,30 +45,39 @@ import static com.mallang.mallang_backend.global.exception.ErrorCode.*;
 @Transactional(readOnly = true)
 public class WordServiceImpl implements WordService {
 
+	private static final String WORD_LOCK_PREFIX = "lock:word:saved:";
+	// 단어 락 유지 시간이자 대기자의 최대 대기 시간 (일괄 저장도 GPT 호출 한 번 단위로 락을 잡으므로 같은 값 사용)
+	private static final long WORD_LOCK_TTL_MILLIS = Duration.ofMinutes(1).toMillis();
+
 	private final WordRepository wordRepository;
 	private final GptService gptService;
 	private final RedisDistributedLock redisDistributedLock;
 	private final SavedWordResultFetcher savedWordResultFetcher;
 	private final MemberRepository memberRepository;
 	private final ApplicationEventPublisher publisher;
+	private final Executor addWordExecutor;
+	private final WordCache wordCache;
+	private final PendingWordRegistry pendingWordRegistry;
+	private final PlatformTransactionManager transactionManager;
+
+	@Value("${gpt.word.batch-size:20}")
+	private int wordBatchSize;
 
 	@Override
 	@Transactional
 	public WordSearchResponse savedWord(String word, Language language) {
-		List<Word> words = wordRepository.findByWord(word); // DB 조회
+		List<Word> words = wordCache.getOrLoad(word, wordRepository::findByWord, wordRepository::findByNormalizedWord); // 캐시 → DB 조회
 		if (!words.isEmpty()) {
 			return new WordSearchResponse(convertToResponse(words));    // DB에 존재하면 변환하여 반환
 		}
 
 		// 락 획득 시도
-		String lockKey = "lock:word:saved:" + word;
+		String lockKey = WORD_LOCK_PREFIX + word;
 		String lockValue = UUID.randomUUID().toString();
-		long ttlMillis = Duration.ofMinutes(1).toMillis();
-
-		boolean locked = redisDistributedLock.tryLock(lockKey, lockValue, ttlMillis);
+		boolean locked = redisDistributedLock.tryLock(lockKey, lockValue, WORD_LOCK_TTL_MILLIS);
 		if (!locked) {
 			// 락이 사라졌는지 1분간 계속 확인
-			boolean lockAvailable = redisDistributedLock.waitForUnlockThenFetch(lockKey, ttlMillis, 1000L);
+			boolean lockAvailable = redisDistributedLock.waitForUnlockThenFetch(lockKey, WORD_LOCK_TTL_MILLIS);
 			// 최대 재시도 시간까지 확인했으나 실패함
 			if (!lockAvailable) {
 				throw new ServiceException(SAVED_WORD_CONCURRENCY_TIME_OUT);
@@ -70,15 +94,136 @@ public class WordServiceImpl implements WordService {
 		try {
 			List<Word> generatedWords = gptService.searchWord(word, language); // DB에 없으면 GPT 호출
 			wordRepository.saveAll(generatedWords);
+			wordCache.evict(List.of(word));
 			return new WordSearchResponse(convertToResponse(generatedWords)); // 변환 후 반환
 		} finally {
+			// 대기자가 저장된 단어를 조회할 수 있도록 커밋 후 해제
+			redisDistributedLock.unlockAfterCompletion(lockKey, lockValue);
+		}
+	}
+
+	/**
+	 * DB 조회와 락 획득만 호출한 스레드에서 처리하고, GPT 응답과 락 해제는 Future 로 이어서 처리합니다.
+	 * 응답 이후의 DB 작업은 addWordExecutor 에서 실행되어 WebClient 이벤트 루프 스레드를 막지 않습니다.
+	 */
+	@Override
+	public CompletableFuture<WordSearchResponse> savedWordAsync(String word, Language language) {
+		List<Word> words = wordCache.getOrLoad(word, wordRepository::findByWord, wordRepository::findByNormalizedWord);
+		if (!words.isEmpty()) {
+			return CompletableFuture.completedFuture(new WordSearchResponse(convertToResponse(words)));
+		}
+
+		String lockKey = WORD_LOCK_PREFIX + word;
+		String lockValue = UUID.randomUUID().toString();
+		if (!redisDistributedLock.tryLock(lockKey, lockValue, WORD_LOCK_TTL_MILLIS)) {
+			// 다른 요청이 생성 중이면 락 해제를 기다린 뒤 저장된 결과를 조회
+			return redisDistributedLock.awaitUnlock(lockKey, WORD_LOCK_TTL_MILLIS)
+				.thenApplyAsync(unlocked -> {
+					if (!unlocked) {
+						throw new ServiceException(SAVED_WORD_CONCURRENCY_TIME_OUT);
+					}
+					List<Word> savedWords = savedWordResultFetcher.fetchSavedWordResultAfterWait(word);
+					if (savedWords.isEmpty()) {
+						throw new ServiceException(WORD_SAVE_FAILED);
+					}
+					return new WordSearchResponse(convertToResponse(savedWords));
+				}, addWordExecutor);
+		}
+
+		CompletableFuture<List<Word>> generated;
+		try {
+			generated = gptService.searchWordAsync(word, language);
+		} catch (RuntimeException e) {
 			redisDistributedLock.unlock(lockKey, lockValue);
+			throw e;
+		}
+		return generated
+			.thenApplyAsync(generatedWords -> {
+				wordRepository.saveAll(generatedWords);
+				wordCache.evict(List.of(word));
+				return new WordSearchResponse(convertToResponse(generatedWords));
+			}, addWordExecutor)
+			.whenComplete((response, e) -> redisDistributedLock.unlock(lockKey, lockValue));
+	}
+
+	/**
+	 * 영상 분석으로 추출된 단어들을 한 번의 DB 조회와 몇 번의 GPT 호출로 저장합니다.
+	 * 다른 요청이 이미 생성 중인(락이 잡힌) 단어는 중복 생성하지 않도록 제외합니다.
+	 * GPT 호출 묶음(wordBatchSize)마다 락을 잡고 묶음별 트랜잭션 커밋 직후 해제하므로, 단건 조회 대기자는 자기 단어가 든 묶음만 기다립니다.
+	 *
+	 * @param words 저장할 단어 목록 (중복 허용)
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void saveWords(Collection<String> words, Language language) {
+		List<String> distinctWords = words.stream().distinct().toList();
+		if (distinctWords.isEmpty()) {
+			return;
+		}
+
+		Set<String> savedWords = wordRepository.findByWordIn(distinctWords).stream()
+			.map(Word::getWord)
+			.collect(Collectors.toSet());
+
+		// 표기가 다른 활용형이 이미 저장된 단어와, 같은 묶음 안에서 정규화 키가 겹치는 단어는 생성하지 않음 (ceases, ceased → cease)
+		Map<String, String> normalizedWords = new HashMap<>();
+		for (String word : distinctWords) {
+			if (!savedWords.contains(word)) {
+				normalizedWords.put(word, WordNormalizer.normalize(word));
+			}
+		}
+		Set<String> savedNormalizedWords = normalizedWords.isEmpty()
+			? new HashSet<>()
+			: wordRepository.findByNormalizedWordIn(normalizedWords.values().stream().distinct().toList()).stream()
+				.map(Word::getNormalizedWord)
+				.collect(Collectors.toCollection(HashSet::new));
+
+		List<String> newWords = distinctWords.stream()
+			.filter(word -> !savedWords.contains(word) && savedNormalizedWords.add(normalizedWords.get(word)))
+			.toList();
+		for (int from = 0; from < newWords.size(); from += wordBatchSize) {
+			saveWordBatch(newWords.subList(from, Math.min(from + wordBatchSize, newWords.size())), language);
+		}
+	}
+
+	/**
+	 * GPT 호출 한 번 분량의 단어를 락을 잡고 생성한 뒤, 별도 트랜잭션으로 저장하고 커밋 후 락을 해제합니다.
+	 */
+	private void saveWordBatch(List<String> batch, Language language) {
+		Map<String, String> lockValues = new LinkedHashMap<>();
+		boolean handedOver = false;
+		try {
+			for (String word : batch) {
+				String lockValue = UUID.randomUUID().toString();
+				if (redisDistributedLock.tryLock(WORD_LOCK_PREFIX + word, lockValue, WORD_LOCK_TTL_MILLIS)) {
+					lockValues.put(word, lockValue);
+				}
+			}
+			if (lockValues.isEmpty()) {
+				return;
+			}
+
+			List<Word> generatedWords = gptService.searchWords(List.copyOf(lockValues.keySet()), language).values().stream()
+				.flatMap(List::stream)
+				.toList();
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				wordRepository.saveAll(generatedWords);
+				wordCache.evict(lockValues.keySet());
+				// 대기자가 저장된 단어를 조회할 수 있도록 이 묶음의 커밋 후 해제
+				lockValues.forEach((word, lockValue) -> redisDistributedLock.unlockAfterCompletion(WORD_LOCK_PREFIX + word, lockValue));
+			});
+			handedOver = true;
+		} finally {
+			if (!handedOver) {
+				lockValues.forEach((word, lockValue) -> redisDistributedLock.unlock(WORD_LOCK_PREFIX + word, lockValue));
+			}
 		}
 	}
 
 	/**
 	 * 단어를 검색하여 품사/해석/난이도 목록을 반환합니다.
 	 * DB에 없으면 SeviceException을 발생하고 이벤트로 단어를 GPT 검색하여 저장합니다.
+	 * 이 서버에서 이미 생성 중이거나 최근 생성을 요청한 단어는 이벤트를 다시 발행하지 않습니다.
 	 *
 	 * @param word 검색할 단어
 	 * @return WordSavedResponse 찾은 단어
@@ -86,13 +231,20 @@ public class WordServiceImpl implements WordService {
 	 */
 	@Override
 	public WordSearchResponse searchWord(String word, Long memberId) {
-		List<Word> words = wordRepository.findByWord(word);
+		// 생성 중인 단어는 아직 DB에 없으므로 조회하지 않음
+		if (pendingWordRegistry.isPending(word)) {
+			throw new ServiceException(ErrorCode.WORD_NOT_FOUND);
+		}
+
+		List<Word> words = wordCache.getOrLoad(word, wordRepository::findByWord, wordRepository::findByNormalizedWord);
 
 		Member member = memberRepository.findById(memberId)
 			.orElseThrow(() -> new ServiceException(MEMBER_NOT_FOUND));
 
 		if (words.isEmpty()) {
-			publisher.publishEvent(new NewWordSearchedEvent(word, member.getLanguage()));
+			if (pendingWordRegistry.tryRegister(word)) {
+				publisher.publishEvent(new NewWordSearchedEvent(word, member.getLanguage()));
+			}
 			throw new ServiceException(ErrorCode.WORD_NOT_FOUND);
 		}
 
@@ -26,6 +26,7 @@ import com.mallang.mallang_backend.domain.video.subtitle.entity.Subtitle;
 import com.mallang.mallang_backend.domain.video.subtitle.repository.SubtitleRepository;
 import com.mallang.mallang_backend.domain.video.video.entity.Videos;
 import com.mallang.mallang_backend.domain.video.video.repository.VideoRepository;
+import com.mallang.mallang_backend.domain.voca.word.cache.WordCache;
 import com.mallang.mallang_backend.domain.voca.word.entity.Word;
 import com.mallang.mallang_backend.domain.voca.word.repository.WordRepository;
 import com.mallang.mallang_backend.domain.voca.word.service.impl.SavedWordResultFetcher;
@@ -70,6 +71,7 @@ public class WordbookServiceImpl implements WordbookService {
     private final RedisDistributedLock redisDistributedLock;
     private final SavedWordResultFetcher savedWordResultFetcher;
     private final VideoRepository videoRepository;
+    private final WordCache wordCache;
 
     // 단어장에 단어 추가
     @Transactional
@@ -97,20 +99,21 @@ public class WordbookServiceImpl implements WordbookService {
             }
 
             // 저장된 단어가 없는 경우, 사전 API 또는 GPT 처리해서 word 추가 (일반적인 경우엔 단어가 이미 존재함)
+            String savedWord;
             try {
-                saveWordIfNotExist(dto.getWord(), member.getLanguage());
+                savedWord = saveWordIfNotExist(dto.getWord(), member.getLanguage());
             } catch (ServiceException e) {
                 log.warn("단어 저장 실패 : {}", dto.getWord(), e);
                 continue;
             }
 
             // 단어가 단어장에 저장되어 있지 않을 때만 저장
-            if (wordbookItemRepository.findByWordbookIdAndWord(wordbook.getId(), dto.getWord()).isEmpty()) {
+            if (wordbookItemRepository.findByWordbookIdAndWord(wordbook.getId(), savedWord).isEmpty()) {
 
                 // WordbookItem 생성 및 저장
                 WordbookItem item = WordbookItem.builder()
                         .wordbook(wordbook)
-                        .word(dto.getWord())
+                        .word(savedWord)
                         .subtitleId(dto.getSubtitleId())
                         .videoId(dto.getVideoId())
                         .build();
@@ -147,15 +150,15 @@ public class WordbookServiceImpl implements WordbookService {
         }
 
         // 저장된 단어가 없는 경우, 사전 API 또는 GPT 처리해서 word 추가 (일반적인 경우엔 단어가 이미 존재함)
-        saveWordIfNotExist(word, member.getLanguage());
+        String savedWord = saveWordIfNotExist(word, member.getLanguage());
 
         // 단어가 단어장에 저장되어 있지 않을 때만 저장
-        if (wordbookItemRepository.findByWordbookIdAndWord(wordbook.getId(), word).isEmpty()) {
+        if (wordbookItemRepository.findByWordbookIdAndWord(wordbook.getId(), savedWord).isEmpty()) {
 
             // WordbookItem 생성 및 저장
             WordbookItem item = WordbookItem.builder()
                     .wordbook(wordbook)
-                    .word(word)
+                    .word(savedWord)
                     .subtitleId(null)
                     .videoId(null)
                     .build();
@@ -173,40 +176,45 @@ public class WordbookServiceImpl implements WordbookService {
 
     /**
      * 단어가 WordRepository에 저장되어 있지 않으면 GPT 호출로 단어를 검색하고, WordRepository에 저장합니다.
+     * 정규화 키로 찾은 경우(ceased → cease) 단어장 목록, 퀴즈, 대시보드가 단어를 그대로 조회할 수 있도록 저장된 단어를 반환합니다.
      *
      * @param word 저장되어야 하는 단어
+     * @return 단어장에 저장할 단어
      */
-    private void saveWordIfNotExist(String word, Language language) {
-        List<Word> words = wordRepository.findByWord(word); // DB 조회
-        if (words.isEmpty()) {
-            // 락 획득 시도
-            String lockKey = "lock:word:saved:" + word;
-            String lockValue = UUID.randomUUID().toString();
-            long ttlMillis = Duration.ofMinutes(1).toMillis();
-
-            boolean locked = redisDistributedLock.tryLock(lockKey, lockValue, ttlMillis);
-            if (!locked) {
-                // 락이 사라졌는지 1분간 계속 확인
-                boolean lockAvailable = redisDistributedLock.waitForUnlockThenFetch(lockKey, ttlMillis, 1000L);
-                // 최대 재시도 시간까지 확인했으나 실패함
-                if (!lockAvailable) {
-                    throw new ServiceException(SAVED_WORD_CONCURRENCY_TIME_OUT);
-                }
-                // 락이 사라졌으면 다른 작업으로 처리된 결과를 DB에서 찾아서 응답
-                words = savedWordResultFetcher.fetchSavedWordResultAfterWait(word);
-                if (words.isEmpty()) {
-                    throw new ServiceException(WORD_PARSE_FAILED);
-                }
-                return;
-            }
-
-            try {
-                List<Word> generatedWords = gptService.searchWord(word, language); // DB에 없으면 GPT 호출
-                wordRepository.saveAll(generatedWords);
+    private String saveWordIfNotExist(String word, Language language) {
+        List<Word> words = wordCache.getOrLoad(word, wordRepository::findByWord, wordRepository::findByNormalizedWord); // 캐시 → DB 조회
+        if (!words.isEmpty()) {
+            return words.get(0).getWord();
+        }
 
-            } finally {
-                redisDistributedLock.unlock(lockKey, lockValue);
+        // 락 획득 시도
+        String lockKey = "lock:word:saved:" + word;
+        String lockValue = UUID.randomUUID().toString();
+        long ttlMillis = Duration.ofMinutes(1).toMillis();
+
+        boolean locked = redisDistributedLock.tryLock(lockKey, lockValue, ttlMillis);
+        if (!locked) {
+            // 락이 사라졌는지 1분간 계속 확인
+            boolean lockAvailable = redisDistributedLock.waitForUnlockThenFetch(lockKey, ttlMillis);
+            // 최대 재시도 시간까지 확인했으나 실패함
+            if (!lockAvailable) {
+                throw new ServiceException(SAVED_WORD_CONCURRENCY_TIME_OUT);
+            }
+            // 락이 사라졌으면 다른 작업으로 처리된 결과를 DB에서 찾아서 응답
+            words = savedWordResultFetcher.fetchSavedWordResultAfterWait(word);
+            if (words.isEmpty()) {
+                throw new ServiceException(WORD_PARSE_FAILED);
             }
+            return words.get(0).getWord();
+        }
+
+        try {
+            List<Word> generatedWords = gptService.searchWord(word, language); // DB에 없으면 GPT 호출
+            wordRepository.saveAll(generatedWords);
+            wordCache.evict(List.of(word));
+            return word;
+        } finally {
+            redisDistributedLock.unlockAfterCompletion(lockKey, lockValue);
         }
     }
 
@@ -1,5 +1,6 @@
 package com.mallang.mallang_backend.global.common;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.Arrays;
@@ -19,10 +20,13 @@ public enum Language {
 
     private final String languageCode;
     private final String pattern;
+    @Getter(AccessLevel.NONE)
+    private final Pattern compiledPattern; // 단어 추가마다 호출되므로 미리 컴파일
 
     Language(String languageCode, String pattern) {
         this.languageCode = languageCode;
         this.pattern = pattern;
+        this.compiledPattern = Pattern.compile(pattern);
     }
 
     /**
@@ -86,7 +90,6 @@ public enum Language {
             // ENGLISH 또는 JAPANESE 중 하나라도 매칭되면 true
             return ENGLISH.matches(word) || JAPANESE.matches(word);
         }
-        Pattern compile = Pattern.compile(pattern);
-        return compile.matcher(word).matches();
+        return compiledPattern.matcher(word).matches();
     }
 }
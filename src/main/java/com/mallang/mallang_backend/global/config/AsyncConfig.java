@@ -3,6 +3,7 @@ package com.mallang.mallang_backend.global.config;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -27,6 +28,41 @@ public class AsyncConfig {
 		return ex;
 	}
 
+	/**
+	 * 영상 분석 작업 큐 실행 스레드풀 설정
+	 * 디스패처가 workers 만큼만 작업을 꺼내므로 대기 큐는 거의 사용되지 않음
+	 */
+	@Bean(name = "analysisQueueExecutor")
+	public Executor analysisQueueExecutor(@Value("${video.analysis.queue.workers:4}") int workers) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(workers);
+		executor.setMaxPoolSize(workers);
+		executor.setQueueCapacity(workers);
+		executor.setThreadNamePrefix("video-analysis-queue-");
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * GPT 스크립트 청크 분석 스레드풀 설정
+	 * 노드 전체에서 동시에 OpenAI 로 전송되는 청크 요청 수를 parallelism 으로 제한
+	 * 대기 큐가 가득 차면 청크를 제출한 분석 스레드가 직접 실행하므로, 긴 영상이 많아도 대기 청크 수가 queueCapacity 를 넘지 않음
+	 */
+	@Bean(name = "gptChunkExecutor")
+	public Executor gptChunkExecutor(
+		@Value("${gpt.script.chunk.parallelism:4}") int parallelism,
+		@Value("${gpt.script.chunk.queue-capacity:16}") int queueCapacity
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(parallelism);
+		executor.setMaxPoolSize(parallelism);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setThreadNamePrefix("gpt-chunk-");
+		executor.initialize();
+		return executor;
+	}
+
 	/**
 	 * 비디오 히스토리 저장용 비동기 스레드풀 설정
 	 * aws t3.micro 기준
@@ -73,6 +109,20 @@ public class AsyncConfig {
 		return executor;
 	}
 
+	/**
+	 * 서버 시작 후 기존 데이터 백필, 단어 사전 가져오기 스레드풀 설정 (한 번에 하나씩 처리)
+	 */
+	@Bean(name = "backfillExecutor")
+	public Executor backfillExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(10);
+		executor.setThreadNamePrefix("backfill-");
+		executor.initialize();
+		return executor;
+	}
+
     @Bean(name = "securityTaskExecutor")
     public Executor securityTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -23,6 +23,7 @@ import com.mallang.mallang_backend.domain.payment.quartz.listener.LoggingJobList
 import com.mallang.mallang_backend.domain.payment.quartz.listener.RetryJobListener;
 import com.mallang.mallang_backend.domain.payment.quartz.listener.RetryTriggerListener;
 import com.mallang.mallang_backend.domain.video.video.cache.quartz.job.CacheSchedulerJob;
+import com.mallang.mallang_backend.domain.video.video.cache.quartz.job.VideoPreAnalysisJob;
 import com.mallang.mallang_backend.global.slack.SlackNotifier;
 
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +41,9 @@ public class QuartzConfig {
     @Value("${quartz.cron.cache-scheduler}")
     private String cacheSchedulerCron;
 
+    @Value("${quartz.cron.video-pre-analysis:0 30 4 * * ?}")
+    private String videoPreAnalysisCron;
+
     private final DataSource dataSource;  // Spring Boot가 자동 구성한 DataSource
 
     public QuartzConfig(DataSource dataSource) {
@@ -99,6 +103,26 @@ public class QuartzConfig {
             .build();
     }
 
+    @Bean
+    public JobDetail videoPreAnalysisJobDetailEn() {
+        return JobBuilder.newJob(VideoPreAnalysisJob.class)
+            .withIdentity("videoPreAnalysisJobEn", "VIDEO_PRE_ANALYSIS")
+            .usingJobData("language", "en")
+            .usingJobData("topN", VIDEO_PRE_ANALYSIS_TOP_N)
+            .storeDurably()
+            .build();
+    }
+
+    @Bean
+    public JobDetail videoPreAnalysisJobDetailJp() {
+        return JobBuilder.newJob(VideoPreAnalysisJob.class)
+            .withIdentity("videoPreAnalysisJobJp", "VIDEO_PRE_ANALYSIS")
+            .usingJobData("language", "ja")
+            .usingJobData("topN", VIDEO_PRE_ANALYSIS_TOP_N)
+            .storeDurably()
+            .build();
+    }
+
     /**
      * Trigger의 JobDataMap: 트리거(실행 단위)마다 독립적인 값을 저장
      * 재시도 카운트(currentRetry)처럼 실행마다 바뀌는 값을 저장하는 데 적합
@@ -141,6 +165,24 @@ public class QuartzConfig {
             .build();
     }
 
+    @Bean
+    public Trigger videoPreAnalysisTriggerEn() {
+        return TriggerBuilder.newTrigger()
+            .forJob(videoPreAnalysisJobDetailEn())
+            .withIdentity("videoPreAnalysisTriggerEn", "VIDEO_PRE_ANALYSIS")
+            .withSchedule(CronScheduleBuilder.cronSchedule(videoPreAnalysisCron)) // 캐시 갱신 이후 새벽 시간대
+            .build();
+    }
+
+    @Bean
+    public Trigger videoPreAnalysisTriggerJp() {
+        return TriggerBuilder.newTrigger()
+            .forJob(videoPreAnalysisJobDetailJp())
+            .withIdentity("videoPreAnalysisTriggerJp", "VIDEO_PRE_ANALYSIS")
+            .withSchedule(CronScheduleBuilder.cronSchedule(videoPreAnalysisCron)) // 캐시 갱신 이후 새벽 시간대
+            .build();
+    }
+
     @Bean
     public LoggingJobListener loggingJobListener() {
         log.info(">>>> loggingJobListener 생성됨 <<<<");
@@ -181,8 +223,10 @@ public class QuartzConfig {
     public SchedulerFactoryBean schedulerFactoryBean() {
         SchedulerFactoryBean factory = new SchedulerFactoryBean();
         factory.setJobFactory(autowiringSpringBeanJobFactory());
-        factory.setJobDetails(subscriptionExpireJobDetail(), autoBillingJobDetail(), cacheSchedulerJobDetailEn(), cacheSchedulerJobDetailJp());
-        factory.setTriggers(subscriptionExpireTrigger(), autoBillingTrigger(), cacheSchedulerTriggerEn(), cacheSchedulerTriggerJp());
+        factory.setJobDetails(subscriptionExpireJobDetail(), autoBillingJobDetail(), cacheSchedulerJobDetailEn(), cacheSchedulerJobDetailJp(),
+            videoPreAnalysisJobDetailEn(), videoPreAnalysisJobDetailJp());
+        factory.setTriggers(subscriptionExpireTrigger(), autoBillingTrigger(), cacheSchedulerTriggerEn(), cacheSchedulerTriggerJp(),
+            videoPreAnalysisTriggerEn(), videoPreAnalysisTriggerJp());
         factory.setGlobalJobListeners(loggingJobListener(), retryJobListener());
         factory.setGlobalTriggerListeners(retryTriggerListener());
         factory.setDataSource(dataSource);
@@ -6,6 +6,8 @@ import java.util.concurrent.ScheduledExecutorService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.mallang.mallang_backend.global.util.clova.ClovaSpeechProperties;
+
 @Configuration
 public class SchedulerConfig {
 
@@ -20,4 +22,20 @@ public class SchedulerConfig {
 			}
 		);
 	}
+
+	/**
+	 * Clova async 인식 결과 조회용 스케줄러
+	 * 조회 요청이 응답을 기다리는 동안 스레드를 점유하므로, SSE 하트비트와 락 확인에 쓰는 heartbeatScheduler 와 분리합니다.
+	 */
+	@Bean
+	public ScheduledExecutorService clovaPollScheduler(ClovaSpeechProperties properties) {
+		return Executors.newScheduledThreadPool(
+			properties.getPollThreads(),
+			r -> {
+				Thread t = new Thread(r, "clova-poll");
+				t.setDaemon(true);
+				return t;
+			}
+		);
+	}
 }
\ No newline at end of file
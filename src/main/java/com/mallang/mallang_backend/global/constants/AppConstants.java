@@ -21,6 +21,7 @@ public class AppConstants {
      * 음성 파일 타입
      */
     public static final String AUDIO_FILE_EXTENSION = ".webm";
+    public static final String SPEECH_AUDIO_FILE_EXTENSION = ".ogg";
     /**
      * 파일 위치 (현재 프로젝트 디렉토리)
      */
@@ -108,6 +109,11 @@ public class AppConstants {
 	 */
 	public static final long CACHE_SCHEDULER_FETCH_SIZE = 300L;
 
+	/**
+	 * 인기 영상 미리 분석 시 고를 미분석 영상 수
+	 */
+	public static final int VIDEO_PRE_ANALYSIS_TOP_N = 30;
+
 	/**
 	 * SSE Heartbeat Interval (초 단위)
 	 */
@@ -43,12 +43,14 @@ public enum ErrorCode {
     ANALYZE_VIDEO_FAILED("500-5", "analyze.video.failed", HttpStatus.INTERNAL_SERVER_ERROR),
     CATEGORY_NOT_FOUND("404-2", "category.not.found", HttpStatus.NOT_FOUND),
     VIDEO_ANALYSIS_FAILED("500-6", "video.analysis.failed", HttpStatus.INTERNAL_SERVER_ERROR),
+    INVALID_SUBTITLE_WINDOW("400-2", "invalid.subtitle.window", HttpStatus.BAD_REQUEST),
 
     // GPT Errors
     GPT_RESPONSE_PARSE_FAIL("500-1", "gpt.response.parse.fail", HttpStatus.INTERNAL_SERVER_ERROR),
     GPT_API_CALL_FAILED("500-4", "gpt.api.call.failed", HttpStatus.INTERNAL_SERVER_ERROR),
     GPT_RESPONSE_EMPTY("500-5", "gpt.response.empty", HttpStatus.INTERNAL_SERVER_ERROR),
     INVALID_GPT_RESPONSE("500-6", "invalid.gpt.response", HttpStatus.INTERNAL_SERVER_ERROR),
+    GPT_RATE_LIMIT_TIMEOUT("503-1", "gpt.rate.limit.timeout", HttpStatus.SERVICE_UNAVAILABLE),
 
     // Word Errors
     WORD_SAVE_FAILED("500-2", "word.save.failed", HttpStatus.INTERNAL_SERVER_ERROR),
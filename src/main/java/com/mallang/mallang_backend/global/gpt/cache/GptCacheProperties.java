@@ -0,0 +1,48 @@
+package com.mallang.mallang_backend.global.gpt.cache;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * GPT 응답 캐시 설정
+ * 프롬프트 문구를 바꾸면 templateVersion 을 올려 이전 프롬프트로 만든 응답이 재사용되지 않도록 합니다.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "gpt.cache") // yml 파일에서 "gpt.cache" 하위 값을 읽어와서 매핑
+public class GptCacheProperties {
+
+	private boolean enabled = false;
+
+	// 프롬프트 템플릿 버전 (캐시 키에 포함)
+	private String templateVersion = "v1";
+
+	// 서버 메모리에 보관할 최대 응답 수
+	private int localMaxEntries = 1000;
+
+	// 서버 메모리 보관 시간 (프롬프트 종류별 TTL 보다 길면 종류별 TTL 을 따름)
+	private Duration localTtl = Duration.ofMinutes(10);
+
+	// 프롬프트 종류별 Redis 보관 시간 (0 이면 해당 종류는 캐시하지 않음)
+	private Map<GptPromptType, Duration> ttl = defaultTtl();
+
+	public Duration ttlOf(GptPromptType type) {
+		return ttl.getOrDefault(type, Duration.ZERO);
+	}
+
+	private static Map<GptPromptType, Duration> defaultTtl() {
+		Map<GptPromptType, Duration> ttl = new EnumMap<>(GptPromptType.class);
+		ttl.put(GptPromptType.WORD, Duration.ofDays(30));
+		ttl.put(GptPromptType.WORDS, Duration.ofDays(30));
+		ttl.put(GptPromptType.SENTENCE, Duration.ofDays(30));
+		ttl.put(GptPromptType.SCRIPT, Duration.ofDays(7));
+		ttl.put(GptPromptType.LEVEL_CHECK, Duration.ofHours(1));
+		return ttl;
+	}
+}
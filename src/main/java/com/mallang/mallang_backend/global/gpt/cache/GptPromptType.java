@@ -0,0 +1,12 @@
+package com.mallang.mallang_backend.global.gpt.cache;
+
+/**
+ * GPT 호출의 프롬프트 종류 (종류별로 캐시 TTL, 호출 경로 설정을 다르게 적용)
+ */
+public enum GptPromptType {
+	WORD,
+	WORDS,
+	SENTENCE,
+	SCRIPT,
+	LEVEL_CHECK
+}
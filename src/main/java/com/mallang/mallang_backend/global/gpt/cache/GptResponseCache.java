@@ -0,0 +1,173 @@
+package com.mallang.mallang_backend.global.gpt.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.global.gpt.dto.OpenAiResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GPT 응답 캐시
+ * <p>- 키는 모델, 프롬프트 템플릿 버전, 프롬프트 종류, 공백을 정규화한 프롬프트의 SHA-256 해시로 구성됩니다.</p>
+ * <p>- 서버 메모리(LRU, 최대 localMaxEntries 개) → Redis 순서로 조회하며, Redis 에서 찾은 응답은 서버 메모리에도 보관합니다.</p>
+ * <p>- 검증/파싱에 성공한 응답만 저장해야 잘못된 응답이 재시도 때마다 재사용되지 않습니다.</p>
+ * <p>- Redis 장애 시에는 캐시가 없는 것으로 보고 GPT 를 호출합니다.</p>
+ */
+@Slf4j
+@Component
+public class GptResponseCache {
+
+	private static final String KEY_PREFIX = "gpt:response:";
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final GptCacheProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, LocalEntry> localCache;
+
+	public GptResponseCache(
+		RedisTemplate<String, String> redisTemplate,
+		ObjectMapper objectMapper,
+		GptCacheProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.localCache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+				return size() > properties.getLocalMaxEntries();
+			}
+		};
+	}
+
+	/**
+	 * 같은 프롬프트로 받은 응답이 캐시에 있으면 반환합니다.
+	 *
+	 * @param model  요청 모델
+	 * @param type   프롬프트 종류
+	 * @param prompt 프롬프트
+	 * @return 캐시된 GPT 응답 (없거나 캐시를 사용하지 않으면 empty)
+	 */
+	public Optional<OpenAiResponse> get(String model, GptPromptType type, String prompt) {
+		if (!isCacheable(type)) {
+			return Optional.empty();
+		}
+		String key = keyOf(model, type, prompt);
+
+		OpenAiResponse local = getLocal(key);
+		if (local != null) {
+			recordHit(type, "local", local);
+			return Optional.of(local);
+		}
+
+		try {
+			String json = redisTemplate.opsForValue().get(key);
+			if (json != null) {
+				OpenAiResponse response = objectMapper.readValue(json, OpenAiResponse.class);
+				putLocal(key, type, response);
+				recordHit(type, "redis", response);
+				return Optional.of(response);
+			}
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("[GptResponseCache] 캐시 조회 실패 - 종류: {}, 예외: {}", type, e.getMessage());
+		}
+
+		meterRegistry.counter("gpt_cache_requests_total", "type", type.name(), "result", "miss").increment();
+		return Optional.empty();
+	}
+
+	/**
+	 * 검증/파싱에 성공한 GPT 응답을 저장합니다.
+	 */
+	public void put(String model, GptPromptType type, String prompt, OpenAiResponse response) {
+		if (!isCacheable(type) || response == null) {
+			return;
+		}
+		String key = keyOf(model, type, prompt);
+		putLocal(key, type, response);
+
+		try {
+			redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response), properties.ttlOf(type));
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("[GptResponseCache] 캐시 저장 실패 - 종류: {}, 예외: {}", type, e.getMessage());
+		}
+	}
+
+	/**
+	 * 줄바꿈, 들여쓰기 등 연속된 공백을 하나로 바꾸고 앞뒤 공백을 제거합니다.
+	 */
+	static String normalize(String prompt) {
+		return WHITESPACE.matcher(prompt).replaceAll(" ").trim();
+	}
+
+	private boolean isCacheable(GptPromptType type) {
+		return properties.isEnabled() && !properties.ttlOf(type).isZero();
+	}
+
+	private String keyOf(String model, GptPromptType type, String prompt) {
+		return KEY_PREFIX + model + ":" + properties.getTemplateVersion() + ":" + type.name().toLowerCase() + ":" + sha256(normalize(prompt));
+	}
+
+	private OpenAiResponse getLocal(String key) {
+		synchronized (localCache) {
+			LocalEntry entry = localCache.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.expiresAt() < System.currentTimeMillis()) {
+				localCache.remove(key);
+				return null;
+			}
+			return entry.response();
+		}
+	}
+
+	private void putLocal(String key, GptPromptType type, OpenAiResponse response) {
+		Duration ttl = properties.ttlOf(type);
+		if (properties.getLocalTtl().compareTo(ttl) < 0) {
+			ttl = properties.getLocalTtl();
+		}
+		LocalEntry entry = new LocalEntry(response, System.currentTimeMillis() + ttl.toMillis());
+		synchronized (localCache) {
+			localCache.put(key, entry);
+		}
+	}
+
+	private void recordHit(GptPromptType type, String tier, OpenAiResponse response) {
+		meterRegistry.counter("gpt_cache_requests_total", "type", type.name(), "result", "hit_" + tier).increment();
+		if (response.getUsage() != null) {
+			meterRegistry.counter("gpt_cache_tokens_saved_total", "type", type.name())
+				.increment(response.getUsage().getTotal_tokens());
+		}
+	}
+
+	private static String sha256(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+		}
+	}
+
+	private record LocalEntry(OpenAiResponse response, long expiresAt) {
+	}
+}
@@ -1,12 +1,55 @@
 package com.mallang.mallang_backend.global.gpt.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import lombok.*;
 
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class OpenAiRequest {
     private String model;
     private Message[] messages;
+
+    // 호출 종류별 경로 설정에 값이 있을 때만 전송
+    @JsonProperty("max_tokens")
+    private Integer maxTokens;
+
+    private Double temperature;
+
+    // 스트리밍 요청일 때만 전송
+    private Boolean stream;
+
+    @JsonProperty("stream_options")
+    private StreamOptions streamOptions;
+
+    public OpenAiRequest(String model, Message[] messages) {
+        this.model = model;
+        this.messages = messages;
+    }
+
+    public OpenAiRequest(String model, Message[] messages, Integer maxTokens, Double temperature) {
+        this(model, messages);
+        this.maxTokens = maxTokens;
+        this.temperature = temperature;
+    }
+
+    /**
+     * 응답을 SSE 조각으로 받고, 마지막 조각에 토큰 사용량(usage)을 포함하도록 요청합니다.
+     */
+    public static OpenAiRequest streaming(String model, Message[] messages, Integer maxTokens, Double temperature) {
+        return new OpenAiRequest(model, messages, maxTokens, temperature, true, new StreamOptions(true));
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class StreamOptions {
+        @JsonProperty("include_usage")
+        private boolean includeUsage;
+    }
 }
@@ -0,0 +1,12 @@
+package com.mallang.mallang_backend.global.gpt.limiter;
+
+/**
+ * OpenAI 호출 우선순위
+ * <p>- INTERACTIVE: 사용자가 응답을 기다리는 호출 (단어 검색, 문장 분석, 영상 분석 등)</p>
+ * <p>- BACKGROUND: 사용자가 기다리지 않는 호출 (핵심 단어 일괄 저장 등)</p>
+ * 선언 순서가 높은 우선순위 순서입니다.
+ */
+public enum GptCallPriority {
+	INTERACTIVE,
+	BACKGROUND
+}
@@ -0,0 +1,67 @@
+package com.mallang.mallang_backend.global.gpt.limiter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * OpenAI 호출 한도(토큰/요청 버킷) 설정
+ * 버킷은 Redis 에 있어 모든 서버가 같은 분당 한도를 나누어 사용합니다.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "gpt.rate-limit") // yml 파일에서 "gpt.rate-limit" 하위 값을 읽어와서 매핑
+public class OpenAiRateLimitProperties {
+
+	private boolean enabled = false;
+
+	// OpenAI 계정의 분당 토큰 한도
+	private long tokensPerMinute = 30000;
+
+	// OpenAI 계정의 분당 요청 한도
+	private long requestsPerMinute = 500;
+
+	// 응답 토큰 수 추정치 (프롬프트 예상 토큰 수 대비 비율)
+	private double completionTokenRatio = 1.0;
+
+	// 대기 중인 호출이 버킷을 다시 확인하는 최소 간격
+	private long pollIntervalMs = 200;
+
+	// 이 시간보다 오래된 대기표는 종료된 서버의 것으로 보고 제거
+	private long staleTicketMs = 180000;
+
+	private Map<GptCallPriority, Priority> priorities = defaultPriorities();
+
+	public Priority priorityOf(GptCallPriority priority) {
+		return priorities.getOrDefault(priority, new Priority());
+	}
+
+	/**
+	 * 우선순위별 설정
+	 * usableRatio 는 해당 우선순위가 쓸 수 있는 버킷 비율로, 나머지는 더 높은 우선순위를 위해 남겨둡니다.
+	 */
+	@Data
+	public static class Priority {
+		private double usableRatio = 1.0;
+		private long maxWaitMs = 30000;
+	}
+
+	private static Map<GptCallPriority, Priority> defaultPriorities() {
+		Map<GptCallPriority, Priority> priorities = new EnumMap<>(GptCallPriority.class);
+
+		Priority interactive = new Priority();
+		interactive.setUsableRatio(1.0);
+		interactive.setMaxWaitMs(30000);
+		priorities.put(GptCallPriority.INTERACTIVE, interactive);
+
+		Priority background = new Priority();
+		background.setUsableRatio(0.7);
+		background.setMaxWaitMs(120000);
+		priorities.put(GptCallPriority.BACKGROUND, background);
+		return priorities;
+	}
+}
@@ -0,0 +1,209 @@
+package com.mallang.mallang_backend.global.gpt.limiter;
+
+import static com.mallang.mallang_backend.global.exception.ErrorCode.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.mallang.mallang_backend.global.exception.ServiceException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 OpenAI 호출 한도 제어기
+ * <p>- 분당 토큰/요청 한도를 연속 충전되는 버킷으로 관리하며, 충전/차감은 Lua 스크립트로 원자적으로 처리합니다.</p>
+ * <p>- 대기 중인 호출은 우선순위별 Sorted Set 에 대기표를 남기고, 더 높은 우선순위의 대기표가 있거나
+ *   같은 우선순위에서 먼저 온 대기표가 있으면 차례를 기다립니다. 서버가 달라도 같은 대기열을 사용합니다.</p>
+ * <p>- 호출 전에는 예상 토큰 수로 차감하고, 응답의 usage.total_tokens 로 차이를 보정합니다.</p>
+ * <p>- Redis 장애 시에는 호출을 막지 않고 OpenAI 의 429 응답 처리(호출 경로별 retryWhen)에 맡깁니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenAiRateLimiter {
+
+	private static final String KEY_PREFIX = "gpt:rate-limit:";
+	private static final String BUCKET_KEY = KEY_PREFIX + "bucket";
+	private static final long BUCKET_TTL_MS = 120000;
+
+	/**
+	 * 반환값: 0 = 통과, 양수 = 버킷 충전까지 대기할 시간(ms), -1 = 앞선 대기표가 있어 대기
+	 */
+	private static final String ACQUIRE_SCRIPT =
+		"local t = redis.call('time') " +
+		"local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) " +
+		"local cost = tonumber(ARGV[2]) " +
+		"local tokenCap = tonumber(ARGV[3]) " +
+		"local reqCap = tonumber(ARGV[4]) " +
+		"local reserve = tonumber(ARGV[5]) " +
+		"local stale = tonumber(ARGV[6]) " +
+		"for i = 2, #KEYS do " +
+		"  redis.call('zremrangebyscore', KEYS[i], '-inf', now - stale) " +
+		"end " +
+		"redis.call('zadd', KEYS[2], 'NX', now, ARGV[1]) " +
+		"redis.call('pexpire', KEYS[2], stale) " +
+		"for i = 3, #KEYS do " +
+		"  if redis.call('zcard', KEYS[i]) > 0 then return -1 end " +
+		"end " +
+		"local head = redis.call('zrange', KEYS[2], 0, 0) " +
+		"if head[1] ~= ARGV[1] then return -1 end " +
+		"local b = redis.call('hmget', KEYS[1], 'tokens', 'requests', 'ts') " +
+		"local tokens = tonumber(b[1]) or tokenCap " +
+		"local reqs = tonumber(b[2]) or reqCap " +
+		"local elapsed = math.max(0, now - (tonumber(b[3]) or now)) " +
+		"tokens = math.min(tokenCap, tokens + elapsed * tokenCap / 60000) " +
+		"reqs = math.min(reqCap, reqs + elapsed * reqCap / 60000) " +
+		"cost = math.min(cost, tokenCap - reserve) " +
+		"local wait = 0 " +
+		"if tokens - cost < reserve then wait = math.ceil((reserve + cost - tokens) * 60000 / tokenCap) end " +
+		"if reqs < 1 then wait = math.max(wait, math.ceil((1 - reqs) * 60000 / reqCap)) end " +
+		"if wait == 0 then " +
+		"  tokens = tokens - cost " +
+		"  reqs = reqs - 1 " +
+		"  redis.call('zrem', KEYS[2], ARGV[1]) " +
+		"end " +
+		"redis.call('hmset', KEYS[1], 'tokens', tostring(tokens), 'requests', tostring(reqs), 'ts', tostring(now)) " +
+		"redis.call('pexpire', KEYS[1], ARGV[7]) " +
+		"return wait";
+
+	/**
+	 * 예상 토큰 수와 실제 사용량의 차이만큼 버킷을 보정합니다. 실제 사용량이 더 크면 버킷이 음수가 될 수 있습니다.
+	 */
+	private static final String RECONCILE_SCRIPT =
+		"local tokens = tonumber(redis.call('hget', KEYS[1], 'tokens')) " +
+		"if tokens == nil then return 0 end " +
+		"tokens = math.min(tonumber(ARGV[2]), tokens + tonumber(ARGV[1])) " +
+		"redis.call('hset', KEYS[1], 'tokens', tostring(tokens)) " +
+		"return 1";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final OpenAiRateLimitProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	private final DefaultRedisScript<Long> acquireScript = new DefaultRedisScript<>(ACQUIRE_SCRIPT, Long.class);
+	private final DefaultRedisScript<Long> reconcileScript = new DefaultRedisScript<>(RECONCILE_SCRIPT, Long.class);
+
+	public boolean isEnabled() {
+		return properties.isEnabled();
+	}
+
+	/**
+	 * 프롬프트의 예상 토큰 수만큼 버킷에서 차감될 때까지 대기합니다.
+	 *
+	 * @param promptTokens 프롬프트 예상 토큰 수
+	 * @param priority     호출 우선순위
+	 * @return 버킷에서 차감한 토큰 수 (reconcile 에 전달), 한도 제어를 사용하지 않으면 0
+	 * @throws ServiceException 우선순위별 최대 대기 시간을 넘긴 경우
+	 */
+	public long acquire(int promptTokens, GptCallPriority priority) {
+		if (!properties.isEnabled()) {
+			return 0;
+		}
+
+		long cost = promptTokens + (long)Math.ceil(promptTokens * properties.getCompletionTokenRatio());
+		OpenAiRateLimitProperties.Priority setting = properties.priorityOf(priority);
+		long reserve = (long)(properties.getTokensPerMinute() * (1 - setting.getUsableRatio()));
+		String ticket = UUID.randomUUID().toString();
+		List<String> keys = waitingKeys(priority);
+
+		long startedAt = System.currentTimeMillis();
+		long deadline = startedAt + setting.getMaxWaitMs();
+		try {
+			while (true) {
+				Long wait = redisTemplate.execute(
+					acquireScript,
+					keys,
+					ticket,
+					String.valueOf(cost),
+					String.valueOf(properties.getTokensPerMinute()),
+					String.valueOf(properties.getRequestsPerMinute()),
+					String.valueOf(reserve),
+					String.valueOf(properties.getStaleTicketMs()),
+					String.valueOf(BUCKET_TTL_MS)
+				);
+				if (wait == null || wait == 0) {
+					recordWait(priority, startedAt, "acquired");
+					return wait == null ? 0 : cost;
+				}
+
+				long now = System.currentTimeMillis();
+				if (now >= deadline) {
+					redisTemplate.opsForZSet().remove(keys.get(1), ticket);
+					recordWait(priority, startedAt, "timeout");
+					log.warn("[OpenAiRateLimiter] 대기 시간 초과 - 우선순위: {}, 예상 토큰: {}", priority, cost);
+					throw new ServiceException(GPT_RATE_LIMIT_TIMEOUT);
+				}
+				Thread.sleep(Math.min(Math.max(wait, properties.getPollIntervalMs()), deadline - now));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			redisTemplate.opsForZSet().remove(keys.get(1), ticket);
+			throw new ServiceException(GPT_API_CALL_FAILED, e);
+		} catch (ServiceException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			log.warn("[OpenAiRateLimiter] Redis 호출 실패, 한도 제어 없이 진행: {}", e.getMessage());
+			return 0;
+		}
+	}
+
+	/**
+	 * acquire 에서 차감한 예상 토큰 수를 응답의 실제 사용 토큰 수로 보정합니다.
+	 *
+	 * @param acquiredTokens acquire 가 반환한 토큰 수
+	 * @param actualTokens   응답의 usage.total_tokens
+	 */
+	public void reconcile(long acquiredTokens, long actualTokens) {
+		if (!properties.isEnabled() || acquiredTokens <= 0 || actualTokens <= 0) {
+			return;
+		}
+		long diff = acquiredTokens - actualTokens;
+		meterRegistry.summary("gpt_rate_limit_estimate_error_tokens").record(Math.abs(diff));
+		if (diff == 0) {
+			return;
+		}
+
+		try {
+			redisTemplate.execute(
+				reconcileScript,
+				List.of(BUCKET_KEY),
+				String.valueOf(diff),
+				String.valueOf(properties.getTokensPerMinute())
+			);
+		} catch (RuntimeException e) {
+			log.warn("[OpenAiRateLimiter] 토큰 사용량 보정 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 버킷 키, 자신의 대기열 키, 더 높은 우선순위의 대기열 키 순서로 반환합니다.
+	 */
+	private List<String> waitingKeys(GptCallPriority priority) {
+		List<String> keys = new ArrayList<>();
+		keys.add(BUCKET_KEY);
+		keys.add(waitingKey(priority));
+		for (GptCallPriority higher : GptCallPriority.values()) {
+			if (higher.ordinal() < priority.ordinal()) {
+				keys.add(waitingKey(higher));
+			}
+		}
+		return keys;
+	}
+
+	private String waitingKey(GptCallPriority priority) {
+		return KEY_PREFIX + "waiting:" + priority.name().toLowerCase();
+	}
+
+	private void recordWait(GptCallPriority priority, long startedAt, String result) {
+		meterRegistry.timer("gpt_rate_limit_wait_seconds", "priority", priority.name(), "result", result)
+			.record(System.currentTimeMillis() - startedAt, TimeUnit.MILLISECONDS);
+	}
+}
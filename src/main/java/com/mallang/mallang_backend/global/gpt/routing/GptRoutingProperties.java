@@ -0,0 +1,96 @@
+package com.mallang.mallang_backend.global.gpt.routing;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.mallang.mallang_backend.global.gpt.cache.GptPromptType;
+import com.mallang.mallang_backend.global.gpt.limiter.GptCallPriority;
+
+import lombok.Data;
+
+/**
+ * GPT 호출 종류별 경로 설정 (모델, 최대 응답 토큰, 요청 시간 제한, 재시도, 호출 한도 우선순위)
+ * 단어/문장 조회처럼 응답이 짧은 호출은 작은 모델과 짧은 시간 제한을 사용해 스크립트 분석 뒤에서 오래 기다리지 않도록 합니다.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "gpt.routing") // yml 파일에서 "gpt.routing" 하위 값을 읽어와서 매핑
+public class GptRoutingProperties {
+
+	// 종류를 지정하지 않은 호출(callGptApi(prompt))에 사용
+	private Route defaults = new Route();
+
+	private Map<GptPromptType, Route> routes = defaultRoutes();
+
+	public Route routeOf(GptPromptType type) {
+		return routes.getOrDefault(type, defaults);
+	}
+
+	@Data
+	public static class Route {
+		private String model = "gpt-4o";
+
+		// 최대 응답 토큰 수 (null 이면 전송하지 않음)
+		private Integer maxTokens;
+
+		// null 이면 모델 기본값 사용
+		private Double temperature;
+
+		// 시도 한 번의 응답 대기 시간
+		private Duration timeout = Duration.ofSeconds(60);
+
+		// 429 응답 시 최대 시도 횟수 (1 이면 재시도하지 않음)
+		private int maxAttempts = 1;
+
+		// 재시도 대기 시간 (지수 증가)
+		private Duration retryBackoff = Duration.ofSeconds(1);
+
+		private GptCallPriority priority = GptCallPriority.INTERACTIVE;
+	}
+
+	private static Map<GptPromptType, Route> defaultRoutes() {
+		Map<GptPromptType, Route> routes = new EnumMap<>(GptPromptType.class);
+
+		Route word = new Route();
+		word.setModel("gpt-4o-mini");
+		word.setMaxTokens(1000);
+		word.setTimeout(Duration.ofSeconds(15));
+		word.setMaxAttempts(2);
+		routes.put(GptPromptType.WORD, word);
+
+		// 핵심 단어 일괄 저장은 사용자가 기다리지 않으므로 단어 검색 등 대화형 호출에 한도를 양보
+		Route words = new Route();
+		words.setModel("gpt-4o-mini");
+		words.setMaxTokens(4000);
+		words.setTimeout(Duration.ofSeconds(60));
+		words.setMaxAttempts(3);
+		words.setPriority(GptCallPriority.BACKGROUND);
+		routes.put(GptPromptType.WORDS, words);
+
+		Route sentence = new Route();
+		sentence.setModel("gpt-4o-mini");
+		sentence.setMaxTokens(1000);
+		sentence.setTimeout(Duration.ofSeconds(20));
+		sentence.setMaxAttempts(2);
+		routes.put(GptPromptType.SENTENCE, sentence);
+
+		Route script = new Route();
+		script.setModel("gpt-4o");
+		script.setTimeout(Duration.ofSeconds(120));
+		script.setMaxAttempts(3);
+		script.setRetryBackoff(Duration.ofSeconds(2));
+		routes.put(GptPromptType.SCRIPT, script);
+
+		Route levelCheck = new Route();
+		levelCheck.setModel("gpt-4o");
+		levelCheck.setMaxTokens(1500);
+		levelCheck.setTimeout(Duration.ofSeconds(30));
+		levelCheck.setMaxAttempts(2);
+		routes.put(GptPromptType.LEVEL_CHECK, levelCheck);
+		return routes;
+	}
+}
@@ -1,10 +1,16 @@
 package com.mallang.mallang_backend.global.gpt.service;
 
+import java.util.List;
+
 public interface GptPromptBuilder {
 	String buildPromptForSearchWord(String word);
 
 	String buildPromptForSearchWordJapanese(String word);
 
+	String buildPromptForSearchWords(List<String> words);
+
+	String buildPromptForSearchWordsJapanese(List<String> words);
+
 	String buildPromptForAnalyzeSentence(String sentence, String translatedSentence);
 
 	String buildPromptForAnalyzeSentenceJapanese(String sentence, String translatedSentence);
@@ -7,6 +7,9 @@ import com.mallang.mallang_backend.global.common.Language;
 import com.mallang.mallang_backend.global.gpt.dto.GptSubtitleResponse;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface GptService {
 
@@ -18,6 +21,22 @@ public interface GptService {
      */
     List<Word> searchWord(String word, Language language);
 
+    /**
+     * searchWord 의 비동기 버전입니다. GPT 응답을 기다리는 동안 호출한 스레드를 점유하지 않습니다.
+     *
+     * @param word 검색할 단어
+     * @return GPT 응답 결과 Future
+     */
+    CompletableFuture<List<Word>> searchWordAsync(String word, Language language);
+
+    /**
+     * 여러 단어를 묶어서 검색하여 단어별 GPT 응답을 반환합니다.
+     *
+     * @param words 검색할 단어 목록
+     * @return 단어별 GPT 응답 결과 (검색에 실패한 단어는 포함되지 않음)
+     */
+    Map<String, List<Word>> searchWords(List<String> words, Language language);
+
     /**
      * 문장을 분석하여 GPT 응답을 반환합니다.
      *
@@ -27,6 +46,15 @@ public interface GptService {
      */
     String analyzeSentence(String sentence, String translatedSentence, Language language);
 
+    /**
+     * analyzeSentence 의 비동기 버전입니다. GPT 응답을 기다리는 동안 호출한 스레드를 점유하지 않습니다.
+     *
+     * @param sentence 검색할 문장(원문)
+     * @param translatedSentence 원문 번역 문장
+     * @return GPT 응답 결과(원문 분석) Future
+     */
+    CompletableFuture<String> analyzeSentenceAsync(String sentence, String translatedSentence, Language language);
+
     /**
      * 자막 세그먼트 리스트를 GPT에 전달하여 분석 결과를 반환합니다.
      *
@@ -35,5 +63,20 @@ public interface GptService {
      */
     List<GptSubtitleResponse> analyzeScript(List<TranscriptSegment> segments, Language language);
 
+    /**
+     * 자막 세그먼트 리스트를 청크 단위로 나누어 분석하고, 청크 분석이 끝날 때마다 결과를 전달합니다.
+     * 콜백은 호출한 스레드에서 세그먼트 순서대로 실행됩니다.
+     *
+     * @param segments 분석할 자막 세그먼트 리스트
+     * @param onBatchAnalyzed 청크별 분석 결과를 받는 콜백
+     * @return 전체 GPT 분석 결과 리스트
+     */
+    List<GptSubtitleResponse> analyzeScript(List<TranscriptSegment> segments, Language language, Consumer<List<GptSubtitleResponse>> onBatchAnalyzed);
+
     LevelCheckResponse checkLevel(String wordLevel, String expressionLevel, String wordQuizResultString, String expressionResultString);
+
+    /**
+     * checkLevel 의 비동기 버전입니다. GPT 응답을 기다리는 동안 호출한 스레드를 점유하지 않습니다.
+     */
+    CompletableFuture<LevelCheckResponse> checkLevelAsync(String wordLevel, String expressionLevel, String wordQuizResultString, String expressionResultString);
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.mallang.mallang_backend.global.gpt.service.impl;
 
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
 import com.mallang.mallang_backend.global.gpt.service.GptPromptBuilder;
@@ -68,6 +70,68 @@ public class GptPromptBuilderImpl implements GptPromptBuilder {
             """, word);
 	}
 
+	/**
+	 * 여러 단어 일괄 검색용 프롬프트 생성
+	 */
+	@Override
+	public String buildPromptForSearchWords(List<String> words) {
+		return String.format("""
+            당신은 영어 단어를 분석하는 도우미입니다.
+            사용자가 여러 단어를 입력하면, 각 단어가 가질 수 있는 모든 품사와 해석을 제시하세요.
+            
+            각 항목은 다음 형식으로 출력하세요:
+            {입력된 단어} | {품사} | {해석} | {1~5 숫자} | {예문} | {예문 번역}
+            
+            예시:
+            light | 형용사 | 가벼운 | 1 | This bag is very light. | 이 가방은 매우 가볍다.
+            light | 명사 | 빛 | 1 | The light was too bright. | 빛이 너무 밝았다.
+            was | 동사 | ~이었다 | 1 | He was happy. | 그는 행복했다.
+            
+            조건:
+            - 첫 번째 항목에는 입력된 단어를 철자 그대로 출력.
+            - 난이도는 1~5 숫자 중 하나로 지정.
+            - 품사와 해석은 반드시 한국어로 작성.
+            - 예문은 해당 품사로 쓰인 실제 문장을 포함하세요.
+            - 예문의 한국어 번역도 반드시 포함하세요.
+            - 예문은 주어진 단어의 형태 그대로만 사용 (예: was -> The light was too bright.)
+            - 어형 변화가 있는 단어도 예문에서는 주어진 단어 그대로 사용 (예: ceases, existed, going 등)
+            - 입력된 모든 단어를 빠짐없이 출력하세요.
+            - 추가적인 설명 없이 위 형식으로만 출력하세요.
+            
+            입력된 단어: %s
+            """, String.join(", ", words));
+	}
+
+	/**
+	 * 여러 단어 일괄 검색용 프롬프트 생성
+	 */
+	@Override
+	public String buildPromptForSearchWordsJapanese(List<String> words) {
+		return String.format("""
+			あなたは日本語の単語を分析するアシスタントです。
+			ユーザーが複数の単語を入力すると、各単語が持つすべての品詞と意味を提示してください。
+			
+			各項目は以下の形式で出力してください:
+			{입력된 단어} | {품사} | {해석} | {1~5 숫자} | {예문 (해당 품사로 사용된 실제 문장)} | {예문 번역}
+			
+			例:
+			早い | 형용사 | 이른 | 1 | 朝は早い電車に乗った。| 아침에는 이른 전철을 탔다.
+			早い | 형용사 | 빠르다 | 2 | 会って話す方が早い。| 만나서 얘기하는 것이 빠르다.
+			
+			조건:
+			- 첫 번째 항목에는 입력된 단어를 그대로 출력
+			- 난이도는 1~5 숫자 중 하나로 지정 (1: 매우 쉬움, 5: 매우 어려움)
+			- 모든 품사와 의미는 한국어로 작성
+			- 예문은 해당 품사로 쓰인 실제 일본어 문장을 포함
+			- 예문은 입력된 단어의 형태 그대로만 사용
+			- 예문의 한국어 번역도 반드시 포함
+			- 입력된 모든 단어를 빠짐없이 출력
+			- 추가 설명 없이, 반드시 지정된 형식으로만 출력
+			
+			입력된 단어: %s
+            """, String.join("、", words));
+	}
+
 	/**
 	 * 문장 분석용 프롬프트 생성
 	 */
@@ -4,17 +4,38 @@ import static com.mallang.mallang_backend.global.common.Language.*;
 import static com.mallang.mallang_backend.global.exception.ErrorCode.*;
 import static com.mallang.mallang_backend.global.gpt.util.GptScriptProcessor.*;
 
-import java.util.Arrays;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mallang.mallang_backend.domain.dashboard.dto.LevelCheckResponse;
 import com.mallang.mallang_backend.domain.stt.converter.TranscriptSegment;
@@ -23,21 +44,33 @@ import com.mallang.mallang_backend.global.aop.monitor.MonitorExternalApi;
 import com.mallang.mallang_backend.global.common.Language;
 import com.mallang.mallang_backend.global.exception.ServiceException;
 import com.mallang.mallang_backend.global.exception.custom.RetryableException;
+import com.mallang.mallang_backend.global.gpt.cache.GptPromptType;
+import com.mallang.mallang_backend.global.gpt.cache.GptResponseCache;
 import com.mallang.mallang_backend.global.gpt.dto.GptSubtitleResponse;
 import com.mallang.mallang_backend.global.gpt.dto.KeywordInfo;
 import com.mallang.mallang_backend.global.gpt.dto.Message;
 import com.mallang.mallang_backend.global.gpt.dto.OpenAiRequest;
 import com.mallang.mallang_backend.global.gpt.dto.OpenAiResponse;
+import com.mallang.mallang_backend.global.gpt.limiter.OpenAiRateLimiter;
+import com.mallang.mallang_backend.global.gpt.routing.GptRoutingProperties;
 import com.mallang.mallang_backend.global.gpt.service.GptPromptBuilder;
 import com.mallang.mallang_backend.global.gpt.service.GptService;
 import com.mallang.mallang_backend.global.gpt.util.GptScriptProcessor;
+import com.mallang.mallang_backend.global.gpt.util.GptStreamingJsonParser;
+import com.mallang.mallang_backend.global.gpt.util.GptTokenEstimator;
+import com.mallang.mallang_backend.global.util.text.TextUtils;
 
-import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
@@ -48,6 +81,10 @@ public class GptServiceImpl implements GptService {
 	private final GptPromptBuilder gptPromptBuilder;
 	private final MeterRegistry meterRegistry;
 	private final ObjectMapper objectMapper;
+	private final Executor gptChunkExecutor;
+	private final OpenAiRateLimiter openAiRateLimiter;
+	private final GptResponseCache gptResponseCache;
+	private final GptRoutingProperties gptRoutingProperties;
 
 	private Counter gptCallCounter;
 
@@ -59,34 +96,141 @@ public class GptServiceImpl implements GptService {
 	@Value("${spring.ai.openai.api-key}")
 	private String openAiApiKey;
 
+	// 긴 스크립트를 청크 단위로 나누어 병렬 분석할지 여부
+	@Value("${gpt.script.chunk.enabled:false}")
+	private boolean chunkEnabled;
+
+	// 청크 하나에 담을 최대 예상 토큰 수
+	@Value("${gpt.script.chunk.max-tokens:1500}")
+	private int chunkMaxTokens;
+
+	// 청크별 최대 시도 횟수
+	@Value("${gpt.script.chunk.max-attempts:3}")
+	private int chunkMaxAttempts;
+
+	// 청크 재시도 대기 시간 (시도 횟수에 비례하여 증가)
+	@Value("${gpt.script.chunk.retry-backoff-ms:1000}")
+	private long chunkRetryBackoffMillis;
+
+	// 콜백을 받는 스크립트 분석에서 OpenAI 스트리밍 응답을 자막 단위로 바로 전달할지 여부
+	@Value("${gpt.script.stream.enabled:false}")
+	private boolean streamEnabled;
+
+	// 스트리밍으로 한 번에 보낼 스크립트의 최대 예상 토큰 수 (초과하면 청크 단위로 분석)
+	@Value("${gpt.script.stream.max-tokens:4000}")
+	private int streamMaxTokens;
+
+	// 스트리밍 중 콜백으로 한 번에 전달할 자막 수
+	@Value("${gpt.script.stream.batch-size:5}")
+	private int streamBatchSize;
+
+	// 스트리밍 응답 조각 사이의 최대 대기 시간
+	@Value("${gpt.script.stream.idle-timeout-ms:30000}")
+	private long streamIdleTimeoutMillis;
+
+	// 단어 검색/문장 분석의 최대 시도 횟수 (응답 검증/파싱 실패, 5xx, 시간 초과 시 재시도)
+	@Value("${gpt.call.max-attempts:3}")
+	private int callMaxAttempts;
+
+	// 단어 검색/문장 분석 재시도 대기 시간 (시도 횟수에 비례하여 증가)
+	@Value("${gpt.call.retry-backoff-ms:1000}")
+	private long callRetryBackoffMillis;
+
+	// 단어 일괄 검색 시 프롬프트 하나에 담을 최대 단어 수
+	@Value("${gpt.word.batch-size:20}")
+	private int wordBatchSize;
+
 	/**
-	 * 단어 검색: 5회 재시도, 1초 간격, 실패 시 fallbackSearchWord 호출
+	 * 단어 검색: 예문 검증/파싱 실패와 일시적인 호출 실패는 callMaxAttempts 회까지 재시도하고, 최종 실패 시 fallbackSearchWord 호출
+	 * 429 재시도는 호출 경로(WORD)의 retryWhen 에서만 처리합니다.
 	 */
-	@Retry(name = "apiRetry", fallbackMethod = "fallbackSearchWord")
 	@Override
 	public List<Word> searchWord(String word, Language language) {
-		String prompt;
-		if (language == ENGLISH) {
-			prompt = gptPromptBuilder.buildPromptForSearchWord(word);
-			return removeInvalidWord(getGptWordResult(prompt, word));
+		try {
+			String prompt;
+			if (language == ENGLISH) {
+				prompt = gptPromptBuilder.buildPromptForSearchWord(word);
+				return callWithRetry("searchWord", () -> callWithCache(GptPromptType.WORD, prompt,
+					response -> removeInvalidWord(parseGptWordResponse(response, word))));
+			}
+
+			if (language == JAPANESE) {
+				prompt = gptPromptBuilder.buildPromptForSearchWordJapanese(word);
+				return callWithRetry("searchWord", () -> callWithCache(GptPromptType.WORD, prompt,
+					response -> removeInvalidWordJapanese(parseGptWordResponse(response, word))));
+			}
+
+			throw new ServiceException(LANGUAGE_NOT_CONFIGURED);
+		} catch (RuntimeException e) {
+			return fallbackSearchWord(word, language, e);
 		}
+	}
 
+	/**
+	 * 단어 검색 (비동기): 재시도와 시간 제한은 Future 단위로 적용되며, 대기 중에는 스레드를 점유하지 않습니다.
+	 * 재시도 기준은 searchWord 와 같고, 실패하거나 시간을 넘기면 fallbackSearchWordAsync 호출
+	 */
+	@TimeLimiter(name = "gptTimeLimiter", fallbackMethod = "fallbackSearchWordAsync")
+	@Override
+	public CompletableFuture<List<Word>> searchWordAsync(String word, Language language) {
+		if (language == ENGLISH) {
+			String prompt = gptPromptBuilder.buildPromptForSearchWord(word);
+			return callWithRetryAsync("searchWordAsync", () -> callWithCacheAsync(GptPromptType.WORD, prompt,
+				response -> removeInvalidWord(parseGptWordResponse(response, word))));
+		}
 		if (language == JAPANESE) {
-			prompt = gptPromptBuilder.buildPromptForSearchWordJapanese(word);
-			return removeInvalidWordJapanese(getGptWordResult(prompt, word));
+			String prompt = gptPromptBuilder.buildPromptForSearchWordJapanese(word);
+			return callWithRetryAsync("searchWordAsync", () -> callWithCacheAsync(GptPromptType.WORD, prompt,
+				response -> removeInvalidWordJapanese(parseGptWordResponse(response, word))));
 		}
-
-		throw new ServiceException(LANGUAGE_NOT_CONFIGURED);
+		return CompletableFuture.failedFuture(new ServiceException(LANGUAGE_NOT_CONFIGURED));
 	}
 
-	private List<Word> getGptWordResult(String prompt, String word) {
-		OpenAiResponse response = callGptApi(prompt);
+	private List<Word> parseGptWordResponse(OpenAiResponse response, String word) {
 		validateResponse(response);
+		return parseGptResult(word, response.getChoices().get(0).getMessage().getContent());
+	}
 
-		String gptResult = response.getChoices().get(0).getMessage().getContent();
-		System.out.println("gptResult = " + gptResult);
+	/**
+	 * 여러 단어를 wordBatchSize 개씩 묶어 한 번의 GPT 호출로 검색합니다.
+	 * 묶음 단위로 실패하거나 예문 검증에 실패한 단어는 결과에서 제외됩니다.
+	 */
+	@Override
+	public Map<String, List<Word>> searchWords(List<String> words, Language language) {
+		if (language != ENGLISH && language != JAPANESE) {
+			throw new ServiceException(LANGUAGE_NOT_CONFIGURED);
+		}
 
-		return parseGptResult(word, gptResult);
+		Map<String, List<Word>> result = new LinkedHashMap<>();
+		for (int from = 0; from < words.size(); from += wordBatchSize) {
+			List<String> group = words.subList(from, Math.min(from + wordBatchSize, words.size()));
+			String prompt = language == ENGLISH
+				? gptPromptBuilder.buildPromptForSearchWords(group)
+				: gptPromptBuilder.buildPromptForSearchWordsJapanese(group);
+
+			try {
+				Map<String, List<Word>> parsed = callWithCache(GptPromptType.WORDS, prompt,
+					() -> callGptApi(prompt, GptPromptType.WORDS),
+					response -> {
+						validateResponse(response);
+						return parseGptBatchResult(group, response.getChoices().get(0).getMessage().getContent());
+					},
+					batch -> !batch.isEmpty());
+
+				parsed.forEach((word, generatedWords) -> {
+					try {
+						result.put(word, language == ENGLISH
+							? removeInvalidWord(generatedWords)
+							: removeInvalidWordJapanese(generatedWords));
+					} catch (ServiceException e) {
+						log.debug("[GptService] 단어 일괄 검색 예문 검증 실패: {}", word);
+					}
+				});
+			} catch (RuntimeException e) {
+				log.warn("[GptService] 단어 일괄 검색 실패, 묶음 제외: {}", group, e);
+			}
+		}
+		return result;
 	}
 
 	/**
@@ -103,7 +247,7 @@ public class GptServiceImpl implements GptService {
 			String exampleSentence = word.getExampleSentence();
 			String wordText = word.getWord().toLowerCase();
 			// 단어가 예문에 정확히 포함되는지 확인
-			if (!exampleSentence.toLowerCase().matches(".*\\b" + Pattern.quote(wordText.toLowerCase()) + "\\b.*")) {
+			if (!TextUtils.containsWord(exampleSentence, wordText)) {
 				throw new ServiceException(INVALID_WORD);
 			}
 		}
@@ -124,78 +268,359 @@ public class GptServiceImpl implements GptService {
 	}
 
 	/**
-	 * 재시도 소진 후 단어 검색 fallback 처리
+	 * 단어 검색 실패 시 fallback 처리
 	 */
 	private List<Word> fallbackSearchWord(String word, Language language, Throwable t) {
 		log.warn("[GptService] searchWord fallback 처리, 예외 무시하고 빈 리스트 반환: {}", t.toString());
 		return List.of();
 	}
 
+	private CompletableFuture<List<Word>> fallbackSearchWordAsync(String word, Language language, Throwable t) {
+		log.warn("[GptService] searchWordAsync fallback 처리, 예외 무시하고 빈 리스트 반환: {}", t.toString());
+		return CompletableFuture.completedFuture(List.of());
+	}
+
 	/**
-	 * 문장 분석: 5회 재시도, 1초 간격, 실패 시 fallbackAnalyzeSentence 호출
+	 * 문장 분석: 응답 검증 실패와 일시적인 호출 실패는 callMaxAttempts 회까지 재시도하고, 최종 실패 시 fallbackAnalyzeSentence 호출
+	 * 429 재시도는 호출 경로(SENTENCE)의 retryWhen 에서만 처리합니다.
 	 */
-	@Retry(name = "apiRetry", fallbackMethod = "fallbackAnalyzeSentence")
 	@Override
 	public String analyzeSentence(String sentence, String translatedSentence, Language language) {
-		if (language == ENGLISH) {
-			String prompt = gptPromptBuilder.buildPromptForAnalyzeSentence(sentence, translatedSentence);
-			return getGptSentenceResult(prompt);
+		try {
+			if (language == ENGLISH) {
+				String prompt = gptPromptBuilder.buildPromptForAnalyzeSentence(sentence, translatedSentence);
+				return getGptSentenceResult(prompt);
+			}
+			if (language == JAPANESE) {
+				String prompt = gptPromptBuilder.buildPromptForAnalyzeSentenceJapanese(sentence, translatedSentence);
+				return getGptSentenceResult(prompt);
+			}
+			throw new ServiceException(LANGUAGE_NOT_CONFIGURED);
+		} catch (RuntimeException e) {
+			return fallbackAnalyzeSentence(sentence, translatedSentence, language, e);
 		}
-		if (language == JAPANESE) {
-			String prompt = gptPromptBuilder.buildPromptForAnalyzeSentenceJapanese(sentence, translatedSentence);
-			return getGptSentenceResult(prompt);
+	}
+
+	/**
+	 * 문장 분석 (비동기): 재시도와 시간 제한은 Future 단위로 적용되며, 대기 중에는 스레드를 점유하지 않습니다.
+	 * 재시도 기준은 analyzeSentence 와 같고, 실패하거나 시간을 넘기면 fallbackAnalyzeSentenceAsync 호출
+	 */
+	@TimeLimiter(name = "gptTimeLimiter", fallbackMethod = "fallbackAnalyzeSentenceAsync")
+	@Override
+	public CompletableFuture<String> analyzeSentenceAsync(String sentence, String translatedSentence, Language language) {
+		String prompt;
+		if (language == ENGLISH) {
+			prompt = gptPromptBuilder.buildPromptForAnalyzeSentence(sentence, translatedSentence);
+		} else if (language == JAPANESE) {
+			prompt = gptPromptBuilder.buildPromptForAnalyzeSentenceJapanese(sentence, translatedSentence);
+		} else {
+			return CompletableFuture.failedFuture(new ServiceException(LANGUAGE_NOT_CONFIGURED));
 		}
-		throw new ServiceException(LANGUAGE_NOT_CONFIGURED);
+		return callWithRetryAsync("analyzeSentenceAsync",
+			() -> callWithCacheAsync(GptPromptType.SENTENCE, prompt, this::extractSentenceResult));
 	}
 
 	private String getGptSentenceResult(String prompt) {
-		OpenAiResponse response = callGptApi(prompt);
+		return callWithRetry("analyzeSentence", () -> callWithCache(GptPromptType.SENTENCE, prompt, this::extractSentenceResult));
+	}
+
+	private String extractSentenceResult(OpenAiResponse response) {
 		validateResponse(response);
 		return response.getChoices().get(0).getMessage().getContent();
 	}
 
 
 	/**
-	 * 재시도 소진 후 문장 분석 fallback 처리
+	 * 문장 분석 실패 시 fallback 처리
 	 */
 	private String fallbackAnalyzeSentence(String sentence, String translatedSentence, Language language, Throwable t) {
 		log.error("[GptService] analyzeSentence fallback 처리, 예외: {}", t.getMessage());
 		throw new ServiceException(API_ERROR);
 	}
 
+	private CompletableFuture<String> fallbackAnalyzeSentenceAsync(String sentence, String translatedSentence, Language language, Throwable t) {
+		log.error("[GptService] analyzeSentenceAsync fallback 처리, 예외: {}", t.getMessage());
+		return CompletableFuture.failedFuture(new ServiceException(API_ERROR));
+	}
+
 	/**
-	 * 스크립트 분석: 5회 재시도, 1초 간격, 실패 시 fallbackAnalyzeScript 호출
+	 * 스크립트 분석: 실패한 청크(청크 모드가 아니면 스크립트 전체)만 chunkMaxAttempts 회까지 재시도하고, 최종 실패 시 API_ERROR 예외가 발생합니다.
+	 * 한 청크의 실패로 이미 성공한 청크를 다시 분석하지 않도록 메서드 단위 재시도는 하지 않습니다.
 	 */
-	@Retry(name = "gptRetry", fallbackMethod = "fallbackAnalyzeScript")
 	@Override
 	public List<GptSubtitleResponse> analyzeScript(List<TranscriptSegment> segments, Language language) {
-		// prompt 생성
-		String script = GptScriptProcessor.prepareScriptInputText(segments);
-		String prompt;
+		try {
+			return analyzeScriptByLanguage(segments, language, chunkEnabled, false, batch -> {});
+		} catch (RuntimeException e) {
+			log.error("[GptService] analyzeScript 실패, 예외: {}", e.getMessage());
+			throw new ServiceException(API_ERROR);
+		}
+	}
+
+	/**
+	 * 이미 전달된 청크가 중복 전달되지 않도록 전체 재시도는 하지 않고, 청크 단위로만 재시도합니다.
+	 */
+	@Override
+	public List<GptSubtitleResponse> analyzeScript(List<TranscriptSegment> segments, Language language, Consumer<List<GptSubtitleResponse>> onBatchAnalyzed) {
+		return analyzeScriptByLanguage(segments, language, true, streamEnabled, onBatchAnalyzed);
+	}
 
+	private List<GptSubtitleResponse> analyzeScriptByLanguage(List<TranscriptSegment> segments, Language language,
+		boolean chunked, boolean streamed, Consumer<List<GptSubtitleResponse>> onBatchAnalyzed) {
 		if (language == ENGLISH) {
-			prompt = gptPromptBuilder.buildPromptForAnalyzeScript(script);
-			return removeInvalidKeyword(getGptScriptResult(prompt, segments));
+			return analyzeScriptByPrompt(segments, chunked, streamed, gptPromptBuilder::buildPromptForAnalyzeScript, this::removeInvalidKeyword, onBatchAnalyzed);
 		}
 		if (language == JAPANESE) {
-			prompt = gptPromptBuilder.buildPromptForAnalyzeScriptJapanese(script);
-			return removeInvalidKeywordJapanese(getGptScriptResult(prompt, segments));
+			return analyzeScriptByPrompt(segments, chunked, streamed, gptPromptBuilder::buildPromptForAnalyzeScriptJapanese, this::removeInvalidKeywordJapanese, onBatchAnalyzed);
 		}
 
 		// 회원의 언어가 영상 분석이 불가능한 경우
 		throw new ServiceException(LANGUAGE_NOT_CONFIGURED);
 	}
 
+	/**
+	 * 스크립트를 분석합니다.
+	 * 스트리밍 모드이고 스크립트가 streamMaxTokens 이하이면 한 번의 스트리밍 호출로 자막 단위로 전달합니다.
+	 * 청크 모드이고 스크립트가 한 청크를 넘으면 청크 단위로 병렬 분석 후 순서대로 합칩니다.
+	 *
+	 * @param segments 분석할 자막 세그먼트 리스트
+	 * @param chunked 청크 단위 분석 여부
+	 * @param streamed 스트리밍 분석 여부
+	 * @param promptBuilder 스크립트 문자열로 언어별 프롬프트를 생성하는 함수
+	 * @param keywordFilter 언어별 유효하지 않은 키워드 제거 함수
+	 * @param onBatchAnalyzed 청크별 분석 결과를 받는 콜백
+	 * @return 세그먼트 순서대로 정렬된 GPT 분석 결과
+	 */
+	private List<GptSubtitleResponse> analyzeScriptByPrompt(List<TranscriptSegment> segments, boolean chunked, boolean streamed,
+		Function<String, String> promptBuilder, UnaryOperator<List<GptSubtitleResponse>> keywordFilter,
+		Consumer<List<GptSubtitleResponse>> onBatchAnalyzed) {
+		if (segments.isEmpty()) {
+			return List.of();
+		}
+		if (streamed && GptTokenEstimator.estimate(GptScriptProcessor.prepareScriptInputText(segments)) <= streamMaxTokens) {
+			return analyzeScriptStreaming(segments, promptBuilder, keywordFilter, onBatchAnalyzed);
+		}
+		if (chunked) {
+			List<List<TranscriptSegment>> chunks = GptScriptProcessor.splitIntoChunks(segments, chunkMaxTokens);
+			if (chunks.size() > 1) {
+				return analyzeChunks(chunks, promptBuilder, keywordFilter, onBatchAnalyzed);
+			}
+		}
+
+		List<GptSubtitleResponse> result = keywordFilter.apply(analyzeChunkWithRetry(segments, promptBuilder));
+		onBatchAnalyzed.accept(result);
+		return result;
+	}
+
+	/**
+	 * 스크립트 분석 응답을 OpenAI 스트리밍으로 받아, 자막 하나의 JSON 객체가 닫힐 때마다 세그먼트와 합쳐
+	 * streamBatchSize 개씩 콜백으로 전달합니다. 콜백은 호출한 스레드에서 실행됩니다.
+	 * 스트림이 중간에 실패하면 이미 완성된 자막까지 전달하고, 남은 세그먼트만 일반 호출로 다시 분석합니다.
+	 */
+	private List<GptSubtitleResponse> analyzeScriptStreaming(List<TranscriptSegment> segments, Function<String, String> promptBuilder,
+		UnaryOperator<List<GptSubtitleResponse>> keywordFilter, Consumer<List<GptSubtitleResponse>> onBatchAnalyzed) {
+		String prompt = promptBuilder.apply(GptScriptProcessor.prepareScriptInputText(segments));
+
+		List<GptSubtitleResponse> results = new ArrayList<>();
+		List<GptSubtitleResponse> pending = new ArrayList<>();
+		AtomicInteger parsedCount = new AtomicInteger();
+		GptStreamingJsonParser parser = new GptStreamingJsonParser(objectMapper, block -> {
+			int index = parsedCount.getAndIncrement();
+			if (index < segments.size()) {
+				pending.add(GptScriptProcessor.toSubtitleResponse(block, segments.get(index)));
+			}
+		});
+
+		StringBuilder content = new StringBuilder();
+		RuntimeException streamFailure = null;
+		try {
+			Iterator<String> deltas = streamGptContent(prompt).toIterable().iterator();
+			while (deltas.hasNext()) {
+				String delta = deltas.next();
+				content.append(delta);
+				parser.feed(delta);
+				if (pending.size() >= streamBatchSize) {
+					flushStreamedBatch(pending, keywordFilter, onBatchAnalyzed, results);
+				}
+			}
+			if (!parser.isComplete()) {
+				streamFailure = new ServiceException(GPT_RESPONSE_PARSE_FAIL);
+			}
+		} catch (ServiceException e) {
+			streamFailure = e;
+		}
+		flushStreamedBatch(pending, keywordFilter, onBatchAnalyzed, results);
+
+		if (streamFailure == null) {
+			gptResponseCache.put(modelOf(GptPromptType.SCRIPT), GptPromptType.SCRIPT, prompt, new OpenAiResponse(
+				List.of(new OpenAiResponse.Choice(new Message("assistant", content.toString()))), null));
+			return results;
+		}
+
+		int analyzed = Math.min(parsedCount.get(), segments.size());
+		log.warn("[GptService] 스크립트 스트리밍 분석 중단 - 완료 세그먼트: {}/{}, 예외: {}",
+			analyzed, segments.size(), streamFailure.getMessage());
+		if (analyzed < segments.size()) {
+			List<GptSubtitleResponse> rest = keywordFilter.apply(
+				analyzeChunkWithRetry(segments.subList(analyzed, segments.size()), promptBuilder));
+			onBatchAnalyzed.accept(rest);
+			results.addAll(rest);
+		}
+		return results;
+	}
+
+	private void flushStreamedBatch(List<GptSubtitleResponse> pending, UnaryOperator<List<GptSubtitleResponse>> keywordFilter,
+		Consumer<List<GptSubtitleResponse>> onBatchAnalyzed, List<GptSubtitleResponse> results) {
+		if (pending.isEmpty()) {
+			return;
+		}
+		List<GptSubtitleResponse> batch = keywordFilter.apply(new ArrayList<>(pending));
+		pending.clear();
+		onBatchAnalyzed.accept(batch);
+		results.addAll(batch);
+	}
+
+	/**
+	 * 청크들을 gptChunkExecutor 에서 동시에 분석하고, 청크 순서대로 결과를 전달하고 합칩니다.
+	 */
+	private List<GptSubtitleResponse> analyzeChunks(List<List<TranscriptSegment>> chunks, Function<String, String> promptBuilder,
+		UnaryOperator<List<GptSubtitleResponse>> keywordFilter, Consumer<List<GptSubtitleResponse>> onBatchAnalyzed) {
+		log.debug("[GptService] 스크립트 청크 분석 시작 - 청크 수: {}", chunks.size());
+
+		List<CompletableFuture<List<GptSubtitleResponse>>> futures = chunks.stream()
+			.map(chunk -> CompletableFuture.supplyAsync(() -> analyzeChunkWithRetry(chunk, promptBuilder), gptChunkExecutor))
+			.toList();
+
+		List<GptSubtitleResponse> results = new ArrayList<>();
+		try {
+			for (CompletableFuture<List<GptSubtitleResponse>> future : futures) {
+				List<GptSubtitleResponse> batch = keywordFilter.apply(future.join());
+				onBatchAnalyzed.accept(batch);
+				results.addAll(batch);
+			}
+		} catch (CompletionException e) {
+			futures.forEach(future -> future.cancel(true));
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new ServiceException(GPT_API_CALL_FAILED, e.getCause());
+		} catch (RuntimeException e) {
+			futures.forEach(future -> future.cancel(true));
+			throw e;
+		}
+		return results;
+	}
+
+	/**
+	 * 청크 하나를 분석합니다. 실패하거나 파싱 결과가 비어 있으면 해당 청크만 재시도합니다.
+	 * 429 는 호출 경로의 retryWhen 에서만 재시도하므로, 재시도를 소진한 경우(GPT_RATE_LIMIT_TIMEOUT)는 다시 시도하지 않습니다.
+	 */
+	private List<GptSubtitleResponse> analyzeChunkWithRetry(List<TranscriptSegment> chunk, Function<String, String> promptBuilder) {
+		String prompt = promptBuilder.apply(GptScriptProcessor.prepareScriptInputText(chunk));
+		int maxAttempts = Math.max(1, chunkMaxAttempts);
+		RuntimeException lastException = null;
+
+		for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+			try {
+				List<GptSubtitleResponse> result = getGptScriptResult(prompt, chunk);
+				if (!result.isEmpty()) {
+					return result;
+				}
+				lastException = new ServiceException(GPT_RESPONSE_PARSE_FAIL);
+			} catch (ServiceException e) {
+				if (!isRetryable(e)) {
+					throw e;
+				}
+				lastException = e;
+			}
+
+			log.warn("[GptService] 스크립트 청크 분석 실패 ({}/{}) - 세그먼트 수: {}, 예외: {}",
+				attempt, maxAttempts, chunk.size(), lastException.getMessage());
+			if (attempt < maxAttempts) {
+				sleepBeforeRetry(chunkRetryBackoffMillis, attempt);
+			}
+		}
+		throw lastException;
+	}
+
+	/**
+	 * 응답 검증/파싱 실패, 5xx, 시간 초과처럼 다시 호출하면 성공할 수 있는 실패만 callMaxAttempts 회까지 재시도합니다.
+	 */
+	private <T> T callWithRetry(String name, Supplier<T> call) {
+		int maxAttempts = Math.max(1, callMaxAttempts);
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return call.get();
+			} catch (RuntimeException e) {
+				if (attempt >= maxAttempts || !isRetryable(e)) {
+					throw e;
+				}
+				log.warn("[GptService] {} 실패 ({}/{}), 재시도 - 예외: {}", name, attempt, maxAttempts, e.getMessage());
+				sleepBeforeRetry(callRetryBackoffMillis, attempt);
+			}
+		}
+	}
+
+	/**
+	 * callWithRetry 의 비동기 버전입니다. 재시도 대기 중에는 스레드를 점유하지 않습니다.
+	 */
+	private <T> CompletableFuture<T> callWithRetryAsync(String name, Supplier<CompletableFuture<T>> call) {
+		return callWithRetryAsync(name, call, 1);
+	}
+
+	private <T> CompletableFuture<T> callWithRetryAsync(String name, Supplier<CompletableFuture<T>> call, int attempt) {
+		CompletableFuture<T> future;
+		try {
+			future = call.get();
+		} catch (RuntimeException e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+
+		int maxAttempts = Math.max(1, callMaxAttempts);
+		return future.exceptionallyCompose(e -> {
+			Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			if (attempt >= maxAttempts || !isRetryable(cause)) {
+				return CompletableFuture.failedFuture(cause);
+			}
+			log.warn("[GptService] {} 실패 ({}/{}), 재시도 - 예외: {}", name, attempt, maxAttempts, cause.getMessage());
+			Executor delayed = CompletableFuture.delayedExecutor(callRetryBackoffMillis * attempt, TimeUnit.MILLISECONDS);
+			return CompletableFuture.runAsync(() -> {}, delayed)
+				.thenCompose(ignored -> callWithRetryAsync(name, call, attempt + 1));
+		});
+	}
+
+	/**
+	 * 429 는 호출 경로의 retryWhen 에서만 재시도하므로, 재시도를 소진한 경우(GPT_RATE_LIMIT_TIMEOUT)는 다시 시도하지 않습니다.
+	 */
+	private boolean isRetryable(Throwable e) {
+		if (e instanceof ServiceException serviceException) {
+			return serviceException.getErrorCode() != GPT_RATE_LIMIT_TIMEOUT
+				&& serviceException.getErrorCode() != LANGUAGE_NOT_CONFIGURED;
+		}
+		return !(e instanceof RetryableException);
+	}
+
+	private void sleepBeforeRetry(long backoffMillis, int attempt) {
+		try {
+			Thread.sleep(backoffMillis * attempt);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ServiceException(GPT_API_CALL_FAILED, e);
+		}
+	}
+
 	private List<GptSubtitleResponse> getGptScriptResult(String prompt, List<TranscriptSegment> segments) {
-		OpenAiResponse response = callGptApi(prompt);
-		validateResponse(response);
+		// 파싱 결과가 비어 있으면 재시도 시 다시 GPT 를 호출하도록 캐시하지 않음
+		return callWithCache(GptPromptType.SCRIPT, prompt, () -> callGptApi(prompt, GptPromptType.SCRIPT), response -> {
+			validateResponse(response);
 
-		// GPT 응답 추출
-		String content = response.getChoices().get(0).getMessage().getContent();
-		System.out.println("content = " + content);
+			// GPT 응답 추출
+			String content = response.getChoices().get(0).getMessage().getContent();
+			log.debug("[GptService] GPT 응답 결과:\n{}", content);
 
-		// 응답 파싱
-		return GptScriptProcessor.parseAnalysisResult(content, segments);
+			// 응답 파싱
+			return GptScriptProcessor.parseAnalysisResult(content, segments);
+		}, result -> !result.isEmpty());
 	}
 
 	/**
@@ -220,13 +645,13 @@ public class GptServiceImpl implements GptService {
 		return responses.stream()
 			.peek(response -> {
 				// original 문장을 띄어쓰기로 나누어 Set에 담음
-				Set<String> originalWords = Arrays.stream(response.getOriginal().split("\\s+"))
-					.map(word -> word.replaceAll("[^a-zA-Z]", "").toLowerCase()) // 문장부호 제거, 소문자화
+				Set<String> originalWords = TextUtils.splitByWhitespace(response.getOriginal()).stream()
+					.map(TextUtils::lettersOnlyLowerCase) // 문장부호 제거, 소문자화
 					.collect(Collectors.toSet());
 
 				List<KeywordInfo> validKeywords = response.getKeywords().stream()
 					.filter(keyword -> {
-						String word = keyword.getWord().replaceAll("[^a-zA-Z]", "").toLowerCase();
+						String word = TextUtils.lettersOnlyLowerCase(keyword.getWord());
 						return originalWords.contains(word);
 					})
 					.toList();
@@ -255,7 +680,20 @@ public class GptServiceImpl implements GptService {
 		String prompt = gptPromptBuilder.buildPromptForLevelTestScript(wordLevel, expressionLevel, wordQuizResultString, expressionResultString);
 
 		// GPT 호출
-		OpenAiResponse response = callGptApi(prompt);
+		return callWithCache(GptPromptType.LEVEL_CHECK, prompt, this::parseLevelCheckResponse);
+	}
+
+	/**
+	 * 레벨 측정 (비동기): 시간 제한은 Future 단위로 적용되며, 대기 중에는 스레드를 점유하지 않습니다.
+	 */
+	@TimeLimiter(name = "gptTimeLimiter")
+	@Override
+	public CompletableFuture<LevelCheckResponse> checkLevelAsync(String wordLevel, String expressionLevel, String wordQuizResultString, String expressionResultString) {
+		String prompt = gptPromptBuilder.buildPromptForLevelTestScript(wordLevel, expressionLevel, wordQuizResultString, expressionResultString);
+		return callWithCacheAsync(GptPromptType.LEVEL_CHECK, prompt, this::parseLevelCheckResponse);
+	}
+
+	private LevelCheckResponse parseLevelCheckResponse(OpenAiResponse response) {
 		validateResponse(response);
 
 		String content = response.getChoices().get(0).getMessage().getContent();
@@ -270,14 +708,6 @@ public class GptServiceImpl implements GptService {
 		return new LevelCheckResponse(newWordLevel, newExpressionLevel);
 	}
 
-	/**
-	 * 재시도 소진 후 스크립트(대본) 분석 fallback 처리
-	 */
-	private List<GptSubtitleResponse> fallbackAnalyzeScript(List<TranscriptSegment> segments, Language language, Throwable t) {
-		log.error("[GptService] analyzeScript fallback 처리, 예외: {}", t.getMessage());
-		throw new ServiceException(API_ERROR);
-	}
-
 	/**
 	 * OpenAI API 호출 및 응답 유효성 검증 후 응답 내용 반환
 	 *
@@ -291,49 +721,229 @@ public class GptServiceImpl implements GptService {
 		return content;
 	}
 
+	private <T> T callWithCache(GptPromptType type, String prompt, Function<OpenAiResponse, T> handler) {
+		return callWithCache(type, prompt, () -> callGptApi(prompt, type), handler, result -> true);
+	}
+
+	/**
+	 * 같은 프롬프트의 응답이 캐시에 있으면 GPT 를 호출하지 않고 사용합니다.
+	 * 새로 받은 응답은 handler(검증/파싱)가 성공하고 cacheable 을 만족할 때만 캐시에 저장합니다.
+	 *
+	 * @param type      프롬프트 종류 (종류별 캐시 TTL 적용)
+	 * @param prompt    프롬프트
+	 * @param call      캐시에 없을 때 GPT 를 호출하는 함수
+	 * @param handler   GPT 응답 검증 및 파싱 함수
+	 * @param cacheable 파싱 결과를 캐시에 저장할지 여부
+	 */
+	private <T> T callWithCache(GptPromptType type, String prompt, Supplier<OpenAiResponse> call,
+		Function<OpenAiResponse, T> handler, Predicate<T> cacheable) {
+		Optional<OpenAiResponse> cached = gptResponseCache.get(modelOf(type), type, prompt);
+		if (cached.isPresent()) {
+			return handler.apply(cached.get());
+		}
+
+		OpenAiResponse response = call.get();
+		T result = handler.apply(response);
+		if (cacheable.test(result)) {
+			gptResponseCache.put(modelOf(type), type, prompt, response);
+		}
+		return result;
+	}
+
+	/**
+	 * callWithCache 의 비동기 버전입니다.
+	 */
+	private <T> CompletableFuture<T> callWithCacheAsync(GptPromptType type, String prompt, Function<OpenAiResponse, T> handler) {
+		Optional<OpenAiResponse> cached = gptResponseCache.get(modelOf(type), type, prompt);
+		if (cached.isPresent()) {
+			return CompletableFuture.completedFuture(cached.get()).thenApply(handler);
+		}
+
+		return callGptApiAsync(prompt, type)
+			.thenApply(response -> {
+				T result = handler.apply(response);
+				gptResponseCache.put(modelOf(type), type, prompt, response);
+				return result;
+			});
+	}
+
 	/**
-	 * GPT API 호출
+	 * GPT API 호출 (기본 경로 설정)
 	 */
 	@MonitorExternalApi(name = "openai")
-	@Retry(name = "gptRetry", fallbackMethod = "gptFallback")
 	public OpenAiResponse callGptApi(String prompt) {
+		return callGptApi(prompt, "DEFAULT", gptRoutingProperties.getDefaults());
+	}
+
+	/**
+	 * GPT API 호출 (호출 종류별 경로 설정)
+	 */
+	public OpenAiResponse callGptApi(String prompt, GptPromptType type) {
+		return callGptApi(prompt, type.name(), gptRoutingProperties.routeOf(type));
+	}
+
+	private OpenAiResponse callGptApi(String prompt, String routeName, GptRoutingProperties.Route route) {
 		try {
-			log.debug("[GptService] 요청할 프롬프트:\n{}", prompt);
+			return requestGpt(prompt, routeName, route).block();
+		} catch (RuntimeException e) {
+			throw toServiceException(e);
+		}
+	}
+
+	/**
+	 * GPT API 비동기 호출
+	 * 응답을 기다리는 동안 스레드를 점유하지 않으며, 호출 한도 대기가 필요한 경우에만 boundedElastic 스레드에서 대기합니다.
+	 */
+	public CompletableFuture<OpenAiResponse> callGptApiAsync(String prompt, GptPromptType type) {
+		return requestGpt(prompt, type.name(), gptRoutingProperties.routeOf(type))
+			.onErrorMap(this::toServiceException)
+			.toFuture();
+	}
+
+	/**
+	 * 예상 토큰 수만큼 호출 한도 확보. 한도 대기와 Redis 호출이 블로킹이므로 boundedElastic 스레드에서 실행합니다.
+	 */
+	private Mono<Long> acquireTokens(String prompt, GptRoutingProperties.Route route) {
+		if (!openAiRateLimiter.isEnabled()) {
+			return Mono.just(0L);
+		}
+		return Mono.fromCallable(() -> openAiRateLimiter.acquire(GptTokenEstimator.estimate(prompt), route.getPriority()))
+			.subscribeOn(Schedulers.boundedElastic());
+	}
+
+	/**
+	 * 응답의 실제 사용량으로 호출 한도 보정. 응답을 받는 이벤트 루프 스레드에서 Redis 를 호출하지 않도록 boundedElastic 스레드에서 실행합니다.
+	 */
+	private Mono<Void> reconcileTokens(long acquiredTokens, long actualTokens) {
+		if (acquiredTokens <= 0) {
+			return Mono.empty();
+		}
+		return Mono.fromRunnable(() -> openAiRateLimiter.reconcile(acquiredTokens, actualTokens))
+			.subscribeOn(Schedulers.boundedElastic())
+			.then();
+	}
 
-			OpenAiResponse response = openAiWebClient.post()
+	/**
+	 * 경로 설정의 모델, 최대 토큰으로 요청하고 시간 제한과 429 재시도를 적용합니다.
+	 * 호출 한도는 시도마다 예상 토큰 수만큼 새로 확보하고 응답의 실제 사용량으로 보정하므로, 429 재시도도 호출 한도 대기를 거칩니다.
+	 * 시간 제한은 시도마다 적용되며, 응답 시간은 재시도를 포함해 경로별 gpt_request_duration_seconds 히스토그램으로 기록합니다.
+	 */
+	private Mono<OpenAiResponse> requestGpt(String prompt, String routeName, GptRoutingProperties.Route route) {
+		log.debug("[GptService] 요청할 프롬프트 ({}):\n{}", routeName, prompt);
+
+		return Mono.defer(() -> {
+			Timer.Sample sample = Timer.start(meterRegistry);
+			return acquireTokens(prompt, route)
+				.flatMap(acquiredTokens -> openAiWebClient.post()
+					.header("Authorization", "Bearer " + openAiApiKey)
+					.bodyValue(buildRequestBody(prompt, route))
+					.retrieve()
+					.onStatus(
+						status -> status.is4xxClientError() || status.is5xxServerError(),
+						this::toGptException
+					)
+					.bodyToMono(OpenAiResponse.class)
+					.timeout(route.getTimeout())
+					.flatMap(response -> response.getUsage() == null
+						? Mono.just(response)
+						: reconcileTokens(acquiredTokens, response.getUsage().getTotal_tokens()).thenReturn(response)))
+				.retryWhen(reactor.util.retry.Retry.backoff(Math.max(0, route.getMaxAttempts() - 1), route.getRetryBackoff())
+					.filter(RetryableException.class::isInstance)
+					.onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+				.doFinally(signal -> recordLatency(sample, routeName, route.getModel(), signal));
+		});
+	}
+
+	/**
+	 * GPT API 스트리밍 호출 (stream=true)
+	 * 응답 SSE 조각에서 choices[0].delta.content 만 꺼내 순서대로 전달하고, 마지막 조각의 usage 로 호출 한도를 보정합니다.
+	 * 호출 한도 확보와 보정은 블로킹이므로 이벤트 루프가 아닌 boundedElastic 스레드에서 실행합니다.
+	 */
+	private Flux<String> streamGptContent(String prompt) {
+		GptRoutingProperties.Route route = gptRoutingProperties.routeOf(GptPromptType.SCRIPT);
+		log.debug("[GptService] 스트리밍 요청할 프롬프트:\n{}", prompt);
+
+		return acquireTokens(prompt, route).flatMapMany(acquiredTokens -> {
+			AtomicLong usedTokens = new AtomicLong(-1);
+			Timer.Sample sample = Timer.start(meterRegistry);
+			return openAiWebClient.post()
 				.header("Authorization", "Bearer " + openAiApiKey)
-				.bodyValue(buildRequestBody(prompt))
+				.accept(MediaType.TEXT_EVENT_STREAM)
+				.bodyValue(OpenAiRequest.streaming(route.getModel(), new Message[]{new Message("user", prompt)},
+					route.getMaxTokens(), route.getTemperature()))
 				.retrieve()
 				.onStatus(
 					status -> status.is4xxClientError() || status.is5xxServerError(),
-					clientResponse -> clientResponse.bodyToMono(String.class)
-						.map(body -> {
-							log.error("[GptService] GPT API 호출 실패. 상태: {}, 응답: {}", clientResponse.statusCode(), body);
-							if (clientResponse.statusCode() == HttpStatus.TOO_MANY_REQUESTS) {
-								return new RetryableException("OpenAI 분당 토큰이 3만 토큰을 초과했습니다.");
-							}
-							return new ServiceException(GPT_API_CALL_FAILED);
-						})
+					this::toGptException
 				)
-				.bodyToMono(OpenAiResponse.class)
-				.block();
+				.bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+				.timeout(Duration.ofMillis(streamIdleTimeoutMillis))
+				.mapNotNull(ServerSentEvent::data)
+				.takeWhile(data -> !"[DONE]".equals(data))
+				.<String>handle((data, sink) -> {
+					try {
+						JsonNode chunk = objectMapper.readTree(data);
+						JsonNode totalTokens = chunk.path("usage").path("total_tokens");
+						if (totalTokens.isNumber()) {
+							usedTokens.set(totalTokens.asLong());
+						}
+						JsonNode delta = chunk.path("choices").path(0).path("delta").path("content");
+						if (delta.isTextual()) {
+							sink.next(delta.asText());
+						}
+					} catch (JsonProcessingException e) {
+						sink.error(new ServiceException(GPT_RESPONSE_PARSE_FAIL, e));
+					}
+				})
+				.concatWith(Mono.defer(() -> usedTokens.get() < 0
+					? Mono.<String>empty()
+					: reconcileTokens(acquiredTokens, usedTokens.get()).then(Mono.<String>empty())))
+				.doFinally(signal -> recordLatency(sample, "SCRIPT_STREAM", route.getModel(), signal));
+		})
+			.onErrorMap(this::toServiceException);
+	}
 
-			return response;
-		} catch (Exception e) {
-			if (e instanceof RetryableException) {
-				throw e; // 그대로 던지면 Retry가 작동함
-			}
-			throw new ServiceException(GPT_API_CALL_FAILED, e);
-		}
+	private void recordLatency(Timer.Sample sample, String routeName, String model, SignalType signal) {
+		String outcome = switch (signal) {
+			case ON_COMPLETE -> "success";
+			case CANCEL -> "cancel";
+			default -> "error";
+		};
+		sample.stop(Timer.builder("gpt_request_duration_seconds")
+			.description("GPT 호출 경로별 응답 시간")
+			.tags("route", routeName, "model", model, "outcome", outcome)
+			.publishPercentileHistogram()
+			.register(meterRegistry));
+	}
+
+	private String modelOf(GptPromptType type) {
+		return gptRoutingProperties.routeOf(type).getModel();
+	}
+
+	private Mono<Throwable> toGptException(ClientResponse clientResponse) {
+		return clientResponse.bodyToMono(String.class)
+			.map(body -> {
+				log.error("[GptService] GPT API 호출 실패. 상태: {}, 응답: {}", clientResponse.statusCode(), body);
+				if (clientResponse.statusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+					return new RetryableException("OpenAI 분당 토큰이 3만 토큰을 초과했습니다.");
+				}
+				return new ServiceException(GPT_API_CALL_FAILED);
+			});
 	}
 
 	/**
-	 * OpenAI 분당 토큰 초과 실패로 인한 재시도 실패 후 처리
+	 * GPT 호출 실패를 서비스 예외로 바꿉니다.
+	 * OpenAI 분당 토큰 초과(429)로 경로별 재시도까지 실패한 경우 GPT_RATE_LIMIT_TIMEOUT, 그 외에는 GPT_API_CALL_FAILED 로 바꿉니다.
 	 */
-	public OpenAiResponse gptFallback(Exception ex) {
-		// 재시도 실패 후 처리
-		log.error("GPT 재시도 실패: {}", ex.getMessage());
-		throw new ServiceException(GPT_API_CALL_FAILED);
+	private ServiceException toServiceException(Throwable e) {
+		if (e instanceof ServiceException serviceException) {
+			return serviceException;
+		}
+		if (e instanceof RetryableException) {
+			log.error("[GptService] GPT 429 재시도 실패: {}", e.getMessage());
+			return new ServiceException(GPT_RATE_LIMIT_TIMEOUT, e);
+		}
+		return new ServiceException(GPT_API_CALL_FAILED, e);
 	}
 
 	/**
@@ -349,10 +959,12 @@ public class GptServiceImpl implements GptService {
 	/**
 	 * GPT API 요청을 위한 OpenAiRequest 객체를 생성.
 	 */
-	private OpenAiRequest buildRequestBody(String prompt) {
+	private OpenAiRequest buildRequestBody(String prompt, GptRoutingProperties.Route route) {
 		return new OpenAiRequest(
-			"gpt-4o",
-			new Message[]{new Message("user", prompt)}
+			route.getModel(),
+			new Message[]{new Message("user", prompt)},
+			route.getMaxTokens(),
+			route.getTemperature()
 		);
 	}
 }
\ No newline at end of file
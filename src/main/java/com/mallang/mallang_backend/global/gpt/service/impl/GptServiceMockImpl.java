@@ -13,14 +13,17 @@ import com.mallang.mallang_backend.global.gpt.dto.OpenAiResponse;
 import com.mallang.mallang_backend.global.gpt.service.GptPromptBuilder;
 import com.mallang.mallang_backend.global.gpt.service.GptService;
 import com.mallang.mallang_backend.global.gpt.util.GptScriptProcessor;
-import io.github.resilience4j.retry.annotation.Retry;
+import com.mallang.mallang_backend.global.util.text.TextUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static com.mallang.mallang_backend.global.exception.ErrorCode.*;
 import static com.mallang.mallang_backend.global.gpt.util.GptScriptProcessor.parseGptResult;
@@ -36,9 +39,8 @@ public class GptServiceMockImpl implements GptService {
 	private final GptPromptBuilder gptPromptBuilder;
 
 	/**
-	 * 단어 검색: 5회 재시도, 1초 간격, 실패 시 fallbackSearchWord 호출
+	 * 단어 검색: Mock Server 응답 시간만 측정하도록 재시도하지 않습니다.
 	 */
-	@Retry(name = "apiRetry", fallbackMethod = "fallbackSearchWord")
 	@Override
 	public List<Word> searchWord(String word, Language language)  {
 		String prompt = gptPromptBuilder.buildPromptForSearchWord(word);
@@ -49,6 +51,34 @@ public class GptServiceMockImpl implements GptService {
 		return removeInvalidWord(generatedWords);
 	}
 
+	@Override
+	public CompletableFuture<List<Word>> searchWordAsync(String word, Language language) {
+		String prompt = gptPromptBuilder.buildPromptForSearchWord(word);
+		return requestWordAnalyze(prompt)
+			.toFuture()
+			.thenApply(response -> {
+				validateResponse(response);
+				String gptResult = response.getChoices().get(0).getMessage().getContent();
+				return removeInvalidWord(parseGptResult(word, gptResult));
+			});
+	}
+
+	/**
+	 * 단어 일괄 검색: Mock Server 는 단어 단위 응답만 지원하므로 단어별로 검색
+	 */
+	@Override
+	public Map<String, List<Word>> searchWords(List<String> words, Language language) {
+		Map<String, List<Word>> result = new LinkedHashMap<>();
+		for (String word : words) {
+			try {
+				result.put(word, searchWord(word, language));
+			} catch (ServiceException e) {
+				log.debug("[GptServiceMock] 단어 검색 실패: {}", word);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * 예문이 단어의 형태 그대로 나오는지 검증하고, 형태가 다르면 예외가 발생합니다.
 	 * <p>예: 예문이 "He ceases to exist."이고 word가 "cease"인 경우,
@@ -62,7 +92,7 @@ public class GptServiceMockImpl implements GptService {
 			String exampleSentence = word.getExampleSentence();
 			String wordText = word.getWord().toLowerCase();
 			// 단어가 예문에 정확히 포함되는지 확인
-			if (!exampleSentence.matches(".*\\b" + Pattern.quote(wordText.toLowerCase()) + "\\b.*")) {
+			if (TextUtils.indexOfWord(exampleSentence, wordText, false) < 0) {
 				// 예문에 포함되지 않으면 제거
 				throw new ServiceException(INVALID_WORD);
 			}
@@ -73,16 +103,22 @@ public class GptServiceMockImpl implements GptService {
 	/**
 	 * 문장 분석 - 미구현
 	 */
-	@Retry(name = "apiRetry", fallbackMethod = "fallbackAnalyzeSentence")
 	@Override
 	public String analyzeSentence(String sentence, String translatedSentence, Language language) {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * 문장 분석 - 미구현
+	 */
+	@Override
+	public CompletableFuture<String> analyzeSentenceAsync(String sentence, String translatedSentence, Language language) {
+		return CompletableFuture.failedFuture(new UnsupportedOperationException());
+	}
+
 	/**
 	 * OpenAI Mock Server에 스크립트 분석 요청
 	 */
-	@Retry(name = "apiRetry", fallbackMethod = "fallbackAnalyzeSentence")
 	@Override
 	public List<GptSubtitleResponse> analyzeScript(List<TranscriptSegment> segments, Language language) {
 		// prompt 생성
@@ -100,6 +136,16 @@ public class GptServiceMockImpl implements GptService {
 		return GptScriptProcessor.parseAnalysisResult(content, segments);
 	}
 
+	/**
+	 * OpenAI Mock Server에 스크립트 분석 요청 - 청크 분할 없이 전체 결과를 한 번에 전달
+	 */
+	@Override
+	public List<GptSubtitleResponse> analyzeScript(List<TranscriptSegment> segments, Language language, Consumer<List<GptSubtitleResponse>> onBatchAnalyzed) {
+		List<GptSubtitleResponse> result = analyzeScript(segments, language);
+		onBatchAnalyzed.accept(result);
+		return result;
+	}
+
 	/**
 	 * 레벨 측정 - 동시성 테스트 불필요하므로 미구현
 	 */
@@ -108,6 +154,14 @@ public class GptServiceMockImpl implements GptService {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * 레벨 측정 - 동시성 테스트 불필요하므로 미구현
+	 */
+	@Override
+	public CompletableFuture<LevelCheckResponse> checkLevelAsync(String wordLevel, String expressionLevel, String wordQuizResultString, String expressionResultString) {
+		return CompletableFuture.failedFuture(new UnsupportedOperationException());
+	}
+
 	/**
 	 * OpenAI 영상 분석 Mock Server 호출
 	 */
@@ -137,6 +191,10 @@ public class GptServiceMockImpl implements GptService {
 	 */
 	@MonitorExternalApi(name = "openai")
 	private OpenAiResponse callGptApiWordAnalyze(String prompt) {
+		return requestWordAnalyze(prompt).block();
+	}
+
+	private Mono<OpenAiResponse> requestWordAnalyze(String prompt) {
 		log.debug("[GptServiceMockImpl] 요청할 프롬프트:\n{}", prompt);
 
 		return WebClient.create("http://localhost:8001") // mock 서버 주소
@@ -152,8 +210,7 @@ public class GptServiceMockImpl implements GptService {
 						return Mono.error(new ServiceException(GPT_API_CALL_FAILED));
 					})
 			)
-			.bodyToMono(OpenAiResponse.class)
-			.block();
+			.bodyToMono(OpenAiResponse.class);
 	}
 
 	/**
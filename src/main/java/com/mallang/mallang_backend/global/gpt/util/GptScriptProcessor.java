@@ -1,6 +1,5 @@
 package com.mallang.mallang_backend.global.gpt.util;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mallang.mallang_backend.domain.stt.converter.TranscriptSegment;
 import com.mallang.mallang_backend.domain.voca.word.entity.Difficulty;
@@ -12,7 +11,12 @@ import com.mallang.mallang_backend.global.gpt.dto.GptSubtitleResponse;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -26,6 +30,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GptScriptProcessor {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     /**
      * <p> GPT 프롬프트 생성을 위한 입력 문자열을 준비합니다. </p>
      * <p> 각 TranscriptSegment의 문장을 '|'로 이어붙입니다. </p>
@@ -39,56 +45,84 @@ public class GptScriptProcessor {
                 .collect(Collectors.joining(" | "));
     }
 
+    /**
+     * <p> 자막 세그먼트를 예상 토큰 수 기준으로 여러 청크로 나눕니다. </p>
+     * <p> 세그먼트 순서는 유지되며, 하나의 세그먼트가 최대 토큰 수를 넘더라도 단독 청크로 포함됩니다. </p>
+     *
+     * @param segments 자막 세그먼트 리스트
+     * @param maxTokensPerChunk 청크 하나에 담을 최대 예상 토큰 수
+     * @return 순서가 유지된 세그먼트 청크 리스트
+     */
+    public static List<List<TranscriptSegment>> splitIntoChunks(List<TranscriptSegment> segments, int maxTokensPerChunk) {
+        List<List<TranscriptSegment>> chunks = new ArrayList<>();
+        List<TranscriptSegment> current = new ArrayList<>();
+        int currentTokens = 0;
+
+        for (TranscriptSegment segment : segments) {
+            // " | " 구분자 토큰 포함
+            int segmentTokens = GptTokenEstimator.estimate(segment.getText()) + 1;
+
+            if (!current.isEmpty() && currentTokens + segmentTokens > maxTokensPerChunk) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(segment);
+            currentTokens += segmentTokens;
+        }
+
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
     /**
      * <p> GPT 응답 문자열을 파싱하여 GptSubtitleResult 리스트로 변환합니다. </p>
-     * <p> 각 블록은 '---'로 구분되며, 각 줄은 '원문 | 번역 | 단어 | 의미 | 난이도 ...' 형식을 따라야 합니다. </p>
+     * <p> 응답은 {original, translate, keyword} 객체의 JSON 배열이며, 앞뒤의 ``` 코드 블록 표시는 무시합니다. </p>
+     * <p> 배열이 닫히지 않았거나 변환에 실패한 원소가 있으면 빈 리스트를 반환합니다. </p>
      *
      * @param gptResponse GPT로부터 받은 응답 문자열
      * @param segments GPT 요청 시 사용된 원본 자막 세그먼트 (시간/화자 정보를 포함)
      * @return 파싱된 GptSubtitleResult 리스트
      */
     public static List<GptSubtitleResponse> parseAnalysisResult(String gptResponse, List<TranscriptSegment> segments) {
-        ObjectMapper objectMapper = new ObjectMapper();
         List<GptSubtitleResponse> results = new ArrayList<>();
 
         try {
-            // GPT 응답 전처리: ```json 또는 ``` 제거
-            String cleaned = gptResponse
-                .replaceAll("(?si)```json", "") // 줄바꿈 포함 전체 블록 제거
-                .replaceAll("(?s)```", "")    // 혹시라도 다른 ``` 블록이 있으면 제거
-                .trim();
-
-            // JSON 파싱
-            List<GptParsedBlock> parsedBlocks = objectMapper.readValue(
-                cleaned,
-                new TypeReference<List<GptParsedBlock>>() {}
-            );
-
-
-            for (int i = 0; i < parsedBlocks.size(); i++) {
-                if (i >= segments.size()) break;
-
-                GptParsedBlock block = parsedBlocks.get(i);
-                TranscriptSegment seg = segments.get(i);
-
-                GptSubtitleResponse dto = new GptSubtitleResponse(
-                    seg.getId(),
-                    seg.getStartTime(),
-                    seg.getEndTime(),
-                    seg.getSpeaker(),
-                    block.getOriginal(),
-                    block.getTranslate(),
-                    block.getKeyword()
-                );
-
-                results.add(dto);
+            GptStreamingJsonParser parser = new GptStreamingJsonParser(OBJECT_MAPPER, block -> {
+                if (results.size() < segments.size()) {
+                    results.add(toSubtitleResponse(block, segments.get(results.size())));
+                }
+            });
+            parser.feed(gptResponse);
+
+            if (!parser.isComplete()) {
+                log.error("GPT 분석 결과 파싱 실패: JSON 배열이 닫히지 않았습니다. (파싱된 원소 {}개)", parser.getBlockCount());
+                return new ArrayList<>();
             }
         } catch (Exception e) {
             log.error("GPT 분석 결과 파싱 실패: {}", e.getMessage(), e);
+            return new ArrayList<>();
         }
         return results;
     }
 
+    /**
+     * GPT 분석 블록 하나를 같은 순서의 자막 세그먼트(시간/화자 정보)와 합칩니다.
+     */
+    public static GptSubtitleResponse toSubtitleResponse(GptParsedBlock block, TranscriptSegment seg) {
+        return new GptSubtitleResponse(
+            seg.getId(),
+            seg.getStartTime(),
+            seg.getEndTime(),
+            seg.getSpeaker(),
+            block.getOriginal(),
+            block.getTranslate(),
+            block.getKeyword()
+        );
+    }
+
     /**
      * GPT로부터 받은 문자열 결과를 파싱하여 Word 엔티티 리스트로 변환합니다.
      *
@@ -136,6 +170,46 @@ public class GptScriptProcessor {
         return words;
     }
 
+    /**
+     * 여러 단어를 한 번에 검색한 GPT 결과를 단어별 Word 엔티티 리스트로 변환합니다.
+     * 형식이 맞지 않거나 요청하지 않은 단어의 줄은 건너뜁니다.
+     *
+     * @param requestedWords 검색을 요청한 단어 목록
+     * @param gptResult      GPT 응답 결과 문자열 (단어 | 품사 | 뜻 | 난이도 | 예문 | 예문 번역 형식)
+     * @return 요청한 단어별 Word 엔티티 리스트 (결과가 없는 단어는 포함되지 않음)
+     */
+    public static Map<String, List<Word>> parseGptBatchResult(Collection<String> requestedWords, String gptResult) {
+        Set<String> requested = new HashSet<>(requestedWords);
+        Map<String, List<Word>> result = new LinkedHashMap<>();
+
+        for (String line : gptResult.split("\\R")) {
+            if (line.isBlank() || line.strip().startsWith("```")) continue;
+
+            String[] parts = line.split("\\|");
+            if (parts.length != 6 || !requested.contains(parts[0].trim())) {
+                log.debug("[단어 일괄 검색] 건너뛴 line = {}", line);
+                continue;
+            }
+
+            try {
+                String word = parts[0].trim();
+                Word newWord = Word.builder()
+                    .word(word)
+                    .pos(parts[1].trim())
+                    .meaning(parts[2].trim())
+                    .difficulty(Difficulty.fromValue(Integer.parseInt(parts[3].trim())))
+                    .exampleSentence(parts[4].trim())
+                    .translatedSentence(parts[5].trim())
+                    .build();
+                result.computeIfAbsent(word, k -> new ArrayList<>()).add(newWord);
+            } catch (IllegalArgumentException e) {
+                // NumberFormatException 포함, 난이도 값이 잘못된 줄
+                log.debug("[단어 일괄 검색] 난이도 파싱 실패 line = {}", line);
+            }
+        }
+        return result;
+    }
+
     public static String extractWordLevel(String input) {
         String regex = "어휘 레벨 결과: \\[(.*?)\\]";
         Pattern pattern = Pattern.compile(regex);
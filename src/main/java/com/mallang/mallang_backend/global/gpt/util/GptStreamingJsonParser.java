@@ -0,0 +1,109 @@
+package com.mallang.mallang_backend.global.gpt.util;
+
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.global.exception.ErrorCode;
+import com.mallang.mallang_backend.global.exception.ServiceException;
+import com.mallang.mallang_backend.global.gpt.dto.GptParsedBlock;
+
+/**
+ * <p> GPT 스크립트 분석 응답(JSON 배열)을 조각 단위로 받아, 배열 원소(객체)가 닫히는 즉시 GptParsedBlock 으로 변환합니다. </p>
+ * <p>- 최상위 배열이 시작되기 전의 문자(```json 코드 블록 표시 등)와 배열이 닫힌 뒤의 문자는 무시합니다. </p>
+ * <p>- 문자열 안의 괄호와 이스케이프 문자는 구조로 취급하지 않습니다. </p>
+ * 한 응답에 하나의 인스턴스를 사용하며, 스레드 안전하지 않습니다.
+ */
+public class GptStreamingJsonParser {
+
+	private final ObjectMapper objectMapper;
+	private final Consumer<GptParsedBlock> onBlock;
+
+	private final StringBuilder current = new StringBuilder();
+	private int depth;          // 0: 배열 시작 전, 1: 최상위 배열 안, 2 이상: 원소 객체 안
+	private boolean inString;
+	private boolean escaped;
+	private boolean arrayClosed;
+	private int blockCount;
+
+	public GptStreamingJsonParser(ObjectMapper objectMapper, Consumer<GptParsedBlock> onBlock) {
+		this.objectMapper = objectMapper;
+		this.onBlock = onBlock;
+	}
+
+	/**
+	 * 응답 조각을 이어서 파싱합니다. 조각 안에서 닫힌 원소마다 onBlock 이 호출됩니다.
+	 *
+	 * @param chunk GPT 응답 조각
+	 * @throws ServiceException 닫힌 원소를 GptParsedBlock 으로 변환하지 못한 경우
+	 */
+	public void feed(CharSequence chunk) {
+		for (int i = 0; i < chunk.length() && !arrayClosed; i++) {
+			char c = chunk.charAt(i);
+
+			if (depth == 0) {
+				if (c == '[') {
+					depth = 1;
+				}
+				continue;
+			}
+
+			if (depth == 1) {
+				// 원소 사이의 쉼표, 공백은 건너뜀
+				if (c == '{') {
+					depth = 2;
+					current.setLength(0);
+					current.append(c);
+				} else if (c == ']') {
+					arrayClosed = true;
+				}
+				continue;
+			}
+
+			current.append(c);
+			if (inString) {
+				if (escaped) {
+					escaped = false;
+				} else if (c == '\\') {
+					escaped = true;
+				} else if (c == '"') {
+					inString = false;
+				}
+				continue;
+			}
+
+			if (c == '"') {
+				inString = true;
+			} else if (c == '{' || c == '[') {
+				depth++;
+			} else if (c == '}' || c == ']') {
+				depth--;
+				if (depth == 1) {
+					emit();
+				}
+			}
+		}
+	}
+
+	/**
+	 * 최상위 배열이 닫혔는지 여부 (응답이 중간에 끊기지 않았는지 확인)
+	 */
+	public boolean isComplete() {
+		return arrayClosed;
+	}
+
+	public int getBlockCount() {
+		return blockCount;
+	}
+
+	private void emit() {
+		GptParsedBlock block;
+		try {
+			block = objectMapper.readValue(current.toString(), GptParsedBlock.class);
+		} catch (JsonProcessingException e) {
+			throw new ServiceException(ErrorCode.GPT_RESPONSE_PARSE_FAIL, e);
+		}
+		blockCount++;
+		onBlock.accept(block);
+	}
+}
@@ -0,0 +1,35 @@
+package com.mallang.mallang_backend.global.gpt.util;
+
+/**
+ * <p> OpenAI 요청 전에 텍스트의 토큰 수를 대략적으로 추정하는 유틸 클래스 </p>
+ * <p>- ASCII 문자(영문, 숫자, 공백 등)는 약 4자당 1토큰 </p>
+ * <p>- 그 외 문자(일본어, 한국어 등)는 1자당 1토큰 </p>
+ * 실제 토크나이저 결과보다 약간 크게 잡히도록 올림 처리합니다.
+ */
+public class GptTokenEstimator {
+
+	private static final int ASCII_CHARS_PER_TOKEN = 4;
+
+	/**
+	 * 텍스트의 예상 토큰 수를 반환합니다.
+	 *
+	 * @param text 토큰 수를 추정할 텍스트
+	 * @return 예상 토큰 수 (null 또는 빈 문자열이면 0)
+	 */
+	public static int estimate(String text) {
+		if (text == null || text.isEmpty()) {
+			return 0;
+		}
+
+		int asciiChars = 0;
+		int otherChars = 0;
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) < 128) {
+				asciiChars++;
+			} else {
+				otherChars++;
+			}
+		}
+		return (asciiChars + ASCII_CHARS_PER_TOKEN - 1) / ASCII_CHARS_PER_TOKEN + otherChars;
+	}
+}
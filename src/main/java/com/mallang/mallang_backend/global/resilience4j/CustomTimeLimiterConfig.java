@@ -1,14 +1,18 @@
 package com.mallang.mallang_backend.global.resilience4j;
 
+import java.time.Duration;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
 import com.mallang.mallang_backend.global.exception.ServiceException;
 import com.mallang.mallang_backend.global.exception.message.MessageService;
 
 import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
 import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
 import io.github.resilience4j.timelimiter.event.TimeLimiterOnErrorEvent;
 import io.github.resilience4j.timelimiter.event.TimeLimiterOnSuccessEvent;
@@ -26,11 +30,21 @@ public class CustomTimeLimiterConfig {
 	private final TimeLimiterRegistry timeLimiterRegistry;
 	private final MessageService messageService;
 
+	// GPT 비동기 호출 1회당 제한 시간 (yml 에 gptTimeLimiter 설정이 있으면 그 값을 사용)
+	@Value("${gpt.async.timeout-ms:30000}")
+	private long gptTimeoutMillis;
+
 	/**
 	 * 모든 타임리미터에 이벤트 리스너 등록
 	 */
 	@PostConstruct
 	public void init() {
+		// 설정이 없으면 기본 제한 시간(1초)이 적용되어 GPT 호출이 모두 실패하므로 미리 등록
+		timeLimiterRegistry.timeLimiter("gptTimeLimiter", TimeLimiterConfig.custom()
+			.timeoutDuration(Duration.ofMillis(gptTimeoutMillis))
+			.cancelRunningFuture(true)
+			.build());
+
 		timeLimiterRegistry.getAllTimeLimiters()
 			.forEach(this::attachListeners);
 	}
@@ -1,6 +1,8 @@
 package com.mallang.mallang_backend.global.util.clova;
 
 import java.io.File;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
 
 public interface ClovaSpeechClient {
 	/**
@@ -10,4 +12,28 @@ public interface ClovaSpeechClient {
 	 * @return string (문자열 반환)
 	 */
 	String upload(File file, NestRequestEntity nestRequestEntity);
+
+	/**
+	 * recognize media using a stream (임시 파일 없이 음성 스트림을 그대로 업로드 후 음성 인식 요청)
+	 * @param media required, the media stream (필수 파라미터, 음성 스트림 - 길이를 모르므로 chunked 로 전송)
+	 * @param fileName required, 확장자로 음성 형식을 판단하기 위한 파일명
+	 * @param nestRequestEntity optional (필수 파라미터가 아님)
+	 * @return string (문자열 반환)
+	 */
+	String upload(InputStream media, String fileName, NestRequestEntity nestRequestEntity);
+
+	/**
+	 * recognize media using a file, async mode (로컬 파일 업로드 후 결과를 기다리지 않고 인식 결과를 Future 로 반환)
+	 * 기본 구현은 동기 요청 결과로 완료된 Future 를 반환합니다.
+	 * @param file required, the media file (필수 파라미터, 로컬 파일)
+	 * @param nestRequestEntity optional (필수 파라미터가 아님)
+	 * @return 인식이 끝나면 결과 문자열로 완료되는 Future
+	 */
+	default CompletableFuture<String> uploadAsync(File file, NestRequestEntity nestRequestEntity) {
+		try {
+			return CompletableFuture.completedFuture(upload(file, nestRequestEntity));
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
 }
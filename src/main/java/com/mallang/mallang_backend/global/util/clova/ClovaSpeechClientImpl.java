@@ -1,26 +1,51 @@
 package com.mallang.mallang_backend.global.util.clova;
 
 import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.util.EntityUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @Component
 public class ClovaSpeechClientImpl implements ClovaSpeechClient {
 
+	private static final String ASYNC_COMPLETION = "async";
+
 	// Clova Speech secret key
 	@Value("${clova.speech.secret}")
 	private String secret ;
@@ -31,13 +56,71 @@ public class ClovaSpeechClientImpl implements ClovaSpeechClient {
 
 	private CloseableHttpClient httpClient;
 
-	public ClovaSpeechClientImpl() {
-		this.httpClient = HttpClients.createDefault();
+	// 업로드 바이트 수, STT 응답 시간 기록
+	private final MeterRegistry meterRegistry;
+
+	private final ClovaSpeechProperties properties;
+
+	// async 인식 결과 폴링용 스케줄러 (조회 요청이 블로킹되므로 전용 스케줄러 사용)
+	private final ScheduledExecutorService scheduler;
+
+	// 응답을 기다리고 있는 인식 요청 수 (sync 요청 + 결과 대기 중인 async 요청)
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	@Autowired
+	public ClovaSpeechClientImpl(
+		ClovaSpeechProperties properties,
+		MeterRegistry meterRegistry,
+		@Qualifier("clovaPollScheduler") ScheduledExecutorService scheduler
+	) {
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(properties.getMaxTotal());
+		connectionManager.setDefaultMaxPerRoute(properties.getMaxPerRoute());
+
+		this.httpClient = HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectTimeout(properties.getConnectTimeoutMs())
+				.setConnectionRequestTimeout(properties.getConnectionRequestTimeoutMs())
+				.setSocketTimeout(properties.getSocketTimeoutMs())
+				.build())
+			.evictIdleConnections(30, TimeUnit.SECONDS)
+			.build();
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.scheduler = scheduler;
+
+		registerGauges(connectionManager);
 	}
 
 	// 테스트용 생성자 오버로딩
 	public ClovaSpeechClientImpl(CloseableHttpClient httpClient) {
+		this(httpClient, null);
+	}
+
+	// 테스트용 생성자 오버로딩
+	public ClovaSpeechClientImpl(CloseableHttpClient httpClient, ScheduledExecutorService scheduler) {
 		this.httpClient = httpClient;
+		this.properties = new ClovaSpeechProperties();
+		this.meterRegistry = new SimpleMeterRegistry();
+		this.scheduler = scheduler;
+	}
+
+	private void registerGauges(PoolingHttpClientConnectionManager connectionManager) {
+		Gauge.builder("clova_http_pool_leased", connectionManager, cm -> cm.getTotalStats().getLeased())
+			.description("사용 중인 Clova 커넥션 수")
+			.register(meterRegistry);
+		Gauge.builder("clova_http_pool_available", connectionManager, cm -> cm.getTotalStats().getAvailable())
+			.description("유휴 Clova 커넥션 수")
+			.register(meterRegistry);
+		Gauge.builder("clova_http_pool_pending", connectionManager, cm -> cm.getTotalStats().getPending())
+			.description("커넥션을 기다리는 요청 수")
+			.register(meterRegistry);
+		Gauge.builder("clova_http_pool_max", connectionManager, cm -> cm.getTotalStats().getMax())
+			.register(meterRegistry);
+		Gauge.builder("clova_stt_in_flight", inFlight, AtomicInteger::get)
+			.description("응답을 기다리고 있는 STT 요청 수")
+			.register(meterRegistry);
 	}
 
 	private Gson gson = new Gson();
@@ -65,15 +148,187 @@ public class ClovaSpeechClientImpl implements ClovaSpeechClient {
 			.addBinaryBody("media", file, ContentType.MULTIPART_FORM_DATA, file.getName())
 			.build();
 		httpPost.setEntity(httpEntity);
-		return execute(httpPost);
+		return executeWithMetrics(httpPost, file.getName(), nestRequestEntity, file::length);
+	}
+
+	/**
+	 *
+	 * recognize media using a stream (임시 파일 없이 음성 스트림을 그대로 업로드 후 음성 인식 요청)
+	 * @param media required, the media stream (필수 파라미터, 음성 스트림)
+	 * @param fileName required, 확장자로 음성 형식을 판단하기 위한 파일명
+	 * @param nestRequestEntity optional (필수 파라미터가 아님)
+	 * @return string (문자열 반환)
+	 */
+	@Override
+	public String upload(InputStream media, String fileName, NestRequestEntity nestRequestEntity) {
+		HttpPost httpPost = new HttpPost(invoke_url + "/recognizer/upload");
+		httpPost.setHeaders(createHeaders());
+		CountingInputStream countingMedia = new CountingInputStream(media);
+		HttpEntity httpEntity = MultipartEntityBuilder.create()
+			.addTextBody("params", gson.toJson(nestRequestEntity), ContentType.APPLICATION_JSON)
+			.addBinaryBody("media", countingMedia, ContentType.MULTIPART_FORM_DATA, fileName)
+			.build();
+		httpPost.setEntity(httpEntity);
+		return executeWithMetrics(httpPost, fileName, nestRequestEntity, countingMedia::getCount);
 	}
 
-	private String execute(HttpPost httpPost) {
-		try (final CloseableHttpResponse httpResponse = httpClient.execute(httpPost)) {
+	/**
+	 * Clova 비동기(async) 인식 모드로 파일을 업로드하고, 발급된 토큰으로 인식 결과를 주기적으로 조회합니다.
+	 * 업로드가 끝나면 바로 반환되며, 인식을 기다리는 동안 요청 스레드와 커넥션을 점유하지 않습니다.
+	 * 응답 시간(clova_stt_latency_seconds)은 업로드 시작부터 인식 결과를 받을 때까지 기록합니다.
+	 *
+	 * @param file required, the media file (필수 파라미터, 로컬 파일)
+	 * @param nestRequestEntity optional (필수 파라미터가 아님), 변경하지 않고 async 로 바꾼 복사본을 전송
+	 * @return 인식이 끝나면 결과 문자열로 완료되는 Future
+	 */
+	@Override
+	public CompletableFuture<String> uploadAsync(File file, NestRequestEntity nestRequestEntity) {
+		if (scheduler == null) {
+			return ClovaSpeechClient.super.uploadAsync(file, nestRequestEntity);
+		}
+
+		NestRequestEntity asyncRequest = nestRequestEntity.withCompletion(ASYNC_COMPLETION);
+		Timer.Sample sample = Timer.start(meterRegistry);
+		CompletableFuture<String> result = new CompletableFuture<>();
+		result.whenComplete((r, e) -> sample.stop(latencyTimer(file.getName(), asyncRequest, e == null)));
+
+		String token;
+		try {
+			String accepted = upload(file, asyncRequest);
+			token = gson.fromJson(accepted, JsonObject.class).get("token").getAsString();
+		} catch (RuntimeException e) {
+			result.completeExceptionally(e);
+			return result;
+		}
+
+		inFlight.incrementAndGet();
+		result.whenComplete((r, e) -> inFlight.decrementAndGet());
+
+		long deadline = System.currentTimeMillis() + properties.getAsyncTimeoutMs();
+		schedulePoll(token, deadline, result);
+		return result;
+	}
+
+	private void schedulePoll(String token, long deadline, CompletableFuture<String> result) {
+		scheduler.schedule(() -> poll(token, deadline, result), properties.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 인식 결과를 조회해 완료되면 Future 를 완료하고, 진행 중이면 다음 조회를 예약합니다.
+	 */
+	private void poll(String token, long deadline, CompletableFuture<String> result) {
+		if (result.isDone()) {
+			return;
+		}
+		try {
+			HttpGet httpGet = new HttpGet(invoke_url + "/recognizer/" + token);
+			httpGet.setHeaders(createHeaders());
+			httpGet.setConfig(RequestConfig.custom()
+				.setConnectTimeout(properties.getConnectTimeoutMs())
+				.setConnectionRequestTimeout(properties.getConnectionRequestTimeoutMs())
+				.setSocketTimeout(properties.getPollSocketTimeoutMs())
+				.build());
+			String body = execute(httpGet);
+
+			JsonElement status = gson.fromJson(body, JsonObject.class).get("result");
+			String state = status == null ? "" : status.getAsString();
+			if ("COMPLETED".equals(state)) {
+				result.complete(body);
+			} else if ("FAILED".equals(state)) {
+				result.completeExceptionally(new IllegalStateException("Clova 인식 실패 token=" + token + ", response=" + body));
+			} else if (System.currentTimeMillis() > deadline) {
+				result.completeExceptionally(new TimeoutException("Clova 인식 결과 대기 시간 초과 token=" + token));
+			} else {
+				schedulePoll(token, deadline, result);
+			}
+		} catch (RuntimeException e) {
+			result.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * 요청을 실행하고 음성 형식(확장자)과 인식 언어별로 업로드 바이트 수와 응답 시간을 기록합니다.
+	 * 스트림 업로드의 응답 시간에는 음성 추출 시간이 함께 포함됩니다.
+	 * async 업로드의 응답 시간은 인식 결과를 받을 때까지 uploadAsync 에서 기록합니다.
+	 */
+	private String executeWithMetrics(HttpPost httpPost, String fileName, NestRequestEntity nestRequestEntity, LongSupplier uploadedBytes) {
+		boolean async = nestRequestEntity != null && ASYNC_COMPLETION.equals(nestRequestEntity.getCompletion());
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		boolean success = false;
+		inFlight.incrementAndGet();
+		try {
+			String result = execute(httpPost);
+			success = true;
+			return result;
+		} finally {
+			inFlight.decrementAndGet();
+			DistributionSummary.builder("clova_stt_upload_bytes")
+				.baseUnit("bytes")
+				.tags("format", formatOf(fileName), "language", languageOf(nestRequestEntity))
+				.register(meterRegistry)
+				.record(uploadedBytes.getAsLong());
+			if (!async) {
+				sample.stop(latencyTimer(fileName, nestRequestEntity, success));
+			}
+		}
+	}
+
+	private Timer latencyTimer(String fileName, NestRequestEntity nestRequestEntity, boolean success) {
+		String completion = (nestRequestEntity == null || nestRequestEntity.getCompletion() == null) ? "sync" : nestRequestEntity.getCompletion();
+		return Timer.builder("clova_stt_latency_seconds")
+			.tags("format", formatOf(fileName), "language", languageOf(nestRequestEntity), "completion", completion, "status", (success ? "success" : "fail"))
+			.register(meterRegistry);
+	}
+
+	private static String formatOf(String fileName) {
+		return fileName.contains(".") ? fileName.substring(fileName.lastIndexOf('.') + 1) : "unknown";
+	}
+
+	private static String languageOf(NestRequestEntity nestRequestEntity) {
+		return (nestRequestEntity == null || nestRequestEntity.getLanguage() == null) ? "none" : nestRequestEntity.getLanguage();
+	}
+
+	private String execute(HttpUriRequest request) {
+		try (final CloseableHttpResponse httpResponse = httpClient.execute(request)) {
 			final HttpEntity entity = httpResponse.getEntity();
 			return EntityUtils.toString(entity, StandardCharsets.UTF_8);
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 업로드된 바이트 수를 세는 입력 스트림
+	 */
+	private static class CountingInputStream extends FilterInputStream {
+
+		private long count;
+
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				count++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0) {
+				count += read;
+			}
+			return read;
+		}
+
+		long getCount() {
+			return count;
+		}
+	}
+}
@@ -1,6 +1,10 @@
 package com.mallang.mallang_backend.global.util.clova;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,6 +30,24 @@ public class ClovaSpeechClientMockImpl implements ClovaSpeechClient {
 	 */
 	@Override
 	public String upload(File file, NestRequestEntity nestRequestEntity) {
+		return requestMockResult(file != null ? file.getName() : null, nestRequestEntity);
+	}
+
+	/**
+	 * Clova STT(Mock Server)에 음성 스트림으로 자막을 요청합니다.
+	 * 스트림은 업로드되지 않고 끝까지 읽어서 버리며, 파일 업로드와 동일한 Mock 응답을 반환합니다.
+	 */
+	@Override
+	public String upload(InputStream media, String fileName, NestRequestEntity nestRequestEntity) {
+		try {
+			media.transferTo(OutputStream.nullOutputStream());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return requestMockResult(fileName, nestRequestEntity);
+	}
+
+	private String requestMockResult(String fileName, NestRequestEntity nestRequestEntity) {
 		log.debug("[ClovaServiceMock] mock 서버에 요청 중...");
 
 		// mock 서버 주소 및 엔드포인트
@@ -33,7 +55,7 @@ public class ClovaSpeechClientMockImpl implements ClovaSpeechClient {
 
 		// 요청 바디 구성
 		Map<String, Object> body = new HashMap<>();
-		body.put("fileName", file != null ? file.getName() : "mock-file.wav");
+		body.put("fileName", fileName != null ? fileName : "mock-file.wav");
 		body.put("language", nestRequestEntity != null ? nestRequestEntity.getLanguage() : "en");
 
 		return WebClient.create(mockUrl)
@@ -0,0 +1,43 @@
+package com.mallang.mallang_backend.global.util.clova;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Clova Speech HTTP 클라이언트 설정
+ * 커넥션 풀 크기, 타임아웃, 비동기 인식(async) 결과 폴링 주기를 설정합니다.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "clova.speech.client") // yml 파일에서 "clova.speech.client" 하위 값을 읽어와서 매핑
+public class ClovaSpeechProperties {
+
+    // 전체 최대 커넥션 수
+    private int maxTotal = 20;
+
+    // Clova 호스트 하나에 대한 최대 커넥션 수
+    private int maxPerRoute = 20;
+
+    // 커넥션 연결 타임아웃
+    private int connectTimeoutMs = 5_000;
+
+    // 풀에서 커넥션을 얻기까지 기다리는 시간
+    private int connectionRequestTimeoutMs = 10_000;
+
+    // 응답 대기 타임아웃 (sync 인식은 인식이 끝날 때까지 응답이 오지 않으므로 길게 설정)
+    private int socketTimeoutMs = 600_000;
+
+    // async 인식 결과 조회 요청의 응답 대기 타임아웃
+    private int pollSocketTimeoutMs = 10_000;
+
+    // async 인식 결과 조회 주기
+    private long pollIntervalMs = 3_000;
+
+    // async 인식 결과를 기다리는 최대 시간
+    private long asyncTimeoutMs = 1_800_000;
+
+    // async 인식 결과 조회 전용 스케줄러 스레드 수 (조회 요청이 블로킹되므로 SSE 하트비트 스케줄러와 분리)
+    private int pollThreads = 2;
+}
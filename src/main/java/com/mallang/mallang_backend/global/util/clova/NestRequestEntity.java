@@ -34,4 +34,27 @@ public class NestRequestEntity {
 	public NestRequestEntity(Language language) {
 		this.language = language.getLanguageCode();
 	}
+
+	/**
+	 * 같은 설정에 응답 방식(completion)만 바꾼 요청 설정을 생성합니다. 호출한 쪽의 설정은 바꾸지 않습니다.
+	 * @param completion sync/async
+	 */
+	public NestRequestEntity withCompletion(String completion) {
+		NestRequestEntity copy = new NestRequestEntity(this);
+		copy.completion = completion;
+		return copy;
+	}
+
+	private NestRequestEntity(NestRequestEntity source) {
+		this.language = source.language;
+		this.completion = source.completion;
+		this.callback = source.callback;
+		this.userdata = source.userdata;
+		this.wordAlignment = source.wordAlignment;
+		this.fullText = source.fullText;
+		this.boostings = source.boostings;
+		this.forbiddens = source.forbiddens;
+		this.diarization = source.diarization;
+		this.sed = source.sed;
+	}
 }
@@ -0,0 +1,120 @@
+package com.mallang.mallang_backend.global.util.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.BitSet;
+
+/**
+ * 일정 시간이 지나면 잊어버리는 블룸 필터
+ * <p>- 현재/이전 두 세대의 비트 배열을 두고 window 마다 세대를 교체하므로, 추가한 값은 window ~ 2 * window 동안 기억됩니다.</p>
+ * <p>- 추가하지 않은 값을 포함한다고 답할 수 있으며(오탐, 세대마다 약 fpp), 추가한 값을 기억 시간 안에 모른다고 답하지는 않습니다.</p>
+ */
+public class RotatingBloomFilter {
+
+	private final int bitSize;
+	private final int hashCount;
+	private final long windowMillis;
+	private final Clock clock;
+
+	private BitSet current;
+	private BitSet previous;
+	private long rotatedAt;
+
+	/**
+	 * @param expectedInsertions window 동안 추가될 것으로 예상되는 값의 수
+	 * @param fpp                세대별 목표 오탐률 (0 ~ 1)
+	 * @param window             세대 교체 주기
+	 */
+	public RotatingBloomFilter(int expectedInsertions, double fpp, Duration window) {
+		this(expectedInsertions, fpp, window, Clock.systemUTC());
+	}
+
+	RotatingBloomFilter(int expectedInsertions, double fpp, Duration window, Clock clock) {
+		if (expectedInsertions <= 0 || fpp <= 0 || fpp >= 1 || window.isNegative() || window.isZero()) {
+			throw new IllegalArgumentException("블룸 필터 설정이 올바르지 않습니다.");
+		}
+		double ln2 = Math.log(2);
+		this.bitSize = (int) Math.max(64, Math.ceil(-expectedInsertions * Math.log(fpp) / (ln2 * ln2)));
+		this.hashCount = (int) Math.max(1, Math.round((double) bitSize / expectedInsertions * ln2));
+		this.windowMillis = window.toMillis();
+		this.clock = clock;
+		this.current = new BitSet(bitSize);
+		this.previous = new BitSet(bitSize);
+		this.rotatedAt = clock.millis();
+	}
+
+	/**
+	 * 기억 시간 안에 추가된 값일 수 있는지 확인합니다.
+	 */
+	public synchronized boolean mightContain(String value) {
+		rotateIfExpired();
+		long hash = hash(value);
+		return contains(current, hash) || contains(previous, hash);
+	}
+
+	/**
+	 * 값을 추가합니다.
+	 *
+	 * @return 처음 추가된 값이면 true, 기억 시간 안에 이미 추가된 값(또는 오탐)이면 false
+	 */
+	public synchronized boolean put(String value) {
+		rotateIfExpired();
+		long hash = hash(value);
+		boolean seen = contains(current, hash) || contains(previous, hash);
+
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			current.set(indexOf(h1 + i * h2));
+		}
+		return !seen;
+	}
+
+	private boolean contains(BitSet bits, long hash) {
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			if (!bits.get(indexOf(h1 + i * h2))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int indexOf(int combinedHash) {
+		return (combinedHash & Integer.MAX_VALUE) % bitSize;
+	}
+
+	private void rotateIfExpired() {
+		long now = clock.millis();
+		long elapsed = now - rotatedAt;
+		if (elapsed < windowMillis) {
+			return;
+		}
+		if (elapsed >= windowMillis * 2) {
+			previous = new BitSet(bitSize);
+		} else {
+			previous = current;
+		}
+		current = new BitSet(bitSize);
+		rotatedAt = now;
+	}
+
+	/**
+	 * UTF-8 바이트의 FNV-1a 64비트 해시에 MurmurHash3 의 fmix64 를 적용합니다.
+	 */
+	private static long hash(String value) {
+		long h = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			h ^= b;
+			h *= 0x100000001b3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb3fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
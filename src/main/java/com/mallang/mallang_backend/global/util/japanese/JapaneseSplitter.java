@@ -7,9 +7,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class JapaneseSplitter {
+	// 사전 로딩 비용이 커서 한 번만 생성 (Tokenizer 는 스레드 안전)
+	private static final Tokenizer TOKENIZER = new Tokenizer();
+
 	public static String splitJapanese(String sentence) {
-		Tokenizer tokenizer = new Tokenizer();
-		List<Token> tokens = tokenizer.tokenize(sentence);
+		List<Token> tokens = TOKENIZER.tokenize(sentence);
 		List<String> segments = new ArrayList<>();
 		StringBuilder segment = new StringBuilder();
 
@@ -33,4 +35,33 @@ public class JapaneseSplitter {
 
 		return String.join(" ", segments);
 	}
+
+	/**
+	 * 단어의 마지막 자립어를 기본형으로 바꾸고 뒤에 붙은 조사, 조동사, 기호를 제거합니다. (食べた → 食べる, 美しかった → 美しい)
+	 * 앞쪽 형태소는 표기 그대로 두며, 자립어가 없으면 입력을 그대로 반환합니다.
+	 */
+	public static String toBaseForm(String word) {
+		List<Token> tokens = TOKENIZER.tokenize(word);
+		int last = tokens.size() - 1;
+		while (last >= 0 && isAttached(tokens.get(last))) {
+			last--;
+		}
+		if (last < 0) {
+			return word;
+		}
+
+		StringBuilder baseForm = new StringBuilder();
+		for (int i = 0; i < last; i++) {
+			baseForm.append(tokens.get(i).getSurface());
+		}
+		Token content = tokens.get(last);
+		String base = content.getBaseForm();
+		baseForm.append(base == null || "*".equals(base) ? content.getSurface() : base);
+		return baseForm.toString();
+	}
+
+	private static boolean isAttached(Token token) {
+		String pos = token.getPartOfSpeechLevel1();
+		return "助詞".equals(pos) || "助動詞".equals(pos) || "記号".equals(pos);
+	}
 }
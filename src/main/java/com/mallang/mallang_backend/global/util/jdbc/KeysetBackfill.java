@@ -0,0 +1,76 @@
+package com.mallang.mallang_backend.global.util.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p> 기존 행의 컬럼을 PK 순으로 나누어 채우는 백필 실행기입니다. </p>
+ * <p> 마지막으로 처리한 PK 다음부터 묶음 단위로 조회(keyset)하고, 묶음마다 batch update 후 잠시 쉬어
+ * 운영 중인 DB 에 부하가 몰리지 않도록 합니다. 조회 조건에 "아직 채워지지 않은 행"을 넣으면 여러 번 실행해도 안전합니다. </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeysetBackfill {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 조회 쿼리가 빈 결과를 반환할 때까지 갱신합니다. 스레드가 중단되면 처리한 묶음까지만 반영하고 멈춥니다.
+	 *
+	 * @param name             로그에 남길 백필 이름
+	 * @param query            PK 순 조회 쿼리 (마지막 PK, 묶음 크기 순서의 파라미터를 받음)
+	 * @param updateSql        행마다 실행할 갱신 쿼리
+	 * @param updateParams     조회한 행을 갱신 쿼리 파라미터로 바꾸는 함수 (null 을 반환하면 해당 행은 건너뜀)
+	 * @param batchSize        묶음 크기
+	 * @param batchPauseMillis 묶음 사이 대기 시간
+	 * @return 갱신한 행 수
+	 */
+	public <T> int run(String name, Query<T> query, String updateSql, Function<T, Object[]> updateParams,
+		int batchSize, long batchPauseMillis) {
+		long lastId = 0;
+		int updated = 0;
+		while (true) {
+			List<T> rows = jdbcTemplate.query(query.sql(), query.rowMapper(), lastId, batchSize);
+			if (rows.isEmpty()) {
+				return updated;
+			}
+
+			List<Object[]> params = new ArrayList<>(rows.size());
+			for (T row : rows) {
+				Object[] param = updateParams.apply(row);
+				if (param != null) {
+					params.add(param);
+				}
+			}
+			jdbcTemplate.batchUpdate(updateSql, params);
+
+			updated += params.size();
+			lastId = query.idOf().applyAsLong(rows.get(rows.size() - 1));
+			try {
+				Thread.sleep(batchPauseMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.info("[{}] 중단 - {}건 갱신, 마지막 id={}", name, updated, lastId);
+				return updated;
+			}
+		}
+	}
+
+	/**
+	 * @param sql       PK 보다 큰 행을 PK 순으로 묶음 크기만큼 조회하는 쿼리
+	 * @param rowMapper 조회 결과 변환 함수
+	 * @param idOf      행의 PK
+	 */
+	public record Query<T>(String sql, RowMapper<T> rowMapper, ToLongFunction<T> idOf) {
+	}
+}
@@ -1,24 +1,66 @@
 package com.mallang.mallang_backend.global.util.redis;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.RedisStringCommands;
 import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
 @Slf4j
 public class RedisDistributedLock {
 
+	/**
+	 * 락 해제 시 해제된 락 key 를 발행하는 채널
+	 */
+	private static final String UNLOCK_CHANNEL = "lock:released";
+
 	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ScheduledExecutorService scheduler;
+
+	// 락 key 별 해제를 기다리는 대기자
+	private final ConcurrentHashMap<String, Set<CompletableFuture<Boolean>>> waiters = new ConcurrentHashMap<>();
 
-	public RedisDistributedLock(RedisTemplate<String, String> redisTemplate) {
+	// 해제 알림을 놓친 경우(TTL 만료, 구독 지연 등)를 대비한 안전망 확인 간격
+	@Value("${redis.lock.safety-poll-ms:5000}")
+	private long safetyPollMillis;
+
+	public RedisDistributedLock(
+		RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		@Qualifier("heartbeatScheduler") ScheduledExecutorService scheduler
+	) {
 		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.scheduler = scheduler;
+	}
+
+	@PostConstruct
+	public void subscribeUnlock() {
+		listenerContainer.addMessageListener(
+			(message, pattern) -> onUnlock(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(UNLOCK_CHANNEL)
+		);
 	}
 
 	/**
@@ -38,7 +80,7 @@ public class RedisDistributedLock {
 	}
 
 	/**
-	 * Lock을 해제합니다. true 반환 시 해제 성공입니다.
+	 * Lock을 해제하고, 해제 알림을 발행합니다. true 반환 시 해제 성공입니다.
 	 * @param key Lock의 key가 되는 문자열
 	 * @param value 자신을 구분할 수 있는 식별자(UUID 등 사용)
 	 * @return 성공 여부
@@ -46,7 +88,9 @@ public class RedisDistributedLock {
 	public boolean unlock(String key, String value) {
 		String luaScript =
 			"if redis.call('get', KEYS[1]) == ARGV[1] then " +
-				"   return redis.call('del', KEYS[1]) " +
+				"   redis.call('del', KEYS[1]) " +
+				"   redis.call('publish', ARGV[2], KEYS[1]) " +
+				"   return 1 " +
 				"else return 0 end";
 
 		return Boolean.TRUE.equals(redisTemplate.execute((RedisCallback<Boolean>) connection -> {
@@ -55,41 +99,102 @@ public class RedisDistributedLock {
 				ReturnType.BOOLEAN,
 				1,
 				key.getBytes(StandardCharsets.UTF_8),
-				value.getBytes(StandardCharsets.UTF_8)
+				value.getBytes(StandardCharsets.UTF_8),
+				UNLOCK_CHANNEL.getBytes(StandardCharsets.UTF_8)
 			);
 			return (Boolean) result;
 		}));
 	}
 
 	/**
-	 * 락 해제 여부를 주기적으로 체크하다가, 락이 풀리면 true 반환.
-	 * 최대 대기 시간은 10분입니다.
-	 * @param lockKey Lock 의 key 이름 문자열
-	 * @param maxWaitMillis Lock 확인을 재시도할 최대 시간
-	 * @param sleepMillis Lock 확인 재시도 간격
-	 * @return 락이 풀렸는지 여부
-	 * @throws InterruptedException
+	 * 트랜잭션 안에서 호출하면 트랜잭션이 끝난 뒤(커밋 또는 롤백) Lock 을 해제하고, 트랜잭션 밖에서는 바로 해제합니다.
+	 * 커밋 전에 해제하면 알림을 받은 대기자가 아직 커밋되지 않은 결과를 조회하지 못하므로,
+	 * 트랜잭션에서 저장한 결과를 대기자가 DB 에서 다시 읽는 경우 unlock 대신 사용합니다.
+	 * @param key Lock의 key가 되는 문자열
+	 * @param value 자신을 구분할 수 있는 식별자(UUID 등 사용)
 	 */
-	public boolean waitForUnlockThenFetch(String lockKey, long maxWaitMillis, long sleepMillis) {
-		long startTime = System.currentTimeMillis();
-
-		while (System.currentTimeMillis() - startTime < maxWaitMillis) {
-			boolean exists = isLocked(lockKey);
-			log.debug("Lock 해제 확인 : 현재 Lock 존재 여부 {}, {}", exists, System.currentTimeMillis() - startTime);
-			if (!exists) {
-				// 락이 사라진 경우
-				return true;
+	public void unlockAfterCompletion(String key, String value) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			unlock(key, value);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				try {
+					unlock(key, value);
+				} catch (Exception e) {
+					// 해제하지 못해도 TTL 이 지나면 만료되고, 대기자는 안전망 확인으로 깨어남
+					log.warn("Lock 해제 실패 : {}", key, e);
+				}
 			}
+		});
+	}
+
+	/**
+	 * 락이 해제되면 true 로 완료되는 Future 를 반환합니다. 대기하는 동안 스레드를 점유하지 않습니다.
+	 * 해제 알림(Pub/Sub)으로 즉시 완료되며, 알림을 놓친 경우를 대비해 safetyPollMillis 간격으로 락 존재 여부를 확인합니다.
+	 * @param key Lock 의 key 이름 문자열
+	 * @param maxWaitMillis 최대 대기 시간 (초과 시 false 로 완료)
+	 * @return 락 해제 여부 Future
+	 */
+	public CompletableFuture<Boolean> awaitUnlock(String key, long maxWaitMillis) {
+		CompletableFuture<Boolean> future = new CompletableFuture<>();
+		waiters.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(future);
+
+		ScheduledFuture<?> safetyCheck = scheduler.scheduleWithFixedDelay(() -> {
 			try {
-				Thread.sleep(sleepMillis);
-			} catch (InterruptedException e) {
-				// 인터럽트 여부를 상위 로직이나 다른 코드가 알 수 있게
-				Thread.currentThread().interrupt();
-				return false;
+				if (!isLocked(key)) {
+					future.complete(true);
+				}
+			} catch (Exception e) {
+				log.warn("Lock 해제 확인 실패 : {}", key, e);
 			}
+		}, safetyPollMillis, safetyPollMillis, TimeUnit.MILLISECONDS);
+		ScheduledFuture<?> timeout = scheduler.schedule(() -> future.complete(false), maxWaitMillis, TimeUnit.MILLISECONDS);
+
+		future.whenComplete((unlocked, e) -> {
+			safetyCheck.cancel(false);
+			timeout.cancel(false);
+			waiters.computeIfPresent(key, (k, futures) -> {
+				futures.remove(future);
+				return futures.isEmpty() ? null : futures;
+			});
+		});
+
+		// 대기자 등록 전에 이미 해제된 경우
+		if (!isLocked(key)) {
+			future.complete(true);
+		}
+		return future;
+	}
+
+	/**
+	 * 락이 해제될 때까지 기다린 뒤 true 를 반환합니다. 최대 대기 시간을 넘기면 false 를 반환합니다.
+	 * 해제 알림을 받는 즉시 반환되며, 호출한 스레드는 대기하는 동안 블로킹됩니다.
+	 * @param lockKey Lock 의 key 이름 문자열
+	 * @param maxWaitMillis Lock 해제를 기다릴 최대 시간
+	 * @return 락이 풀렸는지 여부
+	 */
+	public boolean waitForUnlockThenFetch(String lockKey, long maxWaitMillis) {
+		try {
+			return awaitUnlock(lockKey, maxWaitMillis).get();
+		} catch (InterruptedException e) {
+			// 인터럽트 여부를 상위 로직이나 다른 코드가 알 수 있게
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (ExecutionException e) {
+			log.warn("Lock 해제 대기 실패 : {}", lockKey, e);
+			return false;
+		}
+	}
+
+	private void onUnlock(String key) {
+		Set<CompletableFuture<Boolean>> futures = waiters.remove(key);
+		if (futures != null) {
+			log.debug("Lock 해제 알림 수신 : {}, 대기자 {}명", key, futures.size());
+			futures.forEach(future -> future.complete(true));
 		}
-		// 최대 대기 시간 초과
-		return false;
 	}
 
 	/**
@@ -3,26 +3,65 @@ package com.mallang.mallang_backend.global.util.sse;
 import static com.mallang.mallang_backend.global.constants.AppConstants.*;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Qualifier;
-
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
 public class SseEmitterManager {
+	/**
+	 * 다른 서버에 연결된 emitter 로 보낼 이벤트를 전달하는 채널
+	 */
+	private static final String RELAY_CHANNEL = "sse:relay";
+
 	private ConcurrentHashMap<String, SseEmitter> emitters = new ConcurrentHashMap<>();
 	private final ScheduledExecutorService scheduler;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ObjectMapper objectMapper;
+
+	// 영상 분석 작업 큐를 서버 간에 공유하면, 작업을 실행한 서버와 SSE 가 연결된 서버가 다를 수 있음
+	@Value("${sse.relay.enabled:${video.analysis.queue.enabled:false}}")
+	private boolean relayEnabled;
 
-	public SseEmitterManager(@Qualifier("heartbeatScheduler") ScheduledExecutorService scheduler) {
+	public SseEmitterManager(
+		@Qualifier("heartbeatScheduler") ScheduledExecutorService scheduler,
+		RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		ObjectMapper objectMapper
+	) {
 		this.scheduler = scheduler;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.objectMapper = objectMapper;
+	}
+
+	@PostConstruct
+	public void subscribeRelay() {
+		if (!relayEnabled) {
+			return;
+		}
+		listenerContainer.addMessageListener(
+			(message, pattern) -> onRelay(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(RELAY_CHANNEL)
+		);
 	}
 
 	public SseEmitter createEmitter(String userId) {
@@ -66,21 +105,81 @@ public class SseEmitterManager {
 		return emitter;
 	}
 
+	/**
+	 * 이 서버에 연결된 emitter 인지 확인합니다.
+	 */
+	public boolean hasEmitter(String userId) {
+		return emitters.containsKey(userId);
+	}
+
+	/**
+	 * 이벤트를 전송합니다. 이 서버에 연결된 emitter 가 없으면 다른 서버로 전달합니다. (relay 활성화 시)
+	 */
 	public <T> void sendTo(String userId, String name, T data) {
-		SseEmitter emitter = emitters.get(userId);
-		if (emitter != null) {
-			try {
-				emitter.send(SseEmitter.event().name(name).data(data));
-			} catch (Exception e) {
-				emitters.remove(userId);
-			}
+		if (!sendLocal(userId, name, data)) {
+			relay(userId, name, data);
 		}
 	}
 
 	public void removeEmitter(String userId) {
-		if (emitters.containsKey(userId)) {
-			emitters.get(userId).complete();
+		if (!removeLocal(userId)) {
+			relay(userId, null, null);
+		}
+	}
+
+	private <T> boolean sendLocal(String userId, String name, T data) {
+		SseEmitter emitter = emitters.get(userId);
+		if (emitter == null) {
+			return false;
+		}
+		try {
+			emitter.send(SseEmitter.event().name(name).data(data));
+		} catch (Exception e) {
 			emitters.remove(userId);
 		}
+		return true;
+	}
+
+	private boolean removeLocal(String userId) {
+		SseEmitter emitter = emitters.remove(userId);
+		if (emitter == null) {
+			return false;
+		}
+		emitter.complete();
+		return true;
+	}
+
+	private void relay(String userId, String name, Object data) {
+		if (!relayEnabled) {
+			return;
+		}
+		try {
+			RelayedEvent event = new RelayedEvent(userId, name, objectMapper.valueToTree(data));
+			redisTemplate.convertAndSend(RELAY_CHANNEL, objectMapper.writeValueAsString(event));
+		} catch (Exception e) {
+			log.warn("[SSE] userId={} 이벤트 전달 실패", userId, e);
+		}
+	}
+
+	/**
+	 * 다른 서버에서 전달된 이벤트를 이 서버에 연결된 emitter 로만 전송합니다. (다시 전달하지 않음)
+	 */
+	private void onRelay(String json) {
+		try {
+			RelayedEvent event = objectMapper.readValue(json, RelayedEvent.class);
+			if (event.name() == null) {
+				removeLocal(event.userId());
+			} else {
+				sendLocal(event.userId(), event.name(), event.data());
+			}
+		} catch (Exception e) {
+			log.warn("[SSE] 전달된 이벤트 처리 실패", e);
+		}
+	}
+
+	/**
+	 * @param name 이벤트 이름 (null 이면 emitter 종료)
+	 */
+	private record RelayedEvent(String userId, String name, JsonNode data) {
 	}
 }
@@ -0,0 +1,203 @@
+package com.mallang.mallang_backend.global.util.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p> 단어 검증, 퀴즈 문제 생성에서 반복 호출되는 문자열 처리 모음 </p>
+ * <p> 호출마다 정규식을 컴파일하던 split / replaceAll / matches 를 한 번의 순회로 처리하며,
+ * 결과는 기존 정규식과 동일하게 맞춥니다. (단어 문자, 공백의 기준은 java.util.regex 기본값인 ASCII) </p>
+ */
+public final class TextUtils {
+
+	// \p{Punct} 에서 아포스트로피(')를 뺀 ASCII 문장부호
+	private static final boolean[] STRIPPED_PUNCTUATION = new boolean[128];
+
+	static {
+		for (char c : "!\"#$%&()*+,-./:;<=>?@[\\]^_`{|}~".toCharArray()) {
+			STRIPPED_PUNCTUATION[c] = true;
+		}
+	}
+
+	private TextUtils() {
+	}
+
+	/**
+	 * 공백(\s) 기준으로 나눈 토큰 목록을 반환합니다. split("\\s+") 와 달리 빈 토큰은 포함하지 않습니다.
+	 */
+	public static List<String> splitByWhitespace(String text) {
+		List<String> tokens = new ArrayList<>();
+		int start = -1;
+		for (int i = 0; i < text.length(); i++) {
+			if (isWhitespace(text.charAt(i))) {
+				if (start >= 0) {
+					tokens.add(text.substring(start, i));
+					start = -1;
+				}
+			} else if (start < 0) {
+				start = i;
+			}
+		}
+		if (start >= 0) {
+			tokens.add(text.substring(start));
+		}
+		return tokens;
+	}
+
+	/**
+	 * 알파벳 외 문자를 제거하고 소문자로 변환합니다. (replaceAll("[^a-zA-Z]", "").toLowerCase() 와 동일)
+	 * 이미 소문자 알파벳으로만 이루어져 있으면 새 문자열을 만들지 않습니다.
+	 */
+	public static String lettersOnlyLowerCase(String token) {
+		StringBuilder result = null;
+		for (int i = 0; i < token.length(); i++) {
+			char c = token.charAt(i);
+			if (c >= 'a' && c <= 'z') {
+				if (result != null) {
+					result.append(c);
+				}
+				continue;
+			}
+			if (result == null) {
+				result = new StringBuilder(token.length()).append(token, 0, i);
+			}
+			if (c >= 'A' && c <= 'Z') {
+				result.append((char)(c + ('a' - 'A')));
+			}
+		}
+		return result == null ? token : result.toString();
+	}
+
+	/**
+	 * 대소문자를 무시하고 문장에 단어가 단어 경계(\b) 기준으로 포함되는지 확인합니다.
+	 * <p>예: "He ceases to exist." 에는 "cease" 가 포함되지 않습니다.</p>
+	 */
+	public static boolean containsWord(String text, String word) {
+		return indexOfWord(text, word, true) >= 0;
+	}
+
+	/**
+	 * 앞뒤가 단어 경계(\b)인 첫 번째 word 의 위치를 반환합니다. 없으면 -1 을 반환합니다.
+	 *
+	 * @param ignoreCase 대소문자 무시 여부
+	 */
+	public static int indexOfWord(String text, String word, boolean ignoreCase) {
+		if (word.isEmpty()) {
+			return -1;
+		}
+		int last = text.length() - word.length();
+		for (int i = 0; i <= last; i++) {
+			if (text.regionMatches(ignoreCase, i, word, 0, word.length())
+				&& isWordBoundary(text, i)
+				&& isWordBoundary(text, i + word.length())) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 대소문자를 무시하고 target 을 모두 replacement 로 바꿉니다. (replaceAll("(?i)" + Pattern.quote(target), replacement) 와 동일)
+	 */
+	public static String replaceIgnoreCase(String text, String target, String replacement) {
+		if (target.isEmpty()) {
+			return text;
+		}
+		StringBuilder result = null;
+		int copied = 0;
+		int i = 0;
+		while (i <= text.length() - target.length()) {
+			if (text.regionMatches(true, i, target, 0, target.length())) {
+				if (result == null) {
+					result = new StringBuilder(text.length());
+				}
+				result.append(text, copied, i).append(replacement);
+				i += target.length();
+				copied = i;
+			} else {
+				i++;
+			}
+		}
+		if (result == null) {
+			return text;
+		}
+		return result.append(text, copied, text.length()).toString();
+	}
+
+	/**
+	 * 표현 퀴즈 문제를 만듭니다. 토큰마다 글자, 숫자, 아포스트로피, 장음(ー), 반복 기호(々)가 이어진 구간을 {} 로 바꾸고
+	 * 문장부호는 유지합니다. 토큰은 공백 하나로 연결합니다.
+	 * <p>예: "Hello, how are you!" → "{}, {} {} {}!"</p>
+	 */
+	public static String maskWords(String sentence) {
+		StringBuilder result = new StringBuilder(sentence.length());
+		boolean first = true;
+		for (String token : splitByWhitespace(sentence)) {
+			if (!first) {
+				result.append(' ');
+			}
+			first = false;
+
+			boolean inWord = false;
+			for (int i = 0; i < token.length(); ) {
+				int codePoint = token.codePointAt(i);
+				if (isQuizWordCodePoint(codePoint)) {
+					if (!inWord) {
+						result.append("{}");
+						inWord = true;
+					}
+				} else {
+					result.appendCodePoint(codePoint);
+					inWord = false;
+				}
+				i += Character.charCount(codePoint);
+			}
+		}
+		return result.toString();
+	}
+
+	/**
+	 * 아포스트로피를 제외한 ASCII 문장부호를 제거합니다. 제거할 문자가 없으면 새 문자열을 만들지 않습니다.
+	 */
+	public static String stripPunctuation(String token) {
+		StringBuilder result = null;
+		for (int i = 0; i < token.length(); i++) {
+			char c = token.charAt(i);
+			boolean stripped = c < 128 && STRIPPED_PUNCTUATION[c];
+			if (stripped && result == null) {
+				result = new StringBuilder(token.length()).append(token, 0, i);
+			} else if (!stripped && result != null) {
+				result.append(c);
+			}
+		}
+		return result == null ? token : result.toString();
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	private static boolean isWordChar(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+	}
+
+	private static boolean isWordBoundary(String text, int index) {
+		boolean before = index > 0 && isWordChar(text.charAt(index - 1));
+		boolean after = index < text.length() && isWordChar(text.charAt(index));
+		return before != after;
+	}
+
+	private static boolean isQuizWordCodePoint(int codePoint) {
+		if (Character.isLetter(codePoint)) {
+			return true;
+		}
+		int type = Character.getType(codePoint);
+		return type == Character.DECIMAL_DIGIT_NUMBER
+			|| type == Character.LETTER_NUMBER
+			|| type == Character.OTHER_NUMBER
+			|| codePoint == '\''
+			|| codePoint == '’'
+			|| codePoint == 'ー'
+			|| codePoint == '々';
+	}
+}
@@ -0,0 +1,196 @@
+package com.mallang.mallang_backend.global.util.text;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.mallang.mallang_backend.global.common.Language;
+import com.mallang.mallang_backend.global.util.japanese.JapaneseSplitter;
+
+/**
+ * 단어 사전 조회용 정규화 키를 만듭니다.
+ * <p>- 영어: 소문자로 바꾸고 규칙 기반으로 굴절 어미(-s, -es, -ies, -ed, -ied, -ing)를 제거합니다. 원형은 바꾸지 않고,
+ *    -ed/-ing 로 떨어진 묵음 e 는 어간 모양을 보고 되살립니다. (ceases, Ceased, ceasing → cease, noted → note, not → not)
+ *    불규칙 동사/명사는 표에서 원형으로 바꿉니다.</p>
+ * <p>- 일본어: Kuromoji 로 형태소를 나누고 마지막 자립어를 기본형으로 바꿉니다. (食べた → 食べる)</p>
+ * <p>- 키는 사전 표제어가 아니라 같은 단어의 활용형끼리 같은 값을 갖도록 만든 값입니다.
+ *    저장과 조회에 같은 함수를 쓰므로, 다른 단어끼리 같은 키가 되지 않도록 애매한 경우에는 키를 맞추지 않습니다.
+ *    (키가 다르면 GPT 로 새로 검색할 뿐이지만, 키가 겹치면 다른 단어의 뜻을 돌려주게 됩니다.)</p>
+ */
+public final class WordNormalizer {
+
+	private static final int MIN_STEM_LENGTH = 3;
+
+	// 활용형처럼 보이지만 원형인 단어 (-s, -ing)
+	private static final Set<String> INVARIANT = Set.of(
+		"news", "series", "species", "means", "always", "perhaps", "whereas", "towards", "afterwards",
+		"sometimes", "besides", "lens", "mathematics", "physics", "politics", "economics", "ethics",
+		"thanks", "pants", "glasses", "scissors", "clothes", "christmas", "canvas", "atlas", "chaos",
+		"morning", "evening", "during", "nothing", "something", "anything", "everything", "ceiling", "wedding",
+		"pudding", "awning", "herring"
+	);
+
+	// 불규칙 활용형 → 원형 (다른 뜻의 단어와 겹치는 left, saw, found 등은 제외)
+	private static final Map<String, String> IRREGULAR = Map.ofEntries(
+		Map.entry("am", "be"), Map.entry("is", "be"), Map.entry("are", "be"), Map.entry("was", "be"),
+		Map.entry("were", "be"), Map.entry("been", "be"), Map.entry("being", "be"),
+		Map.entry("has", "have"), Map.entry("had", "have"), Map.entry("having", "have"),
+		Map.entry("does", "do"), Map.entry("did", "do"), Map.entry("done", "do"),
+		Map.entry("goes", "go"), Map.entry("went", "go"), Map.entry("gone", "go"),
+		Map.entry("made", "make"), Map.entry("said", "say"), Map.entry("seen", "see"), Map.entry("took", "take"),
+		Map.entry("taken", "take"), Map.entry("came", "come"), Map.entry("gave", "give"), Map.entry("given", "give"),
+		Map.entry("got", "get"), Map.entry("gotten", "get"), Map.entry("knew", "know"), Map.entry("known", "know"),
+		Map.entry("thought", "think"), Map.entry("told", "tell"), Map.entry("felt", "feel"), Map.entry("kept", "keep"),
+		Map.entry("began", "begin"), Map.entry("begun", "begin"), Map.entry("brought", "bring"), Map.entry("bought", "buy"),
+		Map.entry("caught", "catch"), Map.entry("taught", "teach"), Map.entry("wrote", "write"), Map.entry("written", "write"),
+		Map.entry("spoken", "speak"), Map.entry("ran", "run"), Map.entry("ate", "eat"), Map.entry("eaten", "eat"),
+		Map.entry("drank", "drink"), Map.entry("slept", "sleep"), Map.entry("stood", "stand"), Map.entry("understood", "understand"),
+		Map.entry("sold", "sell"), Map.entry("sent", "send"), Map.entry("spent", "spend"), Map.entry("built", "build"),
+		Map.entry("lost", "lose"), Map.entry("paid", "pay"), Map.entry("met", "meet"), Map.entry("won", "win"),
+		Map.entry("chose", "choose"), Map.entry("chosen", "choose"), Map.entry("forgot", "forget"), Map.entry("forgotten", "forget"),
+		Map.entry("fallen", "fall"), Map.entry("flew", "fly"), Map.entry("flown", "fly"), Map.entry("drove", "drive"),
+		Map.entry("driven", "drive"), Map.entry("broke", "break"), Map.entry("broken", "break"), Map.entry("wore", "wear"),
+		Map.entry("worn", "wear"), Map.entry("held", "hold"),
+		Map.entry("children", "child"), Map.entry("men", "man"), Map.entry("women", "woman"), Map.entry("people", "person"),
+		Map.entry("feet", "foot"), Map.entry("teeth", "tooth"), Map.entry("mice", "mouse"), Map.entry("geese", "goose"),
+		Map.entry("lives", "life"), Map.entry("knives", "knife"), Map.entry("wives", "wife"), Map.entry("shoes", "shoe")
+	);
+
+	private WordNormalizer() {
+	}
+
+	/**
+	 * 단어의 정규화 키를 반환합니다. 영어/일본어가 아닌 단어는 앞뒤 공백을 제거하고 소문자로만 바꿉니다.
+	 */
+	public static String normalize(String word) {
+		if (word == null) {
+			return null;
+		}
+		String trimmed = word.trim();
+		if (trimmed.isEmpty()) {
+			return trimmed;
+		}
+		if (Language.JAPANESE.matches(trimmed)) {
+			return JapaneseSplitter.toBaseForm(trimmed);
+		}
+
+		String lower = trimmed.toLowerCase(Locale.ROOT);
+		if (Language.ENGLISH.matches(lower) && lower.indexOf(' ') < 0) {
+			return stemEnglish(lower);
+		}
+		return lower;
+	}
+
+	private static String stemEnglish(String word) {
+		String irregular = IRREGULAR.get(word);
+		if (irregular != null) {
+			return irregular;
+		}
+		if (word.length() <= MIN_STEM_LENGTH || INVARIANT.contains(word)) {
+			return word;
+		}
+
+		if (word.endsWith("ies") && word.length() > 4) {
+			return word.substring(0, word.length() - 3) + "y";
+		}
+		if (word.endsWith("sses") || word.endsWith("shes") || word.endsWith("ches") || word.endsWith("xes") || word.endsWith("zzes")) {
+			return word.substring(0, word.length() - 2);
+		}
+		if (word.endsWith("oes") && word.length() > 5) {
+			return word.substring(0, word.length() - 2);
+		}
+		if (word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us") && !word.endsWith("is") && !word.endsWith("ous")) {
+			return word.substring(0, word.length() - 1);
+		}
+
+		if (word.endsWith("ied") && word.length() > 4) {
+			return word.substring(0, word.length() - 3) + "y";
+		}
+		if (word.endsWith("eed")) {
+			// need, speed, exceed 처럼 -eed 로 끝나는 원형이 많아 바꾸지 않음
+			return word;
+		}
+		if (word.endsWith("ed")) {
+			return stripSuffix(word, 2);
+		}
+		if (word.endsWith("ing")) {
+			return stripSuffix(word, 3);
+		}
+		return word;
+	}
+
+	/**
+	 * -ed, -ing 를 뗀 어간이 충분히 길고 모음을 포함할 때만 어미를 제거합니다.
+	 * 겹자음은 하나로 줄이고(stopped → stop, added → add), 떨어진 묵음 e 는 되살립니다. (hoped → hope, hopped → hop)
+	 */
+	private static String stripSuffix(String word, int suffixLength) {
+		String stem = word.substring(0, word.length() - suffixLength);
+		if (stem.length() < MIN_STEM_LENGTH || !hasVowel(stem)) {
+			return word;
+		}
+		int last = stem.length() - 1;
+		char c = stem.charAt(last);
+		if (c == stem.charAt(last - 1) && !isVowel(c) && c != 'l' && c != 's' && c != 'z' && c != 'f') {
+			String single = stem.substring(0, last);
+			return endsWithShortSyllable(single) ? single : stem;
+		}
+		return needsSilentE(stem) ? stem + "e" : stem;
+	}
+
+	/**
+	 * 어미를 뗀 어간이 묵음 e 로 끝나는 원형에서 왔는지 판단합니다. 애매하면 false 를 반환합니다.
+	 * <p>- -c, -v, -u, -bl, -iz 로 끝나는 원형은 거의 없음 (danced, loved, argued, troubled, realized)</p>
+	 * <p>- 모음 두 개 뒤의 s, z (ceased, caused, freezing)</p>
+	 * <p>- 음절이 하나인 자음-모음-자음 (noted, hoping, planed)</p>
+	 */
+	private static boolean needsSilentE(String stem) {
+		int last = stem.length() - 1;
+		char c = stem.charAt(last);
+		if (c == 'c' || c == 'v' || c == 'u' || stem.endsWith("bl") || stem.endsWith("iz")) {
+			return true;
+		}
+		if ((c == 's' || c == 'z') && isVowel(stem.charAt(last - 1)) && isVowel(stem.charAt(last - 2))) {
+			return true;
+		}
+		return measure(stem) == 1 && endsWithShortSyllable(stem);
+	}
+
+	/**
+	 * 자음-모음-자음으로 끝나는지 확인합니다. 마지막 자음이 w, x, y 이면 제외합니다. (hop, plan / play, fix 는 제외)
+	 */
+	private static boolean endsWithShortSyllable(String word) {
+		int last = word.length() - 1;
+		if (last < 2) {
+			return false;
+		}
+		char c = word.charAt(last);
+		return !isVowel(word.charAt(last - 2)) && isVowel(word.charAt(last - 1)) && !isVowel(c)
+			&& c != 'w' && c != 'x' && c != 'y';
+	}
+
+	/**
+	 * 모음 뒤에 자음이 오는 횟수(음절 수의 근사값)를 셉니다. (not → 1, visit → 2)
+	 */
+	private static int measure(String word) {
+		int count = 0;
+		for (int i = 1; i < word.length(); i++) {
+			if (isVowel(word.charAt(i - 1)) && !isVowel(word.charAt(i))) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static boolean hasVowel(String word) {
+		for (int i = 0; i < word.length(); i++) {
+			if (isVowel(word.charAt(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isVowel(char c) {
+		return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u' || c == 'y';
+	}
+}
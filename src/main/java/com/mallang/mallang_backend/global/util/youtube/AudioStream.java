@@ -0,0 +1,60 @@
+package com.mallang.mallang_backend.global.util.youtube;
+
+import static com.mallang.mallang_backend.global.exception.ErrorCode.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.mallang.mallang_backend.global.exception.ServiceException;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * yt-dlp 프로세스의 표준 출력으로 전달되는 음성 스트림
+ * 사용 후 반드시 close 하여 프로세스를 정리하고 음성 추출 동시 실행 슬롯을 반납해야 합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AudioStream implements Closeable {
+
+	private static final long PROCESS_EXIT_TIMEOUT_SECONDS = 30;
+
+	private final InputStream inputStream;
+	private final String fileName;
+	private final int durationSeconds;
+	private final Process process;
+	// close 시 한 번만 실행 (음성 추출 동시 실행 슬롯 반납)
+	@Getter(AccessLevel.NONE)
+	private final Runnable onClose;
+	@Getter(AccessLevel.NONE)
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	/**
+	 * 스트림을 끝까지 읽은 뒤 호출하여 yt-dlp 가 정상 종료되었는지 확인합니다.
+	 * 비정상 종료 시 전송된 음성이 잘렸을 수 있으므로 예외를 던집니다.
+	 */
+	public void awaitCompletion() throws InterruptedException {
+		if (!process.waitFor(PROCESS_EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS) || process.exitValue() != 0) {
+			throw new ServiceException(AUDIO_DOWNLOAD_FAILED);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			inputStream.close();
+		} finally {
+			if (process.isAlive()) {
+				process.destroyForcibly();
+			}
+			if (closed.compareAndSet(false, true)) {
+				onClose.run();
+			}
+		}
+	}
+}
@@ -4,4 +4,9 @@ import java.io.IOException;
 
 public interface ProcessRunner {
 	Process runProcess(String... command) throws IOException;
+
+	/**
+	 * 표준 출력과 표준 에러를 분리하여 실행합니다. (표준 출력으로 바이너리를 받는 경우)
+	 */
+	Process runProcessWithSeparateErrorStream(String... command) throws IOException;
 }
\ No newline at end of file
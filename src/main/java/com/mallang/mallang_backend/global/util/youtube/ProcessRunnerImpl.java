@@ -10,4 +10,9 @@ public class ProcessRunnerImpl implements ProcessRunner {
 	public Process runProcess(String... command) throws IOException {
 		return new ProcessBuilder(command).redirectErrorStream(true).start();
 	}
+
+	@Override
+	public Process runProcessWithSeparateErrorStream(String... command) throws IOException {
+		return new ProcessBuilder(command).start();
+	}
 }
@@ -0,0 +1,55 @@
+package com.mallang.mallang_backend.global.util.youtube;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.mallang.mallang_backend.global.common.Language;
+
+import lombok.Data;
+
+/**
+ * STT 전송용 음성 추출 프로필 설정
+ * 활성화되면 yt-dlp 가 ffmpeg 로 음성을 받아 모노, 16kHz, 저비트레이트 Opus(ogg)로 변환한 뒤 저장/전송합니다.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "youtube.extractor.speech-profile") // yml 파일에서 "youtube.extractor.speech-profile" 하위 값을 읽어와서 매핑
+public class SpeechAudioProperties {
+
+    private boolean enabled = false;
+
+    // 언어별 설정이 없을 때 사용하는 기본 프로필
+    private Profile defaults = new Profile();
+
+    // 언어(ENGLISH, JAPANESE) 별로 기본 프로필을 덮어쓰는 프로필
+    private Map<Language, Profile> languages = new EnumMap<>(Language.class);
+
+    public Profile profileOf(Language language) {
+        if (language == null) {
+            return defaults;
+        }
+        return languages.getOrDefault(language, defaults);
+    }
+
+    @Data
+    public static class Profile {
+        private int sampleRate = 16000;
+        private int channels = 1;
+        private String bitrate = "24k";
+
+        /**
+         * yt-dlp 가 ffmpeg 로 내려받으면서 음성만 지정한 형식으로 변환하도록 하는 옵션
+         */
+        public List<String> toYtDlpArgs() {
+            String ffmpegOutputArgs = String.format(
+                "ffmpeg_o:-vn -ac %d -ar %d -c:a libopus -b:a %s -application voip -f ogg",
+                channels, sampleRate, bitrate
+            );
+            return List.of("--downloader", "ffmpeg", "--downloader-args", ffmpegOutputArgs);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.mallang.mallang_backend.global.util.youtube;
 
 import java.io.IOException;
 
+import com.mallang.mallang_backend.global.common.Language;
+
 public interface YoutubeAudioExtractor {
 	/**
 	 * 유튜브 링크를 받아서 음성 파일(mp3)로 변환하고 파일 경로를 반환한다.
@@ -9,4 +11,42 @@ public interface YoutubeAudioExtractor {
 	 * @return 음성 파일명
 	 */
 	String extractAudio(String youtubeUrl) throws IOException, InterruptedException;
+
+	/**
+	 * 영상 언어에 맞는 음성 추출 프로필로 음성 파일을 추출하고 파일명을 반환한다.
+	 * 프로필을 지원하지 않는 구현체는 기본 추출 방식을 사용한다.
+	 * @param youtubeUrl 유튜브 영상 URL
+	 * @param language 영상 언어
+	 * @return 음성 파일명
+	 */
+	default String extractAudio(String youtubeUrl, Language language) throws IOException, InterruptedException {
+		return extractAudio(youtubeUrl);
+	}
+
+	/**
+	 * 음성을 파일 대신 스트림으로 반환할 수 있는지 여부. false 이면 openAudioStream 을 호출하지 않는다.
+	 */
+	default boolean supportsStreaming() {
+		return false;
+	}
+
+	/**
+	 * 하나의 yt-dlp 프로세스로 영상 길이 확인과 음성 추출을 함께 처리하고, 음성을 파일 대신 스트림으로 반환한다.
+	 * supportsStreaming 이 true 인 구현체만 호출할 수 있다.
+	 * @param youtubeUrl 유튜브 영상 URL
+	 * @return 음성 스트림 (사용 후 close 필요)
+	 */
+	default AudioStream openAudioStream(String youtubeUrl) throws IOException, InterruptedException {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * 영상 언어에 맞는 음성 추출 프로필로 음성 스트림을 반환한다.
+	 * @param youtubeUrl 유튜브 영상 URL
+	 * @param language 영상 언어
+	 * @return 음성 스트림 (사용 후 close 필요)
+	 */
+	default AudioStream openAudioStream(String youtubeUrl, Language language) throws IOException, InterruptedException {
+		return openAudioStream(youtubeUrl);
+	}
 }
\ No newline at end of file
@@ -11,16 +11,22 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.global.common.Language;
 import com.mallang.mallang_backend.global.exception.ErrorCode;
 import com.mallang.mallang_backend.global.exception.ServiceException;
 
 import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +36,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class YoutubeAudioExtractorImpl implements YoutubeAudioExtractor {
 
+	private static final String DURATION_MARKER = "DURATION=";
+	private static final long STREAM_METADATA_TIMEOUT_SECONDS = 30;
+	private static final String AUDIO_EXTRACTION_BULKHEAD = "audioExtraction";
+
 	private final ProcessRunner processRunner;
+	private final SpeechAudioProperties speechAudioProperties;
+	private final BulkheadRegistry bulkheadRegistry;
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
 	@Value("${youtube.extractor.info-cmd}")
@@ -39,9 +51,32 @@ public class YoutubeAudioExtractorImpl implements YoutubeAudioExtractor {
 	@Value("${youtube.extractor.extract-cmd}")
 	private String extractCmd;
 
+	// 영상 길이를 표준 에러로 출력한 뒤 음성을 표준 출력으로 내보내는 명령어 (-o - 사용 시 yt-dlp 메시지는 표준 에러로 출력됨)
+	@Value("${youtube.extractor.stream-cmd:yt-dlp -f 251 --no-playlist --no-part --print before_dl:DURATION=%(duration)s -o -}")
+	private String streamCmd;
+
 	@Bulkhead(name = "audioExtraction", fallbackMethod = "extractFallback")
 	@Override
 	public String extractAudio(String youtubeUrl) throws IOException, InterruptedException {
+		return extract(youtubeUrl, null);
+	}
+
+	@Bulkhead(name = "audioExtraction", fallbackMethod = "extractFallback")
+	@Override
+	public String extractAudio(String youtubeUrl, Language language) throws IOException, InterruptedException {
+		return extract(youtubeUrl, language);
+	}
+
+	// 대기가 길어져도 슬롯이 안 풀리면 이곳이 호출됩니다.
+	public String extractFallback(String url, BulkheadFullException ex) {
+		throw new ServiceException(ErrorCode.TOO_MANY_CONCURRENT_AUDIO_EXTRACTIONS);
+	}
+
+	public String extractFallback(String url, Language language, BulkheadFullException ex) {
+		throw new ServiceException(ErrorCode.TOO_MANY_CONCURRENT_AUDIO_EXTRACTIONS);
+	}
+
+	private String extract(String youtubeUrl, Language language) throws IOException, InterruptedException {
 		ensureUploadsDirectoryExists();
 
 		JsonNode videoInfo = fetchVideoInfo(youtubeUrl);
@@ -49,14 +84,105 @@ public class YoutubeAudioExtractorImpl implements YoutubeAudioExtractor {
 
 		String fileName = generateFileName();
 
-		runAudioExtraction(youtubeUrl, UPLOADS_DIR + fileName);
+		runAudioExtraction(youtubeUrl, UPLOADS_DIR + fileName, language);
 
 		return fileName;
 	}
 
-	// 대기가 길어져도 슬롯이 안 풀리면 이곳이 호출됩니다.
-	public String extractFallback(String url, BulkheadFullException ex) {
-		throw new ServiceException(ErrorCode.TOO_MANY_CONCURRENT_AUDIO_EXTRACTIONS);
+	@Override
+	public boolean supportsStreaming() {
+		return true;
+	}
+
+	@Override
+	public AudioStream openAudioStream(String youtubeUrl) throws IOException, InterruptedException {
+		return openStream(youtubeUrl, null);
+	}
+
+	@Override
+	public AudioStream openAudioStream(String youtubeUrl, Language language) throws IOException, InterruptedException {
+		return openStream(youtubeUrl, language);
+	}
+
+	/**
+	 * 메서드가 반환된 뒤에도 yt-dlp 가 음성을 계속 내보내므로, @Bulkhead 대신 슬롯을 직접 획득하고 AudioStream 을 close 할 때 반납합니다.
+	 */
+	private AudioStream openStream(String youtubeUrl, Language language) throws IOException, InterruptedException {
+		var bulkhead = bulkheadRegistry.bulkhead(AUDIO_EXTRACTION_BULKHEAD);
+		if (!bulkhead.tryAcquirePermission()) {
+			throw new ServiceException(ErrorCode.TOO_MANY_CONCURRENT_AUDIO_EXTRACTIONS);
+		}
+		Runnable releasePermit = bulkhead::onComplete;
+
+		Process process = null;
+		try {
+			List<String> cmd = buildCommand(streamCmd, language);
+			cmd.add(youtubeUrl);
+
+			process = processRunner.runProcessWithSeparateErrorStream(cmd.toArray(new String[0]));
+			Process started = process;
+
+			// 표준 에러에서 영상 길이를 읽고, 나머지 로그는 그대로 기록
+			CompletableFuture<Integer> duration = new CompletableFuture<>();
+			Thread.ofVirtual()
+				.name("yt-dlp-stderr")
+				.start(() -> readDurationFromErrorStream(started, duration));
+
+			int durationSeconds = duration.get(STREAM_METADATA_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			validateDurationSeconds(durationSeconds);
+			return new AudioStream(process.getInputStream(), generateFileName(), durationSeconds, process, releasePermit);
+		} catch (ExecutionException | TimeoutException e) {
+			release(releasePermit, process);
+			throw new ServiceException(VIDEO_RETRIEVAL_FAILED);
+		} catch (IOException | InterruptedException | RuntimeException e) {
+			release(releasePermit, process);
+			throw e;
+		}
+	}
+
+	private void release(Runnable releasePermit, Process process) {
+		if (process != null) {
+			process.destroyForcibly();
+		}
+		releasePermit.run();
+	}
+
+	/**
+	 * 설정된 명령어에 음성 추출 프로필 옵션을 추가합니다.
+	 * yt-dlp 옵션은 순서와 무관하므로 실행 파일 바로 뒤에 추가합니다.
+	 */
+	private List<String> buildCommand(String baseCmd, Language language) {
+		List<String> cmd = new ArrayList<>(Arrays.asList(baseCmd.split("\\s+")));
+		if (speechAudioProperties.isEnabled()) {
+			cmd.addAll(1, speechAudioProperties.profileOf(language).toYtDlpArgs());
+		}
+		return cmd;
+	}
+
+	private void readDurationFromErrorStream(Process process, CompletableFuture<Integer> duration) {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!duration.isDone() && line.startsWith(DURATION_MARKER)) {
+					duration.complete(parseDuration(line.substring(DURATION_MARKER.length())));
+				} else {
+					log.info("[yt-dlp] {}", line);
+				}
+			}
+		} catch (IOException e) {
+			log.warn("[yt-dlp] 표준 에러 읽기 실패", e);
+		} finally {
+			// 영상 길이 출력 없이 종료된 경우
+			duration.completeExceptionally(new ServiceException(VIDEO_RETRIEVAL_FAILED));
+		}
+	}
+
+	private int parseDuration(String value) {
+		try {
+			return (int) Double.parseDouble(value.trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
 	}
 
 	private void ensureUploadsDirectoryExists() {
@@ -84,7 +210,10 @@ public class YoutubeAudioExtractorImpl implements YoutubeAudioExtractor {
 	}
 
 	private void validateVideoDuration(JsonNode videoInfo) {
-		int durationSeconds = videoInfo.path("duration").asInt(-1);
+		validateDurationSeconds(videoInfo.path("duration").asInt(-1));
+	}
+
+	private void validateDurationSeconds(int durationSeconds) {
 		if (durationSeconds == -1) {
 			throw new ServiceException(VIDEO_RETRIEVAL_FAILED);
 		}
@@ -93,8 +222,8 @@ public class YoutubeAudioExtractorImpl implements YoutubeAudioExtractor {
 		}
 	}
 
-	private void runAudioExtraction(String youtubeUrl, String outputPath) throws IOException, InterruptedException {
-		List<String> cmd = new ArrayList<>(Arrays.asList(extractCmd.split("\\s+")));
+	private void runAudioExtraction(String youtubeUrl, String outputPath, Language language) throws IOException, InterruptedException {
+		List<String> cmd = buildCommand(extractCmd, language);
 		cmd.add(outputPath);
 		cmd.add(youtubeUrl);
 
@@ -128,6 +257,7 @@ public class YoutubeAudioExtractorImpl implements YoutubeAudioExtractor {
 	}
 
 	private String generateFileName() {
-		return AUDIO_FILE_PREFIX + UUID.randomUUID() + System.currentTimeMillis() + AUDIO_FILE_EXTENSION;
+		String extension = speechAudioProperties.isEnabled() ? SPEECH_AUDIO_FILE_EXTENSION : AUDIO_FILE_EXTENSION;
+		return AUDIO_FILE_PREFIX + UUID.randomUUID() + System.currentTimeMillis() + extension;
 	}
 }
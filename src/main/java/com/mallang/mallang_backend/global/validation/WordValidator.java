@@ -1,7 +1,5 @@
 package com.mallang.mallang_backend.global.validation;
 
-import java.util.regex.Pattern;
-
 import com.mallang.mallang_backend.global.common.Language;
 
 public class WordValidator {
@@ -1,5 +1,6 @@
 package com.mallang.mallang_backend.domain.quiz.wordquiz.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mallang.mallang_backend.domain.member.entity.Member;
 import com.mallang.mallang_backend.domain.quiz.wordquiz.dto.WordQuizResponse;
 import com.mallang.mallang_backend.domain.quiz.wordquiz.dto.WordQuizResultSaveRequest;
@@ -10,6 +11,8 @@ import com.mallang.mallang_backend.domain.quiz.wordquizresult.entity.WordQuizRes
 import com.mallang.mallang_backend.domain.quiz.wordquizresult.repository.WordQuizResultRepository;
 import com.mallang.mallang_backend.domain.video.subtitle.entity.Subtitle;
 import com.mallang.mallang_backend.domain.video.subtitle.repository.SubtitleRepository;
+import com.mallang.mallang_backend.domain.voca.word.cache.WordCache;
+import com.mallang.mallang_backend.domain.voca.word.cache.WordCacheProperties;
 import com.mallang.mallang_backend.domain.voca.word.entity.Word;
 import com.mallang.mallang_backend.domain.voca.word.repository.WordRepository;
 import com.mallang.mallang_backend.domain.voca.wordbook.entity.Wordbook;
@@ -19,6 +22,7 @@ import com.mallang.mallang_backend.domain.voca.wordbookitem.entity.WordbookItem;
 import com.mallang.mallang_backend.domain.voca.wordbookitem.repository.WordbookItemRepository;
 import com.mallang.mallang_backend.global.common.Language;
 import com.mallang.mallang_backend.global.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -51,6 +56,9 @@ import static org.mockito.Mockito.eq;
 @ExtendWith(MockitoExtension.class)
 public class WordQuizServiceImplTest {
 
+    @Spy
+    private WordCache wordCache = new WordCache(null, new ObjectMapper(), new WordCacheProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private WordQuizServiceImpl wordQuizService;
 
@@ -160,6 +168,37 @@ public class WordQuizServiceImplTest {
             assertThat(response.getQuizItems()).extracting("question").contains("This is an {}.", "I like {}.");
         }
 
+        @Test
+        @DisplayName("성공 - 활용형 커스텀 단어는 정규화 키로 찾은 단어로 빈칸을 만든다")
+        void generateQuiz_normalizedCustomWord() {
+            Long wordbookId = 1L;
+
+            WordbookItem customItem = WordbookItem.builder()
+                    .wordbook(savedWordbook)
+                    .word("apples")
+                    .subtitleId(null)
+                    .build();
+            setId(customItem, 101L);
+
+            Word customWord = Word.builder()
+                    .word("apple")
+                    .exampleSentence("This is an apple.")
+                    .translatedSentence("이것은 사과입니다.")
+                    .build();
+
+            given(wordbookRepository.findByIdAndMember(wordbookId, savedMember)).willReturn(Optional.of(savedWordbook));
+            given(wordbookItemRepository.findAllByWordbook(savedWordbook)).willReturn(List.of(customItem));
+            given(wordRepository.findByWord("apples")).willReturn(List.of());
+            given(wordRepository.findByNormalizedWord("apple")).willReturn(List.of(customWord));
+            given(wordQuizRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+            WordbookQuizResponse response = wordQuizService.generateWordbookQuiz(wordbookId, savedMember);
+
+            assertThat(response.getQuizItems()).hasSize(1);
+            assertThat(response.getQuizItems().get(0).getWord()).isEqualTo("apple");
+            assertThat(response.getQuizItems().get(0).getQuestion()).isEqualTo("This is an {}.");
+        }
+
         @Test
         @DisplayName("실패 - 단어장이 존재하지 않거나 권한이 없을 경우")
         void generateQuiz_wordbookNotFound() {
@@ -72,4 +72,45 @@ class TranscriptParserImplTest {
 		assertThat(last.getEndTime()).isEqualTo("00:00:39.140");
 		assertThat(last.getText()).isEqualTo("I am the one who knocks.");
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("단어별 시간 정보 등 사용하지 않는 필드는 건너뛰고 시간을 ms 단위로 보관한다")
+	void parseTranscriptJson_skipsUnusedFields() throws IOException {
+		String json = """
+        {
+          "result":"COMPLETED",
+          "params":{"language":"en-US","diarization":{"enable":true}},
+          "segments":[
+            {
+              "start":3723004,
+              "end":3725010,
+              "text":"I see",
+              "confidence":0.93,
+              "diarization":{"label":"1"},
+              "speaker":{"label":"1","name":"B","edited":false},
+              "words":[[3723004,3723500,"I"],[3723600,3725010,"see"]],
+              "textEdited":"I see"
+            },
+            {
+              "start":3725010,
+              "end":3726000,
+              "words":[],
+              "textEdited":"I know"
+            }
+          ],
+          "text":"I see I know",
+          "speakers":[{"label":"1","name":"B"}]
+        }
+        """;
+
+		List<TranscriptSegment> segments = transcriptParserImpl.parseTranscriptJson(json).getSegments();
+
+		assertThat(segments).hasSize(2);
+		assertThat(segments.get(0).getStartMs()).isEqualTo(3723004L);
+		assertThat(segments.get(0).getStartTime()).isEqualTo("01:02:03.004");
+		assertThat(segments.get(0).getSpeaker()).isEqualTo("B");
+		assertThat(segments.get(0).getText()).isEqualTo("I see");
+		assertThat(segments.get(1).getEndMs()).isEqualTo(3726000L);
+		assertThat(segments.get(1).getSpeaker()).isEqualTo("Unknown");
+	}
+}
@@ -0,0 +1,29 @@
+package com.mallang.mallang_backend.domain.stt.converter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TranscriptSegmentTest {
+
+	@Test
+	@DisplayName("소수점 아래 자릿수와 관계없이 초의 소수 부분을 ms 로 변환한다")
+	void parseMillis_fractionDigits() {
+		assertThat(TranscriptSegment.parseMillis("00:00:01.5")).isEqualTo(1_500);
+		assertThat(TranscriptSegment.parseMillis("00:00:01.50")).isEqualTo(1_500);
+		assertThat(TranscriptSegment.parseMillis("00:00:01.500")).isEqualTo(1_500);
+		assertThat(TranscriptSegment.parseMillis("00:00:01.05")).isEqualTo(1_050);
+		assertThat(TranscriptSegment.parseMillis("00:00:01.1234")).isEqualTo(1_123);
+		assertThat(TranscriptSegment.parseMillis("01:02:03")).isEqualTo(3_723_000);
+	}
+
+	@Test
+	@DisplayName("ms 단위 시간을 변환한 문자열은 다시 같은 시간으로 읽힌다")
+	void formatMillis_roundTrip() {
+		long millis = 3_723_045;
+
+		assertThat(TranscriptSegment.formatMillis(millis)).isEqualTo("01:02:03.045");
+		assertThat(TranscriptSegment.parseMillis(TranscriptSegment.formatMillis(millis))).isEqualTo(millis);
+	}
+}
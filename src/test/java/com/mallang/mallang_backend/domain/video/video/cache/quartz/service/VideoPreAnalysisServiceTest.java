@@ -0,0 +1,141 @@
+package com.mallang.mallang_backend.domain.video.video.cache.quartz.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mallang.mallang_backend.domain.video.subtitle.repository.SubtitleRepository;
+import com.mallang.mallang_backend.domain.video.video.cache.dto.CachedVideos;
+import com.mallang.mallang_backend.domain.video.video.dto.VideoResponse;
+import com.mallang.mallang_backend.domain.video.video.service.VideoService;
+import com.mallang.mallang_backend.global.common.Language;
+
+@ExtendWith(MockitoExtension.class)
+class VideoPreAnalysisServiceTest {
+
+	@Mock
+	private CacheManager cacheManager;
+
+	@Mock
+	private SubtitleRepository subtitleRepository;
+
+	@Mock
+	private VideoService videoService;
+
+	@Mock
+	private VideoPreAnalysisBudget budget;
+
+	@Mock
+	private Cache cache;
+
+	@InjectMocks
+	private VideoPreAnalysisService service;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(service, "enabled", true);
+		ReflectionTestUtils.setField(service, "openAiTokensPerMinute", 600L);
+		ReflectionTestUtils.setField(service, "windowStart", "00:00");
+		ReflectionTestUtils.setField(service, "windowEnd", "00:00");
+	}
+
+	@Test
+	@DisplayName("preAnalyze: 미분석 영상 중 Clova 예산 안에 드는 영상만 분석")
+	void preAnalyze_skipsAnalyzedAndOverBudgetVideos() {
+		// given
+		CachedVideos cached = new CachedVideos(300L, List.of(
+			new VideoResponse("analyzed", "title1", "", "thumb1", false, "03:00"),
+			new VideoResponse("long", "title2", "", "thumb2", false, "19:30"),
+			new VideoResponse("short1", "title3", "", "thumb3", false, "09:10"),
+			new VideoResponse("short2", "title4", "", "thumb4", false, "05:00"),
+			new VideoResponse("short3", "title5", "", "thumb5", false, "01:00")
+		));
+		given(cacheManager.getCache("videoListCache")).willReturn(cache);
+		given(cache.get("||en", CachedVideos.class)).willReturn(cached);
+		given(subtitleRepository.findAnalyzedVideoIds(List.of("analyzed", "long", "short1", "short2", "short3")))
+			.willReturn(List.of("analyzed"));
+		given(videoService.preAnalyzeVideo(anyString(), eq(Language.ENGLISH))).willReturn(true);
+		// 두 언어의 잡이 함께 쓰는 하루 예산 중 15분이 남은 상태
+		AtomicLong remainingMinutes = new AtomicLong(15);
+		given(budget.tryReserve(anyLong(), anyLong())).willAnswer(invocation -> {
+			long minutes = invocation.getArgument(0);
+			if (minutes > remainingMinutes.get()) {
+				return false;
+			}
+			remainingMinutes.addAndGet(-minutes);
+			return true;
+		});
+
+		// when
+		int analyzed = service.preAnalyze("en", 4);
+
+		// then: 15분 예산에서 short1(10분) 분석 후 short2(5분)까지 분석, 19분짜리 영상은 건너뜀
+		assertEquals(2, analyzed);
+		then(videoService).should().preAnalyzeVideo("short1", Language.ENGLISH);
+		then(videoService).should().preAnalyzeVideo("short2", Language.ENGLISH);
+		then(videoService).should(never()).preAnalyzeVideo("long", Language.ENGLISH);
+		then(videoService).should(never()).preAnalyzeVideo("short3", Language.ENGLISH);
+	}
+
+	@Test
+	@DisplayName("preAnalyze: 이미 분석되었거나 다른 요청이 분석 중이어서 건너뛴 영상은 예산을 되돌림")
+	void preAnalyze_skippedVideo_releasesBudget() {
+		// given
+		CachedVideos cached = new CachedVideos(300L, List.of(
+			new VideoResponse("locked", "title1", "", "thumb1", false, "03:00")
+		));
+		given(cacheManager.getCache("videoListCache")).willReturn(cache);
+		given(cache.get("||en", CachedVideos.class)).willReturn(cached);
+		given(subtitleRepository.findAnalyzedVideoIds(List.of("locked"))).willReturn(List.of());
+		given(budget.tryReserve(3L, 1_800L)).willReturn(true);
+		given(videoService.preAnalyzeVideo("locked", Language.ENGLISH)).willReturn(false);
+
+		// when
+		int analyzed = service.preAnalyze("en", 1);
+
+		// then
+		assertEquals(0, analyzed);
+		then(budget).should().release(3L, 1_800L);
+	}
+
+	@Test
+	@DisplayName("preAnalyze: 캐시가 비어 있으면 분석하지 않음")
+	void preAnalyze_emptyCache_returnsZero() {
+		// given
+		given(cacheManager.getCache("videoListCache")).willReturn(cache);
+		given(cache.get("||ja", CachedVideos.class)).willReturn(null);
+
+		// when
+		int analyzed = service.preAnalyze("ja", 10);
+
+		// then
+		assertEquals(0, analyzed);
+		then(videoService).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("isWithinWindow: 자정을 넘기는 시간 범위 처리")
+	void isWithinWindow_overMidnight() {
+		ReflectionTestUtils.setField(service, "windowStart", "23:00");
+		ReflectionTestUtils.setField(service, "windowEnd", "05:00");
+
+		assertTrue(service.isWithinWindow(LocalTime.of(23, 30)));
+		assertTrue(service.isWithinWindow(LocalTime.of(4, 59)));
+		assertFalse(service.isWithinWindow(LocalTime.of(5, 0)));
+		assertFalse(service.isWithinWindow(LocalTime.of(12, 0)));
+	}
+}
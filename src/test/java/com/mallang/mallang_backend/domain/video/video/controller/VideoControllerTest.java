@@ -24,13 +24,16 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.mallang.mallang_backend.domain.video.video.VideoTestFactory;
+import com.mallang.mallang_backend.domain.video.video.dto.AnalyzeVideoResponse;
 import com.mallang.mallang_backend.domain.video.video.dto.VideoResponse;
 import com.mallang.mallang_backend.domain.video.video.entity.Videos;
+import com.mallang.mallang_backend.domain.video.video.queue.VideoAnalysisJobDispatcher;
 import com.mallang.mallang_backend.domain.video.video.service.VideoService;
 import com.mallang.mallang_backend.domain.video.youtube.YoutubeCategoryId;
 import com.mallang.mallang_backend.global.common.Language;
 import com.mallang.mallang_backend.global.filter.login.CustomUserDetails;
 import com.mallang.mallang_backend.global.filter.login.LoginUserArgumentResolver;
+import com.mallang.mallang_backend.global.gpt.dto.GptSubtitleResponse;
 import com.mallang.mallang_backend.global.util.sse.SseEmitterManager;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +44,7 @@ class VideoControllerTest {
 	VideoService videoService;
 	@Mock SseEmitterManager sseEmitterManager;
 	@Mock LoginUserArgumentResolver loginUserArgumentResolver;
+	@Mock VideoAnalysisJobDispatcher videoAnalysisJobDispatcher;
 
 	private VideoController controller;
 	private MockMvc mockMvc;
@@ -49,7 +53,7 @@ class VideoControllerTest {
 	@BeforeEach
 	void setUp() {
 		// 컨트롤러 + MockMvc 세팅 (커스텀 리졸버 등록)
-		controller = new VideoController(videoService, sseEmitterManager);
+		controller = new VideoController(videoService, sseEmitterManager, videoAnalysisJobDispatcher);
 		mockMvc = MockMvcBuilders
 			.standaloneSetup(controller)
 			.setCustomArgumentResolvers(loginUserArgumentResolver)
@@ -128,4 +132,22 @@ class VideoControllerTest {
 			.andExpect(content().string(org.hamcrest.Matchers.containsString("event:INIT")))
 			.andExpect(content().string(org.hamcrest.Matchers.containsString("data:")));
 	}
+
+	@Test
+	@DisplayName("GET /api/v1/videos/{id}/subtitles - 재생 구간 자막 조회")
+	void testGetSubtitlesInWindow() throws Exception {
+		GptSubtitleResponse subtitle = new GptSubtitleResponse(
+			1L, "00:00:05.000", "00:00:07.500", "A", "I see", "알겠어", List.of());
+		given(videoService.getSubtitlesInWindow("XYZ", 0L, 10_000L))
+			.willReturn(AnalyzeVideoResponse.from(List.of(subtitle)));
+
+		mockMvc.perform(get("/api/v1/videos/XYZ/subtitles")
+				.param("fromMs", "0")
+				.param("toMs", "10000")
+				.accept(MediaType.APPLICATION_JSON)
+			)
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.subtitleResults[0].subtitleId").value(1))
+			.andExpect(jsonPath("$.data.subtitleResults[0].startTime").value("00:00:05.000"));
+	}
 }
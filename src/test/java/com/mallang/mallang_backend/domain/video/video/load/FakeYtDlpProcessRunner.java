@@ -0,0 +1,63 @@
+package com.mallang.mallang_backend.domain.video.video.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.mallang.mallang_backend.global.util.youtube.ProcessRunner;
+
+/**
+ * yt-dlp 대신 fake-yt-dlp.sh 를 실행하는 부하 테스트용 ProcessRunner
+ * 명령어의 첫 번째 인자(yt-dlp)를 스크립트로 바꾸고, 호출마다 지연 시간과 실패 여부를 환경 변수로 전달합니다.
+ */
+class FakeYtDlpProcessRunner implements ProcessRunner {
+
+	private final Path script;
+	private final long latencyMs;
+	private final double failureRate;
+
+	FakeYtDlpProcessRunner(long latencyMs, double failureRate) throws IOException {
+		this.latencyMs = latencyMs;
+		this.failureRate = failureRate;
+		this.script = Files.createTempFile("fake-yt-dlp", ".sh");
+		this.script.toFile().deleteOnExit();
+		try (InputStream in = getClass().getResourceAsStream("/load/fake-yt-dlp.sh")) {
+			Files.copy(in, script, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	@Override
+	public Process runProcess(String... command) throws IOException {
+		return builder(command).redirectErrorStream(true).start();
+	}
+
+	@Override
+	public Process runProcessWithSeparateErrorStream(String... command) throws IOException {
+		return builder(command).start();
+	}
+
+	private ProcessBuilder builder(String... command) {
+		List<String> cmd = new ArrayList<>();
+		cmd.add("sh");
+		cmd.add(script.toString());
+		cmd.addAll(Arrays.asList(command).subList(1, command.length));
+
+		// 영상 정보 조회는 다운로드보다 짧게 걸리도록 지연 시간의 10%만 적용
+		boolean infoRequest = cmd.contains("--dump-json");
+		long sleepMs = LoadTestLatency.jitter(infoRequest ? latencyMs / 10 : latencyMs);
+		boolean fail = !infoRequest && ThreadLocalRandom.current().nextDouble() < failureRate;
+
+		ProcessBuilder builder = new ProcessBuilder(cmd);
+		Map<String, String> env = builder.environment();
+		env.put("FAKE_YTDLP_SLEEP", String.valueOf(sleepMs / 1000.0));
+		env.put("FAKE_YTDLP_FAIL", fail ? "1" : "0");
+		return builder;
+	}
+}
@@ -0,0 +1,37 @@
+package com.mallang.mallang_backend.domain.video.video.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * 설정한 지연 시간 후 응답하고, 실패 비율만큼 500 을 응답하는 MockWebServer 디스패처
+ */
+class LatencyDispatcher extends Dispatcher {
+
+	private final long latencyMs;
+	private final double failureRate;
+	private final Function<RecordedRequest, String> bodyFactory;
+
+	LatencyDispatcher(long latencyMs, double failureRate, Function<RecordedRequest, String> bodyFactory) {
+		this.latencyMs = latencyMs;
+		this.failureRate = failureRate;
+		this.bodyFactory = bodyFactory;
+	}
+
+	@Override
+	public MockResponse dispatch(RecordedRequest request) {
+		MockResponse response = new MockResponse()
+			.setHeadersDelay(LoadTestLatency.jitter(latencyMs), TimeUnit.MILLISECONDS)
+			.addHeader("Content-Type", "application/json");
+
+		if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+			return response.setResponseCode(500).setBody("{\"error\":\"fake failure\"}");
+		}
+		return response.setResponseCode(200).setBody(bodyFactory.apply(request));
+	}
+}
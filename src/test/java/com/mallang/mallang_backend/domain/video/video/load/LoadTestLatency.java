@@ -0,0 +1,23 @@
+package com.mallang.mallang_backend.domain.video.video.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트에서 외부 API 지연 시간을 흉내 내기 위한 유틸
+ */
+final class LoadTestLatency {
+
+	// 기준 지연 시간의 ±20% 범위에서 무작위로 흔들어 요청들이 같은 시점에 끝나지 않도록 함
+	private static final double JITTER_RATIO = 0.2;
+
+	private LoadTestLatency() {
+	}
+
+	static long jitter(long baseMs) {
+		if (baseMs <= 0) {
+			return 0;
+		}
+		double factor = 1 + ThreadLocalRandom.current().nextDouble(-JITTER_RATIO, JITTER_RATIO);
+		return Math.round(baseMs * factor);
+	}
+}
@@ -0,0 +1,38 @@
+package com.mallang.mallang_backend.domain.video.video.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분석 단계별 소요 시간을 모아 p50/p95/p99 를 계산합니다.
+ */
+class StageStats {
+
+	private final Map<String, List<Long>> samples = new LinkedHashMap<>();
+
+	synchronized void record(String stage, long millis) {
+		samples.computeIfAbsent(stage, k -> new ArrayList<>()).add(millis);
+	}
+
+	synchronized String report() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-12s %6s %8s %8s %8s %8s%n", "stage", "count", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+		for (Map.Entry<String, List<Long>> entry : samples.entrySet()) {
+			List<Long> values = new ArrayList<>(entry.getValue());
+			Collections.sort(values);
+			sb.append(String.format("%-12s %6d %8d %8d %8d %8d%n",
+				entry.getKey(), values.size(),
+				percentile(values, 50), percentile(values, 95), percentile(values, 99),
+				values.get(values.size() - 1)));
+		}
+		return sb.toString();
+	}
+
+	private static long percentile(List<Long> sorted, int percentile) {
+		int index = (int)Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+		return sorted.get(Math.max(0, index));
+	}
+}
@@ -0,0 +1,320 @@
+package com.mallang.mallang_backend.domain.video.video.load;
+
+import static com.mallang.mallang_backend.global.constants.AppConstants.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.domain.member.entity.Member;
+import com.mallang.mallang_backend.domain.member.repository.MemberRepository;
+import com.mallang.mallang_backend.domain.video.video.dto.VideoDetail;
+import com.mallang.mallang_backend.domain.video.video.service.impl.VideoAnalysisCheckpointStore;
+import com.mallang.mallang_backend.domain.video.youtube.service.YoutubeService;
+import com.mallang.mallang_backend.global.common.Language;
+import com.mallang.mallang_backend.global.gpt.service.GptPromptBuilder;
+import com.mallang.mallang_backend.global.gpt.service.GptService;
+import com.mallang.mallang_backend.global.gpt.service.impl.GptServiceMockImpl;
+import com.mallang.mallang_backend.global.init.factory.EntityTestFactory;
+import com.mallang.mallang_backend.global.token.TokenService;
+import com.mallang.mallang_backend.global.util.clova.ClovaSpeechClient;
+import com.mallang.mallang_backend.global.util.clova.ClovaSpeechClientMockImpl;
+import com.mallang.mallang_backend.global.util.youtube.ProcessRunner;
+
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.mockwebserver.MockWebServer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * <p> 외부 API 없이 영상 분석 파이프라인 전체에 부하를 주는 테스트 </p>
+ * <p> YouTube(yt-dlp) 는 fake-yt-dlp.sh, Clova/OpenAI 는 Mock 구현체가 호출하는 MockWebServer(8000~8002 포트)로 대체하고,
+ * Redis 는 EmbeddedRedisConfig 의 내장 Redis 를 사용합니다. </p>
+ * <p> N 개의 /api/v1/videos/{id}/analysis SSE 세션을 동시에 열어 처리량, 단계별 p50/p95/p99, 락 경합을 출력합니다. </p>
+ * <p> 실행 예) ./gradlew test --tests "*VideoAnalysisLoadTest" -Dload.sessions=100 -Dload.videos=20 -Dload.clova.latency-ms=5000 </p>
+ * <p> 분석 설정도 시스템 프로퍼티로 바꿀 수 있습니다. (ex. -Dvideo.analysis.queue.enabled=true) </p>
+ */
+@Slf4j
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"youtube.extractor.info-cmd=yt-dlp --dump-json",
+		"youtube.extractor.extract-cmd=yt-dlp -f 251 -o"
+	}
+)
+@ActiveProfiles("local")
+class VideoAnalysisLoadTest {
+
+	private static final int SEGMENT_COUNT = 10;
+	private static final List<String> KEYWORDS = List.of("hello", "world", "meet", "nice");
+
+	private static final int SESSIONS = Integer.getInteger("load.sessions", 50);
+	private static final int VIDEOS = Integer.getInteger("load.videos", 10);
+	private static final long YTDLP_LATENCY_MS = Long.getLong("load.ytdlp.latency-ms", 2_000);
+	private static final double YTDLP_FAILURE_RATE = Double.parseDouble(System.getProperty("load.ytdlp.failure-rate", "0"));
+	private static final long CLOVA_LATENCY_MS = Long.getLong("load.clova.latency-ms", 3_000);
+	private static final double CLOVA_FAILURE_RATE = Double.parseDouble(System.getProperty("load.clova.failure-rate", "0"));
+	private static final long GPT_LATENCY_MS = Long.getLong("load.gpt.latency-ms", 2_000);
+	private static final double GPT_FAILURE_RATE = Double.parseDouble(System.getProperty("load.gpt.failure-rate", "0"));
+	private static final long WORD_LATENCY_MS = Long.getLong("load.word.latency-ms", 500);
+	private static final Duration SESSION_TIMEOUT = Duration.ofMinutes(15);
+
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+
+	// GptServiceMockImpl, ClovaSpeechClientMockImpl 이 호출하는 Mock Server
+	private static MockWebServer gptAnalysisServer;
+	private static MockWebServer gptWordServer;
+	private static MockWebServer clovaServer;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private TokenService tokenService;
+
+	@Autowired
+	private VideoAnalysisCheckpointStore checkpointStore;
+
+	// 체크포인트로 영상 정보를 넣어 두므로 호출되지 않아야 함
+	@MockitoBean
+	private YoutubeService youtubeService;
+
+	@TestConfiguration
+	static class OfflineExternalApiConfig {
+
+		@Bean
+		@Primary
+		public GptService loadTestGptService(GptPromptBuilder gptPromptBuilder) {
+			return new GptServiceMockImpl(gptPromptBuilder);
+		}
+
+		@Bean
+		@Primary
+		public ClovaSpeechClient loadTestClovaSpeechClient() {
+			return new ClovaSpeechClientMockImpl();
+		}
+
+		@Bean
+		@Primary
+		public ProcessRunner loadTestProcessRunner() throws IOException {
+			return new FakeYtDlpProcessRunner(YTDLP_LATENCY_MS, YTDLP_FAILURE_RATE);
+		}
+	}
+
+	@BeforeAll
+	static void startMockServers() throws IOException {
+		gptAnalysisServer = new MockWebServer();
+		gptAnalysisServer.setDispatcher(new LatencyDispatcher(GPT_LATENCY_MS, GPT_FAILURE_RATE, r -> gptAnalysisResponse()));
+		gptAnalysisServer.start(8000);
+
+		gptWordServer = new MockWebServer();
+		gptWordServer.setDispatcher(new LatencyDispatcher(WORD_LATENCY_MS, 0, r -> gptWordResponse()));
+		gptWordServer.start(8001);
+
+		clovaServer = new MockWebServer();
+		clovaServer.setDispatcher(new LatencyDispatcher(CLOVA_LATENCY_MS, CLOVA_FAILURE_RATE, r -> clovaResponse()));
+		clovaServer.start(8002);
+	}
+
+	@AfterAll
+	static void stopMockServers() throws IOException {
+		gptAnalysisServer.shutdown();
+		gptWordServer.shutdown();
+		clovaServer.shutdown();
+	}
+
+	@Test
+	@Disabled("수동 실행용 부하 테스트")
+	@DisplayName("N 개의 영상 분석 SSE 세션을 동시에 실행하고 처리량, 단계별 지연, 락 경합을 출력한다")
+	void runAnalysisLoad() {
+		List<String> videoIds = prepareVideos();
+		List<String> tokens = prepareMembers();
+		WebClient webClient = WebClient.create("http://localhost:" + port);
+
+		long startedAt = System.nanoTime();
+		List<SessionResult> results = Flux.range(0, SESSIONS)
+			.flatMap(i -> runSession(webClient, tokens.get(i), videoIds.get(i % VIDEOS)), SESSIONS)
+			.collectList()
+			.block();
+		long wallMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+		report(results, wallMillis);
+	}
+
+	/**
+	 * SSE 세션 하나를 열고 이벤트별 최초 도착 시각(세션 시작 기준 ms)을 기록합니다.
+	 */
+	private Mono<SessionResult> runSession(WebClient webClient, String token, String videoId) {
+		return Mono.defer(() -> {
+			long start = System.nanoTime();
+			SessionResult result = new SessionResult();
+			return webClient.get()
+				.uri("/api/v1/videos/{id}/analysis", videoId)
+				.cookie(ACCESS_TOKEN, token)
+				.accept(MediaType.TEXT_EVENT_STREAM)
+				.retrieve()
+				.bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+				.doOnNext(event -> {
+					if (event.event() != null) {
+						result.events.putIfAbsent(event.event(), (System.nanoTime() - start) / 1_000_000);
+					}
+				})
+				.takeUntil(event -> "analysisComplete".equals(event.event()) || "videoAnalysisFailed".equals(event.event()))
+				.timeout(SESSION_TIMEOUT)
+				.then(Mono.just(result))
+				.onErrorResume(e -> {
+					result.error = e.getClass().getSimpleName();
+					return Mono.just(result);
+				});
+		});
+	}
+
+	private void report(List<SessionResult> results, long wallMillis) {
+		StageStats stats = new StageStats();
+		int completed = 0;
+		int failed = 0;
+		int contended = 0;
+
+		for (SessionResult r : results) {
+			Long end = r.events.get("analysisComplete");
+			if (end == null) {
+				failed++;
+				continue;
+			}
+			completed++;
+			stats.record("total", end);
+
+			Long lockAcquired = r.events.get("lockAcquired");
+			Long audioExtracted = r.events.get("audioExtracted");
+			Long sttCompleted = r.events.get("sttCompleted");
+			Long lockChecking = r.events.get("lockChecking");
+
+			if (lockChecking != null) {
+				// 다른 세션이 분석 중인 영상 → 락 해제 후 DB 결과를 받기까지 대기
+				contended++;
+				stats.record("lock-wait", end - lockChecking);
+			}
+			if (lockAcquired != null) {
+				stats.record("queue+lock", lockAcquired);
+			}
+			if (lockAcquired != null && audioExtracted != null) {
+				stats.record("audio", audioExtracted - lockAcquired);
+			}
+			if (audioExtracted != null && sttCompleted != null) {
+				stats.record("stt", sttCompleted - audioExtracted);
+			}
+			if (sttCompleted != null) {
+				stats.record("gpt+save", end - sttCompleted);
+			}
+		}
+
+		log.info("""
+
+				[LoadTest] sessions={}, videos={}, completed={}, failed={}, wall={} ms, throughput={} sessions/s
+				[LoadTest] lock contention: {} / {} sessions waited on another analysis ({} %)
+				{}""",
+			SESSIONS, VIDEOS, completed, failed, wallMillis,
+			String.format("%.2f", completed * 1000.0 / wallMillis),
+			contended, SESSIONS, contended * 100 / SESSIONS,
+			stats.report());
+
+		results.stream()
+			.filter(r -> r.error != null)
+			.forEach(r -> log.info("[LoadTest] 세션 오류: {} events={}", r.error, r.events.keySet()));
+	}
+
+	private List<String> prepareVideos() {
+		String runId = UUID.randomUUID().toString().substring(0, 4);
+		List<String> videoIds = new ArrayList<>();
+		for (int i = 0; i < VIDEOS; i++) {
+			String videoId = String.format("ld%s%05d", runId, i);
+			checkpointStore.saveVideoDetail(videoId, new VideoDetail(
+				videoId, "load test " + i, "", "http://example.com/" + videoId + ".jpg", "load-test", Language.ENGLISH, "PT5M"));
+			videoIds.add(videoId);
+		}
+		return videoIds;
+	}
+
+	private List<String> prepareMembers() {
+		List<Member> members = new ArrayList<>();
+		for (int i = 0; i < SESSIONS; i++) {
+			members.add(EntityTestFactory.createMember());
+		}
+		return memberRepository.saveAll(members).stream()
+			.map(m -> tokenService.createTokenPair(m.getId(), m.getSubscriptionType().getRoleName()).getAccessToken())
+			.toList();
+	}
+
+	private static String clovaResponse() {
+		List<Map<String, Object>> segments = new ArrayList<>();
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			segments.add(Map.of(
+				"start", i * 3_000,
+				"end", (i + 1) * 3_000,
+				"speaker", Map.of("name", "A"),
+				"textEdited", "hello world nice to meet you " + i));
+		}
+		return toJson(Map.of("result", "COMPLETED", "segments", segments));
+	}
+
+	private static String gptAnalysisResponse() {
+		List<Map<String, Object>> blocks = new ArrayList<>();
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			blocks.add(Map.of(
+				"original", "hello world nice to meet you " + i,
+				"translate", "안녕 세상 만나서 반가워 " + i,
+				"keyword", KEYWORDS.stream()
+					.map(word -> Map.of("word", word, "meaning", "뜻", "difficulty", 1))
+					.toList()));
+		}
+		return openAiResponse(toJson(blocks));
+	}
+
+	private static String gptWordResponse() {
+		// 모든 핵심 단어가 예문에 포함되어야 단어 검증을 통과함
+		return openAiResponse("명사 | 뜻 | 1 | " + String.join(" ", KEYWORDS) + " | 예문 번역");
+	}
+
+	private static String openAiResponse(String content) {
+		return toJson(Map.of("choices", List.of(Map.of("message", Map.of("role", "assistant", "content", content)))));
+	}
+
+	private static String toJson(Object value) {
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class SessionResult {
+		private final Map<String, Long> events = new LinkedHashMap<>();
+		private String error;
+	}
+}
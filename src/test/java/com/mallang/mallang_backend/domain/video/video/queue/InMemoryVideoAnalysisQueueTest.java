@@ -0,0 +1,102 @@
+package com.mallang.mallang_backend.domain.video.video.queue;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mallang.mallang_backend.domain.member.entity.SubscriptionType;
+
+class InMemoryVideoAnalysisQueueTest {
+
+	private final InMemoryVideoAnalysisQueue queue = new InMemoryVideoAnalysisQueue();
+
+	@Test
+	@DisplayName("같은 영상의 작업이 대기 중이면 새 작업을 추가하지 않고 구독자로 등록한다")
+	void enqueue_sameVideo_registersSubscriber() {
+		assertThat(queue.enqueue(VideoAnalysisJob.of(1L, SubscriptionType.BASIC, "video1", "emitter1", false))).isTrue();
+		assertThat(queue.enqueue(VideoAnalysisJob.of(2L, SubscriptionType.BASIC, "video1", "emitter2", false))).isFalse();
+
+		assertThat(queue.waitingJobs()).hasSize(1);
+		assertThat(queue.poll()).get().extracting(VideoAnalysisJob::getEmitterId).isEqualTo("emitter1");
+
+		// 실행 중에도 같은 영상 요청은 구독자로 등록
+		assertThat(queue.enqueue(VideoAnalysisJob.of(3L, SubscriptionType.BASIC, "video1", "emitter3", false))).isFalse();
+		assertThat(queue.complete("video1"))
+			.extracting(VideoAnalysisJob::getEmitterId)
+			.containsExactly("emitter2", "emitter3");
+		assertThat(queue.poll()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("한 회원이 여러 영상을 먼저 요청해도 다른 회원의 요청이 번갈아 실행된다")
+	void poll_isFairBetweenMembers() {
+		queue.enqueue(VideoAnalysisJob.of(1L, SubscriptionType.BASIC, "a1", "ea1", false));
+		queue.enqueue(VideoAnalysisJob.of(1L, SubscriptionType.BASIC, "a2", "ea2", false));
+		queue.enqueue(VideoAnalysisJob.of(1L, SubscriptionType.BASIC, "a3", "ea3", false));
+		queue.enqueue(VideoAnalysisJob.of(2L, SubscriptionType.BASIC, "b1", "eb1", false));
+
+		List<String> order = List.of(
+			queue.poll().orElseThrow().getVideoId(),
+			queue.poll().orElseThrow().getVideoId(),
+			queue.poll().orElseThrow().getVideoId(),
+			queue.poll().orElseThrow().getVideoId()
+		);
+
+		assertThat(order).containsExactly("a1", "b1", "a2", "a3");
+	}
+
+	@Test
+	@DisplayName("구독 등급 가중치가 높은 회원의 작업이 더 자주 실행된다")
+	void poll_prefersHigherTier() {
+		queue.enqueue(VideoAnalysisJob.of(1L, SubscriptionType.BASIC, "basic1", "e1", false));
+		queue.enqueue(VideoAnalysisJob.of(1L, SubscriptionType.BASIC, "basic2", "e2", false));
+		queue.enqueue(VideoAnalysisJob.of(2L, SubscriptionType.PREMIUM, "premium1", "e3", false));
+		queue.enqueue(VideoAnalysisJob.of(2L, SubscriptionType.PREMIUM, "premium2", "e4", false));
+		queue.enqueue(VideoAnalysisJob.of(2L, SubscriptionType.PREMIUM, "premium3", "e5", false));
+		queue.enqueue(VideoAnalysisJob.of(2L, SubscriptionType.PREMIUM, "premium4", "e6", false));
+
+		// 늦게 요청했어도 가중치 3 인 회원은 가중치 1 인 회원의 작업 1개당 최대 3개씩 실행
+		List<String> order = queue.waitingJobs().stream().map(VideoAnalysisJob::getVideoId).toList();
+		assertThat(order).startsWith("premium1", "premium2");
+		assertThat(order).endsWith("basic2");
+	}
+
+	@Test
+	@DisplayName("제한 시간 안에 완료되거나 연장되지 않은 실행 중 작업은 대기열 맨 앞으로 되돌아간다")
+	void reclaimExpired_putsExpiredJobsFirst() {
+		AtomicLong now = new AtomicLong(0);
+		InMemoryVideoAnalysisQueue queue = new InMemoryVideoAnalysisQueue(1_000, now::get);
+		queue.enqueue(VideoAnalysisJob.of(1L, SubscriptionType.BASIC, "video1", "e1", false));
+		queue.enqueue(VideoAnalysisJob.of(2L, SubscriptionType.BASIC, "video2", "e2", false));
+		queue.enqueue(VideoAnalysisJob.of(3L, SubscriptionType.BASIC, "video3", "e3", false));
+		queue.poll();
+		queue.poll();
+
+		now.set(800);
+		queue.extendLease("video2");
+		now.set(1_000);
+
+		assertThat(queue.reclaimExpired()).isEqualTo(1);
+		assertThat(queue.waitingJobs())
+			.extracting(VideoAnalysisJob::getVideoId)
+			.containsExactly("video1", "video3");
+	}
+
+	@Test
+	@DisplayName("실행하지 못한 작업은 대기열로 되돌리고, 이미 완료된 작업은 되돌리지 않는다")
+	void requeue_onlyRunningJob() {
+		queue.enqueue(VideoAnalysisJob.of(1L, SubscriptionType.BASIC, "video1", "e1", false));
+		queue.poll();
+
+		queue.requeue("video1");
+		assertThat(queue.poll()).get().extracting(VideoAnalysisJob::getVideoId).isEqualTo("video1");
+
+		queue.complete("video1");
+		queue.requeue("video1");
+		assertThat(queue.waitingJobs()).isEmpty();
+	}
+}
@@ -0,0 +1,93 @@
+package com.mallang.mallang_backend.domain.video.video.queue;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mallang.mallang_backend.domain.member.entity.SubscriptionType;
+import com.mallang.mallang_backend.domain.member.repository.MemberRepository;
+import com.mallang.mallang_backend.domain.video.video.dto.AnalyzeVideoResponse;
+import com.mallang.mallang_backend.domain.video.video.service.VideoService;
+import com.mallang.mallang_backend.global.util.sse.SseEmitterManager;
+
+@ExtendWith(MockitoExtension.class)
+class VideoAnalysisJobDispatcherTest {
+
+	@Mock
+	private VideoService videoService;
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	@Mock
+	private SseEmitterManager sseEmitterManager;
+
+	private final InMemoryVideoAnalysisQueue queue = new InMemoryVideoAnalysisQueue();
+
+	@Test
+	@DisplayName("실행이 거부되면 실행 슬롯을 반납하고 작업을 대기열로 되돌린다")
+	void dispatch_rejected_releasesPermitAndRequeues() {
+		Executor rejecting = task -> {
+			throw new RejectedExecutionException();
+		};
+		VideoAnalysisJobDispatcher dispatcher = dispatcher(rejecting, 1);
+		queue.enqueue(VideoAnalysisJob.of(1L, SubscriptionType.BASIC, "video1", "e1", false));
+
+		dispatcher.dispatch();
+		dispatcher.dispatch();
+
+		// 슬롯이 반납되지 않았다면 두 번째 dispatch 에서 작업을 꺼내지 못함
+		assertThat(queue.waitingJobs()).extracting(VideoAnalysisJob::getVideoId).containsExactly("video1");
+		verify(videoService, never()).analyzeVideo(anyLong(), anyString(), anyString(), anyBoolean());
+	}
+
+	@Test
+	@DisplayName("같은 영상을 기다린 구독자도 저장된 결과를 회원별로 조회하여 시청 기록을 남기고 결과를 받는다")
+	void dispatch_subscribersReceiveResultPerMember() {
+		VideoAnalysisJobDispatcher dispatcher = dispatcher(Runnable::run, 1);
+		queue.enqueue(VideoAnalysisJob.of(1L, SubscriptionType.BASIC, "video1", "e1", true));
+		queue.enqueue(VideoAnalysisJob.of(2L, SubscriptionType.BASIC, "video1", "e2", false));
+
+		AnalyzeVideoResponse result = new AnalyzeVideoResponse(List.of());
+		AnalyzeVideoResponse subscriberResult = new AnalyzeVideoResponse(List.of());
+		when(videoService.analyzeVideo(1L, "video1", "e1", true)).thenReturn(result);
+		when(videoService.analyzeVideo(2L, "video1", "e2", false)).thenReturn(subscriberResult);
+
+		dispatcher.dispatch();
+
+		verify(sseEmitterManager).sendTo("e1", "analysisComplete", result);
+		verify(sseEmitterManager).sendTo("e2", "analysisComplete", subscriberResult);
+		verify(sseEmitterManager).removeEmitter("e1");
+		verify(sseEmitterManager).removeEmitter("e2");
+		assertThat(queue.poll()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("분석에 실패하면 구독자는 결과를 다시 조회하지 않고 실패 이벤트를 받는다")
+	void dispatch_failed_notifiesSubscribersWithoutRetry() {
+		VideoAnalysisJobDispatcher dispatcher = dispatcher(Runnable::run, 1);
+		queue.enqueue(VideoAnalysisJob.of(1L, SubscriptionType.BASIC, "video1", "e1", false));
+		queue.enqueue(VideoAnalysisJob.of(2L, SubscriptionType.BASIC, "video1", "e2", false));
+		when(videoService.analyzeVideo(1L, "video1", "e1", false)).thenThrow(new RuntimeException("분석 실패"));
+
+		dispatcher.dispatch();
+
+		verify(videoService, never()).analyzeVideo(eq(2L), anyString(), anyString(), anyBoolean());
+		verify(sseEmitterManager).sendTo("e1", "videoAnalysisFailed", "영상 분석에 실패했습니다.");
+		verify(sseEmitterManager).sendTo("e2", "videoAnalysisFailed", "영상 분석에 실패했습니다.");
+	}
+
+	private VideoAnalysisJobDispatcher dispatcher(Executor executor, int workers) {
+		return new VideoAnalysisJobDispatcher(queue, videoService, memberRepository, sseEmitterManager, executor, true, workers);
+	}
+}
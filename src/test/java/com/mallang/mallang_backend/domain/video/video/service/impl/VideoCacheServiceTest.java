@@ -97,12 +97,12 @@ class VideoCacheServiceTest {
 
 		when(cacheClient.loadCached(q, category, language, fetchSize)).thenReturn(cached);
 		when(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).thenReturn(false);
-		when(redisDistributedLock.waitForUnlockThenFetch(anyString(), anyLong(), eq(500L))).thenReturn(true);
+		when(redisDistributedLock.waitForUnlockThenFetch(anyString(), anyLong())).thenReturn(true);
 
 		List<VideoResponse> result = service.getFullVideoList(q, category, language, fetchSize);
 
 		assertThat(result).hasSize((int) fetchSize);
-		verify(redisDistributedLock).waitForUnlockThenFetch(anyString(), anyLong(), eq(500L));
+		verify(redisDistributedLock).waitForUnlockThenFetch(anyString(), anyLong());
 	}
 
 	@Test
@@ -114,7 +114,7 @@ class VideoCacheServiceTest {
 
 		when(cacheClient.loadCached(q, category, language, fetchSize)).thenReturn(cached);
 		when(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).thenReturn(false);
-		when(redisDistributedLock.waitForUnlockThenFetch(anyString(), anyLong(), eq(500L))).thenReturn(false);
+		when(redisDistributedLock.waitForUnlockThenFetch(anyString(), anyLong())).thenReturn(false);
 
 		assertThatThrownBy(() -> service.getFullVideoList(q, category, language, fetchSize))
 			.isInstanceOf(ServiceException.class)
@@ -169,7 +169,7 @@ class VideoCacheServiceTest {
 		when(cacheClient.fetchAndCache(q, category, language, fetchSize)).thenReturn(fresh);
 
 		when(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).thenReturn(false);
-		when(redisDistributedLock.waitForUnlockThenFetch(anyString(), anyLong(), eq(500L))).thenReturn(true);
+		when(redisDistributedLock.waitForUnlockThenFetch(anyString(), anyLong())).thenReturn(true);
 		when(redisDistributedLock.unlock(anyString(), anyString())).thenReturn(true);
 
 		// when
@@ -3,7 +3,6 @@ package com.mallang.mallang_backend.domain.video.video.service.impl;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
-import static org.springframework.test.util.ReflectionTestUtils.*;
 
 import java.io.File;
 import java.io.IOException;
@@ -11,17 +10,22 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 
 import com.google.api.services.youtube.model.Thumbnail;
 import com.google.api.services.youtube.model.ThumbnailDetails;
@@ -36,12 +40,16 @@ import com.mallang.mallang_backend.domain.member.entity.Member;
 import com.mallang.mallang_backend.domain.member.repository.MemberRepository;
 import com.mallang.mallang_backend.domain.stt.converter.Transcript;
 import com.mallang.mallang_backend.domain.stt.converter.TranscriptParser;
+import com.mallang.mallang_backend.domain.stt.converter.TranscriptSegment;
 import com.mallang.mallang_backend.domain.video.subtitle.entity.Subtitle;
+import com.mallang.mallang_backend.domain.video.subtitle.repository.SubtitleBulkRepository;
 import com.mallang.mallang_backend.domain.video.subtitle.repository.SubtitleRepository;
 import com.mallang.mallang_backend.domain.video.video.dto.AnalyzeVideoResponse;
+import com.mallang.mallang_backend.domain.video.video.dto.VideoDetail;
 import com.mallang.mallang_backend.domain.video.video.dto.VideoResponse;
 import com.mallang.mallang_backend.domain.video.video.entity.Videos;
 import com.mallang.mallang_backend.domain.video.video.event.KeywordSavedEvent;
+import com.mallang.mallang_backend.domain.video.video.event.VideoAnalyzedEvent;
 import com.mallang.mallang_backend.domain.video.video.repository.VideoRepository;
 import com.mallang.mallang_backend.domain.video.youtube.service.YoutubeService;
 import com.mallang.mallang_backend.global.common.Language;
@@ -100,6 +108,15 @@ class VideoServiceImplTest {
 	@Mock
 	private SseEmitterManager sseEmitterManager;
 
+	@Mock
+	private VideoAnalysisCheckpointStore checkpointStore;
+
+	@Mock
+	private SubtitleBulkRepository subtitleBulkRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
@@ -207,7 +224,7 @@ class VideoServiceImplTest {
 		when(youtubeService.fetchVideosByIdsAsync(List.of(videoId)))
 			.thenReturn(CompletableFuture.completedFuture(List.of(video)));
 
-		when(youtubeAudioExtractor.extractAudio(anyString()))
+		when(youtubeAudioExtractor.extractAudio(anyString(), any()))
 			.thenReturn(audioFile);
 
 		when(clovaSpeechClient.upload(any(File.class), any(NestRequestEntity.class)))
@@ -234,14 +251,7 @@ class VideoServiceImplTest {
 		// when
 		String emitterId = UUID.randomUUID().toString();
 
-		// when: private analyzeVideo() 직접 호출
-		AnalyzeVideoResponse response = invokeMethod(
-			videoService,
-			"analyzeVideo",    // 메서드 이름
-			member.getId(),
-			videoId,
-			emitterId
-		);
+		AnalyzeVideoResponse response = videoService.analyzeVideo(member.getId(), videoId, emitterId, false);
 		// then
 		assertThat(response).isNotNull();
 		assertThat(response.getSubtitleResults()).hasSize(1);
@@ -278,4 +288,305 @@ class VideoServiceImplTest {
 		KeywordSavedEvent event = eventCaptor.getValue();
 		assertThat(event.getKeyword().getWord()).isEqualTo("Hello");
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("STT 결과 체크포인트가 있으면 음성 추출과 STT 요청 없이 GPT 분석부터 이어서 진행한다")
+	void analyzeVideo_resumeFromTranscriptCheckpoint() throws IOException, InterruptedException {
+		// given
+		Member member = Member.builder()
+			.language(Language.ENGLISH)
+			.build();
+		ReflectionTestUtils.setField(member, "id", 1L);
+
+		String videoId = "test_video_id";
+		VideoDetail detail = new VideoDetail(videoId, "Test Video", "desc", "thumbnail_url", "Test Channel", Language.ENGLISH, "PT10M");
+
+		when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
+		when(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).thenReturn(true);
+		when(videoRepository.save(any(Videos.class))).thenReturn(VideoDetail.toEntity(detail));
+		when(checkpointStore.findVideoDetail(videoId)).thenReturn(Optional.of(detail));
+		when(checkpointStore.findTranscript(videoId)).thenReturn(Optional.of("{\"segments\":[]}"));
+		when(transcriptParser.parseTranscriptJson("{\"segments\":[]}")).thenReturn(mock(Transcript.class));
+		when(gptService.analyzeScript(anyList(), any()))
+			.thenReturn(List.of(
+				new GptSubtitleResponse(1L, "00:00:01", "00:00:03", "Speaker 1", "Hello world", "안녕하세요 세상", List.of())
+			));
+
+		// when
+		AnalyzeVideoResponse response = videoService.analyzeVideo(member.getId(), videoId, UUID.randomUUID().toString(), false);
+
+		// then
+		assertThat(response.getSubtitleResults()).hasSize(1);
+		verify(youtubeService, never()).fetchVideosByIdsAsync(anyList());
+		verify(youtubeAudioExtractor, never()).extractAudio(anyString(), any());
+		verify(clovaSpeechClient, never()).upload(any(File.class), any(NestRequestEntity.class));
+		verify(checkpointStore).saveGptResult(eq(videoId), anyList());
+		verify(subtitleRepository, times(1)).saveAll(anyList());
+		verify(checkpointStore).clear(videoId);
+	}
+
+	@Test
+	@DisplayName("배치 저장이 활성화되면 자막을 JDBC 배치로 저장하고 생성된 PK 를 순서대로 응답에 주입한다")
+	void analyzeVideo_bulkInsertSubtitlesAndKeywords() {
+		// given
+		Member member = Member.builder()
+			.language(Language.ENGLISH)
+			.build();
+		ReflectionTestUtils.setField(member, "id", 1L);
+		ReflectionTestUtils.setField(videoService, "bulkInsertEnabled", true);
+
+		String videoId = "test_video_id";
+		VideoDetail detail = new VideoDetail(videoId, "Test Video", "desc", "thumbnail_url", "Test Channel", Language.ENGLISH, "PT10M");
+
+		when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
+		when(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).thenReturn(true);
+		when(videoRepository.save(any(Videos.class))).thenReturn(VideoDetail.toEntity(detail));
+		when(checkpointStore.findVideoDetail(videoId)).thenReturn(Optional.of(detail));
+		when(checkpointStore.findTranscript(videoId)).thenReturn(Optional.of("{\"segments\":[]}"));
+		when(transcriptParser.parseTranscriptJson("{\"segments\":[]}")).thenReturn(mock(Transcript.class));
+		when(gptService.analyzeScript(anyList(), any()))
+			.thenReturn(List.of(
+				new GptSubtitleResponse(1L, "00:00:01", "00:00:03", "Speaker 1", "Hello world", "안녕하세요 세상",
+					List.of(new KeywordInfo("Hello", "인사", 1))),
+				new GptSubtitleResponse(2L, "00:00:03", "00:00:05", "Speaker 1", "Nice to meet you", "만나서 반가워요",
+					List.of(new KeywordInfo("meet", "만나다", 1), new KeywordInfo("nice", "좋은", 1)))
+			));
+		when(subtitleBulkRepository.insertSubtitles(anyList())).thenReturn(List.of(101L, 102L));
+
+		// when
+		AnalyzeVideoResponse response = videoService.analyzeVideo(member.getId(), videoId, UUID.randomUUID().toString(), false);
+
+		// then
+		assertThat(response.getSubtitleResults())
+			.extracting(GptSubtitleResponse::getSubtitleId)
+			.containsExactly(101L, 102L);
+		verify(subtitleBulkRepository).insertKeywords(argThat(keywords -> keywords.size() == 3), eq(List.of(101L, 102L, 102L)));
+		verify(subtitleRepository, never()).saveAll(anyList());
+		verify(keywordRepository, never()).saveAll(anyList());
+		verify(publisher, times(3)).publishEvent(any(KeywordSavedEvent.class));
+	}
+
+	@Test
+	@DisplayName("스트리밍 분석은 자막 묶음마다 별도 트랜잭션으로 커밋한 뒤 subtitleBatch 이벤트를 전송한다")
+	void analyzeVideo_streaming_commitsEachBatchBeforeSending() {
+		// given
+		Member member = Member.builder()
+			.language(Language.ENGLISH)
+			.build();
+		ReflectionTestUtils.setField(member, "id", 1L);
+
+		String videoId = "test_video_id";
+		String emitterId = UUID.randomUUID().toString();
+		VideoDetail detail = new VideoDetail(videoId, "Test Video", "desc", "thumbnail_url", "Test Channel", Language.ENGLISH, "PT10M");
+
+		when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
+		when(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).thenReturn(true);
+		when(videoRepository.save(any(Videos.class))).thenReturn(VideoDetail.toEntity(detail));
+		when(checkpointStore.findVideoDetail(videoId)).thenReturn(Optional.of(detail));
+		when(checkpointStore.findTranscript(videoId)).thenReturn(Optional.of("{\"segments\":[]}"));
+		when(transcriptParser.parseTranscriptJson("{\"segments\":[]}")).thenReturn(mock(Transcript.class));
+		when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+		GptSubtitleResponse first = new GptSubtitleResponse(1L, "00:00:01", "00:00:03", "Speaker 1", "Hello world", "안녕하세요 세상", List.of());
+		GptSubtitleResponse second = new GptSubtitleResponse(2L, "00:00:03", "00:00:05", "Speaker 1", "Nice to meet you", "만나서 반가워요", List.of());
+		when(gptService.analyzeScript(anyList(), any(), any())).thenAnswer(invocation -> {
+			Consumer<List<GptSubtitleResponse>> onBatchAnalyzed = invocation.getArgument(2);
+			onBatchAnalyzed.accept(List.of(first));
+			onBatchAnalyzed.accept(List.of(second));
+			return List.of(first, second);
+		});
+
+		// when
+		AnalyzeVideoResponse response = videoService.analyzeVideo(member.getId(), videoId, emitterId, true);
+
+		// then
+		assertThat(response.getSubtitleResults()).hasSize(2);
+		InOrder inOrder = inOrder(transactionManager, sseEmitterManager, checkpointStore);
+		inOrder.verify(transactionManager).commit(any()); // 영상 정보
+		inOrder.verify(checkpointStore).markPartial(videoId);
+		inOrder.verify(transactionManager).commit(any());
+		inOrder.verify(sseEmitterManager).sendTo(eq(emitterId), eq("subtitleBatch"), any());
+		inOrder.verify(transactionManager).commit(any());
+		inOrder.verify(sseEmitterManager).sendTo(eq(emitterId), eq("subtitleBatch"), any());
+		inOrder.verify(checkpointStore).clearPartial(videoId);
+		verify(checkpointStore).saveGptResult(videoId, List.of(first, second));
+		verify(checkpointStore).clear(videoId);
+	}
+
+	@Test
+	@DisplayName("Clova async 모드 STT 는 결과를 기다리지 않고 스레드를 반환하며, 결과를 받은 뒤 분석을 이어서 진행한다")
+	void analyzeWithSseAsync_asyncStt_continuesAfterTranscript() throws IOException, InterruptedException {
+		// given
+		Member member = Member.builder()
+			.language(Language.ENGLISH)
+			.build();
+		ReflectionTestUtils.setField(member, "id", 1L);
+		ReflectionTestUtils.setField(videoService, "sttAsyncEnabled", true);
+		ReflectionTestUtils.setField(videoService, "analysisExecutor", (Executor) Runnable::run);
+
+		String videoId = "test_video_id";
+		String emitterId = UUID.randomUUID().toString();
+		VideoDetail detail = new VideoDetail(videoId, "Test Video", "desc", "thumbnail_url", "Test Channel", Language.ENGLISH, "PT10M");
+		CompletableFuture<String> stt = new CompletableFuture<>();
+
+		when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
+		when(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).thenReturn(true);
+		when(videoRepository.save(any(Videos.class))).thenReturn(VideoDetail.toEntity(detail));
+		when(checkpointStore.findVideoDetail(videoId)).thenReturn(Optional.of(detail));
+		when(youtubeAudioExtractor.extractAudio(anyString(), any())).thenReturn("test_audio.mp3");
+		when(clovaSpeechClient.uploadAsync(any(File.class), any(NestRequestEntity.class))).thenReturn(stt);
+		when(transcriptParser.parseTranscriptJson("{\"segments\":[]}")).thenReturn(mock(Transcript.class));
+		when(gptService.analyzeScript(anyList(), any())).thenReturn(List.of(
+			new GptSubtitleResponse(1L, "00:00:01", "00:00:03", "Speaker 1", "Hello world", "안녕하세요 세상", List.of())
+		));
+
+		// when: STT 결과를 받기 전에 반환
+		videoService.analyzeWithSseAsync(member.getId(), videoId, emitterId);
+
+		// then
+		verify(gptService, never()).analyzeScript(anyList(), any());
+		verify(sseEmitterManager, never()).sendTo(eq(emitterId), eq("analysisComplete"), any());
+
+		// when: STT 결과 수신
+		stt.complete("{\"segments\":[]}");
+
+		// then
+		verify(checkpointStore).saveTranscript(videoId, "{\"segments\":[]}");
+		verify(gptService).analyzeScript(anyList(), any());
+		verify(sseEmitterManager).sendTo(eq(emitterId), eq("analysisComplete"), any());
+		verify(redisDistributedLock).unlockAfterCompletion(anyString(), anyString());
+		verify(publisher).publishEvent(any(VideoAnalyzedEvent.class));
+	}
+
+	@Test
+	@DisplayName("Clova async 모드 STT 가 실패하면 CompletionException 이 아닌 영상 분석 실패 예외로 전달된다")
+	void analyzeVideo_asyncSttFailure_throwsServiceException() throws IOException, InterruptedException {
+		// given
+		Member member = Member.builder()
+			.language(Language.ENGLISH)
+			.build();
+		ReflectionTestUtils.setField(member, "id", 1L);
+		ReflectionTestUtils.setField(videoService, "sttAsyncEnabled", true);
+
+		String videoId = "test_video_id";
+		VideoDetail detail = new VideoDetail(videoId, "Test Video", "desc", "thumbnail_url", "Test Channel", Language.ENGLISH, "PT10M");
+
+		when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
+		when(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).thenReturn(true);
+		when(videoRepository.save(any(Videos.class))).thenReturn(VideoDetail.toEntity(detail));
+		when(checkpointStore.findVideoDetail(videoId)).thenReturn(Optional.of(detail));
+		when(youtubeAudioExtractor.extractAudio(anyString(), any())).thenReturn("test_audio.mp3");
+		when(clovaSpeechClient.uploadAsync(any(File.class), any(NestRequestEntity.class)))
+			.thenReturn(CompletableFuture.failedFuture(new ServiceException(ErrorCode.API_ERROR)));
+
+		// when
+		ServiceException ex = assertThrows(ServiceException.class,
+			() -> videoService.analyzeVideo(member.getId(), videoId, UUID.randomUUID().toString(), false));
+
+		// then
+		assertEquals(ErrorCode.VIDEO_ANALYSIS_FAILED, ex.getErrorCode());
+		verify(gptService, never()).analyzeScript(anyList(), any());
+		verify(redisDistributedLock).unlockAfterCompletion(anyString(), anyString());
+		verify(publisher).publishEvent(any(VideoAnalyzedEvent.class));
+	}
+
+	@Test
+	@DisplayName("스트리밍 분석이 중간에 실패해 일부 자막만 저장된 영상은 저장된 자막 이후 구간부터 이어서 분석한다")
+	void analyzeVideo_resumePartiallySavedAnalysis() {
+		// given
+		Member member = Member.builder()
+			.language(Language.ENGLISH)
+			.build();
+		ReflectionTestUtils.setField(member, "id", 1L);
+
+		String videoId = "test_video_id";
+		VideoDetail detail = new VideoDetail(videoId, "Test Video", "desc", "thumbnail_url", "Test Channel", Language.ENGLISH, "PT10M");
+		Videos video = VideoDetail.toEntity(detail);
+		Subtitle saved = Subtitle.builder().videos(video).startTime("00:00:01.000").endTime("00:00:03.000")
+			.originalSentence("Hello world").translatedSentence("안녕하세요 세상").speaker("Speaker 1").build();
+
+		Transcript transcript = mock(Transcript.class);
+		when(transcript.getSegments()).thenReturn(List.of(
+			new TranscriptSegment(1L, "00:00:01.000", "00:00:03.000", "Speaker 1", "Hello world"),
+			new TranscriptSegment(2L, "00:00:03.000", "00:00:05.000", "Speaker 1", "Nice to meet you")
+		));
+
+		when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
+		when(checkpointStore.isPartial(videoId)).thenReturn(true);
+		when(subtitleRepository.findAllByVideosFetchKeywords(videoId)).thenReturn(List.of(saved));
+		when(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).thenReturn(true);
+		when(videoRepository.save(any(Videos.class))).thenReturn(video);
+		when(checkpointStore.findVideoDetail(videoId)).thenReturn(Optional.of(detail));
+		when(checkpointStore.findTranscript(videoId)).thenReturn(Optional.of("{\"segments\":[]}"));
+		when(transcriptParser.parseTranscriptJson("{\"segments\":[]}")).thenReturn(transcript);
+		when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+		when(gptService.analyzeScript(anyList(), any(), any())).thenReturn(List.of(
+			new GptSubtitleResponse(2L, "00:00:03", "00:00:05", "Speaker 1", "Nice to meet you", "만나서 반가워요", List.of())
+		));
+
+		// when
+		AnalyzeVideoResponse response = videoService.analyzeVideo(member.getId(), videoId, UUID.randomUUID().toString(), false);
+
+		// then
+		ArgumentCaptor<List<TranscriptSegment>> segmentCaptor = ArgumentCaptor.forClass(List.class);
+		verify(gptService).analyzeScript(segmentCaptor.capture(), eq(Language.ENGLISH), any());
+		assertThat(segmentCaptor.getValue()).extracting(TranscriptSegment::getText).containsExactly("Nice to meet you");
+		assertThat(response.getSubtitleResults()).extracting(GptSubtitleResponse::getOriginal)
+			.containsExactly("Hello world", "Nice to meet you");
+		verify(checkpointStore).clearPartial(videoId);
+	}
+
+	@Test
+	@DisplayName("일부 저장된 분석을 이어서 할 때 GPT 체크포인트가 있으면 저장되지 않은 나머지 자막만 저장하고 GPT 를 다시 호출하지 않는다")
+	void analyzeVideo_resumePartiallySavedAnalysisFromGptCheckpoint() {
+		// given
+		Member member = Member.builder()
+			.language(Language.ENGLISH)
+			.build();
+		ReflectionTestUtils.setField(member, "id", 1L);
+
+		String videoId = "test_video_id";
+		VideoDetail detail = new VideoDetail(videoId, "Test Video", "desc", "thumbnail_url", "Test Channel", Language.ENGLISH, "PT10M");
+		Videos video = VideoDetail.toEntity(detail);
+		Subtitle saved = Subtitle.builder().videos(video).startTime("00:00:01.000").endTime("00:00:03.000")
+			.originalSentence("Hello world").translatedSentence("안녕하세요 세상").speaker("Speaker 1").build();
+		GptSubtitleResponse first = new GptSubtitleResponse(1L, "00:00:01", "00:00:03", "Speaker 1", "Hello world", "안녕하세요 세상", List.of());
+		GptSubtitleResponse second = new GptSubtitleResponse(2L, "00:00:03", "00:00:05", "Speaker 1", "Nice to meet you", "만나서 반가워요", List.of());
+
+		when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
+		when(checkpointStore.isPartial(videoId)).thenReturn(true);
+		when(subtitleRepository.findAllByVideosFetchKeywords(videoId)).thenReturn(List.of(saved));
+		when(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).thenReturn(true);
+		when(videoRepository.save(any(Videos.class))).thenReturn(video);
+		when(checkpointStore.findVideoDetail(videoId)).thenReturn(Optional.of(detail));
+		when(checkpointStore.findTranscript(videoId)).thenReturn(Optional.of("{\"segments\":[]}"));
+		when(transcriptParser.parseTranscriptJson("{\"segments\":[]}")).thenReturn(mock(Transcript.class));
+		when(checkpointStore.findGptResult(videoId)).thenReturn(Optional.of(List.of(first, second)));
+		when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+		// when
+		AnalyzeVideoResponse response = videoService.analyzeVideo(member.getId(), videoId, UUID.randomUUID().toString(), false);
+
+		// then
+		verify(gptService, never()).analyzeScript(anyList(), any(), any());
+		ArgumentCaptor<List<Subtitle>> subtitleCaptor = ArgumentCaptor.forClass(List.class);
+		verify(subtitleRepository).saveAll(subtitleCaptor.capture());
+		assertThat(subtitleCaptor.getValue()).extracting(Subtitle::getOriginalSentence).containsExactly("Nice to meet you");
+		assertThat(response.getSubtitleResults()).extracting(GptSubtitleResponse::getOriginal)
+			.containsExactly("Hello world", "Nice to meet you");
+		verify(checkpointStore, never()).saveGptResult(anyString(), anyList());
+		verify(checkpointStore).clear(videoId);
+	}
+
+	@Test
+	@DisplayName("재생 구간이 비어 있거나 최대 길이를 넘으면 구간 자막 조회에 실패한다")
+	void getSubtitlesInWindow_invalidWindow() {
+		ReflectionTestUtils.setField(videoService, "maxSubtitleWindowMs", 60_000L);
+
+		assertThatThrownBy(() -> videoService.getSubtitlesInWindow("test_video_id", 5_000L, 5_000L))
+			.isInstanceOf(ServiceException.class);
+		assertThatThrownBy(() -> videoService.getSubtitlesInWindow("test_video_id", 0L, 60_001L))
+			.isInstanceOf(ServiceException.class);
+		verify(subtitleRepository, never()).findOverlappingFetchKeywords(anyString(), anyLong(), anyLong());
+	}
+}
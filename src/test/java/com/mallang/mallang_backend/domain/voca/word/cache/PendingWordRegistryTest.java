@@ -0,0 +1,54 @@
+package com.mallang.mallang_backend.domain.voca.word.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PendingWordRegistryTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("생성 중인 단어는 한 번만 등록되고, 완료되면 다시 등록할 수 있다")
+	void tryRegister_singleFlight() {
+		PendingWordRegistry registry = new PendingWordRegistry(60000, false, 1000, 0.01, 60000, meterRegistry);
+
+		assertThat(registry.tryRegister("light")).isTrue();
+		assertThat(registry.isPending("light")).isTrue();
+		assertThat(registry.tryRegister("light")).isFalse();
+
+		registry.complete("light");
+
+		assertThat(registry.isPending("light")).isFalse();
+		assertThat(registry.tryRegister("light")).isTrue();
+		assertThat(meterRegistry.counter("word_enrichment_dropped_total", "reason", "pending").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("완료 처리가 없어도 TTL 이 지나면 다시 등록할 수 있다")
+	void tryRegister_afterTtl() throws InterruptedException {
+		PendingWordRegistry registry = new PendingWordRegistry(1, false, 1000, 0.01, 60000, meterRegistry);
+
+		assertThat(registry.tryRegister("light")).isTrue();
+		Thread.sleep(5);
+
+		assertThat(registry.isPending("light")).isFalse();
+		assertThat(registry.tryRegister("light")).isTrue();
+	}
+
+	@Test
+	@DisplayName("필터를 사용하면 완료된 단어도 한 주기 동안은 다시 등록하지 않는다")
+	void tryRegister_recentMissingFilter() {
+		PendingWordRegistry registry = new PendingWordRegistry(60000, true, 1000, 0.01, 60000, meterRegistry);
+
+		assertThat(registry.tryRegister("light")).isTrue();
+		registry.complete("light");
+
+		assertThat(registry.tryRegister("light")).isFalse();
+		assertThat(registry.isPending("light")).isFalse();
+		assertThat(meterRegistry.counter("word_enrichment_dropped_total", "reason", "recent").count()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,174 @@
+package com.mallang.mallang_backend.domain.voca.word.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.domain.voca.word.entity.Difficulty;
+import com.mallang.mallang_backend.domain.voca.word.entity.Word;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class WordCacheTest {
+
+	private static final Function<String, List<Word>> NO_NORMALIZED = normalized -> List.of();
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private Function<String, List<Word>> loader;
+
+	@Mock
+	private Function<String, List<Word>> normalizedLoader;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private WordCacheProperties properties;
+	private WordCache cache;
+
+	@BeforeEach
+	void setUp() {
+		properties = new WordCacheProperties();
+		properties.setEnabled(true);
+		cache = new WordCache(redisTemplate, objectMapper, properties, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("DB 에서 조회한 단어는 Redis 와 서버 메모리에 저장되고, 다음 조회는 서버 메모리에서 처리된다")
+	void getOrLoad_thenHitLocal() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(loader.apply("light")).thenReturn(List.of(word("light", "가벼운")));
+
+		cache.getOrLoad("light", loader, NO_NORMALIZED);
+		List<Word> cached = cache.getOrLoad("light", loader, NO_NORMALIZED);
+
+		assertThat(cached).extracting(Word::getMeaning).containsExactly("가벼운");
+		assertThat(cached.get(0).getDifficulty()).isEqualTo(Difficulty.EASY);
+		verify(loader, times(1)).apply("light");
+		verify(valueOperations, times(1)).get("word:meaning:light");
+		verify(valueOperations).set(eq("word:meaning:light"), anyString(), eq(Duration.ofDays(7)));
+		assertThat(meterRegistry.counter("word_cache_requests_total", "result", "hit_local").count()).isEqualTo(1);
+		assertThat(meterRegistry.counter("word_cache_requests_total", "result", "miss").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("서버 메모리에 없으면 Redis 에서 조회하고 DB 는 조회하지 않는다")
+	void getOrLoad_fromRedis() throws Exception {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get("word:meaning:light"))
+			.thenReturn(objectMapper.writeValueAsString(List.of(WordCache.CachedWord.from(word("light", "빛")))));
+
+		List<Word> cached = cache.getOrLoad("light", loader, NO_NORMALIZED);
+
+		assertThat(cached).extracting(Word::getMeaning).containsExactly("빛");
+		verifyNoInteractions(loader);
+		assertThat(meterRegistry.counter("word_cache_requests_total", "result", "hit_redis").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("캐시에서 복원한 단어는 정규화 키를 다시 계산하지 않고 저장된 값을 사용한다")
+	void getOrLoad_fromRedis_keepsNormalizedWord() throws Exception {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get("word:meaning:lights"))
+			.thenReturn(objectMapper.writeValueAsString(List.of(
+				new WordCache.CachedWord("lights", "stored-key", "명사", "빛", Difficulty.EASY, "Turn on the lights", "불을 켜라"))));
+
+		List<Word> cached = cache.getOrLoad("lights", loader, NO_NORMALIZED);
+
+		assertThat(cached).extracting(Word::getNormalizedWord).containsExactly("stored-key");
+		verifyNoInteractions(loader);
+	}
+
+	@Test
+	@DisplayName("DB 에 없는 단어(빈 결과)는 캐시하지 않는다")
+	void getOrLoad_emptyResult_notCached() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(loader.apply("unknown")).thenReturn(List.of());
+
+		cache.getOrLoad("unknown", loader, NO_NORMALIZED);
+		cache.getOrLoad("unknown", loader, NO_NORMALIZED);
+
+		verify(loader, times(2)).apply("unknown");
+		verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("표기가 같은 단어가 없으면 정규화 키로 활용형 단어를 찾아 캐시한다")
+	void getOrLoad_normalizedFallback() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(loader.apply("ceased")).thenReturn(List.of());
+		when(normalizedLoader.apply("cease")).thenReturn(List.of(word("cease", "그치다")));
+
+		List<Word> words = cache.getOrLoad("ceased", loader, normalizedLoader);
+
+		assertThat(words).extracting(Word::getWord).containsExactly("cease");
+		verify(valueOperations).set(eq("word:meaning:ceased"), anyString(), eq(Duration.ofDays(7)));
+		assertThat(meterRegistry.counter("word_lookup_normalized_total", "result", "hit").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("단어가 저장되면 서버 메모리와 Redis 에서 제거한다")
+	void evict() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(loader.apply("light")).thenReturn(List.of(word("light", "가벼운")));
+		cache.getOrLoad("light", loader, NO_NORMALIZED);
+
+		cache.evict(List.of("light", "light"));
+		cache.getOrLoad("light", loader, NO_NORMALIZED);
+
+		verify(redisTemplate).delete(List.of("word:meaning:light"));
+		verify(loader, times(2)).apply("light");
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시 DB 조회 결과를 그대로 반환한다")
+	void getOrLoad_redisFailure() {
+		when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("connection refused"));
+		when(loader.apply("light")).thenReturn(List.of(word("light", "가벼운")));
+
+		assertThat(cache.getOrLoad("light", loader, NO_NORMALIZED)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("캐시를 사용하지 않으면 항상 DB 를 조회한다")
+	void getOrLoad_disabled() {
+		properties.setEnabled(false);
+		when(loader.apply("light")).thenReturn(List.of(word("light", "가벼운")));
+
+		cache.getOrLoad("light", loader, NO_NORMALIZED);
+		cache.getOrLoad("light", loader, NO_NORMALIZED);
+
+		verify(loader, times(2)).apply("light");
+		verifyNoInteractions(redisTemplate);
+	}
+
+	private Word word(String word, String meaning) {
+		return Word.builder()
+			.word(word)
+			.pos("형용사")
+			.meaning(meaning)
+			.difficulty(Difficulty.EASY)
+			.exampleSentence("This bag is very light.")
+			.translatedSentence("이 가방은 매우 가볍다.")
+			.build();
+	}
+}
@@ -0,0 +1,116 @@
+package com.mallang.mallang_backend.domain.voca.word.importer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.domain.voca.word.entity.Difficulty;
+import com.mallang.mallang_backend.domain.voca.word.entity.Word;
+import com.mallang.mallang_backend.domain.voca.word.repository.WordBulkRepository;
+
+@ExtendWith(MockitoExtension.class)
+class WordImporterTest {
+
+	@Mock
+	private WordBulkRepository wordBulkRepository;
+
+	private WordImporter wordImporter;
+	private final List<List<Word>> insertedChunks = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		wordImporter = new WordImporter(wordBulkRepository, new ObjectMapper());
+		ReflectionTestUtils.setField(wordImporter, "batchSize", 2);
+		ReflectionTestUtils.setField(wordImporter, "progressInterval", 100_000L);
+		lenient().doAnswer(invocation -> insertedChunks.add(List.copyOf(invocation.getArgument(0))))
+			.when(wordBulkRepository).insertWords(anyList());
+	}
+
+	@Test
+	@DisplayName("JSONL 을 읽어 이미 저장된 단어와 형식이 잘못된 행을 건너뛰고 저장한다")
+	void importWords_jsonl() throws Exception {
+		when(wordBulkRepository.findExistingWords(anyList())).thenReturn(Set.of("light"));
+		String jsonl = """
+			{"word":"light","pos":"명사","meaning":"빛","difficulty":1,"example":"The light is on.","translation":"불이 켜져 있다."}
+			{"word":"cease","pos":"동사","meaning":"그치다","difficulty":"hard","exampleSentence":"The rain ceased.","translatedSentence":"비가 그쳤다.","extra":true}
+
+			{"word":"broken",
+			{"word":"","pos":"동사","meaning":"빈 단어","difficulty":1,"example":"-","translation":"-"}
+			""";
+
+		WordImportResult result = wordImporter.importWords(new StringReader(jsonl), WordImportFormat.JSONL);
+
+		assertThat(result.read()).isEqualTo(4);
+		assertThat(result.inserted()).isEqualTo(1);
+		assertThat(result.skipped()).isEqualTo(1);
+		assertThat(result.invalid()).isEqualTo(2);
+		assertThat(insertedChunks).hasSize(1);
+		Word cease = insertedChunks.get(0).get(0);
+		assertThat(cease.getWord()).isEqualTo("cease");
+		assertThat(cease.getDifficulty()).isEqualTo(Difficulty.HARD);
+		assertThat(cease.getExampleSentence()).isEqualTo("The rain ceased.");
+	}
+
+	@Test
+	@DisplayName("CSV 는 헤더 순서와 관계없이 읽고, 큰따옴표 안의 쉼표와 줄바꿈을 값으로 처리한다")
+	void importWords_csv() throws Exception {
+		when(wordBulkRepository.findExistingWords(anyList())).thenReturn(Set.of());
+		String csv = "meaning,word,pos,difficulty,example,translation\r\n"
+			+ "\"빛, 광선\",light,명사,EASY,\"He said \"\"light\"\".\",\"그는\n빛이라고 말했다.\"\r\n";
+
+		WordImportResult result = wordImporter.importWords(new StringReader(csv), WordImportFormat.CSV);
+
+		assertThat(result.inserted()).isEqualTo(1);
+		Word light = insertedChunks.get(0).get(0);
+		assertThat(light.getWord()).isEqualTo("light");
+		assertThat(light.getMeaning()).isEqualTo("빛, 광선");
+		assertThat(light.getExampleSentence()).isEqualTo("He said \"light\".");
+		assertThat(light.getTranslatedSentence()).isEqualTo("그는\n빛이라고 말했다.");
+	}
+
+	@Test
+	@DisplayName("묶음 크기를 넘어도 한 단어의 뜻은 같은 묶음에 저장한다")
+	void importWords_keepsMeaningsOfWordInOneChunk() throws Exception {
+		when(wordBulkRepository.findExistingWords(anyList())).thenReturn(Set.of());
+		String csv = """
+			word,pos,meaning,difficulty,example,translation
+			light,명사,빛,1,The light is on.,불이 켜져 있다.
+			light,형용사,가벼운,1,This bag is light.,이 가방은 가볍다.
+			light,동사,불을 붙이다,2,Light the candle.,초에 불을 붙여라.
+			cease,동사,그치다,3,The rain ceased.,비가 그쳤다.
+			""";
+
+		WordImportResult result = wordImporter.importWords(new StringReader(csv), WordImportFormat.CSV);
+
+		assertThat(result.inserted()).isEqualTo(4);
+		assertThat(insertedChunks).hasSize(2);
+		assertThat(insertedChunks.get(0)).extracting(Word::getWord).containsExactly("light", "light", "light");
+		assertThat(insertedChunks.get(1)).extracting(Word::getWord).containsExactly("cease");
+		verify(wordBulkRepository).findExistingWords(List.of("light"));
+		verify(wordBulkRepository).findExistingWords(List.of("cease"));
+	}
+
+	@Test
+	@DisplayName("CSV 헤더에 필요한 열이 없으면 예외가 발생한다")
+	void importWords_csvMissingColumn() {
+		String csv = "word,pos,meaning\nlight,명사,빛\n";
+
+		assertThatThrownBy(() -> wordImporter.importWords(new StringReader(csv), WordImportFormat.CSV))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("difficulty");
+	}
+}
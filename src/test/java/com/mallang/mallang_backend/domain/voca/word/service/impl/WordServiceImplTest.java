@@ -1,7 +1,11 @@
 package com.mallang.mallang_backend.domain.voca.word.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mallang.mallang_backend.domain.member.entity.Member;
 import com.mallang.mallang_backend.domain.member.repository.MemberRepository;
+import com.mallang.mallang_backend.domain.voca.word.cache.PendingWordRegistry;
+import com.mallang.mallang_backend.domain.voca.word.cache.WordCache;
+import com.mallang.mallang_backend.domain.voca.word.cache.WordCacheProperties;
 import com.mallang.mallang_backend.domain.voca.word.dto.WordSearchResponse;
 import com.mallang.mallang_backend.domain.voca.word.entity.Difficulty;
 import com.mallang.mallang_backend.domain.voca.word.entity.Word;
@@ -11,16 +15,25 @@ import com.mallang.mallang_backend.global.common.Language;
 import com.mallang.mallang_backend.global.exception.ServiceException;
 import com.mallang.mallang_backend.global.gpt.service.GptService;
 import com.mallang.mallang_backend.global.util.redis.RedisDistributedLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.mallang.mallang_backend.global.common.Language.ENGLISH;
 import static com.mallang.mallang_backend.global.exception.ErrorCode.LANGUAGE_MISMATCH;
@@ -47,9 +60,26 @@ public class WordServiceImplTest {
     @Mock
     private ApplicationEventPublisher publisher;
 
+    @Mock
+    private Executor addWordExecutor;
+
+    @Spy
+    private WordCache wordCache = new WordCache(null, new ObjectMapper(), new WordCacheProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private PendingWordRegistry pendingWordRegistry = new PendingWordRegistry(60000, false, 10000, 0.01, 60000, new SimpleMeterRegistry());
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private WordServiceImpl wordService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(wordService, "wordBatchSize", 20);
+    }
+
     @Test
     @DisplayName("DB에 단어가 있으면 GPT 호출 없이 결과 반환")
     void savedWord_foundInDb() {
@@ -87,6 +117,37 @@ public class WordServiceImplTest {
         // then
         assertThat(response.getMeanings()).hasSize(1);
         verify(wordRepository).saveAll(anyList());
+        verify(redisDistributedLock).unlockAfterCompletion(eq("lock:word:saved:light"), anyString());
+        verify(redisDistributedLock, never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("savedWordAsync - GPT 응답이 오면 저장 후 락을 해제")
+    void savedWordAsync_generatedFromGpt() {
+        // given
+        String gptResult = "형용사 | 가벼운 | 1 | This bag is very light. | 이 가방은 매우 가볍다.";
+        CompletableFuture<List<Word>> gptFuture = new CompletableFuture<>();
+        when(wordRepository.findByWord("light")).thenReturn(List.of());
+        when(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).thenReturn(true);
+        when(gptService.searchWordAsync("light", ENGLISH)).thenReturn(gptFuture);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(addWordExecutor).execute(any(Runnable.class));
+
+        // when
+        CompletableFuture<WordSearchResponse> future = wordService.savedWordAsync("light", ENGLISH);
+
+        // then: GPT 응답 전에는 저장하거나 락을 해제하지 않음
+        assertThat(future).isNotDone();
+        verify(wordRepository, never()).saveAll(anyList());
+        verify(redisDistributedLock, never()).unlock(anyString(), anyString());
+
+        gptFuture.complete(parseGptResult("light", gptResult));
+
+        assertThat(future.join().getMeanings()).hasSize(1);
+        verify(wordRepository).saveAll(anyList());
+        verify(redisDistributedLock).unlock(eq("lock:word:saved:light"), anyString());
     }
 
     @Test
@@ -104,6 +165,23 @@ public class WordServiceImplTest {
         verify(publisher).publishEvent(any(NewWordSearchedEvent.class));
     }
 
+    @Test
+    @DisplayName("searchWord - 생성 중인 단어는 DB 조회와 이벤트 발행 없이 예외 발생")
+    void searchWord_pending_skipsLookupAndEvent() {
+        Member member = Member.builder().language(ENGLISH).build();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(wordRepository.findByWord("light")).thenReturn(List.of());
+
+        assertThatThrownBy(() -> wordService.searchWord("light", 1L)).isInstanceOf(ServiceException.class);
+        assertThatThrownBy(() -> wordService.searchWord("light", 1L))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getErrorCode())
+                .isEqualTo(WORD_NOT_FOUND);
+
+        verify(wordRepository, times(1)).findByWord("light");
+        verify(publisher, times(1)).publishEvent(any(NewWordSearchedEvent.class));
+    }
+
     @Test
     @DisplayName("searchWord - 언어가 일치하지 않으면 예외 발생")
     void searchWord_languageMismatch_throws() {
@@ -132,4 +210,94 @@ public class WordServiceImplTest {
 
         assertThat(response.getMeanings()).hasSize(1);
     }
+
+    @Test
+    @DisplayName("saveWords - DB에 없고 락을 획득한 단어만 한 번에 GPT로 검색하여 저장")
+    void saveWords_onlyMissingWordsSearchedInBatch() {
+        // given
+        Word saved = Word.builder().word("light").pos("형용사").meaning("가벼운").difficulty(Difficulty.EASY).exampleSentence("This bag is very light.").translatedSentence("이 가방은 매우 가볍다.").build();
+        Word generated = Word.builder().word("knock").pos("동사").meaning("두드리다").difficulty(Difficulty.NORMAL).exampleSentence("I knock on the door.").translatedSentence("나는 문을 두드린다.").build();
+
+        when(wordRepository.findByWordIn(List.of("light", "knock", "danger"))).thenReturn(List.of(saved));
+        when(redisDistributedLock.tryLock(eq("lock:word:saved:knock"), anyString(), anyLong())).thenReturn(true);
+        when(redisDistributedLock.tryLock(eq("lock:word:saved:danger"), anyString(), anyLong())).thenReturn(false);
+        when(gptService.searchWords(List.of("knock"), ENGLISH)).thenReturn(Map.of("knock", List.of(generated)));
+
+        // when
+        wordService.saveWords(List.of("light", "knock", "light", "danger"), ENGLISH);
+
+        // then
+        verify(gptService, times(1)).searchWords(anyList(), eq(ENGLISH));
+        verify(gptService, never()).searchWord(anyString(), any());
+        verify(wordRepository).saveAll(List.of(generated));
+        verify(redisDistributedLock).unlockAfterCompletion(eq("lock:word:saved:knock"), anyString());
+        verify(redisDistributedLock, never()).unlockAfterCompletion(eq("lock:word:saved:danger"), anyString());
+    }
+
+    @Test
+    @DisplayName("saveWords - 활용형이 이미 저장되었거나 묶음 안에서 정규화 키가 겹치는 단어는 GPT로 검색하지 않음")
+    void saveWords_skipsWordsWithSavedNormalizedForm() {
+        // given
+        Word saved = Word.builder().word("light").pos("명사").meaning("빛").difficulty(Difficulty.EASY).exampleSentence("The light was too bright.").translatedSentence("빛이 너무 밝았다.").build();
+        Word generated = Word.builder().word("ceases").pos("동사").meaning("그치다").difficulty(Difficulty.NORMAL).exampleSentence("The noise ceases.").translatedSentence("소음이 그친다.").build();
+
+        when(wordRepository.findByWordIn(List.of("lights", "ceases", "ceased"))).thenReturn(List.of());
+        when(wordRepository.findByNormalizedWordIn(anyList())).thenReturn(List.of(saved));
+        when(redisDistributedLock.tryLock(eq("lock:word:saved:ceases"), anyString(), anyLong())).thenReturn(true);
+        when(gptService.searchWords(List.of("ceases"), ENGLISH)).thenReturn(Map.of("ceases", List.of(generated)));
+
+        // when
+        wordService.saveWords(List.of("lights", "ceases", "ceased"), ENGLISH);
+
+        // then
+        verify(gptService, times(1)).searchWords(List.of("ceases"), ENGLISH);
+        verify(redisDistributedLock, never()).tryLock(eq("lock:word:saved:lights"), anyString(), anyLong());
+        verify(redisDistributedLock, never()).tryLock(eq("lock:word:saved:ceased"), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("saveWords - GPT 호출 묶음마다 락을 잡고, 묶음을 저장한 뒤 다음 묶음의 락을 잡음")
+    void saveWords_locksEachGptBatch() {
+        // given
+        ReflectionTestUtils.setField(wordService, "wordBatchSize", 1);
+        Word knock = Word.builder().word("knock").pos("동사").meaning("두드리다").difficulty(Difficulty.NORMAL).exampleSentence("I knock on the door.").translatedSentence("나는 문을 두드린다.").build();
+        Word danger = Word.builder().word("danger").pos("명사").meaning("위험").difficulty(Difficulty.NORMAL).exampleSentence("He is in danger.").translatedSentence("그는 위험에 처해 있다.").build();
+
+        when(wordRepository.findByWordIn(List.of("knock", "danger"))).thenReturn(List.of());
+        when(wordRepository.findByNormalizedWordIn(anyList())).thenReturn(List.of());
+        when(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).thenReturn(true);
+        when(gptService.searchWords(List.of("knock"), ENGLISH)).thenReturn(Map.of("knock", List.of(knock)));
+        when(gptService.searchWords(List.of("danger"), ENGLISH)).thenReturn(Map.of("danger", List.of(danger)));
+
+        // when
+        wordService.saveWords(List.of("knock", "danger"), ENGLISH);
+
+        // then
+        InOrder inOrder = inOrder(redisDistributedLock, gptService, wordRepository, transactionManager);
+        inOrder.verify(redisDistributedLock).tryLock(eq("lock:word:saved:knock"), anyString(), eq(60_000L));
+        inOrder.verify(gptService).searchWords(List.of("knock"), ENGLISH);
+        inOrder.verify(wordRepository).saveAll(List.of(knock));
+        inOrder.verify(redisDistributedLock).unlockAfterCompletion(eq("lock:word:saved:knock"), anyString());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(redisDistributedLock).tryLock(eq("lock:word:saved:danger"), anyString(), eq(60_000L));
+        inOrder.verify(gptService).searchWords(List.of("danger"), ENGLISH);
+        inOrder.verify(wordRepository).saveAll(List.of(danger));
+        inOrder.verify(redisDistributedLock).unlockAfterCompletion(eq("lock:word:saved:danger"), anyString());
+    }
+
+    @Test
+    @DisplayName("saveWords - GPT 검색이 실패하면 잡은 락을 바로 해제")
+    void saveWords_unlocksWhenGptFails() {
+        // given
+        when(wordRepository.findByWordIn(List.of("knock"))).thenReturn(List.of());
+        when(wordRepository.findByNormalizedWordIn(anyList())).thenReturn(List.of());
+        when(redisDistributedLock.tryLock(eq("lock:word:saved:knock"), anyString(), anyLong())).thenReturn(true);
+        when(gptService.searchWords(List.of("knock"), ENGLISH)).thenThrow(new IllegalStateException("gpt"));
+
+        // when & then
+        assertThatThrownBy(() -> wordService.saveWords(List.of("knock"), ENGLISH))
+                .isInstanceOf(IllegalStateException.class);
+        verify(redisDistributedLock).unlock(eq("lock:word:saved:knock"), anyString());
+        verify(wordRepository, never()).saveAll(anyList());
+    }
 }
@@ -18,11 +18,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mallang.mallang_backend.domain.member.entity.Member;
 import com.mallang.mallang_backend.domain.member.repository.MemberRepository;
 import com.mallang.mallang_backend.domain.quiz.wordquizresult.repository.WordQuizResultRepository;
@@ -30,6 +33,8 @@ import com.mallang.mallang_backend.domain.video.subtitle.entity.Subtitle;
 import com.mallang.mallang_backend.domain.video.subtitle.repository.SubtitleRepository;
 import com.mallang.mallang_backend.domain.video.video.entity.Videos;
 import com.mallang.mallang_backend.domain.video.video.repository.VideoRepository;
+import com.mallang.mallang_backend.domain.voca.word.cache.WordCache;
+import com.mallang.mallang_backend.domain.voca.word.cache.WordCacheProperties;
 import com.mallang.mallang_backend.domain.voca.word.entity.Difficulty;
 import com.mallang.mallang_backend.domain.voca.word.entity.Word;
 import com.mallang.mallang_backend.domain.voca.word.repository.WordRepository;
@@ -50,9 +55,14 @@ import com.mallang.mallang_backend.domain.voca.wordbookitem.repository.WordbookI
 import com.mallang.mallang_backend.global.common.Language;
 import com.mallang.mallang_backend.global.exception.ServiceException;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class WordbookServiceImplTest {
 
+    @Spy
+    private WordCache wordCache = new WordCache(null, new ObjectMapper(), new WordCacheProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private WordbookServiceImpl wordbookService;
 
@@ -155,6 +165,43 @@ class WordbookServiceImplTest {
         then(wordbookItemRepository).should().save(any(WordbookItem.class));
     }
 
+    @Test
+    @DisplayName("활용형으로 추가한 단어는 정규화 키로 찾은 저장된 단어로 담겨 단어장 목록에 나타난다")
+    void addWordCustom_inflectedFormThenList() {
+        AddWordRequest dto = new AddWordRequest();
+        dto.setWord("ceased");
+
+        Word cease = Word.builder()
+                .word("cease")
+                .difficulty(Difficulty.NORMAL)
+                .build();
+        setId(cease, 201L);
+
+        given(wordbookRepository.findByIdAndMemberId(savedDefaultWordBook.getId(), savedMember.getId())).willReturn(
+                Optional.of(savedDefaultWordBook));
+        given(memberRepository.findById(1L)).willReturn(Optional.of(savedMember));
+        given(wordRepository.findByWord("ceased")).willReturn(List.of());
+        given(wordRepository.findByNormalizedWord("cease")).willReturn(List.of(cease));
+        given(wordbookItemRepository.findByWordbookIdAndWord(savedDefaultWordBook.getId(), "cease")).willReturn(
+                Optional.empty());
+
+        wordbookService.addWordCustom(savedDefaultWordBook.getId(), dto, savedMember.getId());
+
+        ArgumentCaptor<WordbookItem> itemCaptor = ArgumentCaptor.forClass(WordbookItem.class);
+        then(wordbookItemRepository).should().save(itemCaptor.capture());
+        WordbookItem item = itemCaptor.getValue();
+        assertThat(item.getWord()).isEqualTo("cease");
+
+        given(wordbookRepository.findByMemberAndNameAndLanguage(savedMember, DEFAULT_WORDBOOK_NAME, Language.ENGLISH))
+                .willReturn(Optional.of(savedDefaultWordBook));
+        given(wordbookItemRepository.findAllByWordbookOrderByCreatedAtDesc(savedDefaultWordBook)).willReturn(List.of(item));
+        given(wordRepository.findByWordIn(List.of("cease"))).willReturn(List.of(cease));
+
+        List<WordResponse> result = wordbookService.getWordbookItems(null, 1L);
+
+        assertThat(result).extracting(WordResponse::getWord).containsExactly("cease");
+    }
+
     @Test
     @DisplayName("추가 단어장에 단어 추가 실패 - 스탠다드 미만 회원")
     void addWords_noPermission() {
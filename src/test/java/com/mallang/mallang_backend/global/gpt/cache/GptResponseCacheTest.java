@@ -0,0 +1,108 @@
+package com.mallang.mallang_backend.global.gpt.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.global.gpt.dto.Message;
+import com.mallang.mallang_backend.global.gpt.dto.OpenAiResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class GptResponseCacheTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private GptCacheProperties properties;
+	private GptResponseCache cache;
+
+	@BeforeEach
+	void setUp() {
+		properties = new GptCacheProperties();
+		properties.setEnabled(true);
+		cache = new GptResponseCache(redisTemplate, objectMapper, properties, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("공백만 다른 프롬프트는 같은 키로 저장되고 서버 메모리에서 바로 조회된다")
+	void put_thenGetFromLocal_withNormalizedPrompt() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+		cache.put("gpt-4o", GptPromptType.WORD, "단어: light\n  품사를 알려주세요", response("가벼운", 120));
+		Optional<OpenAiResponse> cached = cache.get("gpt-4o", GptPromptType.WORD, "  단어: light 품사를\t알려주세요 ");
+
+		assertThat(cached).isPresent();
+		assertThat(cached.get().getChoices().get(0).getMessage().getContent()).isEqualTo("가벼운");
+		verify(valueOperations).set(startsWith("gpt:response:gpt-4o:v1:word:"), anyString(), eq(Duration.ofDays(30)));
+		verify(valueOperations, never()).get(anyString());
+		assertThat(meterRegistry.counter("gpt_cache_tokens_saved_total", "type", "WORD").count()).isEqualTo(120);
+	}
+
+	@Test
+	@DisplayName("서버 메모리에 없으면 Redis 에서 조회한다")
+	void get_fromRedis() throws Exception {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get(anyString())).thenReturn(objectMapper.writeValueAsString(response("분석 결과", 300)));
+
+		Optional<OpenAiResponse> cached = cache.get("gpt-4o", GptPromptType.SENTENCE, "prompt");
+
+		assertThat(cached).isPresent();
+		assertThat(meterRegistry.counter("gpt_cache_requests_total", "type", "SENTENCE", "result", "hit_redis").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("템플릿 버전이 바뀌면 다른 키를 사용한다")
+	void key_includesTemplateVersion() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+
+		cache.put("gpt-4o", GptPromptType.WORD, "prompt", response("a", 1));
+		properties.setTemplateVersion("v2");
+		cache.put("gpt-4o", GptPromptType.WORD, "prompt", response("a", 1));
+
+		verify(valueOperations, times(2)).set(keys.capture(), anyString(), any(Duration.class));
+		assertThat(keys.getAllValues().get(0)).isNotEqualTo(keys.getAllValues().get(1));
+	}
+
+	@Test
+	@DisplayName("캐시를 사용하지 않거나 TTL 이 0 인 종류는 Redis 를 호출하지 않는다")
+	void disabled_or_zeroTtl_skipsRedis() {
+		properties.getTtl().put(GptPromptType.LEVEL_CHECK, Duration.ZERO);
+		cache.put("gpt-4o", GptPromptType.LEVEL_CHECK, "prompt", response("a", 1));
+		assertThat(cache.get("gpt-4o", GptPromptType.LEVEL_CHECK, "prompt")).isEmpty();
+
+		properties.setEnabled(false);
+		assertThat(cache.get("gpt-4o", GptPromptType.WORD, "prompt")).isEmpty();
+
+		verifyNoInteractions(redisTemplate);
+	}
+
+	private OpenAiResponse response(String content, int totalTokens) {
+		return new OpenAiResponse(
+			List.of(new OpenAiResponse.Choice(new Message("assistant", content))),
+			new OpenAiResponse.Usage(totalTokens / 2, totalTokens - totalTokens / 2, totalTokens)
+		);
+	}
+}
@@ -0,0 +1,99 @@
+package com.mallang.mallang_backend.global.gpt.limiter;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.mallang.mallang_backend.global.exception.ErrorCode;
+import com.mallang.mallang_backend.global.exception.ServiceException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OpenAiRateLimiterTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	private OpenAiRateLimitProperties properties;
+	private OpenAiRateLimiter rateLimiter;
+
+	@BeforeEach
+	void setUp() {
+		properties = new OpenAiRateLimitProperties();
+		properties.setEnabled(true);
+		properties.setPollIntervalMs(10);
+		rateLimiter = new OpenAiRateLimiter(redisTemplate, properties, new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("한도 제어가 꺼져 있으면 Redis 를 호출하지 않는다")
+	void acquire_disabled() {
+		properties.setEnabled(false);
+
+		long acquired = rateLimiter.acquire(100, GptCallPriority.INTERACTIVE);
+
+		assertThat(acquired).isZero();
+		verifyNoInteractions(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("버킷에 여유가 생길 때까지 대기한 뒤 프롬프트와 예상 응답 토큰을 함께 차감한다")
+	@SuppressWarnings("unchecked")
+	void acquire_waitsUntilGranted() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenReturn(-1L, 20L, 0L);
+
+		long acquired = rateLimiter.acquire(100, GptCallPriority.BACKGROUND);
+
+		assertThat(acquired).isEqualTo(200);
+		ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+		verify(redisTemplate, times(3)).execute(any(RedisScript.class), keys.capture(), any(Object[].class));
+		// 버킷, 자신의 대기열, 더 높은 우선순위 대기열 순서
+		assertThat(keys.getValue()).containsExactly(
+			"gpt:rate-limit:bucket",
+			"gpt:rate-limit:waiting:background",
+			"gpt:rate-limit:waiting:interactive"
+		);
+	}
+
+	@Test
+	@DisplayName("최대 대기 시간을 넘기면 대기표를 지우고 예외가 발생한다")
+	@SuppressWarnings("unchecked")
+	void acquire_timeout() {
+		properties.priorityOf(GptCallPriority.INTERACTIVE).setMaxWaitMs(30);
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(-1L);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+		assertThatThrownBy(() -> rateLimiter.acquire(100, GptCallPriority.INTERACTIVE))
+			.isInstanceOf(ServiceException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.GPT_RATE_LIMIT_TIMEOUT);
+		verify(zSetOperations).remove(eq("gpt:rate-limit:waiting:interactive"), anyString());
+	}
+
+	@Test
+	@DisplayName("실제 사용 토큰이 예상보다 적으면 차이만큼 버킷에 돌려준다")
+	@SuppressWarnings("unchecked")
+	void reconcile_returnsUnusedTokens() {
+		rateLimiter.reconcile(200, 150);
+
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("gpt:rate-limit:bucket")), eq("50"), eq("30000"));
+	}
+}
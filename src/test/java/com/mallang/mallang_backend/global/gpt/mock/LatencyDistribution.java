@@ -0,0 +1,30 @@
+package com.mallang.mallang_backend.global.gpt.mock;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Mock OpenAI 서버의 응답 지연 시간 분포
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+	long sampleMillis();
+
+	static LatencyDistribution fixed(long millis) {
+		return () -> millis;
+	}
+
+	static LatencyDistribution uniform(long minMillis, long maxMillis) {
+		return () -> ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+	}
+
+	/**
+	 * 로그 정규 분포 (sigma 가 클수록 꼬리 지연이 길어짐)
+	 *
+	 * @param medianMillis 중앙값
+	 * @param sigma        ln(지연 시간)의 표준 편차 (0.3: 완만, 1.0: 긴 꼬리)
+	 */
+	static LatencyDistribution logNormal(long medianMillis, double sigma) {
+		return () -> Math.round(medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+	}
+}
@@ -0,0 +1,46 @@
+package com.mallang.mallang_backend.global.gpt.mock;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Mock OpenAI 서버의 장애 시나리오
+ * <p>- rateLimitPeriod 마다 처음 rateLimitBurst 동안 들어온 요청에 429 를 응답합니다. (OpenAI 분당 한도 초과 구간 흉내)</p>
+ * <p>- truncatedRate 비율만큼 응답 내용을 중간에서 자르고(finish_reason=length), codeFencedRate 비율만큼 ```json 코드 블록으로 감쌉니다.</p>
+ */
+@Getter
+@Builder
+public class MockOpenAiScenario {
+
+	private final String name;
+
+	@Builder.Default
+	private final LatencyDistribution latency = LatencyDistribution.fixed(0);
+
+	@Builder.Default
+	private final Duration rateLimitPeriod = Duration.ZERO;
+
+	@Builder.Default
+	private final Duration rateLimitBurst = Duration.ZERO;
+
+	@Builder.Default
+	private final int retryAfterSeconds = 1;
+
+	@Builder.Default
+	private final double truncatedRate = 0;
+
+	@Builder.Default
+	private final double codeFencedRate = 0;
+
+	/**
+	 * 서버 시작 후 elapsedMillis 시점이 429 구간인지 여부
+	 */
+	boolean isRateLimited(long elapsedMillis) {
+		if (rateLimitPeriod.isZero() || rateLimitBurst.isZero()) {
+			return false;
+		}
+		return elapsedMillis % rateLimitPeriod.toMillis() < rateLimitBurst.toMillis();
+	}
+}
@@ -0,0 +1,230 @@
+package com.mallang.mallang_backend.global.gpt.mock;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.global.gpt.util.GptTokenEstimator;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * <p> OpenAI chat/completions 규격으로 응답하는 로컬 Mock 서버 (MockWebServer 기반) </p>
+ * <p>- 요청의 마지막 메시지(프롬프트)를 contentFactory 에 넘겨 응답 내용을 만들고, MockOpenAiScenario 에 따라 지연, 429, 잘린 응답, 코드 블록 응답을 섞습니다. </p>
+ * <p>- stream=true 요청에는 delta.content 조각, usage 조각, [DONE] 순서의 SSE 로 응답합니다. </p>
+ * <p>- 실제 GptServiceImpl 의 WebClient 를 url() 로 향하게 하면 HTTP, 재시도, 파싱 경로를 모두 거칩니다. </p>
+ */
+public class MockOpenAiServer extends Dispatcher implements Closeable {
+
+	private static final int STREAM_CHUNK_CHARS = 20;
+
+	private final MockWebServer server = new MockWebServer();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Function<String, String> contentFactory;
+
+	private volatile MockOpenAiScenario scenario = MockOpenAiScenario.builder().name("default").build();
+	private volatile long scenarioStartedAt = System.currentTimeMillis();
+
+	private final AtomicLong requestCount = new AtomicLong();
+	private final AtomicLong rateLimitedCount = new AtomicLong();
+	private final AtomicLong truncatedCount = new AtomicLong();
+	private final AtomicLong codeFencedCount = new AtomicLong();
+
+	/**
+	 * @param contentFactory 프롬프트를 받아 정상 응답 내용(choices[0].message.content)을 만드는 함수
+	 */
+	public MockOpenAiServer(Function<String, String> contentFactory) {
+		this.contentFactory = contentFactory;
+		server.setDispatcher(this);
+	}
+
+	public MockOpenAiServer start() throws IOException {
+		server.start();
+		return this;
+	}
+
+	/**
+	 * openAiWebClient 의 baseUrl 로 사용할 주소
+	 */
+	public String url() {
+		return server.url("/v1/chat/completions").toString();
+	}
+
+	/**
+	 * 시나리오를 바꾸고 통계와 429 구간 기준 시각을 초기화합니다.
+	 */
+	public void setScenario(MockOpenAiScenario scenario) {
+		this.scenario = scenario;
+		this.scenarioStartedAt = System.currentTimeMillis();
+		requestCount.set(0);
+		rateLimitedCount.set(0);
+		truncatedCount.set(0);
+		codeFencedCount.set(0);
+	}
+
+	public long getRequestCount() {
+		return requestCount.get();
+	}
+
+	public long getRateLimitedCount() {
+		return rateLimitedCount.get();
+	}
+
+	public long getTruncatedCount() {
+		return truncatedCount.get();
+	}
+
+	public long getCodeFencedCount() {
+		return codeFencedCount.get();
+	}
+
+	@Override
+	public MockResponse dispatch(RecordedRequest request) {
+		requestCount.incrementAndGet();
+		MockOpenAiScenario current = scenario;
+		long delayMillis = Math.max(0, current.getLatency().sampleMillis());
+
+		if (current.isRateLimited(System.currentTimeMillis() - scenarioStartedAt)) {
+			rateLimitedCount.incrementAndGet();
+			return new MockResponse()
+				.setResponseCode(429)
+				.addHeader("Content-Type", "application/json")
+				.addHeader("Retry-After", current.getRetryAfterSeconds())
+				.setBody("{\"error\":{\"message\":\"Rate limit reached for requests\",\"type\":\"requests\",\"code\":\"rate_limit_exceeded\"}}");
+		}
+
+		JsonNode body;
+		try {
+			body = objectMapper.readTree(request.getBody().readUtf8());
+		} catch (JsonProcessingException e) {
+			return new MockResponse().setResponseCode(400)
+				.addHeader("Content-Type", "application/json")
+				.setBody("{\"error\":{\"message\":\"invalid json\",\"type\":\"invalid_request_error\"}}");
+		}
+		JsonNode messages = body.path("messages");
+		String prompt = messages.path(messages.size() - 1).path("content").asText("");
+		String model = body.path("model").asText("gpt-4o");
+
+		String content = contentFactory.apply(prompt);
+		String finishReason = "stop";
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		if (random.nextDouble() < current.getTruncatedRate()) {
+			truncatedCount.incrementAndGet();
+			content = content.substring(0, content.length() / 2);
+			finishReason = "length";
+		} else if (random.nextDouble() < current.getCodeFencedRate()) {
+			codeFencedCount.incrementAndGet();
+			content = "```json\n" + content + "\n```";
+		}
+
+		Map<String, Object> usage = usage(prompt, content);
+		if (body.path("stream").asBoolean(false)) {
+			return streamResponse(model, content, finishReason, usage, delayMillis);
+		}
+
+		Map<String, Object> message = new LinkedHashMap<>();
+		message.put("role", "assistant");
+		message.put("content", content);
+
+		Map<String, Object> choice = new LinkedHashMap<>();
+		choice.put("index", 0);
+		choice.put("message", message);
+		choice.put("finish_reason", finishReason);
+
+		Map<String, Object> completion = completion("chat.completion", model);
+		completion.put("choices", List.of(choice));
+		completion.put("usage", usage);
+
+		return new MockResponse()
+			.setResponseCode(200)
+			.setHeadersDelay(delayMillis, TimeUnit.MILLISECONDS)
+			.addHeader("Content-Type", "application/json")
+			.setBody(toJson(completion));
+	}
+
+	/**
+	 * 응답 내용을 STREAM_CHUNK_CHARS 글자씩 나눈 SSE 로 응답합니다. 지연 시간은 첫 바이트까지의 시간으로 사용합니다.
+	 */
+	private MockResponse streamResponse(String model, String content, String finishReason, Map<String, Object> usage, long delayMillis) {
+		List<String> events = new ArrayList<>();
+		for (int from = 0; from < content.length(); from += STREAM_CHUNK_CHARS) {
+			String piece = content.substring(from, Math.min(from + STREAM_CHUNK_CHARS, content.length()));
+			events.add(toJson(chunk(model, Map.of("content", piece), null)));
+		}
+		events.add(toJson(chunk(model, Map.of(), finishReason)));
+
+		Map<String, Object> usageChunk = completion("chat.completion.chunk", model);
+		usageChunk.put("choices", List.of());
+		usageChunk.put("usage", usage);
+		events.add(toJson(usageChunk));
+
+		StringBuilder sse = new StringBuilder();
+		for (String event : events) {
+			sse.append("data: ").append(event).append("\n\n");
+		}
+		sse.append("data: [DONE]\n\n");
+
+		return new MockResponse()
+			.setResponseCode(200)
+			.setHeadersDelay(delayMillis, TimeUnit.MILLISECONDS)
+			.addHeader("Content-Type", "text/event-stream")
+			.setBody(sse.toString());
+	}
+
+	private Map<String, Object> chunk(String model, Map<String, Object> delta, String finishReason) {
+		Map<String, Object> choice = new LinkedHashMap<>();
+		choice.put("index", 0);
+		choice.put("delta", delta);
+		choice.put("finish_reason", finishReason);
+
+		Map<String, Object> chunk = completion("chat.completion.chunk", model);
+		chunk.put("choices", List.of(choice));
+		return chunk;
+	}
+
+	private Map<String, Object> completion(String object, String model) {
+		Map<String, Object> completion = new LinkedHashMap<>();
+		completion.put("id", "chatcmpl-mock-" + requestCount.get());
+		completion.put("object", object);
+		completion.put("created", System.currentTimeMillis() / 1000);
+		completion.put("model", model);
+		return completion;
+	}
+
+	private Map<String, Object> usage(String prompt, String content) {
+		int promptTokens = GptTokenEstimator.estimate(prompt);
+		int completionTokens = GptTokenEstimator.estimate(content);
+
+		Map<String, Object> usage = new LinkedHashMap<>();
+		usage.put("prompt_tokens", promptTokens);
+		usage.put("completion_tokens", completionTokens);
+		usage.put("total_tokens", promptTokens + completionTokens);
+		return usage;
+	}
+
+	private String toJson(Object value) {
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		server.shutdown();
+	}
+}
@@ -0,0 +1,88 @@
+package com.mallang.mallang_backend.global.gpt.mock;
+
+import com.mallang.mallang_backend.global.gpt.dto.Message;
+import com.mallang.mallang_backend.global.gpt.dto.OpenAiRequest;
+import com.mallang.mallang_backend.global.gpt.dto.OpenAiResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MockOpenAiServerTest {
+
+    private MockOpenAiServer server;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockOpenAiServer(prompt -> "[{\"original\": \"" + prompt + "\"}]").start();
+        webClient = WebClient.create(server.url());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("chat/completions 규격으로 응답하고, 코드 블록 시나리오에서는 내용을 ```json 으로 감싼다.")
+    void completion_codeFenced() {
+        server.setScenario(MockOpenAiScenario.builder().name("code-fenced").codeFencedRate(1.0).build());
+
+        OpenAiResponse response = call(new OpenAiRequest("gpt-4o", new Message[]{new Message("user", "hello")}));
+
+        assertThat(response.getChoices().get(0).getMessage().getContent())
+                .isEqualTo("```json\n[{\"original\": \"hello\"}]\n```");
+        assertThat(response.getUsage().getTotal_tokens()).isPositive();
+        assertThat(server.getCodeFencedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("429 구간에 들어온 요청은 429 로 응답한다.")
+    void completion_rateLimitBurst() {
+        server.setScenario(MockOpenAiScenario.builder()
+                .name("429-burst")
+                .rateLimitPeriod(Duration.ofMinutes(1))
+                .rateLimitBurst(Duration.ofMinutes(1))
+                .build());
+
+        assertThatThrownBy(() -> call(new OpenAiRequest("gpt-4o", new Message[]{new Message("user", "hello")})))
+                .isInstanceOf(WebClientResponseException.TooManyRequests.class);
+        assertThat(server.getRateLimitedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("stream=true 요청에는 delta.content 조각과 [DONE] 을 SSE 로 응답한다.")
+    void completion_streaming() {
+        List<String> data = webClient.post()
+                .bodyValue(OpenAiRequest.streaming("gpt-4o", new Message[]{new Message("user", "a long enough prompt to split")}, null, null))
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .map(ServerSentEvent::data)
+                .collectList()
+                .block();
+
+        assertThat(data).last().isEqualTo("[DONE]");
+        assertThat(data).anyMatch(event -> event.contains("\"delta\":{\"content\""));
+        assertThat(data).anyMatch(event -> event.contains("\"usage\""));
+    }
+
+    private OpenAiResponse call(OpenAiRequest request) {
+        return webClient.post()
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(OpenAiResponse.class)
+                .block();
+    }
+}
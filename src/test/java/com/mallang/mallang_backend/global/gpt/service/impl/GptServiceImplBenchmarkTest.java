@@ -0,0 +1,328 @@
+package com.mallang.mallang_backend.global.gpt.service.impl;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.domain.stt.converter.TranscriptSegment;
+import com.mallang.mallang_backend.global.gpt.cache.GptCacheProperties;
+import com.mallang.mallang_backend.global.gpt.cache.GptResponseCache;
+import com.mallang.mallang_backend.global.gpt.limiter.OpenAiRateLimitProperties;
+import com.mallang.mallang_backend.global.gpt.limiter.OpenAiRateLimiter;
+import com.mallang.mallang_backend.global.gpt.mock.LatencyDistribution;
+import com.mallang.mallang_backend.global.gpt.mock.MockOpenAiScenario;
+import com.mallang.mallang_backend.global.gpt.mock.MockOpenAiServer;
+import com.mallang.mallang_backend.global.gpt.routing.GptRoutingProperties;
+import com.mallang.mallang_backend.global.gpt.service.GptPromptBuilder;
+import com.mallang.mallang_backend.global.gpt.service.GptService;
+
+import io.github.resilience4j.springboot3.retry.autoconfigure.RetryAutoConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.mallang.mallang_backend.global.common.Language.ENGLISH;
+
+/**
+ * <p> 실제 GptServiceImpl (WebClient, 경로별 429 재시도, GptScriptProcessor 파싱)을
+ * MockOpenAiServer 에 연결해 시나리오별 처리량과 p50/p95/p99 지연을 측정합니다. </p>
+ * <p> Redis 를 쓰는 호출 한도 제어와 응답 캐시는 꺼 두고, resilience4j 설정은 classpath 의 yml 을 그대로 사용합니다. </p>
+ * <p> 실행 예) ./gradlew test --tests "*GptServiceImplBenchmarkTest" -Dbench.gpt.requests=500 -Dbench.gpt.concurrency=50 </p>
+ */
+@Slf4j
+@SpringBootTest(
+	classes = {GptServiceImpl.class, GptServiceImplBenchmarkTest.BenchmarkConfig.class},
+	properties = "spring.ai.openai.api-key=benchmark-key"
+)
+@ImportAutoConfiguration({AopAutoConfiguration.class, RetryAutoConfiguration.class})
+class GptServiceImplBenchmarkTest {
+
+	private static final int REQUESTS = Integer.getInteger("bench.gpt.requests", 200);
+	private static final int CONCURRENCY = Integer.getInteger("bench.gpt.concurrency", 20);
+	private static final long MEDIAN_LATENCY_MS = Long.getLong("bench.gpt.latency-ms", 800);
+	private static final int SEGMENT_COUNT = 10;
+
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+
+	// 컨텍스트의 openAiWebClient 가 주소를 알아야 하므로 클래스 로딩 시 시작
+	private static final MockOpenAiServer server = startServer();
+
+	@Autowired
+	private GptService gptService;
+
+	@TestConfiguration
+	static class BenchmarkConfig {
+
+		@Bean
+		public WebClient openAiWebClient() {
+			return WebClient.builder().baseUrl(server.url()).build();
+		}
+
+		@Bean
+		public GptPromptBuilder gptPromptBuilder() {
+			return new BenchmarkPromptBuilder();
+		}
+
+		@Bean
+		public MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		public ObjectMapper objectMapper() {
+			return new ObjectMapper();
+		}
+
+		@Bean
+		public ExecutorService gptChunkExecutor() {
+			return Executors.newFixedThreadPool(8);
+		}
+
+		@Bean
+		public OpenAiRateLimiter openAiRateLimiter(MeterRegistry meterRegistry) {
+			return new OpenAiRateLimiter(null, new OpenAiRateLimitProperties(), meterRegistry);
+		}
+
+		@Bean
+		public GptResponseCache gptResponseCache(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+			return new GptResponseCache(null, objectMapper, new GptCacheProperties(), meterRegistry);
+		}
+
+		@Bean
+		public GptRoutingProperties gptRoutingProperties() {
+			return new GptRoutingProperties();
+		}
+	}
+
+	@AfterAll
+	static void stopServer() throws IOException {
+		server.close();
+	}
+
+	@Test
+	@Disabled("수동 실행용 벤치마크")
+	@DisplayName("시나리오별로 단어 검색과 스크립트 분석의 처리량, 꼬리 지연, 실패율을 출력한다")
+	void runScenarios() {
+		List<MockOpenAiScenario> scenarios = List.of(
+			MockOpenAiScenario.builder()
+				.name("baseline")
+				.latency(LatencyDistribution.logNormal(MEDIAN_LATENCY_MS, 0.3))
+				.build(),
+			MockOpenAiScenario.builder()
+				.name("long-tail")
+				.latency(LatencyDistribution.logNormal(MEDIAN_LATENCY_MS, 1.0))
+				.build(),
+			MockOpenAiScenario.builder()
+				.name("429-burst")
+				.latency(LatencyDistribution.logNormal(MEDIAN_LATENCY_MS, 0.3))
+				.rateLimitPeriod(Duration.ofSeconds(10))
+				.rateLimitBurst(Duration.ofSeconds(3))
+				.build(),
+			MockOpenAiScenario.builder()
+				.name("truncated")
+				.latency(LatencyDistribution.logNormal(MEDIAN_LATENCY_MS, 0.3))
+				.truncatedRate(0.2)
+				.build(),
+			MockOpenAiScenario.builder()
+				.name("code-fenced")
+				.latency(LatencyDistribution.logNormal(MEDIAN_LATENCY_MS, 0.3))
+				.codeFencedRate(1.0)
+				.build()
+		);
+
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("%n%-12s %-8s %6s %6s %6s %6s %8s %8s %8s %8s %8s %6s %6s%n",
+			"scenario", "call", "count", "ok", "empty", "error", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "http", "429"));
+
+		for (MockOpenAiScenario scenario : scenarios) {
+			server.setScenario(scenario);
+			report.append(run(scenario.getName(), "word", i -> gptService.searchWord("word" + i, ENGLISH)));
+
+			server.setScenario(scenario);
+			report.append(run(scenario.getName(), "script", i -> gptService.analyzeScript(segments(i), ENGLISH)));
+		}
+		log.info("GPT 벤치마크 결과 (요청 {}건, 동시성 {}){}", REQUESTS, CONCURRENCY, report);
+	}
+
+	/**
+	 * call 을 REQUESTS 번, CONCURRENCY 개 스레드로 실행하고 결과 한 줄을 반환합니다.
+	 */
+	private String run(String scenario, String callName, IndexedCall call) {
+		ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+		List<Future<CallResult>> futures = new ArrayList<>(REQUESTS);
+
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < REQUESTS; i++) {
+			int index = i;
+			futures.add(executor.submit(() -> timed(() -> call.call(index))));
+		}
+
+		List<Long> latencies = new ArrayList<>(REQUESTS);
+		Map<String, Integer> outcomes = new LinkedHashMap<>();
+		for (Future<CallResult> future : futures) {
+			try {
+				CallResult result = future.get();
+				latencies.add(result.millis());
+				outcomes.merge(result.outcome(), 1, Integer::sum);
+			} catch (Exception e) {
+				outcomes.merge("error", 1, Integer::sum);
+			}
+		}
+		long wallMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+		executor.shutdown();
+
+		Collections.sort(latencies);
+		return String.format("%-12s %-8s %6d %6d %6d %6d %8.1f %8d %8d %8d %8d %6d %6d%n",
+			scenario, callName, REQUESTS,
+			outcomes.getOrDefault("ok", 0), outcomes.getOrDefault("empty", 0), outcomes.getOrDefault("error", 0),
+			REQUESTS * 1000.0 / wallMillis,
+			percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99),
+			latencies.isEmpty() ? 0 : latencies.get(latencies.size() - 1),
+			server.getRequestCount(), server.getRateLimitedCount());
+	}
+
+	private static CallResult timed(Supplier<List<?>> call) {
+		long start = System.nanoTime();
+		String outcome;
+		try {
+			outcome = call.get().isEmpty() ? "empty" : "ok";
+		} catch (RuntimeException e) {
+			outcome = "error";
+		}
+		return new CallResult(outcome, (System.nanoTime() - start) / 1_000_000);
+	}
+
+	private static long percentile(List<Long> sorted, int percentile) {
+		if (sorted.isEmpty()) {
+			return 0;
+		}
+		int index = (int)Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+		return sorted.get(Math.max(0, index));
+	}
+
+	private static List<TranscriptSegment> segments(int index) {
+		List<TranscriptSegment> segments = new ArrayList<>(SEGMENT_COUNT);
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			segments.add(new TranscriptSegment((long)i, i * 1000L, (i + 1) * 1000L, "A",
+				"hello world number " + index + " line " + i));
+		}
+		return segments;
+	}
+
+	private static MockOpenAiServer startServer() {
+		try {
+			return new MockOpenAiServer(GptServiceImplBenchmarkTest::mockContent).start();
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * BenchmarkPromptBuilder 가 붙인 접두어로 호출 종류를 구분해 정상 응답 내용을 만듭니다.
+	 */
+	private static String mockContent(String prompt) {
+		if (prompt.startsWith(BenchmarkPromptBuilder.WORD)) {
+			String word = prompt.substring(BenchmarkPromptBuilder.WORD.length());
+			return "명사 | 단어 | 1 | I said " + word + " to you. | 나는 너에게 단어를 말했다.";
+		}
+		if (prompt.startsWith(BenchmarkPromptBuilder.SCRIPT)) {
+			List<Map<String, Object>> blocks = Stream.of(prompt.substring(BenchmarkPromptBuilder.SCRIPT.length()).split(" \\| "))
+				.map(sentence -> Map.<String, Object>of(
+					"original", sentence,
+					"translate", "번역된 문장",
+					"keyword", List.of(Map.of("word", "hello", "meaning", "안녕", "difficulty", 1))))
+				.toList();
+			try {
+				return objectMapper.writeValueAsString(blocks);
+			} catch (JsonProcessingException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return "ok";
+	}
+
+	@FunctionalInterface
+	private interface IndexedCall {
+		List<?> call(int index);
+	}
+
+	private record CallResult(String outcome, long millis) {
+	}
+
+	/**
+	 * 응답 내용을 만들 수 있도록 호출 종류 접두어와 입력만 담은 프롬프트
+	 */
+	private static class BenchmarkPromptBuilder implements GptPromptBuilder {
+
+		static final String WORD = "WORD:";
+		static final String SCRIPT = "SCRIPT:";
+
+		@Override
+		public String buildPromptForSearchWord(String word) {
+			return WORD + word;
+		}
+
+		@Override
+		public String buildPromptForSearchWordJapanese(String word) {
+			return WORD + word;
+		}
+
+		@Override
+		public String buildPromptForSearchWords(List<String> words) {
+			return String.join(",", words);
+		}
+
+		@Override
+		public String buildPromptForSearchWordsJapanese(List<String> words) {
+			return String.join(",", words);
+		}
+
+		@Override
+		public String buildPromptForAnalyzeSentence(String sentence, String translatedSentence) {
+			return sentence;
+		}
+
+		@Override
+		public String buildPromptForAnalyzeSentenceJapanese(String sentence, String translatedSentence) {
+			return sentence;
+		}
+
+		@Override
+		public String buildPromptForAnalyzeScript(String script) {
+			return SCRIPT + script;
+		}
+
+		@Override
+		public String buildPromptForAnalyzeScriptJapanese(String script) {
+			return SCRIPT + script;
+		}
+
+		@Override
+		public String buildPromptForLevelTestScript(String wordLevel, String expressionLevel, String wordQuizResult, String expressionQuizResult) {
+			return wordLevel;
+		}
+	}
+}
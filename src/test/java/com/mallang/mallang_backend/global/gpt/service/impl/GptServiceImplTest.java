@@ -2,10 +2,14 @@ package com.mallang.mallang_backend.global.gpt.service.impl;
 
 import com.mallang.mallang_backend.domain.stt.converter.TranscriptSegment;
 import com.mallang.mallang_backend.domain.voca.word.entity.Word;
+import com.mallang.mallang_backend.global.exception.ErrorCode;
 import com.mallang.mallang_backend.global.exception.ServiceException;
+import com.mallang.mallang_backend.global.gpt.cache.GptPromptType;
+import com.mallang.mallang_backend.global.gpt.cache.GptResponseCache;
 import com.mallang.mallang_backend.global.gpt.dto.GptSubtitleResponse;
 import com.mallang.mallang_backend.global.gpt.dto.Message;
 import com.mallang.mallang_backend.global.gpt.dto.OpenAiResponse;
+import com.mallang.mallang_backend.global.gpt.routing.GptRoutingProperties;
 import com.mallang.mallang_backend.global.gpt.service.GptPromptBuilder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,13 +18,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static com.mallang.mallang_backend.global.common.Language.ENGLISH;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +45,12 @@ public class GptServiceImplTest {
 	@Mock
 	private GptPromptBuilder gptPromptBuilder;
 
+	@Mock
+	private GptResponseCache gptResponseCache;
+
+	@Spy
+	private GptRoutingProperties gptRoutingProperties = new GptRoutingProperties();
+
 	@Test
 	@DisplayName("스크립트 분석 시 Original에 사용된 단어 그대로의 형태가 아니면 OpenAI 응답의 Keyword에서 제거되어야 한다")
 	void analyzeScript_shouldReturnValidKeywordResponses() {
@@ -63,7 +82,7 @@ public class GptServiceImplTest {
 		"""))
 		));
 
-		doReturn(mockResponse).when(gptServiceImpl).callGptApi(prompt);
+		doReturn(mockResponse).when(gptServiceImpl).callGptApi(prompt, GptPromptType.SCRIPT);
 
 		// 스크립트 분석
 		List<GptSubtitleResponse> result = gptServiceImpl.analyzeScript(segments, ENGLISH);
@@ -73,8 +92,8 @@ public class GptServiceImplTest {
 	}
 
 	@Test
-	@DisplayName("단어 검색 시 예문에 단어 형태가 일치하지 않으면 예외 발생")
-	void searchWord_shouldThrowExceptionWhenExampleSentenceIsInvalid() {
+	@DisplayName("단어 검색 시 예문에 단어 형태가 일치하지 않으면 fallback 으로 빈 결과 반환")
+	void searchWord_shouldFallbackWhenExampleSentenceIsInvalid() {
 		String word = "cease";
 		String prompt = "some prompt";
 
@@ -85,12 +104,12 @@ public class GptServiceImplTest {
 			new OpenAiResponse.Choice(new Message("user", "동사 | 멈추다 | 2 | It ceases to exist without me | 나 없이는 존재할 수 없다."))
 		));
 
-		doReturn(mockResponse).when(gptServiceImpl).callGptApi(prompt);
+		doReturn(mockResponse).when(gptServiceImpl).callGptApi(prompt, GptPromptType.WORD);
 
-		// 예문에 "cease"가 정확히 포함되지 않은 경우 예외 발생
-		assertThatThrownBy(() -> {
-			gptServiceImpl.searchWord(word, ENGLISH);
-		}).isInstanceOf(ServiceException.class);
+		// 예문에 "cease"가 정확히 포함되지 않은 경우 검증 예외가 fallback 으로 처리됨
+		List<Word> result = gptServiceImpl.searchWord(word, ENGLISH);
+
+		assertThat(result).isEmpty();
 	}
 
 	@Test
@@ -106,11 +125,168 @@ public class GptServiceImplTest {
 			new OpenAiResponse.Choice(new Message("user", "동사 | 멈추다 | 2 | It ceases to exist without me | 나 없이는 존재할 수 없다."))
 		));
 
-		doReturn(mockResponse).when(gptServiceImpl).callGptApi(prompt);
+		doReturn(mockResponse).when(gptServiceImpl).callGptApi(prompt, GptPromptType.WORD);
 
 		List<Word> result = gptServiceImpl.searchWord(word, ENGLISH);
 
 		assertThat(result).isNotEmpty();
 		assertThat(result.get(0).getWord()).isEqualTo("ceases");
 	}
+
+	@Test
+	@DisplayName("단어 검색 시 예문 검증에 실패하면 다시 호출하여 유효한 결과 반환")
+	void searchWord_shouldRetryWhenExampleSentenceIsInvalid() {
+		ReflectionTestUtils.setField(gptServiceImpl, "callMaxAttempts", 3);
+		String word = "cease";
+		String prompt = "some prompt";
+
+		when(gptPromptBuilder.buildPromptForSearchWord(word)).thenReturn(prompt);
+
+		OpenAiResponse invalidResponse = new OpenAiResponse();
+		invalidResponse.setChoices(List.of(
+			new OpenAiResponse.Choice(new Message("user", "동사 | 멈추다 | 2 | It ceases to exist without me | 나 없이는 존재할 수 없다."))
+		));
+		OpenAiResponse validResponse = new OpenAiResponse();
+		validResponse.setChoices(List.of(
+			new OpenAiResponse.Choice(new Message("user", "동사 | 멈추다 | 2 | They will cease fire soon | 그들은 곧 사격을 멈출 것이다."))
+		));
+
+		doReturn(invalidResponse, validResponse).when(gptServiceImpl).callGptApi(prompt, GptPromptType.WORD);
+
+		List<Word> result = gptServiceImpl.searchWord(word, ENGLISH);
+
+		assertThat(result).isNotEmpty();
+		verify(gptServiceImpl, times(2)).callGptApi(prompt, GptPromptType.WORD);
+	}
+
+	@Test
+	@DisplayName("단어 검색 시 429 재시도를 소진한 경우 다시 호출하지 않고 fallback 으로 빈 결과 반환")
+	void searchWord_shouldNotRetryRateLimitTimeout() {
+		ReflectionTestUtils.setField(gptServiceImpl, "callMaxAttempts", 3);
+		String word = "cease";
+		String prompt = "some prompt";
+
+		when(gptPromptBuilder.buildPromptForSearchWord(word)).thenReturn(prompt);
+		doThrow(new ServiceException(ErrorCode.GPT_RATE_LIMIT_TIMEOUT)).when(gptServiceImpl).callGptApi(prompt, GptPromptType.WORD);
+
+		List<Word> result = gptServiceImpl.searchWord(word, ENGLISH);
+
+		assertThat(result).isEmpty();
+		verify(gptServiceImpl, times(1)).callGptApi(prompt, GptPromptType.WORD);
+	}
+
+	@Test
+	@DisplayName("청크 모드에서는 스크립트를 나누어 분석하고 원래 세그먼트 순서대로 결과를 합친다")
+	void analyzeScript_chunked_shouldMergeResultsInOrder() {
+		ReflectionTestUtils.setField(gptServiceImpl, "chunkEnabled", true);
+		ReflectionTestUtils.setField(gptServiceImpl, "chunkMaxTokens", 5);
+		ReflectionTestUtils.setField(gptServiceImpl, "chunkMaxAttempts", 1);
+		ReflectionTestUtils.setField(gptServiceImpl, "gptChunkExecutor", (Executor) Runnable::run);
+
+		List<TranscriptSegment> segments = List.of(
+			new TranscriptSegment(1L, "00:00:01.000", "00:00:02.000", "A", "I see"),
+			new TranscriptSegment(2L, "00:00:02.000", "00:00:03.000", "A", "I know")
+		);
+
+		// 프롬프트를 스크립트 그대로 반환하여 청크별 응답을 구분
+		when(gptPromptBuilder.buildPromptForAnalyzeScript(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+		doAnswer(invocation -> {
+			String script = invocation.getArgument(0);
+			OpenAiResponse response = new OpenAiResponse();
+			response.setChoices(List.of(new OpenAiResponse.Choice(new Message("user",
+				"[{\"original\": \"" + script + "\", \"translate\": \"번역\", \"keyword\": []}]"))));
+			return response;
+		}).when(gptServiceImpl).callGptApi(anyString(), eq(GptPromptType.SCRIPT));
+
+		List<GptSubtitleResponse> result = gptServiceImpl.analyzeScript(segments, ENGLISH);
+
+		verify(gptServiceImpl, times(2)).callGptApi(anyString(), eq(GptPromptType.SCRIPT));
+		assertThat(result).extracting("original").containsExactly("I see", "I know");
+		assertThat(result).extracting("subtitleId").containsExactly(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("청크 모드에서 한 청크가 실패하면 그 청크만 다시 분석하고, 성공한 청크는 다시 호출하지 않는다")
+	void analyzeScript_chunked_shouldRetryOnlyFailedChunk() {
+		ReflectionTestUtils.setField(gptServiceImpl, "chunkEnabled", true);
+		ReflectionTestUtils.setField(gptServiceImpl, "chunkMaxTokens", 5);
+		ReflectionTestUtils.setField(gptServiceImpl, "chunkMaxAttempts", 2);
+		ReflectionTestUtils.setField(gptServiceImpl, "gptChunkExecutor", (Executor) Runnable::run);
+
+		List<TranscriptSegment> segments = List.of(
+			new TranscriptSegment(1L, "00:00:01.000", "00:00:02.000", "A", "I see"),
+			new TranscriptSegment(2L, "00:00:02.000", "00:00:03.000", "A", "I know")
+		);
+
+		when(gptPromptBuilder.buildPromptForAnalyzeScript(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+		List<String> calls = new ArrayList<>();
+		doAnswer(invocation -> {
+			String script = invocation.getArgument(0);
+			calls.add(script);
+			if (script.contains("I know") && calls.stream().filter(script::equals).count() == 1) {
+				throw new ServiceException(ErrorCode.GPT_API_CALL_FAILED);
+			}
+			OpenAiResponse response = new OpenAiResponse();
+			response.setChoices(List.of(new OpenAiResponse.Choice(new Message("user",
+				"[{\"original\": \"" + script + "\", \"translate\": \"번역\", \"keyword\": []}]"))));
+			return response;
+		}).when(gptServiceImpl).callGptApi(anyString(), eq(GptPromptType.SCRIPT));
+
+		List<GptSubtitleResponse> result = gptServiceImpl.analyzeScript(segments, ENGLISH);
+
+		assertThat(result).extracting("original").containsExactly("I see", "I know");
+		assertThat(calls).filteredOn(script -> script.contains("I see")).hasSize(1);
+		assertThat(calls).filteredOn(script -> script.contains("I know")).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("스트리밍 분석 시 청크 분석 결과가 세그먼트 순서대로 콜백에 전달된다")
+	void analyzeScript_streaming_shouldDeliverBatchesInOrder() {
+		ReflectionTestUtils.setField(gptServiceImpl, "chunkMaxTokens", 5);
+		ReflectionTestUtils.setField(gptServiceImpl, "chunkMaxAttempts", 1);
+		ReflectionTestUtils.setField(gptServiceImpl, "gptChunkExecutor", (Executor) Runnable::run);
+
+		List<TranscriptSegment> segments = List.of(
+			new TranscriptSegment(1L, "00:00:01.000", "00:00:02.000", "A", "I see"),
+			new TranscriptSegment(2L, "00:00:02.000", "00:00:03.000", "A", "I know")
+		);
+
+		when(gptPromptBuilder.buildPromptForAnalyzeScript(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+		doAnswer(invocation -> {
+			String script = invocation.getArgument(0);
+			OpenAiResponse response = new OpenAiResponse();
+			response.setChoices(List.of(new OpenAiResponse.Choice(new Message("user",
+				"[{\"original\": \"" + script + "\", \"translate\": \"번역\", \"keyword\": []}]"))));
+			return response;
+		}).when(gptServiceImpl).callGptApi(anyString(), eq(GptPromptType.SCRIPT));
+
+		List<List<GptSubtitleResponse>> batches = new ArrayList<>();
+		List<GptSubtitleResponse> result = gptServiceImpl.analyzeScript(segments, ENGLISH, batches::add);
+
+		assertThat(batches).hasSize(2);
+		assertThat(batches.get(0)).extracting("original").containsExactly("I see");
+		assertThat(batches.get(1)).extracting("original").containsExactly("I know");
+		assertThat(result).extracting("original").containsExactly("I see", "I know");
+	}
+
+	@Test
+	@DisplayName("청크 분석 중 429 재시도를 소진한 경우(GPT_RATE_LIMIT_TIMEOUT)는 청크 단위로 다시 재시도하지 않는다")
+	void analyzeScript_chunked_shouldNotRetryRateLimitedChunk() {
+		ReflectionTestUtils.setField(gptServiceImpl, "chunkEnabled", true);
+		ReflectionTestUtils.setField(gptServiceImpl, "chunkMaxTokens", 5);
+		ReflectionTestUtils.setField(gptServiceImpl, "chunkMaxAttempts", 3);
+		ReflectionTestUtils.setField(gptServiceImpl, "gptChunkExecutor", (Executor) Runnable::run);
+
+		List<TranscriptSegment> segments = List.of(
+			new TranscriptSegment(1L, "00:00:01.000", "00:00:02.000", "A", "I see")
+		);
+
+		when(gptPromptBuilder.buildPromptForAnalyzeScript(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+		doThrow(new ServiceException(ErrorCode.GPT_RATE_LIMIT_TIMEOUT)).when(gptServiceImpl).callGptApi(anyString(), eq(GptPromptType.SCRIPT));
+
+		assertThatThrownBy(() -> gptServiceImpl.analyzeScript(segments, ENGLISH, batch -> {}))
+			.isInstanceOf(ServiceException.class)
+			.extracting("errorCode").isEqualTo(ErrorCode.GPT_RATE_LIMIT_TIMEOUT);
+		verify(gptServiceImpl, times(1)).callGptApi(anyString(), eq(GptPromptType.SCRIPT));
+	}
 }
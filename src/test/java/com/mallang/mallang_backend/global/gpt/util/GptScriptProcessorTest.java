@@ -1,10 +1,13 @@
 package com.mallang.mallang_backend.global.gpt.util;
 
 import com.mallang.mallang_backend.domain.stt.converter.TranscriptSegment;
+import com.mallang.mallang_backend.domain.voca.word.entity.Difficulty;
+import com.mallang.mallang_backend.domain.voca.word.entity.Word;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -40,4 +43,43 @@ public class GptScriptProcessorTest {
 
         assertThat(result).isEqualTo("");
     }
+
+    @Test
+    @DisplayName("예상 토큰 수를 넘으면 세그먼트 순서를 유지한 채 여러 청크로 나눈다.")
+    void splitIntoChunksTest() {
+        List<TranscriptSegment> segments = List.of(
+                new TranscriptSegment(1L, "00:00:01.000","00:00:02.000","A", "12345678"),
+                new TranscriptSegment(2L, "00:00:02.000","00:00:03.000","A", "12345678"),
+                new TranscriptSegment(3L, "00:00:03.000","00:00:04.000","A", "12345678"),
+                new TranscriptSegment(4L, "00:00:04.000","00:00:05.000","A", "12345678901234567890")
+        );
+
+        // 세그먼트당 3토큰(본문 2 + 구분자 1), 마지막 세그먼트는 6토큰
+        List<List<TranscriptSegment>> chunks = GptScriptProcessor.splitIntoChunks(segments, 6);
+
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks.get(0)).extracting(TranscriptSegment::getId).containsExactly(1L, 2L);
+        assertThat(chunks.get(1)).extracting(TranscriptSegment::getId).containsExactly(3L);
+        assertThat(chunks.get(2)).extracting(TranscriptSegment::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("여러 단어 검색 결과를 단어별로 묶고, 형식이 맞지 않거나 요청하지 않은 단어의 줄은 건너뛴다.")
+    void parseGptBatchResultTest() {
+        String gptResult = """
+                ```
+                light | 형용사 | 가벼운 | 1 | This bag is very light. | 이 가방은 매우 가볍다.
+                light | 명사 | 빛 | 1 | The light was too bright. | 빛이 너무 밝았다.
+                knock | 동사 | 두드리다 | 2 | I knock on the door. | 나는 문을 두드린다.
+                danger | 명사 | 위험
+                bright | 형용사 | 밝은 | 1 | The sun is bright. | 태양이 밝다.
+                ```
+                """;
+
+        Map<String, List<Word>> result = GptScriptProcessor.parseGptBatchResult(List.of("light", "knock", "danger"), gptResult);
+
+        assertThat(result).containsOnlyKeys("light", "knock");
+        assertThat(result.get("light")).extracting(Word::getMeaning).containsExactly("가벼운", "빛");
+        assertThat(result.get("knock").get(0).getDifficulty()).isEqualTo(Difficulty.NORMAL);
+    }
 }
@@ -0,0 +1,71 @@
+package com.mallang.mallang_backend.global.gpt.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mallang.mallang_backend.global.exception.ServiceException;
+import com.mallang.mallang_backend.global.gpt.dto.GptParsedBlock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GptStreamingJsonParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final String RESPONSE = """
+            ```json
+            [
+              {"original": "I said {hello} to \\"Skyler\\"", "translate": "나는 [스카일러]에게 인사했다", "keyword": [{"word": "hello", "meaning": "안녕", "difficulty": 1}]},
+              {"original": "I am the one who knocks.", "translate": "나는 문을 두드리는 사람이다.", "keyword": []}
+            ]
+            ```
+            """;
+
+    @Test
+    @DisplayName("응답이 글자 단위로 나뉘어 들어와도 원소가 닫힐 때마다 순서대로 전달한다.")
+    void feed_fragmented() {
+        List<GptParsedBlock> blocks = new ArrayList<>();
+        GptStreamingJsonParser parser = new GptStreamingJsonParser(objectMapper, blocks::add);
+
+        for (int i = 0; i < RESPONSE.length(); i++) {
+            parser.feed(RESPONSE.substring(i, i + 1));
+            if (RESPONSE.charAt(i) == '}' && RESPONSE.startsWith("]},", i - 1)) {
+                // 첫 번째 원소가 닫힌 직후에는 두 번째 원소가 아직 전달되지 않아야 함
+                assertThat(blocks).hasSize(1);
+            }
+        }
+
+        assertThat(parser.isComplete()).isTrue();
+        assertThat(parser.getBlockCount()).isEqualTo(2);
+        assertThat(blocks.get(0).getOriginal()).isEqualTo("I said {hello} to \"Skyler\"");
+        assertThat(blocks.get(0).getTranslate()).isEqualTo("나는 [스카일러]에게 인사했다");
+        assertThat(blocks.get(0).getKeyword()).hasSize(1);
+        assertThat(blocks.get(1).getOriginal()).isEqualTo("I am the one who knocks.");
+        assertThat(blocks.get(1).getKeyword()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("응답이 중간에 끊기면 닫힌 원소까지만 전달하고 완료되지 않은 것으로 본다.")
+    void feed_truncated() {
+        List<GptParsedBlock> blocks = new ArrayList<>();
+        GptStreamingJsonParser parser = new GptStreamingJsonParser(objectMapper, blocks::add);
+
+        parser.feed(RESPONSE.substring(0, RESPONSE.indexOf("I am the one")));
+
+        assertThat(parser.isComplete()).isFalse();
+        assertThat(blocks).extracting(GptParsedBlock::getTranslate).containsExactly("나는 [스카일러]에게 인사했다");
+    }
+
+    @Test
+    @DisplayName("닫힌 원소가 GptParsedBlock 형식이 아니면 예외가 발생한다.")
+    void feed_invalidBlock() {
+        GptStreamingJsonParser parser = new GptStreamingJsonParser(objectMapper, block -> {});
+
+        assertThatThrownBy(() -> parser.feed("[{\"original\": }]"))
+                .isInstanceOf(ServiceException.class);
+    }
+}
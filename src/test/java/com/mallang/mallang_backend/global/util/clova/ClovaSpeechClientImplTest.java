@@ -1,19 +1,28 @@
 
 package com.mallang.mallang_backend.global.util.clova;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +31,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.mallang.mallang_backend.global.common.Language;
 
@@ -72,4 +82,45 @@ class ClovaSpeechClientImplTest {
 		assertTrue(capturedPost.getURI().toString().contains("/recognizer/upload"));
 		assertNotNull(capturedPost.getEntity());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("async 모드로 업로드하면 토큰으로 인식 결과를 조회하고, 인식이 끝나면 Future 가 완료된다")
+	void uploadAsync_pollsUntilCompleted() throws Exception {
+		File file = File.createTempFile("test", ".ogg");
+		file.deleteOnExit();
+		NestRequestEntity requestEntity = new NestRequestEntity(Language.ENGLISH);
+
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try {
+			ClovaSpeechClientImpl asyncClient = new ClovaSpeechClientImpl(httpClient, scheduler);
+			ReflectionTestUtils.setField(asyncClient, "invoke_url", "https://clova.test");
+			ClovaSpeechProperties properties = (ClovaSpeechProperties)ReflectionTestUtils.getField(asyncClient, "properties");
+			properties.setPollIntervalMs(10);
+
+			CloseableHttpResponse accepted = responseOf("{\"token\":\"abc\"}");
+			CloseableHttpResponse processing = responseOf("{\"result\":\"PROCESSING\"}");
+			CloseableHttpResponse completed = responseOf("{\"result\":\"COMPLETED\",\"segments\":[]}");
+			when(httpClient.execute(any(HttpPost.class))).thenReturn(accepted);
+			when(httpClient.execute(any(HttpGet.class))).thenReturn(processing, completed);
+
+			String response = asyncClient.uploadAsync(file, requestEntity).get(5, TimeUnit.SECONDS);
+
+			assertTrue(response.contains("COMPLETED"));
+			// 호출한 쪽의 요청 설정은 바꾸지 않음
+			assertEquals("sync", requestEntity.getCompletion());
+
+			// 업로드 1회 + 결과 조회 2회
+			ArgumentCaptor<HttpUriRequest> captor = ArgumentCaptor.forClass(HttpUriRequest.class);
+			verify(httpClient, times(3)).execute(captor.capture());
+			assertEquals("https://clova.test/recognizer/abc", captor.getValue().getURI().toString());
+		} finally {
+			scheduler.shutdownNow();
+		}
+	}
+
+	private CloseableHttpResponse responseOf(String body) {
+		CloseableHttpResponse response = mock(CloseableHttpResponse.class);
+		when(response.getEntity()).thenReturn(new StringEntity(body, StandardCharsets.UTF_8));
+		return response;
+	}
+}
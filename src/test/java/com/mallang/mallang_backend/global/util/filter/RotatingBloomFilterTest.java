@@ -0,0 +1,80 @@
+package com.mallang.mallang_backend.global.util.filter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RotatingBloomFilterTest {
+
+	@Test
+	@DisplayName("추가한 값은 포함한다고 답하고, 두 번째 추가는 false 를 반환한다")
+	void put_thenMightContain() {
+		RotatingBloomFilter filter = new RotatingBloomFilter(1000, 0.01, Duration.ofMinutes(1));
+
+		assertThat(filter.put("light")).isTrue();
+		assertThat(filter.put("light")).isFalse();
+		assertThat(filter.mightContain("light")).isTrue();
+	}
+
+	@Test
+	@DisplayName("오탐률은 설정값 근처에 머문다")
+	void falsePositiveRate() {
+		RotatingBloomFilter filter = new RotatingBloomFilter(10_000, 0.01, Duration.ofMinutes(1));
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("word-" + i);
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (filter.mightContain("other-" + i)) {
+				falsePositives++;
+			}
+		}
+		assertThat(falsePositives).isLessThan(300);
+	}
+
+	@Test
+	@DisplayName("추가한 값은 한 주기 뒤에도 기억하고, 두 주기가 지나면 잊어버린다")
+	void rotation() {
+		MutableClock clock = new MutableClock();
+		RotatingBloomFilter filter = new RotatingBloomFilter(1000, 0.01, Duration.ofMinutes(1), clock);
+		filter.put("light");
+
+		clock.advance(Duration.ofSeconds(90));
+		assertThat(filter.mightContain("light")).isTrue();
+
+		clock.advance(Duration.ofSeconds(60));
+		assertThat(filter.mightContain("light")).isFalse();
+	}
+
+	private static class MutableClock extends Clock {
+
+		private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
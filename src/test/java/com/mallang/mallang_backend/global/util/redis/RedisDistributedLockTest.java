@@ -0,0 +1,122 @@
+package com.mallang.mallang_backend.global.util.redis;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class RedisDistributedLockTest {
+
+	private static final String LOCK_KEY = "lock:video:analysis:test";
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+
+	private ScheduledExecutorService scheduler;
+	private RedisDistributedLock redisDistributedLock;
+	private MessageListener unlockListener;
+
+	@BeforeEach
+	void setUp() {
+		scheduler = Executors.newSingleThreadScheduledExecutor();
+		redisDistributedLock = new RedisDistributedLock(redisTemplate, listenerContainer, scheduler);
+		ReflectionTestUtils.setField(redisDistributedLock, "safetyPollMillis", 60_000L);
+		redisDistributedLock.subscribeUnlock();
+
+		ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+		verify(listenerContainer).addMessageListener(listenerCaptor.capture(), any(ChannelTopic.class));
+		unlockListener = listenerCaptor.getValue();
+	}
+
+	@AfterEach
+	void tearDown() {
+		scheduler.shutdownNow();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("락 해제 알림을 받으면 대기 중인 Future 가 true 로 완료된다")
+	void awaitUnlock_completesOnUnlockMessage() {
+		when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(true);
+
+		CompletableFuture<Boolean> future = redisDistributedLock.awaitUnlock(LOCK_KEY, 60_000L);
+		assertThat(future).isNotDone();
+
+		unlockListener.onMessage(new DefaultMessage(
+			"lock:released".getBytes(StandardCharsets.UTF_8), LOCK_KEY.getBytes(StandardCharsets.UTF_8)), null);
+
+		assertThat(future).isCompletedWithValue(true);
+	}
+
+	@Test
+	@DisplayName("해제 알림을 놓쳐도 안전망 확인에서 락이 사라진 것을 보면 true 로 완료된다")
+	void awaitUnlock_completesBySafetyPollWhenMessageIsLost() throws Exception {
+		ReflectionTestUtils.setField(redisDistributedLock, "safetyPollMillis", 20L);
+		// 등록 직후 확인에서는 잠겨 있고, 이후 안전망 확인에서는 해제됨
+		when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(true, false);
+
+		CompletableFuture<Boolean> future = redisDistributedLock.awaitUnlock(LOCK_KEY, 60_000L);
+
+		assertThat(future.get(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	@DisplayName("최대 대기 시간까지 해제되지 않으면 false 로 완료된다")
+	void awaitUnlock_timesOut() throws Exception {
+		when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(true);
+
+		CompletableFuture<Boolean> future = redisDistributedLock.awaitUnlock(LOCK_KEY, 50L);
+
+		assertThat(future.get(1, TimeUnit.SECONDS)).isFalse();
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서는 트랜잭션이 끝난 뒤에 락을 해제한다")
+	void unlockAfterCompletion_releasesAfterTransactionCompletes() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		redisDistributedLock.unlockAfterCompletion(LOCK_KEY, "value");
+		verify(redisTemplate, never()).execute(any(RedisCallback.class));
+
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		verify(redisTemplate).execute(any(RedisCallback.class));
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서는 바로 락을 해제한다")
+	void unlockAfterCompletion_releasesImmediatelyWithoutTransaction() {
+		redisDistributedLock.unlockAfterCompletion(LOCK_KEY, "value");
+
+		verify(redisTemplate).execute(any(RedisCallback.class));
+	}
+}
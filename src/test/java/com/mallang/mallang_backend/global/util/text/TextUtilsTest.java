@@ -0,0 +1,76 @@
+package com.mallang.mallang_backend.global.util.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextUtilsTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "He ceases to exist.|cease",
+            "He CEASES to exist.|ceases",
+            "I said hello_world today|hello",
+            "Don't stop me now|don",
+            "It costs 5 dollars|5",
+            "state-of-the-art design|of",
+            "abc abcd|abcd",
+            "Hello|hello!"
+    })
+    @DisplayName("단어 경계 포함 여부는 기존 정규식(.*\\bword\\b.*)과 같다.")
+    void containsWord_sameAsRegex(String sentence, String word) {
+        boolean expected = sentence.toLowerCase().matches(".*\\b" + Pattern.quote(word.toLowerCase()) + "\\b.*");
+
+        assertThat(TextUtils.containsWord(sentence, word)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Hello,", "don't", "WORLD!!", "abc", "123", "日本語", ""})
+    @DisplayName("알파벳만 남긴 소문자 변환 결과는 기존 replaceAll 과 같다.")
+    void lettersOnlyLowerCase_sameAsRegex(String token) {
+        assertThat(TextUtils.lettersOnlyLowerCase(token)).isEqualTo(token.replaceAll("[^a-zA-Z]", "").toLowerCase());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Hello, how are you!",
+            "Don’t say \"no\" (again)...",
+            "私は 学生です。 ラーメン 々",
+            "It's 10:30 now"
+    })
+    @DisplayName("표현 퀴즈 문제와 보기 단어는 기존 정규식 처리 결과와 같다.")
+    void quizTokenization_sameAsRegex(String sentence) {
+        String expectedQuestion = String.join(" ", Arrays.stream(sentence.split("\\s+"))
+                .map(token -> token.replaceAll("[\\p{L}\\p{N}'’ー々]+", "{}"))
+                .toList());
+        String[] expectedWords = Arrays.stream(sentence.split("\\s+"))
+                .map(w -> w.replaceAll("[\\p{Punct}&&[^'’]。、「」（）『』【】《》！？!?]", ""))
+                .filter(w -> !w.isBlank())
+                .toArray(String[]::new);
+
+        assertThat(TextUtils.maskWords(sentence)).isEqualTo(expectedQuestion);
+        assertThat(TextUtils.splitByWhitespace(sentence).stream().map(TextUtils::stripPunctuation).filter(w -> !w.isBlank()))
+                .containsExactly(expectedWords);
+    }
+
+    @Test
+    @DisplayName("대소문자를 무시하고 모든 위치를 치환한다.")
+    void replaceIgnoreCase() {
+        assertThat(TextUtils.replaceIgnoreCase("Run, run, RUNNER", "run", "{}")).isEqualTo("{}, {}, {}NER");
+        assertThat(TextUtils.replaceIgnoreCase("nothing here", "run", "{}")).isEqualTo("nothing here");
+    }
+
+    @Test
+    @DisplayName("공백이 연속되거나 앞뒤에 있어도 빈 토큰 없이 나눈다.")
+    void splitByWhitespace() {
+        assertThat(TextUtils.splitByWhitespace("  I am\t the\n\none  ")).containsExactly("I", "am", "the", "one");
+        assertThat(TextUtils.splitByWhitespace(" ")).isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package com.mallang.mallang_backend.global.util.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordNormalizerTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "cease|ceases|Ceased|ceasing",
+            "stop|stops|stopped|stopping",
+            "study|studies|studied|studying",
+            "make|makes|made|making",
+            "run|runs|running|ran",
+            "watch|watches|watched|watching",
+            "call|calls|called|calling",
+            "go|goes|went|gone"
+    })
+    @DisplayName("영어 활용형은 같은 정규화 키를 갖는다.")
+    void english_inflectionsShareKey(String base, String form1, String form2, String form3) {
+        String key = WordNormalizer.normalize(base);
+
+        assertThat(WordNormalizer.normalize(form1)).isEqualTo(key);
+        assertThat(WordNormalizer.normalize(form2)).isEqualTo(key);
+        assertThat(WordNormalizer.normalize(form3)).isEqualTo(key);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "note|not",
+            "plane|plan",
+            "hope|hop",
+            "hoped|hopped",
+            "herring|her",
+            "added|ad"
+    })
+    @DisplayName("묵음 e 나 겹자음만 다른 별개의 단어는 다른 정규화 키를 갖는다.")
+    void english_differentWordsDoNotShareKey(String word, String other) {
+        assertThat(WordNormalizer.normalize(word)).isNotEqualTo(WordNormalizer.normalize(other));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"news", "this", "always", "analysis", "status", "thing", "evening", "need", "speed", "bed",
+            "note", "plane", "cease"})
+    @DisplayName("원형이나 활용형처럼 보이는 원형, 어간이 짧은 단어는 소문자로만 바꾼다.")
+    void english_notInflected(String word) {
+        assertThat(WordNormalizer.normalize(word)).isEqualTo(word);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "食べた|食べる",
+            "美しかった|美しい",
+            "食べる|食べる"
+    })
+    @DisplayName("일본어는 마지막 자립어를 기본형으로 바꾼다.")
+    void japanese_baseForm(String word, String expected) {
+        assertThat(WordNormalizer.normalize(word)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "  Hello World |hello world",
+            "Lights|light"
+    })
+    @DisplayName("공백을 제거하고 소문자로 바꾸며, 여러 단어로 된 표현은 어미를 바꾸지 않는다.")
+    void trimAndLowercase(String word, String expected) {
+        assertThat(WordNormalizer.normalize(word)).isEqualTo(expected);
+    }
+}
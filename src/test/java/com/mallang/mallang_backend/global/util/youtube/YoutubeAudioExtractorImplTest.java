@@ -16,17 +16,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.mallang.mallang_backend.global.common.Language;
 import com.mallang.mallang_backend.global.exception.ServiceException;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class YoutubeAudioExtractorImplTest {
 
 	@Mock
 	private ProcessRunner processRunner;
 
+	@Spy
+	private SpeechAudioProperties speechAudioProperties = new SpeechAudioProperties();
+
+	@Spy
+	private BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
 	@InjectMocks
 	private YoutubeAudioExtractorImpl youtubeAudioExtractor;
 
@@ -42,6 +52,11 @@ class YoutubeAudioExtractorImplTest {
 			"extractCmd",
 			"yt-dlp -f 251 -o"
 		);
+		ReflectionTestUtils.setField(
+			youtubeAudioExtractor,
+			"streamCmd",
+			"yt-dlp --print before_dl:DURATION=%(duration)s -o -"
+		);
 	}
 
 	@Test
@@ -137,4 +152,79 @@ class YoutubeAudioExtractorImplTest {
 
 		assertThat(exception.getMessageCode()).isEqualTo("video.retrieval.failed");
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("성공 - 하나의 프로세스로 영상 길이를 확인하고 음성을 스트림으로 받을 수 있다")
+	void testOpenAudioStream() throws Exception {
+		Process mockStreamProcess = mock(Process.class);
+
+		when(mockStreamProcess.getErrorStream())
+			.thenReturn(new ByteArrayInputStream("DURATION=300\n[download] 다운로드 로그".getBytes()));
+		when(mockStreamProcess.getInputStream()).thenReturn(new ByteArrayInputStream("audio".getBytes()));
+
+		when(processRunner.runProcessWithSeparateErrorStream(
+			eq("yt-dlp"), eq("--print"), eq("before_dl:DURATION=%(duration)s"), eq("-o"), eq("-"), anyString()
+		)).thenReturn(mockStreamProcess);
+
+		int maxConcurrentCalls = availableAudioExtractionCalls();
+		try (AudioStream audioStream = youtubeAudioExtractor.openAudioStream("https://www.youtube.com/watch?v=test")) {
+			assertThat(audioStream.getDurationSeconds()).isEqualTo(300);
+			assertThat(audioStream.getFileName()).startsWith(AUDIO_FILE_PREFIX);
+			assertThat(audioStream.getInputStream().readAllBytes()).isEqualTo("audio".getBytes());
+			// 스트림을 읽는 동안 동시 실행 슬롯을 점유
+			assertThat(availableAudioExtractionCalls()).isEqualTo(maxConcurrentCalls - 1);
+		}
+
+		assertThat(availableAudioExtractionCalls()).isEqualTo(maxConcurrentCalls);
+		verify(processRunner, never()).runProcess(any(String[].class));
+	}
+
+	@Test
+	@DisplayName("실패 - 스트림 추출 시 영상 길이가 20분을 초과하면 프로세스를 종료하고 실패한다")
+	void testOpenAudioStream_durationOver20Minutes_shouldThrowException() throws Exception {
+		Process mockStreamProcess = mock(Process.class);
+
+		when(mockStreamProcess.getErrorStream())
+			.thenReturn(new ByteArrayInputStream("DURATION=1300".getBytes()));
+
+		when(processRunner.runProcessWithSeparateErrorStream(any(String[].class))).thenReturn(mockStreamProcess);
+
+		ServiceException exception = assertThrows(ServiceException.class, () ->
+			youtubeAudioExtractor.openAudioStream("https://www.youtube.com/watch?v=dummy")
+		);
+
+		assertThat(exception.getMessageCode()).isEqualTo("video.length.exceed");
+		verify(mockStreamProcess).destroyForcibly();
+		assertThat(availableAudioExtractionCalls())
+			.isEqualTo(bulkheadRegistry.getDefaultConfig().getMaxConcurrentCalls());
+	}
+
+	@Test
+	@DisplayName("성공 - 음성 인식 프로필이 켜져 있으면 언어별 모노 저비트레이트 옵션으로 스트림을 받는다")
+	void testOpenAudioStream_withSpeechProfile() throws Exception {
+		speechAudioProperties.setEnabled(true);
+		SpeechAudioProperties.Profile japanese = new SpeechAudioProperties.Profile();
+		japanese.setBitrate("32k");
+		speechAudioProperties.getLanguages().put(Language.JAPANESE, japanese);
+
+		Process mockStreamProcess = mock(Process.class);
+		when(mockStreamProcess.getErrorStream()).thenReturn(new ByteArrayInputStream("DURATION=300".getBytes()));
+		when(mockStreamProcess.getInputStream()).thenReturn(new ByteArrayInputStream("audio".getBytes()));
+		when(processRunner.runProcessWithSeparateErrorStream(any(String[].class))).thenReturn(mockStreamProcess);
+
+		try (AudioStream audioStream = youtubeAudioExtractor.openAudioStream(
+			"https://www.youtube.com/watch?v=test", Language.JAPANESE)) {
+			assertThat(audioStream.getFileName()).endsWith(SPEECH_AUDIO_FILE_EXTENSION);
+		}
+
+		verify(processRunner).runProcessWithSeparateErrorStream(
+			"yt-dlp", "--downloader", "ffmpeg", "--downloader-args",
+			"ffmpeg_o:-vn -ac 1 -ar 16000 -c:a libopus -b:a 32k -application voip -f ogg",
+			"--print", "before_dl:DURATION=%(duration)s", "-o", "-", "https://www.youtube.com/watch?v=test"
+		);
+	}
+
+	private int availableAudioExtractionCalls() {
+		return bulkheadRegistry.bulkhead("audioExtraction").getMetrics().getAvailableConcurrentCalls();
+	}
+}
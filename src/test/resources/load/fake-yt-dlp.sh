@@ -0,0 +1,38 @@
+#!/bin/sh
+# 부하 테스트용 yt-dlp 대체 스크립트
+# FakeYtDlpProcessRunner 가 환경 변수로 지연 시간과 실패 여부를 전달합니다.
+#   FAKE_YTDLP_SLEEP    : 응답 전 대기 시간 (초, 소수 가능)
+#   FAKE_YTDLP_FAIL     : 1 이면 종료 코드 1 로 실패
+#   FAKE_YTDLP_DURATION : 영상 길이 (초)
+#   FAKE_YTDLP_BYTES    : 생성할 음성 파일 크기 (바이트)
+
+sleep "${FAKE_YTDLP_SLEEP:-0}"
+
+if [ "${FAKE_YTDLP_FAIL:-0}" = "1" ]; then
+  echo "ERROR: fake yt-dlp failure"
+  exit 1
+fi
+
+duration="${FAKE_YTDLP_DURATION:-300}"
+bytes="${FAKE_YTDLP_BYTES:-65536}"
+output=""
+prev=""
+for arg in "$@"; do
+  if [ "$arg" = "--dump-json" ]; then
+    echo "{\"duration\":${duration}}"
+    exit 0
+  fi
+  if [ "$prev" = "-o" ]; then
+    output="$arg"
+  fi
+  prev="$arg"
+done
+
+if [ "$output" = "-" ]; then
+  # 스트림 모드: 영상 길이는 표준 에러, 음성은 표준 출력
+  echo "DURATION=${duration}" >&2
+  head -c "$bytes" /dev/zero
+else
+  head -c "$bytes" /dev/zero > "$output"
+  echo "[download] 100% of fake audio"
+fi